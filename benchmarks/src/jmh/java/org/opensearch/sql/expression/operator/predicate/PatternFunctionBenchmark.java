@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * LIKE, REGEXP and DATE_FORMAT evaluated on rows with pattern given as literal, which is compiled
+ * once per expression, or as field, which is looked up in the pattern cache for each row.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PatternFunctionBenchmark {
+
+  private static final int ROW_COUNT = 10_000;
+
+  @Param(value = {"literal", "field"})
+  private String patternSource;
+
+  private List<Environment<Expression, ExprValue>> rows;
+
+  private Expression like;
+
+  private Expression regexp;
+
+  private Expression dateFormat;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("message", "GET /index" + i + ".html HTTP/1.1");
+      row.put("timestamp", new ExprTimestampValue("2022-01-12 10:00:00"));
+      row.put("like_pattern", "GET /index%.html%");
+      row.put("regexp_pattern", "GET /index[0-9]+\\.html.*");
+      row.put("date_pattern", "%Y-%m-%d %H:%i:%s");
+      rows.add(ExprValueUtils.tupleValue(row).bindingTuples());
+    }
+
+    boolean literal = "literal".equals(patternSource);
+    like =
+        DSL.like(
+            DSL.ref("message", STRING),
+            literal ? DSL.literal("GET /index%.html%") : DSL.ref("like_pattern", STRING));
+    regexp =
+        DSL.regexp(
+            DSL.ref("message", STRING),
+            literal
+                ? DSL.literal("GET /index[0-9]+\\.html.*")
+                : DSL.ref("regexp_pattern", STRING));
+    dateFormat =
+        DSL.date_format(
+            FunctionProperties.None,
+            DSL.ref("timestamp", TIMESTAMP),
+            literal ? DSL.literal("%Y-%m-%d %H:%i:%s") : DSL.ref("date_pattern", STRING));
+  }
+
+  @Benchmark
+  public void testLike(Blackhole blackhole) {
+    run(like, blackhole);
+  }
+
+  @Benchmark
+  public void testRegexp(Blackhole blackhole) {
+    run(regexp, blackhole);
+  }
+
+  @Benchmark
+  public void testDateFormat(Blackhole blackhole) {
+    run(dateFormat, blackhole);
+  }
+
+  private void run(Expression expression, Blackhole blackhole) {
+    for (Environment<Expression, ExprValue> row : rows) {
+      blackhole.consume(expression.valueOf(row));
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Record of request latencies in a histogram metric shared by 1, 8 and 32 threads. Latencies are
+ * spread over several buckets as real requests are, rather than all contending on the same one.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class HistogramMetricBenchmark {
+
+  private final HistogramMetric histogram = new HistogramMetric("latency");
+
+  @Benchmark
+  @Threads(1)
+  public void record1Thread() {
+    record();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void record8Threads() {
+    record();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void record32Threads() {
+    record();
+  }
+
+  private void record() {
+    histogram.record(ThreadLocalRandom.current().nextLong(1_000));
+  }
+}
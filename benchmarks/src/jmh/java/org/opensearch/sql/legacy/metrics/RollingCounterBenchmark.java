@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Increment of a request counter shared by 1, 8 and 32 threads, as done by each request. Rolling
+ * counter is compared with basic counter, which is a single LongAdder and so the lower bound of
+ * contention.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class RollingCounterBenchmark {
+
+  @Param(value = {"basic", "rolling"})
+  private String counterType;
+
+  private Counter<Long> counter;
+
+  @Setup
+  public void setUp() {
+    if ("basic".equals(counterType)) {
+      counter = new BasicCounter();
+    } else {
+      counter = new RollingCounter(3600, 60);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void increment1Thread() {
+    counter.increment();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void increment8Threads() {
+    counter.increment();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void increment32Threads() {
+    counter.increment();
+  }
+}
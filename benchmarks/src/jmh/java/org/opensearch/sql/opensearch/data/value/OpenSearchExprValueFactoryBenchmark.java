@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.value;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+/**
+ * Compare parsing search hit source from JSON string with parsing it from bytes in streaming way,
+ * on wide documents with and without projection.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class OpenSearchExprValueFactoryBenchmark {
+
+  @Param(value = {"10", "100", "1000"})
+  private int fieldCount;
+
+  /** Number of fields projected, 0 means all fields. */
+  @Param(value = {"0", "5"})
+  private int projectCount;
+
+  private OpenSearchExprValueFactory factory;
+
+  private BytesReference source;
+
+  private List<String> includes;
+
+  @Setup
+  public void setUp() {
+    Map<String, OpenSearchDataType> mapping = new LinkedHashMap<>();
+    StringBuilder json = new StringBuilder("{");
+    for (int i = 0; i < fieldCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      switch (i % 4) {
+        case 0:
+          mapping.put("long" + i, OpenSearchDataType.of(OpenSearchDataType.MappingType.Long));
+          json.append("\"long").append(i).append("\":").append(i * 1000L);
+          break;
+        case 1:
+          mapping.put("keyword" + i, OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword));
+          json.append("\"keyword").append(i).append("\":\"value").append(i).append('"');
+          break;
+        case 2:
+          mapping.put("double" + i, OpenSearchDataType.of(OpenSearchDataType.MappingType.Double));
+          json.append("\"double").append(i).append("\":").append(i + 0.5);
+          break;
+        default:
+          mapping.put("object" + i, OpenSearchDataType.of(OpenSearchDataType.MappingType.Object));
+          mapping.put(
+              "object" + i + ".id", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer));
+          mapping.put(
+              "object" + i + ".name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Text));
+          json.append("\"object")
+              .append(i)
+              .append("\":{\"id\":")
+              .append(i)
+              .append(",\"name\":\"name")
+              .append(i)
+              .append("\"}");
+      }
+    }
+    json.append('}');
+
+    factory = new OpenSearchExprValueFactory(mapping, false);
+    source = new BytesArray(json.toString());
+    includes = mapping.keySet().stream().filter(f -> !f.contains(".")).limit(projectCount).toList();
+  }
+
+  @Benchmark
+  public ExprValue constructFromString() {
+    return factory.construct(source.utf8ToString(), false);
+  }
+
+  @Benchmark
+  public ExprValue constructFromSource() {
+    return factory.constructFromSource(source, includes, false);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Throughput of script evaluation per document, which is what a filter or aggregation script does
+ * on each document matched in a segment. Primitive fields are read by prebound readers directly,
+ * while the timestamp field still goes through the value factory for comparison.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionScriptBenchmark {
+
+  @Param(value = {"primitive", "timestamp"})
+  private String fields;
+
+  private ExpressionScript script;
+
+  private Map<String, ScriptDocValues<?>> doc;
+
+  @Setup
+  public void setUp() {
+    doc = new HashMap<>();
+    doc.put("age", new SingleValue<>(35L));
+    doc.put("balance", new SingleValue<>(8000.0));
+    doc.put("name", new SingleValue<>("amber"));
+    doc.put("birthday", new SingleValue<>(ZonedDateTime.parse("2020-08-04T10:00:00Z")));
+
+    Expression expression;
+    if ("primitive".equals(fields)) {
+      expression =
+          DSL.and(
+              DSL.and(
+                  DSL.greater(DSL.ref("age", INTEGER), DSL.literal(30)),
+                  DSL.greater(
+                      DSL.multiply(DSL.ref("balance", DOUBLE), DSL.literal(1.5)),
+                      DSL.literal(10000.0))),
+              DSL.equal(DSL.ref("name", STRING), DSL.literal("amber")));
+    } else {
+      expression =
+          DSL.greater(
+              DSL.ref("birthday", TIMESTAMP),
+              DSL.literal(new ExprTimestampValue("2020-01-01 00:00:00")));
+    }
+    script = new ExpressionScript(expression);
+  }
+
+  @Benchmark
+  public ExprValue testExecute() {
+    return script.execute(() -> doc, ExpressionScriptBenchmark::evaluate);
+  }
+
+  private static ExprValue evaluate(Expression expr, Environment<Expression, ExprValue> valueEnv) {
+    return expr.valueOf(valueEnv);
+  }
+
+  /** Doc values of a single value on every document. */
+  private static class SingleValue<T> extends ScriptDocValues<T> {
+    private final List<T> values;
+
+    SingleValue(T value) {
+      this.values = List.of(value);
+    }
+
+    @Override
+    public void setNextDocId(int docId) {}
+
+    @Override
+    public T get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Serialization of a filter script expression by JDK serialization and compact encoding, which is
+ * done once per query on coordinator node, and deserialization which is done on each compile on
+ * data nodes. Code length is printed on setup for comparison of script size in search request.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionSerializerBenchmark {
+
+  @Param(value = {"jdk", "compact"})
+  private String format;
+
+  private ExpressionSerializer serializer;
+
+  private Expression expression;
+
+  private String code;
+
+  @Setup
+  public void setUp() {
+    if ("jdk".equals(format)) {
+      serializer = new DefaultExpressionSerializer();
+    } else {
+      serializer = new CompactExpressionSerializer();
+    }
+    expression =
+        DSL.and(
+            DSL.or(
+                DSL.less(DSL.ref("age", INTEGER), DSL.literal(30)),
+                DSL.greater(
+                    DSL.multiply(DSL.ref("balance", DOUBLE), DSL.literal(1.5)),
+                    DSL.literal(10000.0))),
+            DSL.like(DSL.lower(DSL.ref("name", STRING)), DSL.literal("%amber%")));
+    code = serializer.serialize(expression);
+  }
+
+  @Benchmark
+  public String testSerialize() {
+    return serializer.serialize(expression);
+  }
+
+  @Benchmark
+  public Expression testDeserialize() {
+    return serializer.deserialize(code);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
+
+/** Filter and project pipeline executed row by row versus batch by batch. */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class BatchExecutionBenchmark {
+
+  private static final int ROW_COUNT = 1_000_000;
+
+  /** Percentage of rows matched by filter. */
+  @Param(value = {"10", "90"})
+  private int selectivity;
+
+  private List<ExprValue> rows;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("id", (long) i);
+      row.put("host", "host" + (i % 97));
+      row.put("bytes", (double) (i % 100));
+      row.put("message", "message" + i);
+      rows.add(ExprValueUtils.tupleValue(row));
+    }
+  }
+
+  @Benchmark
+  public void rowByRow(Blackhole blackhole) {
+    PhysicalPlan plan = pipeline();
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+
+  @Benchmark
+  public void batchByBatch(Blackhole blackhole) {
+    PhysicalPlan plan = pipeline();
+    plan.open();
+    for (RowBatch batch = plan.nextBatch(RowBatch.DEFAULT_SIZE);
+        !batch.isEmpty();
+        batch = plan.nextBatch(RowBatch.DEFAULT_SIZE)) {
+      blackhole.consume(batch);
+    }
+    plan.close();
+  }
+
+  private PhysicalPlan pipeline() {
+    return PhysicalPlanDSL.project(
+        PhysicalPlanDSL.filter(
+            new ListScan(rows),
+            DSL.less(DSL.ref("bytes", DOUBLE), DSL.literal((double) selectivity))),
+        DSL.named("id", DSL.ref("id", LONG)),
+        DSL.named("host", DSL.ref("host", STRING)),
+        DSL.named("kb", DSL.divide(DSL.ref("bytes", DOUBLE), DSL.literal(1024.0))));
+  }
+
+  /** Scan over rows in memory. */
+  private static class ListScan extends PhysicalPlan {
+    private final Iterator<ExprValue> iterator;
+
+    ListScan(List<ExprValue> rows) {
+      this.iterator = rows.iterator();
+    }
+
+    @Override
+    public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+      return visitor.visitNode(this, context);
+    }
+
+    @Override
+    public List<PhysicalPlan> getChild() {
+      return List.of();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return iterator.next();
+    }
+  }
+}
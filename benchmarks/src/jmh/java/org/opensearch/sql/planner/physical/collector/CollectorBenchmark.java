@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/** Group by 1, 3 and 5 keys with low and high number of distinct groups. */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CollectorBenchmark {
+
+  private static final int ROW_COUNT = 1_000_000;
+
+  @Param(value = {"1", "3", "5"})
+  private int keyCount;
+
+  /** Number of distinct groups. */
+  @Param(value = {"10000", "1000000"})
+  private int cardinality;
+
+  private final List<NamedAggregator> aggregators =
+      List.of(
+          DSL.named("count", DSL.count(DSL.literal(1))),
+          DSL.named("sum", DSL.sum(DSL.ref("value", DOUBLE))));
+
+  private List<NamedExpression> buckets;
+
+  private List<BindingTuple> rows;
+
+  @Setup
+  public void setUp() {
+    List<NamedExpression> keys =
+        List.of(
+            DSL.named("id", DSL.ref("id", LONG)),
+            DSL.named("host", DSL.ref("host", STRING)),
+            DSL.named("port", DSL.ref("port", INTEGER)),
+            DSL.named("region", DSL.ref("region", STRING)),
+            DSL.named("weight", DSL.ref("weight", DOUBLE)));
+    buckets = keys.subList(0, keyCount);
+
+    // Other keys are derived from id, so the number of distinct groups equals the cardinality
+    rows = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      long id = (i * 7919L) % cardinality;
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("id", id);
+      row.put("host", "host" + (id % 97));
+      row.put("port", (int) (id % 13));
+      row.put("region", "region" + (id % 5));
+      row.put("weight", (id % 11) / 2.0);
+      row.put("value", (double) i);
+      rows.add(ExprValueUtils.tupleValue(row).bindingTuples());
+    }
+  }
+
+  @Benchmark
+  public List<ExprValue> groupBy() {
+    Collector collector = Collector.Builder.build(buckets, aggregators);
+    for (BindingTuple row : rows) {
+      collector.collect(row);
+    }
+    return collector.results();
+  }
+}
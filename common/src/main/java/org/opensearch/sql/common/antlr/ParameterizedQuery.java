@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.antlr;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Query text split by lexer into literals and template, which is the rest of the query with
+ * whitespace and comments dropped. Queries of the same template differ only in literals, so they
+ * can share the parse tree of the query with literals replaced by placeholders. Literals of each
+ * query are bound to the placeholders while AST is built from the shared parse tree, and AST
+ * builders get the literal bound by {@link #literalText(String)}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParameterizedQuery {
+
+  /** Literals bound to placeholders on this thread while building AST, or null if none bound. */
+  private static final ThreadLocal<Map<String, String>> BOUND_LITERALS = new ThreadLocal<>();
+
+  /** Query text. */
+  @Getter private final String query;
+
+  /** Template of query in which each literal is replaced by its token type. */
+  @Getter private final String template;
+
+  /** Literal tokens in the order they appear in query. */
+  private final List<Token> literalTokens;
+
+  /**
+   * Split query into literals and template by the given lexer. Tokens out of default channel are
+   * dropped, which are not seen by parser either.
+   *
+   * @param query query text
+   * @param lexer lexer of query text
+   * @param literalTypes token types of literals
+   * @return query split
+   */
+  public static ParameterizedQuery of(String query, Lexer lexer, Set<Integer> literalTypes) {
+    lexer.removeErrorListeners();
+    return of(query, lexer.getAllTokens(), literalTypes);
+  }
+
+  /**
+   * Split query into literals and template by the given tokens.
+   *
+   * @param query query text
+   * @param tokens all tokens of query text
+   * @param literalTypes token types of literals
+   * @return query split
+   */
+  public static ParameterizedQuery of(
+      String query, List<? extends Token> tokens, Set<Integer> literalTypes) {
+    StringJoiner template = new StringJoiner(" ");
+    List<Token> literalTokens = new ArrayList<>();
+    for (Token token : tokens) {
+      if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+        continue;
+      }
+      if (literalTypes.contains(token.getType())) {
+        template.add("?" + token.getType());
+        literalTokens.add(token);
+      } else {
+        template.add(token.getText());
+      }
+    }
+    return new ParameterizedQuery(query, template.toString(), literalTokens);
+  }
+
+  /** Literals in the order they appear in query. */
+  public List<String> getLiterals() {
+    return literalTokens.stream().map(Token::getText).collect(Collectors.toList());
+  }
+
+  /**
+   * Placeholders of literals, each of the same form as the literal, i.e. quoted string, integer or
+   * decimal, so that it's lexed into the same token type. Placeholders are distinct from each other
+   * and from the literals of this query and the given literals, so that a placeholder left in AST
+   * can be told from a literal bound.
+   *
+   * @param excluded literals that placeholders must not equal
+   * @return placeholders in the order of literals
+   */
+  public List<String> placeholders(Collection<String> excluded) {
+    Set<String> taken = new HashSet<>(excluded);
+    taken.addAll(getLiterals());
+    List<String> placeholders = new ArrayList<>();
+    int index = 0;
+    for (Token token : literalTokens) {
+      String placeholder;
+      do {
+        placeholder = placeholder(token.getText(), index++);
+      } while (taken.contains(placeholder));
+      placeholders.add(placeholder);
+    }
+    return placeholders;
+  }
+
+  /**
+   * Query text with literals replaced by the given texts.
+   *
+   * @param literals texts in the order of literals
+   * @return query text
+   */
+  public String withLiterals(List<String> literals) {
+    StringBuilder text = new StringBuilder();
+    int start = 0;
+    for (int i = 0; i < literalTokens.size(); i++) {
+      Token token = literalTokens.get(i);
+      text.append(query, start, token.getStartIndex()).append(literals.get(i));
+      start = token.getStopIndex() + 1;
+    }
+    return text.append(query.substring(start)).toString();
+  }
+
+  /**
+   * Build AST with literals bound to placeholders on this thread.
+   *
+   * @param placeholders placeholders of literals
+   * @param literals literals in the order of placeholders
+   * @param builder AST builder from parse tree with placeholders
+   * @return AST built
+   */
+  public static <T> T bind(List<String> placeholders, List<String> literals, Supplier<T> builder) {
+    Map<String, String> bound = new HashMap<>();
+    for (int i = 0; i < placeholders.size(); i++) {
+      bound.put(placeholders.get(i), literals.get(i));
+    }
+    BOUND_LITERALS.set(bound);
+    try {
+      return builder.get();
+    } finally {
+      BOUND_LITERALS.remove();
+    }
+  }
+
+  /**
+   * Text of literal in parse tree, which is the literal bound if it's a placeholder. The text may
+   * have a sign in front of placeholder, which is kept.
+   *
+   * @param text text of literal in parse tree
+   * @return text of literal
+   */
+  public static String literalText(String text) {
+    Map<String, String> bound = BOUND_LITERALS.get();
+    if (bound == null) {
+      return text;
+    }
+    for (Map.Entry<String, String> literal : bound.entrySet()) {
+      if (text.contains(literal.getKey())) {
+        return text.replace(literal.getKey(), literal.getValue());
+      }
+    }
+    return text;
+  }
+
+  /**
+   * Placeholder of the same form as literal. Numeric placeholders are of fixed width so that none
+   * of them contains another.
+   */
+  private static String placeholder(String literal, int index) {
+    char first = literal.charAt(0);
+    if (first == '\'' || first == '"') {
+      return first + "?" + index + first;
+    }
+    String number = String.format(Locale.ROOT, "9%08d", index);
+    return literal.chars().allMatch(Character::isDigit) ? number : number + ".5";
+  }
+}
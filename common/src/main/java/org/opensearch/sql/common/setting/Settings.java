@@ -24,6 +24,7 @@ public abstract class Settings {
     SQL_CURSOR_KEEP_ALIVE("plugins.sql.cursor.keep_alive"),
     SQL_DELETE_ENABLED("plugins.sql.delete.enabled"),
     SQL_PAGINATION_API_SEARCH_AFTER("plugins.sql.pagination.api"),
+    SQL_CURSOR_STORE_ENABLED("plugins.sql.cursor.store.enabled"),
 
     /** PPL Settings. */
     PPL_ENABLED("plugins.ppl.enabled"),
@@ -33,7 +34,22 @@ public abstract class Settings {
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
+    QUERY_MEMORY_BREAKER_LIMIT("plugins.query.memory_breaker.limit"),
+    QUERY_SORT_MEMORY_LIMIT("plugins.query.sort.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_BUCKET_SIZE("plugins.query.buckets"),
+    QUERY_SCAN_SLICES("plugins.query.scan_slices"),
+    QUERY_SCAN_PREFETCH_PAGES("plugins.query.scan_prefetch_pages"),
+    QUERY_ASYNC_EXECUTION_ENABLED("plugins.query.async_execution.enabled"),
+    QUERY_RESULT_CACHE_ENABLED("plugins.query.result_cache.enabled"),
+    QUERY_RESULT_CACHE_SIZE("plugins.query.result_cache.size"),
+    QUERY_RESULT_CACHE_TTL("plugins.query.result_cache.ttl"),
+    QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL("plugins.query.result_cache.refresh_check_interval"),
+    QUERY_ADMISSION_MAX_CONCURRENT_PER_USER(
+        "plugins.query.admission.max_concurrent_queries_per_user"),
+    QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX(
+        "plugins.query.admission.max_concurrent_queries_per_index"),
+    QUERY_ADMISSION_BATCH_THRESHOLD("plugins.query.admission.batch_threshold"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
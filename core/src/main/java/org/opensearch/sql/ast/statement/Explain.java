@@ -19,6 +19,18 @@ public class Explain extends Statement {
 
   private final Statement statement;
 
+  /** Whether to run the query and collect runtime statistics of the plan. */
+  private final boolean analyze;
+
+  public Explain(Statement statement) {
+    this(statement, false);
+  }
+
+  public Explain(Statement statement, boolean analyze) {
+    this.statement = statement;
+    this.analyze = analyze;
+  }
+
   @Override
   public <R, C> R accept(AbstractNodeVisitor<R, C> visitor, C context) {
     return visitor.visitExplain(this, context);
@@ -5,33 +5,101 @@
 
 package org.opensearch.sql.data.model;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
 
-/** Expression Tuple Value. */
-@RequiredArgsConstructor
+/**
+ * Expression Tuple Value. Field values are either kept in a map, or in an array of slots of a
+ * {@link TupleLayout} shared with other tuples of the same fields. Tuple in slots is serialized in
+ * map, so the serialized form is the same as before slots were introduced.
+ */
 public class ExprTupleValue extends AbstractExprValue {
 
+  /** Serial version of the serialized form with value map only, written by previous versions. */
+  private static final long serialVersionUID = -80781303712508094L;
+
+  /** Field values in map, or null if values are kept in slots. */
   private final LinkedHashMap<String, ExprValue> valueMap;
 
+  /** Layout of the slots, or null if values are kept in map only. */
+  private final transient TupleLayout layout;
+
+  private final transient ExprValue[] slots;
+
+  public ExprTupleValue(LinkedHashMap<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+    this.layout = null;
+    this.slots = null;
+  }
+
+  private ExprTupleValue(TupleLayout layout, ExprValue[] slots) {
+    this.valueMap = null;
+    this.layout = layout;
+    this.slots = slots;
+  }
+
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
     return new ExprTupleValue(linkedHashMap);
   }
 
+  /**
+   * Create tuple with values of the map in slots. The layout given is reused if it has the same
+   * fields in order, otherwise a new layout is created.
+   *
+   * @param map field values
+   * @param layout layout of previous tuple, or null
+   * @return tuple in slots
+   */
+  public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map, TupleLayout layout) {
+    if (layout == null || !layout.matches(map.keySet())) {
+      layout = TupleLayout.of(map.keySet());
+    }
+    return new ExprTupleValue(layout, map.values().toArray(new ExprValue[0]));
+  }
+
+  /**
+   * Create tuple with values in slots of the layout.
+   *
+   * @param layout layout
+   * @param values value of each slot
+   * @return tuple in slots
+   */
+  public static ExprTupleValue fromSlots(TupleLayout layout, ExprValue[] values) {
+    if (layout.size() != values.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expect %d values for tuple layout but got %d", layout.size(), values.length));
+    }
+    return new ExprTupleValue(layout, values);
+  }
+
+  /** Get layout of the slots, or null if values are kept in map only. */
+  public TupleLayout layout() {
+    return layout;
+  }
+
+  /** Get value in the slot of the layout. */
+  public ExprValue slotValue(int slot) {
+    return slots[slot];
+  }
+
   @Override
   public Object value() {
     LinkedHashMap<String, Object> resultMap = new LinkedHashMap<>();
-    for (Entry<String, ExprValue> entry : valueMap.entrySet()) {
+    for (Entry<String, ExprValue> entry : tupleValue().entrySet()) {
       resultMap.put(entry.getKey(), entry.getValue().value());
     }
     return resultMap;
@@ -44,7 +112,7 @@ public class ExprTupleValue extends AbstractExprValue {
 
   @Override
   public String toString() {
-    return valueMap.entrySet().stream()
+    return tupleValue().entrySet().stream()
         .map(entry -> String.format("%s:%s", entry.getKey(), entry.getValue()))
         .collect(Collectors.joining(",", "{", "}"));
   }
@@ -56,11 +124,15 @@ public class ExprTupleValue extends AbstractExprValue {
 
   @Override
   public Map<String, ExprValue> tupleValue() {
-    return valueMap;
+    return (layout == null) ? valueMap : new SlotMap();
   }
 
   @Override
   public ExprValue keyValue(String key) {
+    if (layout != null) {
+      int slot = layout.slot(key);
+      return (slot < 0) ? ExprMissingValue.of() : slots[slot];
+    }
     return valueMap.getOrDefault(key, ExprMissingValue.of());
   }
 
@@ -74,8 +146,8 @@ public class ExprTupleValue extends AbstractExprValue {
       return false;
     } else {
       ExprTupleValue other = (ExprTupleValue) o;
-      Iterator<Entry<String, ExprValue>> thisIterator = this.valueMap.entrySet().iterator();
-      Iterator<Entry<String, ExprValue>> otherIterator = other.valueMap.entrySet().iterator();
+      Iterator<Entry<String, ExprValue>> thisIterator = this.tupleValue().entrySet().iterator();
+      Iterator<Entry<String, ExprValue>> otherIterator = other.tupleValue().entrySet().iterator();
       while (thisIterator.hasNext() && otherIterator.hasNext()) {
         Entry<String, ExprValue> thisEntry = thisIterator.next();
         Entry<String, ExprValue> otherEntry = otherIterator.next();
@@ -91,11 +163,69 @@ public class ExprTupleValue extends AbstractExprValue {
   /** Only compare the size of the map. */
   @Override
   public int compare(ExprValue other) {
-    return Integer.compare(valueMap.size(), other.tupleValue().size());
+    return Integer.compare(tupleValue().size(), other.tupleValue().size());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(valueMap);
+    return Objects.hashCode(tupleValue());
+  }
+
+  /** Tuple in slots is always serialized in map. */
+  private Object writeReplace() {
+    return (layout == null) ? this : new ExprTupleValue(new LinkedHashMap<>(tupleValue()));
+  }
+
+  /** Read-only map view of the slots in layout order. */
+  private class SlotMap extends AbstractMap<String, ExprValue> {
+
+    @Override
+    public int size() {
+      return slots.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key instanceof String) && layout.slot((String) key) >= 0;
+    }
+
+    @Override
+    public ExprValue get(Object key) {
+      int slot = (key instanceof String) ? layout.slot((String) key) : -1;
+      return (slot < 0) ? null : slots[slot];
+    }
+
+    @Override
+    public Set<Entry<String, ExprValue>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return slots.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, ExprValue>> iterator() {
+          return new Iterator<>() {
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+              return slot < slots.length;
+            }
+
+            @Override
+            public Entry<String, ExprValue> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Entry<String, ExprValue> entry =
+                  new SimpleImmutableEntry<>(layout.name(slot), slots[slot]);
+              slot++;
+              return entry;
+            }
+          };
+        }
+      };
+    }
   }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Field names of {@link ExprTupleValue} in order. A layout is shared by all tuples of the same
+ * fields, such as rows produced by the same operator, so that field value is read from the tuple
+ * by its slot index. {@link org.opensearch.sql.expression.ReferenceExpression} binds to the slot
+ * once per layout instead of looking up field name for each row.
+ */
+public class TupleLayout {
+
+  private final String[] names;
+
+  private final Map<String, Integer> slots;
+
+  private TupleLayout(String[] names) {
+    this.names = names;
+    this.slots = new HashMap<>();
+    for (int i = 0; i < names.length; i++) {
+      if (slots.put(names[i], i) != null) {
+        throw new IllegalArgumentException(
+            String.format("Multiple fields with same name: %s", names[i]));
+      }
+    }
+  }
+
+  /**
+   * Create layout of the field names.
+   *
+   * @param names field names in order
+   * @return layout
+   */
+  public static TupleLayout of(Collection<String> names) {
+    return new TupleLayout(names.toArray(new String[0]));
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  /** Get field name at the slot. */
+  public String name(int slot) {
+    return names[slot];
+  }
+
+  /**
+   * Get slot of the field.
+   *
+   * @param name field name
+   * @return slot index, or -1 if no such field
+   */
+  public int slot(String name) {
+    Integer slot = slots.get(name);
+    return (slot == null) ? -1 : slot;
+  }
+
+  /** Whether the names are exactly the field names of this layout in the same order. */
+  public boolean matches(Collection<String> names) {
+    if (names.size() != this.names.length) {
+      return false;
+    }
+    Iterator<String> iterator = names.iterator();
+    for (String name : this.names) {
+      if (!name.equals(iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -7,7 +7,6 @@ package org.opensearch.sql.executor;
 
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
@@ -42,6 +41,18 @@ public interface ExecutionEngine {
    */
   void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
 
+  /**
+   * Execute physical plan and explain it with runtime statistics of each node, such as rows
+   * returned and time spent, instead of the rows. Execution engine doesn't support it by default.
+   *
+   * @param plan physical plan to execute and explain
+   * @param listener response listener
+   */
+  default void explainAnalyze(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+    listener.onFailure(
+        new UnsupportedOperationException("explain analyze is not supported by execution engine"));
+  }
+
   /** Data class that encapsulates ExprValue. */
   @Data
   class QueryResponse {
@@ -71,12 +82,21 @@ public interface ExecutionEngine {
     private final ExplainResponseNode root;
   }
 
-  @AllArgsConstructor
   @Data
   @RequiredArgsConstructor
   class ExplainResponseNode {
     private final String name;
     private Map<String, Object> description;
     private List<ExplainResponseNode> children;
+
+    /** Runtime statistics of the node collected by explain analyze, or null otherwise. */
+    private Map<String, Object> stats;
+
+    public ExplainResponseNode(
+        String name, Map<String, Object> description, List<ExplainResponseNode> children) {
+      this.name = name;
+      this.description = description;
+      this.children = children;
+    }
   }
 }
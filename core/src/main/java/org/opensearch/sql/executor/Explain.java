@@ -7,6 +7,7 @@ package org.opensearch.sql.executor;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -23,10 +24,12 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -174,6 +177,19 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                     "consecutive", node.getConsecutive())));
   }
 
+  @Override
+  public ExplainResponseNode visitHashJoin(HashJoinOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode ->
+            explainNode.setDescription(
+                ImmutableMap.of(
+                    "joinType", node.getJoinType(),
+                    "leftKeys", node.getLeftKeys().toString(),
+                    "rightKeys", node.getRightKeys().toString())));
+  }
+
   @Override
   public ExplainResponseNode visitRareTopN(RareTopNOperator node, Object context) {
     return explain(
@@ -229,6 +245,21 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                             .collect(Collectors.toList())))));
   }
 
+  /**
+   * Explain the plan profiled with its runtime statistics, followed by the statistics of the plan
+   * itself if any, such as pages fetched by table scan.
+   */
+  @Override
+  public ExplainResponseNode visitProfile(ProfilePlan node, Object context) {
+    ExplainResponseNode explainNode = node.getDelegate().accept(this, context);
+    Map<String, Object> stats = new LinkedHashMap<>(node.stats());
+    if (explainNode.getStats() != null) {
+      stats.putAll(explainNode.getStats());
+    }
+    explainNode.setStats(stats);
+    return explainNode;
+  }
+
   protected ExplainResponseNode explain(
       PhysicalPlan node, Object context, Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
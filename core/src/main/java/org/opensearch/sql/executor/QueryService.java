@@ -13,6 +13,7 @@ import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.monitor.QueryPhase;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -86,13 +87,29 @@ public class QueryService {
     }
   }
 
+  /**
+   * Explain the query in {@link UnresolvedPlan} with runtime statistics collected by running the
+   * query, using {@link ResponseListener} to get and format explain response.
+   *
+   * @param plan {@link UnresolvedPlan}
+   * @param listener {@link ResponseListener} for explain response
+   */
+  public void explainAnalyze(
+      UnresolvedPlan plan, ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    try {
+      executionEngine.explainAnalyze(plan(analyze(plan)), listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /** Analyze {@link UnresolvedPlan}. */
   public LogicalPlan analyze(UnresolvedPlan plan) {
-    return analyzer.analyze(plan, new AnalysisContext());
+    return QueryPhase.ANALYZE.time(() -> analyzer.analyze(plan, new AnalysisContext()));
   }
 
   /** Translate {@link LogicalPlan} to {@link PhysicalPlan}. */
   public PhysicalPlan plan(LogicalPlan plan) {
-    return planner.plan(plan);
+    return QueryPhase.OPTIMIZE.time(() -> planner.plan(plan));
   }
 }
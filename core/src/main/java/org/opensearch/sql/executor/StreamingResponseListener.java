@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.List;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Response listener which receives rows of query response page by page while the physical plan is
+ * being executed, instead of all rows at once in {@link QueryResponse}. Execution engine that
+ * doesn't stream rows still calls {@link #onResponse}, which passes all rows as a single page.
+ * Note that {@link #onFailure} may be called after some rows are received.
+ */
+public interface StreamingResponseListener extends ResponseListener<QueryResponse> {
+
+  /**
+   * Handle schema of response before any rows.
+   *
+   * @param schema schema of response
+   */
+  void onSchema(Schema schema);
+
+  /**
+   * Handle next page of rows.
+   *
+   * @param rows rows in the page
+   */
+  void onRows(List<ExprValue> rows);
+
+  /**
+   * Handle end of response after all rows.
+   *
+   * @param cursor cursor to next page, or {@link Cursor#None}
+   */
+  void onComplete(Cursor cursor);
+
+  @Override
+  default void onResponse(QueryResponse response) {
+    onSchema(response.getSchema());
+    onRows(response.getResults());
+    onComplete(response.getCursor());
+  }
+}
@@ -30,4 +30,14 @@ public abstract class AbstractPlan {
    * @param listener query explain response listener.
    */
   public abstract void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener);
+
+  /**
+   * Explain query execution with runtime statistics collected by running the query.
+   *
+   * @param listener query explain response listener.
+   */
+  public void explainAnalyze(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support explain analyze");
+  }
 }
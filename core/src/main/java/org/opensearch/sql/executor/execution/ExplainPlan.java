@@ -17,6 +17,9 @@ public class ExplainPlan extends AbstractPlan {
 
   private final AbstractPlan plan;
 
+  /** Whether to run the plan and collect its runtime statistics. */
+  private final boolean analyze;
+
   private final ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
 
   /** Constructor. */
@@ -24,14 +27,28 @@ public class ExplainPlan extends AbstractPlan {
       QueryId queryId,
       AbstractPlan plan,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
+    this(queryId, plan, false, explainListener);
+  }
+
+  /** Constructor with analyze option. */
+  public ExplainPlan(
+      QueryId queryId,
+      AbstractPlan plan,
+      boolean analyze,
+      ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     super(queryId);
     this.plan = plan;
+    this.analyze = analyze;
     this.explainListener = explainListener;
   }
 
   @Override
   public void execute() {
-    plan.explain(explainListener);
+    if (analyze) {
+      plan.explainAnalyze(explainListener);
+    } else {
+      plan.explain(explainListener);
+    }
   }
 
   @Override
@@ -11,7 +11,6 @@ package org.opensearch.sql.executor.execution;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.statement.Explain;
@@ -26,9 +25,9 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 /** QueryExecution Factory. */
-@RequiredArgsConstructor
 public class QueryPlanFactory
     extends AbstractNodeVisitor<
         AbstractPlan,
@@ -39,6 +38,18 @@ public class QueryPlanFactory
   /** Query Service. */
   private final QueryService queryService;
 
+  /** Store of cursors kept on the server, or null if cursors are always handed out in full. */
+  private final CursorStore cursorStore;
+
+  public QueryPlanFactory(QueryService queryService) {
+    this(queryService, null);
+  }
+
+  public QueryPlanFactory(QueryService queryService, CursorStore cursorStore) {
+    this.queryService = queryService;
+    this.cursorStore = cursorStore;
+  }
+
   /**
    * NO_CONSUMER_RESPONSE_LISTENER should never be called. It is only used as constructor parameter
    * of {@link QueryPlan}.
@@ -75,7 +86,10 @@ public class QueryPlanFactory
       ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     QueryId queryId = QueryId.queryId();
-    var plan = new QueryPlan(queryId, new FetchCursor(cursor), queryService, queryResponseListener);
+    String encodedCursor = (cursorStore == null) ? cursor : cursorStore.resolve(cursor);
+    var plan =
+        new QueryPlan(
+            queryId, new FetchCursor(encodedCursor), queryService, queryResponseListener);
     return isExplain ? new ExplainPlan(queryId, plan, explainListener) : plan;
   }
 
@@ -86,9 +100,10 @@ public class QueryPlanFactory
   /** Creates a {@link CloseCursor} command on a cursor. */
   public AbstractPlan createCloseCursor(
       String cursor, ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener) {
+    String encodedCursor = (cursorStore == null) ? cursor : cursorStore.release(cursor);
     return new CommandPlan(
         QueryId.queryId(),
-        new CloseCursor().attach(new FetchCursor(cursor)),
+        new CloseCursor().attach(new FetchCursor(encodedCursor)),
         queryService,
         queryResponseListener);
   }
@@ -134,6 +149,7 @@ public class QueryPlanFactory
     return new ExplainPlan(
         QueryId.queryId(),
         create(node.getStatement(), Optional.of(NO_CONSUMER_RESPONSE_LISTENER), Optional.empty()),
+        node.isAnalyze(),
         context.getRight().get());
   }
 }
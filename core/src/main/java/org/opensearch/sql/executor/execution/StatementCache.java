@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.execution;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
+
+/**
+ * Node level cache of {@link Statement} parsed from query text, which saves the ANTLR parsing of
+ * queries submitted repeatedly, such as those of dashboards. Its scope is deliberately limited to
+ * parsing:
+ *
+ * <ul>
+ *   <li>Statements are keyed on query template, which is the query text with literals replaced by
+ *       placeholders and whitespace and comments dropped. A query of the same literals as the query
+ *       cached gets the statement cached. Once a query of the same template but different literals
+ *       comes, the template is parsed with placeholders, and the statements of all queries of the
+ *       template are built from this parse tree with their own literals bound. The parse tree is
+ *       shared only if the statement built from it with the literals of the query cached equals
+ *       the statement parsed from the query, so that templates whose literals are read elsewhere
+ *       than literal expressions, such as the size of head command or name of select item, keep
+ *       being cached by literals.
+ *   <li>Only statements are cached, which are not modified once built and don't depend on index
+ *       metadata. Analysis, optimization and planning still run for each query against current
+ *       index metadata, so there is nothing to invalidate on index mapping change. Caching the plan
+ *       is out of scope, because it would have to be invalidated on mapping change of the indices
+ *       queried and it holds the literals of the query planned.
+ *   <li>Queries longer than {@link #MAX_QUERY_LENGTH} are not cached, since long queries are mostly
+ *       generated and would evict the short queries repeated.
+ * </ul>
+ *
+ * <p>It is bounded in size with least recently used templates evicted first. Hit and miss count of
+ * all statement caches are tracked for stats, where a hit is a query whose parsing is saved.
+ */
+public class StatementCache {
+
+  /** Default maximum number of templates cached. */
+  public static final long DEFAULT_MAX_SIZE = 1000;
+
+  /** Maximum length of query text whose statement is cached. */
+  public static final int MAX_QUERY_LENGTH = 4096;
+
+  private static final List<StatementCache> CACHES = new CopyOnWriteArrayList<>();
+
+  private final Cache<Key, Entry> cache;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  /** Create statement cache of default maximum size. */
+  public StatementCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /** Create statement cache. A cache with maximum size 0 doesn't cache anything. */
+  public StatementCache(long maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    CACHES.add(this);
+  }
+
+  /**
+   * Get statement of the given query, parse and cache it if absent. Query longer than {@link
+   * #MAX_QUERY_LENGTH} is parsed without looking up the cache. Exception thrown by parser, such as
+   * syntax error, is propagated as is and nothing is cached.
+   *
+   * @param query query split into literals and template
+   * @param context context which the statement is built with in addition to query text, such as
+   *     explain flag and fetch size. It must implement equals and hashCode.
+   * @param parser function to parse query text into builder of statement, which builds statement
+   *     from the same parse tree each time it's called
+   * @return statement
+   */
+  public Statement get(
+      ParameterizedQuery query, Object context, Function<String, Supplier<Statement>> parser) {
+    if (query.getQuery().length() > MAX_QUERY_LENGTH) {
+      return parser.apply(query.getQuery()).get();
+    }
+
+    Key key = new Key(query.getTemplate(), context);
+    List<String> literals = query.getLiterals();
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null && entry.literals.equals(literals)) {
+      hits.increment();
+      return entry.statement;
+    }
+    if (entry != null && entry.template != null) {
+      hits.increment();
+      return ParameterizedQuery.bind(entry.placeholders, literals, entry.template);
+    }
+
+    misses.increment();
+    if (entry == null) {
+      Statement statement = parser.apply(query.getQuery()).get();
+      cache.put(key, new Entry(literals, statement, true, null, null));
+      return statement;
+    }
+    if (entry.parameterizable) {
+      Entry shared = parseTemplate(query, entry, parser);
+      cache.put(key, shared);
+      if (shared.template != null) {
+        return ParameterizedQuery.bind(shared.placeholders, literals, shared.template);
+      }
+    }
+    return parser.apply(query.getQuery()).get();
+  }
+
+  /**
+   * Parse template of the query with placeholders, which is shared by queries of the template only
+   * if the statement built from it with literals of the query cached equals the statement cached.
+   */
+  private Entry parseTemplate(
+      ParameterizedQuery query, Entry entry, Function<String, Supplier<Statement>> parser) {
+    List<String> placeholders = query.placeholders(entry.literals);
+    try {
+      Supplier<Statement> template = parser.apply(query.withLiterals(placeholders));
+      if (entry.statement.equals(
+          ParameterizedQuery.bind(placeholders, entry.literals, template))) {
+        return new Entry(entry.literals, entry.statement, true, placeholders, template);
+      }
+    } catch (RuntimeException e) {
+      // Placeholder is read as number or in place of literal, which can't be bound
+    }
+    return new Entry(entry.literals, entry.statement, false, null, null);
+  }
+
+  /** Total number of hits of all statement caches on this node. */
+  public static long hitCount() {
+    return sum(statementCache -> statementCache.hits.sum());
+  }
+
+  /** Total number of misses of all statement caches on this node. */
+  public static long missCount() {
+    return sum(statementCache -> statementCache.misses.sum());
+  }
+
+  /** Total number of templates evicted from all statement caches on this node. */
+  public static long evictionCount() {
+    return sum(statementCache -> statementCache.cache.stats().evictionCount());
+  }
+
+  private static long sum(ToLongFunction<StatementCache> stat) {
+    return CACHES.stream().mapToLong(stat).sum();
+  }
+
+  @Value
+  private static class Key {
+    String template;
+    Object context;
+  }
+
+  /** Statement cached of a template. */
+  @RequiredArgsConstructor
+  private static class Entry {
+    /** Literals of the query parsed. */
+    private final List<String> literals;
+
+    /** Statement parsed from the query. */
+    private final Statement statement;
+
+    /** False if the parse tree of template has been found not shareable. */
+    private final boolean parameterizable;
+
+    /** Placeholders in parse tree of template, or null if it's not shared. */
+    private final List<String> placeholders;
+
+    /** Builder of statement from parse tree of template, or null if it's not shared. */
+    private final Supplier<Statement> template;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+/**
+ * Store of continuation state of paginated queries on the server, so that cursor handed out to the
+ * client is reduced to an id of the encoded cursor kept in the store.
+ */
+public interface CursorStore {
+
+  /**
+   * Keep the encoded cursor in the store if enabled.
+   *
+   * @param cursor encoded cursor
+   * @return cursor of its id, or the cursor itself if not kept
+   */
+  Cursor store(Cursor cursor);
+
+  /**
+   * Resolve the encoded cursor of a cursor id. Cursor not issued by this store is returned as is.
+   *
+   * @param cursor cursor from client
+   * @return encoded cursor
+   * @throws IllegalArgumentException if the cursor id is unknown to the store
+   */
+  String resolve(String cursor);
+
+  /**
+   * Resolve the encoded cursor of a cursor id and remove it from the store, as the cursor is
+   * closed.
+   *
+   * @param cursor cursor from client
+   * @return encoded cursor
+   * @throws IllegalArgumentException if the cursor id is unknown to the store
+   */
+  String release(String cursor);
+}
@@ -14,10 +14,11 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -25,19 +26,40 @@ import org.opensearch.sql.storage.StorageEngine;
 
 /**
  * This class is entry point to paged requests. It is responsible to cursor serialization and
- * deserialization.
+ * deserialization. Cursor is encoded as a format version byte followed by the compressed plan, in
+ * URL-safe base64 without padding. Cursor issued before the format version was introduced is the
+ * compressed plan in hex, which is still accepted. If {@link CursorStore} is given, the encoded
+ * cursor may be kept in the store and only its id is handed out to the client.
  */
-@RequiredArgsConstructor
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the cursor format, which must be increased on any incompatible change. */
+  static final byte VERSION = 1;
+
+  /** Prefix of legacy cursor in hex without format version, which is the GZIP magic number. */
+  private static final String LEGACY_PREFIX = "1f8b";
+
   private final StorageEngine engine;
 
+  private final CursorStore cursorStore;
+
+  public PlanSerializer(StorageEngine engine) {
+    this(engine, null);
+  }
+
+  public PlanSerializer(StorageEngine engine, CursorStore cursorStore) {
+    this.engine = engine;
+    this.cursorStore = cursorStore;
+  }
+
   /** Converts a physical plan tree to a cursor. */
   public Cursor convertToCursor(PhysicalPlan plan) {
     try {
-      return new Cursor(
-          CURSOR_PREFIX + serialize(((SerializablePlan) plan).getPlanForSerialization()));
+      Cursor cursor =
+          new Cursor(
+              CURSOR_PREFIX + serialize(((SerializablePlan) plan).getPlanForSerialization()));
+      return (cursorStore == null) ? cursor : cursorStore.store(cursor);
       // ClassCastException thrown when a plan in the tree doesn't implement SerializablePlan
     } catch (NotSerializableException | ClassCastException | NoCursorException e) {
       return Cursor.None;
@@ -58,6 +80,7 @@ public class PlanSerializer {
       objectOutput.flush();
 
       ByteArrayOutputStream out = new ByteArrayOutputStream();
+      out.write(VERSION);
       // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
       GZIPOutputStream gzip =
           new GZIPOutputStream(out) {
@@ -68,7 +91,7 @@ public class PlanSerializer {
       gzip.write(output.toByteArray());
       gzip.close();
 
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
@@ -84,10 +107,21 @@ public class PlanSerializer {
    */
   protected Serializable deserialize(String code) {
     try {
-      GZIPInputStream gzip =
-          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
+      boolean legacyFormat = code.startsWith(LEGACY_PREFIX);
+      InputStream compressed;
+      if (legacyFormat) {
+        compressed = new ByteArrayInputStream(HashCode.fromString(code).asBytes());
+      } else {
+        byte[] bytes = Base64.getUrlDecoder().decode(code);
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+          throw new IOException("Unsupported cursor format version");
+        }
+        compressed = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+      }
+      GZIPInputStream gzip = new GZIPInputStream(compressed);
       ObjectInputStream objectInput =
-          new CursorDeserializationStream(new ByteArrayInputStream(gzip.readAllBytes()));
+          new CursorDeserializationStream(
+              new ByteArrayInputStream(gzip.readAllBytes()), legacyFormat);
       return (Serializable) objectInput.readObject();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize object", e);
@@ -115,8 +149,16 @@ public class PlanSerializer {
   }
 
   public class CursorDeserializationStream extends ObjectInputStream {
+    /** Whether the plan is read from legacy cursor in hex, whose requests are in legacy format. */
+    @Getter private final boolean legacyFormat;
+
     public CursorDeserializationStream(InputStream in) throws IOException {
+      this(in, false);
+    }
+
+    public CursorDeserializationStream(InputStream in, boolean legacyFormat) throws IOException {
       super(in);
+      this.legacyFormat = legacyFormat;
     }
 
     @Override
@@ -12,8 +12,10 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprMissingValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleLayout;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -21,6 +23,9 @@ import org.opensearch.sql.expression.env.Environment;
 @EqualsAndHashCode
 @RequiredArgsConstructor
 public class ReferenceExpression implements Expression {
+  /** Serial version of the serialized form written by previous versions. */
+  private static final long serialVersionUID = 1444111620070149924L;
+
   @Getter private final String attr;
 
   @Getter private final String rawPath;
@@ -29,6 +34,12 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /** Paths joined as whole, which is looked up first in tuple. Joined on first resolution. */
+  @EqualsAndHashCode.Exclude private transient String wholePath;
+
+  /** Slot of the whole path bound to the layout of tuple resolved last time. */
+  @EqualsAndHashCode.Exclude private transient SlotBinding binding;
+
   /**
    * Constructor of ReferenceExpression.
    *
@@ -102,7 +113,37 @@ public class ReferenceExpression implements Expression {
    * </pre>
    */
   public ExprValue resolve(ExprTupleValue value) {
-    return resolve(value, paths);
+    TupleLayout layout = value.layout();
+    ExprValue wholePathValue;
+    if (layout != null) {
+      int slot = slot(layout);
+      wholePathValue = (slot < 0) ? ExprMissingValue.of() : value.slotValue(slot);
+    } else {
+      wholePathValue = value.keyValue(wholePath());
+    }
+
+    if (!wholePathValue.isMissing() || paths.size() == 1) {
+      return wholePathValue;
+    } else {
+      return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
+    }
+  }
+
+  /** Bind to slot of the whole path in the layout, which is reused by tuples of same layout. */
+  private int slot(TupleLayout layout) {
+    SlotBinding current = binding;
+    if (current == null || current.layout != layout) {
+      current = new SlotBinding(layout, layout.slot(wholePath()));
+      binding = current;
+    }
+    return current.slot;
+  }
+
+  private String wholePath() {
+    if (wholePath == null) {
+      wholePath = String.join(PATH_SEP, paths);
+    }
+    return wholePath;
   }
 
   private ExprValue resolve(ExprValue value, List<String> paths) {
@@ -118,4 +159,10 @@ public class ReferenceExpression implements Expression {
       return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
     }
   }
+
+  @RequiredArgsConstructor
+  private static class SlotBinding {
+    private final TupleLayout layout;
+    private final int slot;
+  }
 }
@@ -27,6 +27,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.utils.PatternCache;
 
 /**
  * This class converts a SQL style DATE_FORMAT format specifier and converts it to a Java
@@ -192,12 +193,27 @@ class DateTimeFormatterUtil {
       Pattern.compile("(?<!%)[a-zA-Z&&[^aydmshiHIMYDSEL]]+");
   private static final String MOD_LITERAL = "%";
 
+  /** Format strings with literal characters quoted, by the original format string. */
+  private static final PatternCache<String> CLEAN_FORMATS =
+      new PatternCache<>(format -> getCleanFormat(format).toString());
+
+  /** Formatters of DATE_FORMAT and TIME_FORMAT, by the final Java pattern. */
+  private static final PatternCache<DateTimeFormatter> FORMATTERS =
+      new PatternCache<>(format -> DateTimeFormatter.ofPattern(format, Locale.ENGLISH));
+
+  /** Parsers of STR_TO_DATE, by the original format string. */
+  private static final PatternCache<DateTimeFormatter> PARSERS =
+      new PatternCache<>(DateTimeFormatterUtil::toParser);
+
   private DateTimeFormatterUtil() {}
 
   static StringBuffer getCleanFormat(ExprValue formatExpr) {
+    return getCleanFormat(formatExpr.stringValue());
+  }
+
+  private static StringBuffer getCleanFormat(String formatString) {
     final StringBuffer cleanFormat = new StringBuffer();
-    final Matcher m =
-        CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN.matcher(formatExpr.stringValue());
+    final Matcher m = CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN.matcher(formatString);
 
     while (m.find()) {
       m.appendReplacement(cleanFormat, String.format("'%s'", m.group()));
@@ -217,9 +233,7 @@ class DateTimeFormatterUtil {
    */
   static ExprValue getFormattedString(
       ExprValue formatExpr, Map<String, DateTimeFormatHandler> handler, LocalDateTime datetime) {
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
-
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
+    final Matcher matcher = pattern.matcher(CLEAN_FORMATS.get(formatExpr.stringValue()));
     final StringBuffer format = new StringBuffer();
     try {
       while (matcher.find()) {
@@ -239,8 +253,7 @@ class DateTimeFormatterUtil {
     // English Locale matches SQL requirements.
     // 'AM'/'PM' instead of 'a.m.'/'p.m.'
     // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(
-        datetime.format(DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+    return new ExprStringValue(datetime.format(FORMATTERS.get(format.toString())));
   }
 
   /**
@@ -291,29 +304,13 @@ class DateTimeFormatterUtil {
   static ExprValue parseStringWithDateOrTime(
       FunctionProperties fp, ExprValue datetimeStringExpr, ExprValue formatExpr) {
 
-    // Replace patterns with % for Java DateTimeFormatter
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-
-    while (matcher.find()) {
-      matcher.appendReplacement(
-          format,
-          STR_TO_DATE_FORMATS.getOrDefault(
-              matcher.group(),
-              String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
-    }
-    matcher.appendTail(format);
-
     TemporalAccessor taWithMissingFields;
     // Return NULL for invalid parse in string to align with MySQL
     try {
       // Get Temporal Accessor to initially parse string without default values
       taWithMissingFields =
-          new DateTimeFormatterBuilder()
-              .appendPattern(format.toString())
-              .toFormatter()
-              .withResolverStyle(ResolverStyle.STRICT)
+          PARSERS
+              .get(formatExpr.stringValue())
               .parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
       if (taWithMissingFields == null) {
         throw new DateTimeException("Input string could not be parsed properly.");
@@ -368,6 +365,27 @@ class DateTimeFormatterUtil {
     return new ExprTimestampValue(output);
   }
 
+  private static DateTimeFormatter toParser(String formatString) {
+    // Replace patterns with % for Java DateTimeFormatter
+    StringBuffer cleanFormat = getCleanFormat(formatString);
+    final Matcher matcher = pattern.matcher(cleanFormat.toString());
+    final StringBuffer format = new StringBuffer();
+
+    while (matcher.find()) {
+      matcher.appendReplacement(
+          format,
+          STR_TO_DATE_FORMATS.getOrDefault(
+              matcher.group(),
+              String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
+    }
+    matcher.appendTail(format);
+
+    return new DateTimeFormatterBuilder()
+        .appendPattern(format.toString())
+        .toFormatter()
+        .withResolverStyle(ResolverStyle.STRICT);
+  }
+
   /**
    * Returns English suffix of incoming value.
    *
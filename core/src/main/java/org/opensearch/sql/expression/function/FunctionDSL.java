@@ -17,6 +17,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver.DefaultFunctionResolverBuilder;
 
@@ -279,6 +280,78 @@ public class FunctionDSL {
         (fp, arg1, arg2) -> function.apply(arg1, arg2), returnType, args1Type, args2Type);
   }
 
+  /**
+   * Binary Function Implementation of which the second argument is a pattern string, such as LIKE
+   * and REGEXP. If the pattern is a literal, it is compiled only once for the function expression.
+   * Otherwise, the pattern of each value is compiled by the compiler which is supposed to look up
+   * {@link org.opensearch.sql.utils.PatternCache}. NULL and MISSING are handled by default.
+   *
+   * @param compiler function to compile pattern string.
+   * @param function function that takes the first argument and compiled pattern.
+   * @param returnType return type.
+   * @param args1Type argument type.
+   * @param args2Type pattern argument type.
+   * @param <T> compiled pattern type.
+   * @return Binary Function Implementation.
+   */
+  public static <T>
+      SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>> implWithPattern(
+          SerializableFunction<String, T> compiler,
+          SerializableBiFunction<ExprValue, T, ExprValue> function,
+          ExprType returnType,
+          ExprType args1Type,
+          ExprType args2Type) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
+      FunctionBuilder functionBuilder =
+          (functionProperties, arguments) ->
+              new FunctionExpression(functionName, arguments) {
+                private final boolean isLiteralPattern =
+                    arguments.get(1) instanceof LiteralExpression;
+
+                /** Compiled literal pattern, compiled lazily to report error on evaluation. */
+                private transient T literalPattern;
+
+                @Override
+                public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+                  ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
+                  ExprValue arg2 = arguments.get(1).valueOf(valueEnv);
+                  if (arg1.isMissing() || arg2.isMissing()) {
+                    return ExprValueUtils.missingValue();
+                  } else if (arg1.isNull() || arg2.isNull()) {
+                    return ExprValueUtils.nullValue();
+                  }
+                  return function.apply(arg1, pattern(arg2));
+                }
+
+                private T pattern(ExprValue value) {
+                  if (!isLiteralPattern) {
+                    return compiler.apply(value.stringValue());
+                  }
+                  if (literalPattern == null) {
+                    literalPattern = compiler.apply(value.stringValue());
+                  }
+                  return literalPattern;
+                }
+
+                @Override
+                public ExprType type() {
+                  return returnType;
+                }
+
+                @Override
+                public String toString() {
+                  return String.format(
+                      "%s(%s, %s)",
+                      functionName, arguments.get(0).toString(), arguments.get(1).toString());
+                }
+              };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
   /**
    * Triple Function Implementation.
    *
@@ -16,6 +16,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.utils.OperatorUtils;
 
 /** PatternsExpression with regex filter. */
 @EqualsAndHashCode(callSuper = true)
@@ -45,7 +46,7 @@ public class PatternsExpression extends ParseExpression {
     String patternStr = pattern.valueOf().stringValue();
     useCustomPattern = !patternStr.isEmpty();
     if (useCustomPattern) {
-      this.pattern = Pattern.compile(patternStr);
+      this.pattern = OperatorUtils.regexpPattern(patternStr);
     }
   }
 
@@ -18,6 +18,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.utils.OperatorUtils;
 
 /** RegexExpression with regex and named capture group. */
 @EqualsAndHashCode(callSuper = true)
@@ -36,7 +37,7 @@ public class RegexExpression extends ParseExpression {
    */
   public RegexExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("regex", sourceField, pattern, identifier);
-    this.regexPattern = Pattern.compile(pattern.valueOf().stringValue());
+    this.regexPattern = OperatorUtils.regexpPattern(pattern.valueOf().stringValue());
   }
 
   @Override
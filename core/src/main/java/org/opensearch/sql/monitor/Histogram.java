@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values, such as latency or size, recorded concurrently without lock.
+ * Values are counted in log-linear buckets: each power of 2 range is split into {@link
+ * #SUB_BUCKETS} buckets of the same width, so a percentile is reported with a relative error of at
+ * most 1/{@link #SUB_BUCKETS} whatever the value is, and recording a value is a single atomic
+ * increment of a fixed array.
+ */
+public class Histogram {
+
+  /** Number of buckets in each power of 2 range, which must be a power of 2 too. */
+  static final int SUB_BUCKETS = 8;
+
+  private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+  /** Enough buckets for any non-negative long value. */
+  private static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  /**
+   * Record a value.
+   *
+   * @param value value which is taken as 0 if negative
+   */
+  public void record(long value) {
+    counts.incrementAndGet(bucket(Math.max(value, 0)));
+  }
+
+  /** Total number of values recorded. */
+  public long count() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Value at the given percentile, which is the upper bound of the bucket where the percentile
+   * falls. Buckets are read one by one while values may still be recorded, so the result is
+   * approximate under concurrent recording.
+   *
+   * @param percentile percentile in (0, 100]
+   * @return exclusive upper bound of the value, or 0 if nothing recorded
+   */
+  public long percentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+
+    long rank = (long) Math.ceil(count * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen > 0 && seen >= rank) {
+        return upperBound(i);
+      }
+    }
+    return 0;
+  }
+
+  /** Index of the bucket which the given non-negative value falls in. */
+  static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /** Exclusive upper bound of the bucket at the given index. */
+  static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket + 1;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long subBucket = bucket % SUB_BUCKETS + 1;
+    return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Histogram of latencies recorded concurrently without lock. Latencies are counted by microsecond
+ * in a {@link Histogram}, so a percentile is reported with a relative error of at most 1/{@link
+ * Histogram#SUB_BUCKETS} whatever the latency is.
+ */
+public class LatencyHistogram {
+
+  private final Histogram micros = new Histogram();
+
+  /**
+   * Record a latency.
+   *
+   * @param nanos latency in nanoseconds, which is taken as 0 if negative
+   */
+  public void record(long nanos) {
+    micros.record(nanos / 1_000);
+  }
+
+  /** Total number of latencies recorded. */
+  public long count() {
+    return micros.count();
+  }
+
+  /**
+   * Latency at the given percentile, which is the upper bound of the bucket where the percentile
+   * falls.
+   *
+   * @param percentile percentile in (0, 100]
+   * @return latency in milliseconds, or 0 if nothing recorded
+   */
+  public double percentile(double percentile) {
+    return micros.percentile(percentile) / 1_000.0;
+  }
+
+  /** Count and latencies in milliseconds at p50, p90 and p99 to report in stats. */
+  public Map<String, Object> stats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("count", count());
+    stats.put("p50", percentile(50));
+    stats.put("p90", percentile(90));
+    stats.put("p99", percentile(99));
+    return stats;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import lombok.Getter;
+
+/**
+ * Memory budget of a single query. Operators buffering rows, such as sort and aggregation, reserve
+ * the estimated bytes of rows before buffering them and release them once the rows are dropped, so
+ * that a query taking too much memory is rejected by itself instead of failing all queries running
+ * on the node. This budget has no limit and only keeps track of the bytes reserved; a subclass can
+ * reject a reservation by throwing an exception from {@link #reserve(long, String)}. A budget is
+ * used by the thread executing the query only and is not thread safe.
+ */
+public class MemoryBudget implements AutoCloseable {
+
+  /** Bytes currently reserved by operators of the query. */
+  @Getter private long reservedBytes;
+
+  /** Max bytes ever reserved at a time by operators of the query. */
+  @Getter private long peakReservedBytes;
+
+  /**
+   * Reserve memory for rows about to be buffered.
+   *
+   * @param bytes estimated bytes of the rows
+   * @param label label of the operator reserving memory
+   */
+  public void reserve(long bytes, String label) {
+    reservedBytes += bytes;
+    peakReservedBytes = Math.max(peakReservedBytes, reservedBytes);
+  }
+
+  /**
+   * Release memory reserved for rows which are no longer buffered.
+   *
+   * @param bytes estimated bytes of the rows
+   */
+  public void release(long bytes) {
+    reservedBytes -= bytes;
+  }
+
+  /** Release all memory still reserved once the query completes. */
+  @Override
+  public void close() {
+    release(reservedBytes);
+  }
+}
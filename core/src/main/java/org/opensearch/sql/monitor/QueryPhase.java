@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * Phases of a query timed for latency statistics of the node and for the slow log. Time of each
+ * phase is recorded in a histogram shared by all the queries, and added up for the query being
+ * executed in the {@link ThreadContext}, which is carried to the threads where the query continues
+ * as the request id is. Time of all the phases is reset by {@link #start()} when a query arrives,
+ * so that a thread running a new query never sees the time or text left by a previous one.
+ */
+public enum QueryPhase {
+  /** Parse query text into statement. */
+  PARSE,
+  /** Analyze statement into logical plan. */
+  ANALYZE,
+  /** Optimize logical plan and implement physical plan. */
+  OPTIMIZE,
+  /** Open physical plan, which sends the first requests of index scans. */
+  OPEN,
+  /** Pull rows from physical plan. */
+  FETCH,
+  /** Format rows into response. */
+  FORMAT;
+
+  /** The key of the time when the query arrives in the context map. */
+  private static final String START_KEY = "query_start_nanos";
+
+  /** Name of the phase in stats and slow log. */
+  @Getter private final String phaseName = name().toLowerCase(Locale.ROOT);
+
+  /** Histogram of time spent in the phase by queries on this node. */
+  @Getter private final LatencyHistogram histogram = new LatencyHistogram();
+
+  /** The key of time spent in the phase by current query in the context map. */
+  private final String contextKey = "query_" + phaseName + "_nanos";
+
+  /**
+   * Call and record the time taken, whether it completes normally or not.
+   *
+   * @param call call of the phase
+   * @return result of the call
+   */
+  public <T> T time(Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Record time spent in the phase by current query. A phase is supposed to be recorded once per
+   * query so that the histogram counts queries.
+   *
+   * @param nanos time in nanoseconds
+   */
+  public void record(long nanos) {
+    histogram.record(nanos);
+    ThreadContext.put(contextKey, Long.toString(nanos + currentNanos()));
+  }
+
+  private long currentNanos() {
+    String nanos = ThreadContext.get(contextKey);
+    return (nanos == null) ? 0 : Long.parseLong(nanos);
+  }
+
+  /** Start timing a new query arriving on current thread, whose text is not known yet. */
+  public static void start() {
+    ThreadContext.put(START_KEY, Long.toString(System.nanoTime()));
+    ThreadContext.put(SlowQueryLog.QUERY_KEY, "");
+    for (QueryPhase phase : values()) {
+      ThreadContext.put(phase.contextKey, "0");
+    }
+  }
+
+  /** Time elapsed since current query arrived, or 0 if it is not started by {@link #start()}. */
+  public static long elapsedNanos() {
+    String start = ThreadContext.get(START_KEY);
+    return (start == null) ? 0 : System.nanoTime() - Long.parseLong(start);
+  }
+
+  /** Time spent in each phase by current query in milliseconds. */
+  public static Map<String, Long> breakdownMillis() {
+    Map<String, Long> breakdown = new LinkedHashMap<>();
+    for (QueryPhase phase : values()) {
+      breakdown.put(phase.phaseName, phase.currentNanos() / 1_000_000);
+    }
+    return breakdown;
+  }
+}
@@ -16,4 +16,24 @@ public abstract class ResourceMonitor {
    * @return true for healthy, otherwise false.
    */
   public abstract boolean isHealthy();
+
+  /**
+   * Is the resource under pressure though still healthy. Operator fetching more data, such as
+   * table scan, slows down to give the resource a chance to recover before it becomes unhealthy.
+   *
+   * @return true if under pressure, otherwise false.
+   */
+  public boolean isUnderPressure() {
+    return false;
+  }
+
+  /**
+   * Memory in bytes an operator can still take before the resource becomes unhealthy. Operator
+   * buffering its input, such as hash join, spills to disk beyond it.
+   *
+   * @return available memory in bytes.
+   */
+  public long availableMemory() {
+    return Long.MAX_VALUE;
+  }
 }
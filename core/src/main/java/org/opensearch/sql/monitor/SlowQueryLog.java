@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import com.google.common.base.Strings;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.ThreadContext;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.common.utils.QueryContext;
+
+/**
+ * Slow log of queries run by the new engine. A query taking no less than {@link
+ * Settings.Key#SQL_SLOWLOG} seconds since it arrived is logged with the time of each {@link
+ * QueryPhase} and the fingerprint of its normalized text, where literals are anonymized, so that
+ * occurrences of the same slow query with different literals can be grouped without logging
+ * sensitive data.
+ */
+@Log4j2
+public class SlowQueryLog {
+
+  /** The key of normalized query text in the context map. */
+  static final String QUERY_KEY = "query_normalized";
+
+  /**
+   * Set normalized text of current query.
+   *
+   * @param normalizedQuery query text with literals anonymized
+   */
+  public static void setQuery(String normalizedQuery) {
+    ThreadContext.put(QUERY_KEY, normalizedQuery);
+  }
+
+  /** Fingerprint of the normalized text of current query, or empty if unknown. */
+  public static String fingerprint() {
+    String query = ThreadContext.get(QUERY_KEY);
+    if (Strings.isNullOrEmpty(query)) {
+      return "";
+    }
+    return String.format(Locale.ROOT, "%08x", query.hashCode());
+  }
+
+  /**
+   * Log current query if it is slow. This is supposed to be called once the response is formatted.
+   *
+   * @param settings settings of slow log threshold
+   * @return true if the query is logged
+   */
+  public static boolean logIfSlow(Settings settings) {
+    Integer threshold = settings.getSettingValue(Settings.Key.SQL_SLOWLOG);
+    long elapsedNanos = QueryPhase.elapsedNanos();
+    if (threshold == null || TimeUnit.NANOSECONDS.toSeconds(elapsedNanos) < threshold) {
+      return false;
+    }
+    log.warn(
+        "[{}] Slow query: elapsed={} (ms), fingerprint={}, query={}, phases={}",
+        QueryContext.getRequestId(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        fingerprint(),
+        ThreadContext.get(QUERY_KEY),
+        QueryPhase.breakdownMillis());
+    return true;
+  }
+
+  private SlowQueryLog() {}
+}
@@ -12,6 +12,7 @@ import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalEval;
 import org.opensearch.sql.planner.logical.LogicalFetchCursor;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
@@ -31,6 +32,7 @@ import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -125,6 +127,16 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new FilterOperator(visitChild(node, context), node.getCondition());
   }
 
+  @Override
+  public PhysicalPlan visitJoin(LogicalJoin node, C context) {
+    return new HashJoinOperator(
+        node.getLeft().accept(this, context),
+        node.getRight().accept(this, context),
+        node.getJoinType(),
+        node.getLeftKeys(),
+        node.getRightKeys());
+  }
+
   @Override
   public PhysicalPlan visitValues(LogicalValues node, C context) {
     return new ValuesOperator(node.getValues());
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.logical;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Equi-join of two logical plans. Row of left plan joins with row of right plan if each left key
+ * equals the right key at the same position.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class LogicalJoin extends LogicalPlan {
+
+  private final JoinType joinType;
+
+  /** Join keys evaluated on left rows. */
+  private final List<Expression> leftKeys;
+
+  /** Join keys evaluated on right rows. */
+  private final List<Expression> rightKeys;
+
+  /** Constructor of LogicalJoin. */
+  public LogicalJoin(
+      LogicalPlan left,
+      LogicalPlan right,
+      JoinType joinType,
+      List<Expression> leftKeys,
+      List<Expression> rightKeys) {
+    super(Arrays.asList(left, right));
+    if (leftKeys.isEmpty() || leftKeys.size() != rightKeys.size()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "join requires same number of left and right keys, but got %d and %d",
+              leftKeys.size(), rightKeys.size()));
+    }
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+  }
+
+  public LogicalPlan getLeft() {
+    return getChild().get(0);
+  }
+
+  public LogicalPlan getRight() {
+    return getChild().get(1);
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitJoin(this, context);
+  }
+
+  /** Join type. */
+  public enum JoinType {
+    /** Left row joined with each matched right row. */
+    INNER,
+    /** Same as inner join, plus left row without any match with fields of right rows as null. */
+    LEFT,
+    /** Left row with at least one match. */
+    SEMI,
+    /** Left row without any match. */
+    ANTI
+  }
+}
@@ -142,6 +142,15 @@ public class LogicalPlanDSL {
     return new LogicalValues(Arrays.asList(values));
   }
 
+  public static LogicalPlan join(
+      LogicalPlan left,
+      LogicalPlan right,
+      LogicalJoin.JoinType joinType,
+      List<Expression> leftKeys,
+      List<Expression> rightKeys) {
+    return new LogicalJoin(left, right, joinType, leftKeys, rightKeys);
+  }
+
   public static LogicalPlan limit(LogicalPlan input, Integer limit, Integer offset) {
     return new LogicalLimit(input, limit, offset);
   }
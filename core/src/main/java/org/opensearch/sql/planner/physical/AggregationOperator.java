@@ -16,6 +16,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -33,6 +34,9 @@ public class AggregationOperator extends PhysicalPlan {
   /** {@link BindingTuple} Collector. */
   @EqualsAndHashCode.Exclude private final Collector collector;
 
+  /** Memory reserved for groups collected. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
@@ -46,10 +50,27 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, new MemoryBudget());
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryBudget memory budget of query which groups collected are accounted to
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
     this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.memory = new MemoryReservation(memoryBudget, "aggregation");
   }
 
   @Override
@@ -75,9 +96,21 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
+    long reserved = 0;
     while (input.hasNext()) {
       collector.collect(input.next().bindingTuples());
+      long size = collector.estimatedSize();
+      if (size > reserved) {
+        memory.reserve(size - reserved);
+        reserved = size;
+      }
     }
     iterator = collector.results().iterator();
   }
+
+  @Override
+  public void close() {
+    super.close();
+    memory.releaseAll();
+  }
 }
@@ -12,12 +12,14 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -36,6 +38,11 @@ public class DedupeOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude private final Deduper<List<ExprValue>> deduper;
   @EqualsAndHashCode.Exclude private ExprValue next;
 
+  /** Memory reserved for dedupe keys seen, which are all held unless in consecutive mode. */
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final MemoryReservation memory;
+
   private static final Integer ALL_ONE_DUPLICATION = 1;
   private static final Boolean IGNORE_EMPTY = false;
   private static final Boolean NON_CONSECUTIVE = false;
@@ -63,12 +70,34 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(input, dedupeList, allowedDuplication, keepEmpty, consecutive, new MemoryBudget());
+  }
+
+  /**
+   * Dedup Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param memoryBudget memory budget of query which dedupe keys seen are accounted to
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
     this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    this.memory = new MemoryReservation(memoryBudget, "dedupe");
   }
 
   @Override
@@ -119,9 +148,18 @@ public class DedupeOperator extends PhysicalPlan {
     }
     List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
     int seenTimes = deduper.seenTimes(dedupeKey);
+    if (seenTimes == SEEN_FIRST_TIME && !consecutive) {
+      memory.reserve(MemoryReservation.estimateKeySize(dedupeKey));
+    }
     return seenTimes <= allowedDuplication;
   }
 
+  @Override
+  public void close() {
+    super.close();
+    memory.releaseAll();
+  }
+
   /**
    * Return how many times the dedupeKey has been seen before. The side effect is the seen times
    * will add 1 times after calling this function.
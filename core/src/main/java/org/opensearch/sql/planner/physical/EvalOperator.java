@@ -10,6 +10,7 @@ import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,6 +27,8 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.planner.physical.batch.ColumnVector;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 
 /**
  * The eval operator evaluate the {@link EvalOperator#expressionList} and put the result into to
@@ -81,6 +84,43 @@ public class EvalOperator extends PhysicalPlan {
     }
   }
 
+  /**
+   * Evaluate the expressions on each selected row of the input batch, and then replace the existing
+   * columns or append new columns with the results.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    if (batch.isEmpty()) {
+      return batch;
+    }
+
+    Map<String, ExprValue[]> evalColumns = new LinkedHashMap<>();
+    RowBatch.Cursor cursor = batch.cursor();
+    for (int i = 0; i < batch.getSelectedSize(); i++) {
+      int position = batch.position(i);
+      for (Entry<String, ExprValue> entry : eval(cursor.moveTo(position)).entrySet()) {
+        ExprValue[] values =
+            evalColumns.computeIfAbsent(entry.getKey(), name -> new ExprValue[batch.getSize()]);
+        values[position] = entry.getValue();
+      }
+    }
+
+    List<String> names = new ArrayList<>(batch.getNames());
+    List<ColumnVector> columns = new ArrayList<>(batch.getColumns());
+    for (Entry<String, ExprValue[]> entry : evalColumns.entrySet()) {
+      ColumnVector column = ColumnVector.of(entry.getValue());
+      int index = names.indexOf(entry.getKey());
+      if (index >= 0) {
+        columns.set(index, column);
+      } else {
+        names.add(entry.getKey());
+        columns.add(column);
+      }
+    }
+    return batch.withColumns(names, columns);
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
    *
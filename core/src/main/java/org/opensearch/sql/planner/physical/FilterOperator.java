@@ -14,6 +14,7 @@ import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperators;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -59,11 +60,33 @@ public class FilterOperator extends PhysicalPlan {
     return result;
   }
 
+  /** Narrow down selection of input batch to rows matched, and skip batch with no row matched. */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    while (!batch.isEmpty()) {
+      int[] selection = new int[batch.getSelectedSize()];
+      int selectedSize = 0;
+      RowBatch.Cursor cursor = batch.cursor();
+      for (int i = 0; i < batch.getSelectedSize(); i++) {
+        int position = batch.position(i);
+        if (isTrue(conditions.valueOf(cursor.moveTo(position)))) {
+          selection[selectedSize++] = position;
+        }
+      }
+      if (selectedSize > 0) {
+        return batch.select(selection, selectedSize);
+      }
+      batch = input.nextBatch(maxSize);
+    }
+    return batch;
+  }
+
   private void prepareNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
       ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && exprValue.booleanValue()) {
+      if (isTrue(exprValue)) {
         next = inputValue;
         nextPrepared = true;
         return;
@@ -72,4 +95,8 @@ public class FilterOperator extends PhysicalPlan {
     next = null;
     nextPrepared = true;
   }
+
+  private static boolean isTrue(ExprValue value) {
+    return !(value.isNull() || value.isMissing()) && value.booleanValue();
+  }
 }
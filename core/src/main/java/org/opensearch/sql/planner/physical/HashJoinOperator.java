@@ -0,0 +1,414 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Hash join operator. The right input is the build side loaded into a hash table by join keys, and
+ * the left input is the probe side streamed through the hash table. Row whose join key is null or
+ * missing never matches. Joined row contains all fields of left row followed by fields of right
+ * row, which overwrite left fields with the same name.<br>
+ * If the estimated size of build side exceeds the memory limit, both sides are partitioned by hash
+ * of join key into local temporary files and each pair of partitions is joined separately (grace
+ * hash join). A build partition still too large is partitioned again with different hash bits up
+ * to {@link #MAX_SPILL_DEPTH} times.<br>
+ * For inner and semi join, the build side is loaded before the probe side opens, so that distinct
+ * join key values of the build side are pushed down to the probe side scan as {@link
+ * RuntimeFilter}.
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class HashJoinOperator extends PhysicalPlan {
+
+  /** Number of partitions the rows are split into on each spill. Must be power of 2. */
+  static final int PARTITION_COUNT = 16;
+
+  /** Max times of partitioning, beyond which the partition is joined in memory anyway. */
+  static final int MAX_SPILL_DEPTH = 3;
+
+  /** Estimated memory overhead of each distinct key in hash table. */
+  private static final long KEY_OVERHEAD_BYTES = 64;
+
+  @Getter private final PhysicalPlan left;
+
+  @Getter private final PhysicalPlan right;
+
+  @Getter private final JoinType joinType;
+
+  @Getter private final List<Expression> leftKeys;
+
+  @Getter private final List<Expression> rightKeys;
+
+  /** Memory limit in bytes of build side hash table, which is evaluated on open. */
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude private final LongSupplier memoryLimit;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+
+  /** Fields of build side rows, which are null in left join result of left row without match. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final Set<String> rightFields = new LinkedHashSet<>();
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private Iterator<ExprValue> iterator;
+
+  /** Constructor of HashJoinOperator without memory limit. */
+  public HashJoinOperator(
+      PhysicalPlan left,
+      PhysicalPlan right,
+      JoinType joinType,
+      List<Expression> leftKeys,
+      List<Expression> rightKeys) {
+    this(left, right, joinType, leftKeys, rightKeys, () -> Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructor of HashJoinOperator.
+   *
+   * @param left probe side input
+   * @param right build side input
+   * @param joinType join type
+   * @param leftKeys join keys evaluated on left rows
+   * @param rightKeys join keys evaluated on right rows
+   * @param memoryLimit memory limit in bytes of build side beyond which rows spill to disk
+   */
+  public HashJoinOperator(
+      PhysicalPlan left,
+      PhysicalPlan right,
+      JoinType joinType,
+      List<Expression> leftKeys,
+      List<Expression> rightKeys,
+      LongSupplier memoryLimit) {
+    this.left = left;
+    this.right = right;
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+    this.memoryLimit = memoryLimit;
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitHashJoin(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Arrays.asList(left, right);
+  }
+
+  @Override
+  public void open() {
+    right.open();
+    long limit = memoryLimit.getAsLong();
+    List<RuntimeFilter.Collector> collectors = runtimeFilterCollectors();
+    rightFields.clear();
+    Iterator<ExprValue> rightRows = right;
+    if (!collectors.isEmpty()) {
+      rightRows =
+          Iterators.transform(
+              right,
+              row -> {
+                collectors.forEach(collector -> collector.add(row));
+                return row;
+              });
+    } else if (joinType == JoinType.LEFT) {
+      rightRows =
+          Iterators.transform(
+              right,
+              row -> {
+                rightFields.addAll(row.tupleValue().keySet());
+                return row;
+              });
+    }
+
+    HashTable table = new HashTable();
+    while (rightRows.hasNext()) {
+      ExprValue row = rightRows.next();
+      Object key = key(row, rightKeys);
+      if (key == null) {
+        continue;
+      }
+      table.put(key, row);
+
+      if (table.bytes > limit) {
+        Partitions rightPartitions = new Partitions(rightKeys, 0);
+        rightPartitions.writeAll(table.rows());
+        rightPartitions.writeAll(rightRows);
+        openLeft(collectors);
+        Partitions leftPartitions = new Partitions(leftKeys, 0);
+        leftPartitions.writeAll(left);
+        iterator = joinPartitions(leftPartitions, rightPartitions, limit);
+        return;
+      }
+    }
+    openLeft(collectors);
+    iterator = probe(left, table);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::delete);
+    spillFiles.clear();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  /**
+   * Check if runtime filters may be pushed down to the left input on open, in which case the left
+   * input must not be read ahead before the join is opened.
+   *
+   * @return true if any runtime filter is collected from the build side
+   */
+  public boolean hasRuntimeFilter() {
+    return !runtimeFilterCollectors().isEmpty();
+  }
+
+  /**
+   * Create runtime filter collector for each left key which is a field, if left rows without match
+   * are not part of the join result.
+   */
+  private List<RuntimeFilter.Collector> runtimeFilterCollectors() {
+    List<RuntimeFilter.Collector> collectors = new ArrayList<>();
+    if (joinType == JoinType.INNER || joinType == JoinType.SEMI) {
+      for (int i = 0; i < leftKeys.size(); i++) {
+        if (leftKeys.get(i) instanceof ReferenceExpression field) {
+          collectors.add(new RuntimeFilter.Collector(field, rightKeys.get(i)));
+        }
+      }
+    }
+    return collectors;
+  }
+
+  /** Push runtime filter on join keys down to left input before opening it. */
+  private void openLeft(List<RuntimeFilter.Collector> collectors) {
+    for (RuntimeFilter.Collector collector : collectors) {
+      RuntimeFilter filter = collector.build();
+      if (filter != null) {
+        RuntimeFilterPushDown.pushDown(left, filter);
+      }
+    }
+    left.open();
+  }
+
+  /** Join each pair of partitions lazily one after another. */
+  private Iterator<ExprValue> joinPartitions(
+      Partitions leftPartitions, Partitions rightPartitions, long limit) {
+    return Iterators.concat(
+        IntStream.range(0, PARTITION_COUNT)
+            .mapToObj(
+                i ->
+                    joinPartition(
+                        leftPartitions.files[i],
+                        rightPartitions.files[i],
+                        rightPartitions.depth,
+                        limit))
+            .iterator());
+  }
+
+  private Iterator<ExprValue> joinPartition(
+      SpillFile leftFile, SpillFile rightFile, int depth, long limit) {
+    if (rightFile == null && (joinType == JoinType.INNER || joinType == JoinType.SEMI)) {
+      if (leftFile != null) {
+        leftFile.delete();
+      }
+      return Collections.emptyIterator();
+    }
+
+    HashTable table = new HashTable();
+    Iterator<ExprValue> rightRows = SpillFile.read(rightFile);
+    while (rightRows.hasNext()) {
+      ExprValue row = rightRows.next();
+      table.put(key(row, rightKeys), row);
+
+      if (table.bytes > limit && depth < MAX_SPILL_DEPTH) {
+        Partitions rightPartitions = new Partitions(rightKeys, depth + 1);
+        rightPartitions.writeAll(table.rows());
+        rightPartitions.writeAll(rightRows);
+        Partitions leftPartitions = new Partitions(leftKeys, depth + 1);
+        leftPartitions.writeAll(SpillFile.read(leftFile));
+        return joinPartitions(leftPartitions, rightPartitions, limit);
+      }
+    }
+    return probe(SpillFile.read(leftFile), table);
+  }
+
+  private Iterator<ExprValue> probe(Iterator<ExprValue> leftRows, HashTable table) {
+    return Iterators.concat(Iterators.transform(leftRows, row -> match(row, table)));
+  }
+
+  private Iterator<ExprValue> match(ExprValue leftRow, HashTable table) {
+    Object key = key(leftRow, leftKeys);
+    List<ExprValue> matches = (key == null) ? Collections.emptyList() : table.get(key);
+    switch (joinType) {
+      case INNER:
+        return Iterators.transform(matches.iterator(), rightRow -> combine(leftRow, rightRow));
+      case LEFT:
+        return matches.isEmpty()
+            ? Iterators.singletonIterator(fillNulls(leftRow))
+            : Iterators.transform(matches.iterator(), rightRow -> combine(leftRow, rightRow));
+      case SEMI:
+        return matches.isEmpty()
+            ? Collections.emptyIterator()
+            : Iterators.singletonIterator(leftRow);
+      default:
+        return matches.isEmpty()
+            ? Iterators.singletonIterator(leftRow)
+            : Collections.emptyIterator();
+    }
+  }
+
+  private ExprValue combine(ExprValue leftRow, ExprValue rightRow) {
+    Map<String, ExprValue> result = new LinkedHashMap<>(leftRow.tupleValue());
+    result.putAll(rightRow.tupleValue());
+    return ExprTupleValue.fromExprValueMap(result);
+  }
+
+  /** Fill fields of build side absent in the left row without match with null. */
+  private ExprValue fillNulls(ExprValue leftRow) {
+    Map<String, ExprValue> result = new LinkedHashMap<>(leftRow.tupleValue());
+    rightFields.forEach(field -> result.putIfAbsent(field, ExprNullValue.of()));
+    return ExprTupleValue.fromExprValueMap(result);
+  }
+
+  /**
+   * Encode join key of the row into plain Java object for cheap hashing and equality check. Numbers
+   * are normalized so that integer and long, or whole double, of the same value are equal.
+   *
+   * @return encoded key, or null if any key value is null or missing
+   */
+  static Object key(ExprValue row, List<Expression> keys) {
+    BindingTuple tuple = row.bindingTuples();
+    if (keys.size() == 1) {
+      return encode(keys.get(0).valueOf(tuple));
+    }
+
+    List<Object> result = new ArrayList<>(keys.size());
+    for (Expression key : keys) {
+      Object value = encode(key.valueOf(tuple));
+      if (value == null) {
+        return null;
+      }
+      result.add(value);
+    }
+    return result;
+  }
+
+  private static Object encode(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      return null;
+    }
+    if (value.isNumber()) {
+      if (value.type() == DOUBLE || value.type() == FLOAT) {
+        double doubleValue = value.doubleValue();
+        long longValue = (long) doubleValue;
+        return (longValue == doubleValue) ? (Object) longValue : (Object) doubleValue;
+      }
+      return value.longValue();
+    }
+    return value.value();
+  }
+
+  /** Spread hash bits and pick different bits on each depth of partitioning. */
+  private static int partition(Object key, int depth) {
+    int hash = (key == null) ? 0 : key.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return (hash >>> (depth * Integer.numberOfTrailingZeros(PARTITION_COUNT)))
+        & (PARTITION_COUNT - 1);
+  }
+
+  /** Build side hash table with estimated memory size. */
+  private static class HashTable {
+    private final Map<Object, List<ExprValue>> table = new HashMap<>();
+    private long bytes = 0;
+
+    void put(Object key, ExprValue row) {
+      List<ExprValue> rows = table.get(key);
+      if (rows == null) {
+        rows = new ArrayList<>(1);
+        table.put(key, rows);
+        bytes += KEY_OVERHEAD_BYTES;
+      }
+      rows.add(row);
+      bytes += SpillFile.estimateSize(row);
+    }
+
+    List<ExprValue> get(Object key) {
+      return table.getOrDefault(key, Collections.emptyList());
+    }
+
+    Iterator<ExprValue> rows() {
+      return table.values().stream().flatMap(List::stream).iterator();
+    }
+  }
+
+  /** Rows partitioned by hash of join key into spill files which are created on demand. */
+  private class Partitions {
+    private final List<Expression> keys;
+    private final int depth;
+    private final SpillFile[] files = new SpillFile[PARTITION_COUNT];
+
+    Partitions(List<Expression> keys, int depth) {
+      this.keys = keys;
+      this.depth = depth;
+    }
+
+    void writeAll(Iterator<ExprValue> rows) {
+      while (rows.hasNext()) {
+        ExprValue row = rows.next();
+        int i = partition(key(row, keys), depth);
+        if (files[i] == null) {
+          files[i] = new SpillFile("opensearch-sql-join-");
+          spillFiles.add(files[i]);
+        }
+        files[i].write(row);
+      }
+      for (SpillFile file : files) {
+        if (file != null) {
+          file.flush();
+        }
+      }
+    }
+  }
+}
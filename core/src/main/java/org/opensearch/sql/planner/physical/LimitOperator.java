@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 
 /**
  * The limit operator sets a window, to and block the rows out of the window and allow only the
@@ -39,7 +40,7 @@ public class LimitOperator extends PhysicalPlan {
     super.open();
 
     // skip the leading rows of offset size
-    while (input.hasNext() && count < offset) {
+    while (count < offset && input.hasNext()) {
       count++;
       input.next();
     }
@@ -56,6 +57,18 @@ public class LimitOperator extends PhysicalPlan {
     return input.next();
   }
 
+  /** Request no more rows than remaining in the limit from input batch. */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    int remaining = offset + limit - count;
+    if (remaining <= 0) {
+      return RowBatch.EMPTY;
+    }
+    RowBatch batch = input.nextBatch(Math.min(maxSize, remaining));
+    count += batch.getSelectedSize();
+    return batch;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitLimit(this, context);
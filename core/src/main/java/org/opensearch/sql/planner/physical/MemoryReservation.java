@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.MemoryBudget;
+
+/**
+ * Memory reserved by one buffering operator from the {@link MemoryBudget} of query. It keeps track
+ * of bytes reserved by the operator so that all of them can be released on close.
+ */
+@RequiredArgsConstructor
+class MemoryReservation {
+
+  private final MemoryBudget memoryBudget;
+
+  /** Label of the operator which is reported if the budget is exceeded. */
+  private final String label;
+
+  private long reservedBytes;
+
+  void reserve(long bytes) {
+    memoryBudget.reserve(bytes, label);
+    reservedBytes += bytes;
+  }
+
+  void release(long bytes) {
+    memoryBudget.release(bytes);
+    reservedBytes -= bytes;
+  }
+
+  void releaseAll() {
+    release(reservedBytes);
+  }
+
+  /** Estimate size in bytes of a key of values held in a hash table, including its entry. */
+  static long estimateKeySize(List<ExprValue> values) {
+    long size = 64;
+    for (ExprValue value : values) {
+      size += 8 + SpillFile.estimateSize(value);
+    }
+    return size;
+  }
+}
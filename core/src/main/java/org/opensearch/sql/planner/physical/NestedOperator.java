@@ -25,6 +25,7 @@ import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 /**
  * The NestedOperator evaluates the {@link NestedOperator#fields} and generates {@link
@@ -42,6 +43,9 @@ public class NestedOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private ListIterator<Map<String, ExprValue>> flattenedResult = result.listIterator();
 
+  /** Memory reserved for rows flattened from current input row. */
+  @EqualsAndHashCode.Exclude private final MemoryReservation memory;
+
   /**
    * Constructor for NestedOperator with list of map as arg.
    *
@@ -50,6 +54,7 @@ public class NestedOperator extends PhysicalPlan {
    */
   public NestedOperator(PhysicalPlan input, List<Map<String, ReferenceExpression>> fields) {
     this.input = input;
+    this.memory = new MemoryReservation(new MemoryBudget(), "nested");
     this.fields = fields.stream().map(m -> m.get("field").toString()).collect(Collectors.toSet());
     this.groupedPathsAndFields =
         fields.stream()
@@ -68,9 +73,26 @@ public class NestedOperator extends PhysicalPlan {
    */
   public NestedOperator(
       PhysicalPlan input, Set<String> fields, Map<String, List<String>> groupedPathsAndFields) {
+    this(input, fields, groupedPathsAndFields, new MemoryBudget());
+  }
+
+  /**
+   * Constructor for NestedOperator with Set of fields.
+   *
+   * @param input : PhysicalPlan input.
+   * @param fields : List of all fields for nested fields.
+   * @param groupedPathsAndFields : Map of fields grouped by their path.
+   * @param memoryBudget : Memory budget of query which rows flattened are accounted to.
+   */
+  public NestedOperator(
+      PhysicalPlan input,
+      Set<String> fields,
+      Map<String, List<String>> groupedPathsAndFields,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.fields = fields;
     this.groupedPathsAndFields = groupedPathsAndFields;
+    this.memory = new MemoryReservation(memoryBudget, "nested");
   }
 
   @Override
@@ -93,6 +115,7 @@ public class NestedOperator extends PhysicalPlan {
     if (!flattenedResult.hasNext()) {
       result.clear();
       nonNestedFields.clear();
+      memory.releaseAll();
 
       ExprValue inputValue = input.next();
       generateNonNestedFieldsMap(inputValue);
@@ -105,6 +128,7 @@ public class NestedOperator extends PhysicalPlan {
       for (String nonNestedField : nonNestedFields) {
         result = flatten(nonNestedField, inputValue, result);
       }
+      memory.reserve(estimateSize(result));
 
       if (result.isEmpty()) {
         flattenedResult = result.listIterator();
@@ -116,6 +140,24 @@ public class NestedOperator extends PhysicalPlan {
     return new ExprTupleValue(new LinkedHashMap<>(flattenedResult.next()));
   }
 
+  @Override
+  public void close() {
+    super.close();
+    memory.releaseAll();
+  }
+
+  /** Estimate size in bytes of rows flattened in the same way as tuple value. */
+  private static long estimateSize(List<Map<String, ExprValue>> rows) {
+    long size = 0;
+    for (Map<String, ExprValue> row : rows) {
+      size += 48;
+      for (Map.Entry<String, ExprValue> field : row.entrySet()) {
+        size += 72 + 2L * field.getKey().length() + SpillFile.estimateSize(field.getValue());
+      }
+    }
+    return size;
+  }
+
   /**
    * Generate list of non-nested fields that are in inputMap, but not in the member variable fields
    * list.
@@ -5,10 +5,13 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 import org.opensearch.sql.storage.split.Split;
 
 /** Physical plan. */
@@ -33,6 +36,22 @@ public abstract class PhysicalPlan
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Get next batch of rows. Operator which can process rows in batch overrides this, otherwise rows
+   * are pulled one by one by {@link #next()} and put into a batch. Rows can be consumed by {@link
+   * #next()} before switching to batches but not the other way around.
+   *
+   * @param maxSize maximum number of rows selected in the batch
+   * @return next batch, or empty batch if no more rows
+   */
+  public RowBatch nextBatch(int maxSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < maxSize && hasNext()) {
+      rows.add(next());
+    }
+    return RowBatch.of(rows);
+  }
+
   public void add(Split split) {
     getChild().forEach(child -> child.add(split));
   }
@@ -21,6 +21,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 
 /** Physical Plan DSL. */
 @UtilityClass
@@ -111,6 +112,15 @@ public class PhysicalPlanDSL {
     return new ValuesOperator(Arrays.asList(values));
   }
 
+  public static HashJoinOperator hashJoin(
+      PhysicalPlan left,
+      PhysicalPlan right,
+      LogicalJoin.JoinType joinType,
+      List<Expression> leftKeys,
+      List<Expression> rightKeys) {
+    return new HashJoinOperator(left, right, joinType, leftKeys, rightKeys);
+  }
+
   public static LimitOperator limit(PhysicalPlan input, Integer limit, Integer offset) {
     return new LimitOperator(input, limit, offset);
   }
@@ -76,6 +76,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitHashJoin(HashJoinOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitRareTopN(RareTopNOperator node, C context) {
     return visitNode(node, context);
   }
@@ -103,4 +107,9 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
   public R visitCursorClose(CursorCloseOperator node, C context) {
     return visitNode(node, context);
   }
+
+  /** Visit the delegate of profile plan by default, as if it is not profiled. */
+  public R visitProfile(ProfilePlan node, C context) {
+    return node.getDelegate().accept(this, context);
+  }
 }
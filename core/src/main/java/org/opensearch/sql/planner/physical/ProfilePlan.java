@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
+import org.opensearch.sql.storage.split.Split;
+
+/**
+ * A PhysicalPlan which runs the delegate plan and collects its runtime statistics for explain
+ * analyze, including rows returned, and wall and CPU time spent in {@link #open()} and in pulling
+ * rows by {@link #hasNext()}, {@link #next()} and {@link #nextBatch(int)}. Time of a node includes
+ * the time of its children, so the time spent by the node itself is derived by subtracting the
+ * time of its children which are profiled too. Profile plan is transparent to visitors unless they
+ * handle it explicitly.
+ */
+@ToString
+@RequiredArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class ProfilePlan extends PhysicalPlan {
+
+  private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+  /** Delegated PhysicalPlan. */
+  @Getter private final PhysicalPlan delegate;
+
+  /** Number of rows returned. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private long rowsOut;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final Timer openTimer = new Timer();
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final Timer nextTimer = new Timer();
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitProfile(this, context);
+  }
+
+  @Override
+  public void open() {
+    openTimer.time(
+        () -> {
+          delegate.open();
+          return null;
+        });
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return delegate.getChild();
+  }
+
+  @Override
+  public void add(Split split) {
+    delegate.add(split);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextTimer.time(delegate::hasNext);
+  }
+
+  @Override
+  public ExprValue next() {
+    ExprValue row = nextTimer.time(delegate::next);
+    rowsOut++;
+    return row;
+  }
+
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = nextTimer.time(() -> delegate.nextBatch(maxSize));
+    rowsOut += batch.getSelectedSize();
+    return batch;
+  }
+
+  /**
+   * Runtime statistics collected so far. Rows in are the rows returned by the children which are
+   * profiled too, and time is in milliseconds.
+   *
+   * @return statistics by name in order
+   */
+  public Map<String, Object> stats() {
+    long rowsIn = 0;
+    long childrenWallNanos = 0;
+    long childrenCpuNanos = 0;
+    for (PhysicalPlan child : getChild()) {
+      if (child instanceof ProfilePlan profiled) {
+        rowsIn += profiled.rowsOut;
+        childrenWallNanos += profiled.totalWallNanos();
+        childrenCpuNanos += profiled.totalCpuNanos();
+      }
+    }
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("rowsIn", rowsIn);
+    stats.put("rowsOut", rowsOut);
+    stats.put("openTimeMs", millis(openTimer.wallNanos));
+    stats.put("openCpuTimeMs", millis(openTimer.cpuNanos));
+    stats.put("nextTimeMs", millis(nextTimer.wallNanos));
+    stats.put("nextCpuTimeMs", millis(nextTimer.cpuNanos));
+    stats.put("selfTimeMs", millis(totalWallNanos() - childrenWallNanos));
+    stats.put("selfCpuTimeMs", millis(totalCpuNanos() - childrenCpuNanos));
+    return stats;
+  }
+
+  private long totalWallNanos() {
+    return openTimer.wallNanos + nextTimer.wallNanos;
+  }
+
+  private long totalCpuNanos() {
+    return openTimer.cpuNanos + nextTimer.cpuNanos;
+  }
+
+  /** Milliseconds rounded to microseconds. */
+  private static double millis(long nanos) {
+    return Math.round(nanos / 1_000.0) / 1_000.0;
+  }
+
+  /**
+   * Accumulated wall and CPU time of calls. CPU time is measured on the current thread, which is
+   * always 0 if thread CPU time measurement is disabled in the JVM.
+   */
+  private static class Timer {
+    private long wallNanos;
+    private long cpuNanos;
+
+    <T> T time(Supplier<T> call) {
+      long wallStart = System.nanoTime();
+      long cpuStart = THREAD_BEAN.getCurrentThreadCpuTime();
+      try {
+        return call.get();
+      } finally {
+        wallNanos += System.nanoTime() - wallStart;
+        cpuNanos += THREAD_BEAN.getCurrentThreadCpuTime() - cpuStart;
+      }
+    }
+  }
+}
@@ -10,31 +10,53 @@ import com.google.common.collect.ImmutableMap.Builder;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleLayout;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.batch.ColumnVector;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@AllArgsConstructor
 public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter private PhysicalPlan input;
   @Getter private List<NamedExpression> projectList;
   @Getter private List<NamedExpression> namedParseExpressions;
 
+  /** Layout of output rows shared by all rows if no parse expression. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private transient TupleLayout layout;
+
+  /**
+   * Constructor of {@link ProjectOperator}.
+   *
+   * @param input input plan
+   * @param projectList fields to project
+   * @param namedParseExpressions parse expressions overriding fields of the same name
+   */
+  public ProjectOperator(
+      PhysicalPlan input,
+      List<NamedExpression> projectList,
+      List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -53,6 +75,9 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Override
   public ExprValue next() {
     ExprValue inputValue = input.next();
+    if (namedParseExpressions.isEmpty()) {
+      return project(inputValue);
+    }
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
@@ -89,6 +114,46 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
+  /** Project the fields into slots of the output layout. */
+  private ExprValue project(ExprValue inputValue) {
+    if (layout == null) {
+      layout =
+          TupleLayout.of(
+              projectList.stream()
+                  .map(NamedExpression::getNameOrAlias)
+                  .collect(Collectors.toList()));
+    }
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    ExprValue[] values = new ExprValue[projectList.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = projectList.get(i).valueOf(bindingTuple);
+    }
+    return ExprTupleValue.fromSlots(layout, values);
+  }
+
+  /**
+   * Evaluate each projected expression on the input batch column by column. Projection of plain
+   * field reuses the input column as is. Parse expressions fall back to projecting row by row.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    if (!namedParseExpressions.isEmpty()) {
+      return super.nextBatch(maxSize);
+    }
+
+    RowBatch batch = input.nextBatch(maxSize);
+    if (batch.isEmpty()) {
+      return batch;
+    }
+    List<String> names = new ArrayList<>(projectList.size());
+    List<ColumnVector> columns = new ArrayList<>(projectList.size());
+    for (NamedExpression expr : projectList) {
+      names.add(expr.getNameOrAlias());
+      columns.add(batch.evaluate(expr.getDelegated()));
+    }
+    return batch.withColumns(names, columns);
+  }
+
   @Override
   public ExecutionEngine.Schema schema() {
     return new ExecutionEngine.Schema(
@@ -25,6 +25,7 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -44,6 +45,9 @@ public class RareTopNOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude private final Group group;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  /** Memory reserved for group and field keys counted. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
   private static final Integer DEFAULT_NO_OF_RESULTS = 10;
 
   public RareTopNOperator(
@@ -69,12 +73,33 @@ public class RareTopNOperator extends PhysicalPlan {
       int noOfResults,
       List<Expression> fieldExprList,
       List<Expression> groupByExprList) {
+    this(input, commandType, noOfResults, fieldExprList, groupByExprList, new MemoryBudget());
+  }
+
+  /**
+   * RareTopNOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param commandType Enum for Rare/TopN command.
+   * @param noOfResults Number of results
+   * @param fieldExprList List of {@link Expression}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryBudget memory budget of query which keys counted are accounted to
+   */
+  public RareTopNOperator(
+      PhysicalPlan input,
+      CommandType commandType,
+      int noOfResults,
+      List<Expression> fieldExprList,
+      List<Expression> groupByExprList,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.commandType = commandType;
     this.noOfResults = noOfResults;
     this.fieldExprList = fieldExprList;
     this.groupByExprList = groupByExprList;
     this.group = new Group();
+    this.memory = new MemoryReservation(memoryBudget, "rare_top_n");
   }
 
   @Override
@@ -106,6 +131,12 @@ public class RareTopNOperator extends PhysicalPlan {
     iterator = group.result().iterator();
   }
 
+  @Override
+  public void close() {
+    super.close();
+    memory.releaseAll();
+  }
+
   @VisibleForTesting
   @RequiredArgsConstructor
   public class Group {
@@ -116,6 +147,12 @@ public class RareTopNOperator extends PhysicalPlan {
     public void push(ExprValue inputValue) {
       Key groupKey = new Key(inputValue, groupByExprList);
       Key fieldKey = new Key(inputValue, fieldExprList);
+      Map<Key, Integer> fieldMap = groupListMap.get(groupKey);
+      if (fieldMap == null) {
+        memory.reserve(groupKey.estimatedSize() + fieldKey.estimatedSize());
+      } else if (!fieldMap.containsKey(fieldKey)) {
+        memory.reserve(fieldKey.estimatedSize());
+      }
       groupListMap.computeIfAbsent(
           groupKey,
           k -> {
@@ -196,5 +233,10 @@ public class RareTopNOperator extends PhysicalPlan {
               AbstractMap.SimpleEntry::new)
           .collect(Collectors.toMap(key -> key.getKey(), key -> key.getValue()));
     }
+
+    /** Estimated size in bytes of the key held in hash table. */
+    long estimatedSize() {
+      return MemoryReservation.estimateKeySize(valueList);
+    }
   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+/**
+ * Filter built at runtime from rows materialized by one input, such as the build side of a hash
+ * join, and applied to the table scan of another input before it opens. Row of the filtered input
+ * is kept if the field value is one of the distinct values collected, or within [min, max] if
+ * there are too many distinct values to keep.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class RuntimeFilter {
+
+  /** Max number of distinct values kept, beyond which only min and max are available. */
+  public static final int MAX_VALUES = 1024;
+
+  /** Field of the filtered input. */
+  private final ReferenceExpression field;
+
+  /** Distinct values collected, or null if exceeding {@link #MAX_VALUES}. */
+  private final Set<ExprValue> values;
+
+  /** Min of values collected if all of them are numbers, otherwise null. */
+  private final ExprValue min;
+
+  /** Max of values collected if all of them are numbers, otherwise null. */
+  private final ExprValue max;
+
+  /** Return the same filter applied on another field. */
+  public RuntimeFilter withField(ReferenceExpression field) {
+    return new RuntimeFilter(field, values, min, max);
+  }
+
+  /** Collect values of key expression from input rows for the runtime filter on field. */
+  static class Collector {
+    private final ReferenceExpression field;
+    private final Expression key;
+    private Set<ExprValue> values = new LinkedHashSet<>();
+    private ExprValue min;
+    private ExprValue max;
+    private boolean numeric = true;
+    private boolean supported = true;
+
+    Collector(ReferenceExpression field, Expression key) {
+      this.field = field;
+      this.key = key;
+    }
+
+    void add(ExprValue row) {
+      if (!supported) {
+        return;
+      }
+      ExprValue value = key.valueOf(row.bindingTuples());
+      if (value.isNull() || value.isMissing()) {
+        return;
+      }
+      if (!value.isNumber() && value.type() != STRING && value.type() != BOOLEAN) {
+        supported = false;
+        return;
+      }
+
+      numeric &= value.isNumber();
+      if (numeric) {
+        min = (min == null || value.compareTo(min) < 0) ? value : min;
+        max = (max == null || value.compareTo(max) > 0) ? value : max;
+      }
+      if (values != null) {
+        values.add(value);
+        if (values.size() > MAX_VALUES) {
+          values = null;
+        }
+      }
+    }
+
+    /**
+     * Build the runtime filter from values collected.
+     *
+     * @return runtime filter, or null if no filter is applicable
+     */
+    RuntimeFilter build() {
+      if (!supported || (values == null && !numeric)) {
+        return null;
+      }
+      return numeric
+          ? new RuntimeFilter(field, values, min, max)
+          : new RuntimeFilter(field, values, null, null);
+    }
+  }
+}
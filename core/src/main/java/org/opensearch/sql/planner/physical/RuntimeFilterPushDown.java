@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Push runtime filter down through the physical plan to the table scan. Only operators which
+ * neither derive the filtered field nor depend on the number of input rows are pushed through.
+ */
+class RuntimeFilterPushDown extends PhysicalPlanNodeVisitor<Boolean, RuntimeFilter> {
+
+  private static final RuntimeFilterPushDown INSTANCE = new RuntimeFilterPushDown();
+
+  /**
+   * Push runtime filter down to the table scan of the given plan.
+   *
+   * @return true if the filter is pushed down, otherwise false
+   */
+  static boolean pushDown(PhysicalPlan plan, RuntimeFilter filter) {
+    return Boolean.TRUE.equals(plan.accept(INSTANCE, filter));
+  }
+
+  @Override
+  protected Boolean visitNode(PhysicalPlan node, RuntimeFilter filter) {
+    return false;
+  }
+
+  @Override
+  public Boolean visitFilter(FilterOperator node, RuntimeFilter filter) {
+    return node.getInput().accept(this, filter);
+  }
+
+  @Override
+  public Boolean visitSort(SortOperator node, RuntimeFilter filter) {
+    return node.getInput().accept(this, filter);
+  }
+
+  @Override
+  public Boolean visitProject(ProjectOperator node, RuntimeFilter filter) {
+    String name = filter.getField().getAttr();
+    if (node.getNamedParseExpressions().stream().anyMatch(e -> e.getNameOrAlias().equals(name))) {
+      return false;
+    }
+    for (NamedExpression expr : node.getProjectList()) {
+      if (!expr.getNameOrAlias().equals(name)) {
+        continue;
+      }
+      if (expr.getDelegated() instanceof ReferenceExpression ref) {
+        return node.getInput().accept(this, filter.withField(ref));
+      }
+      return false;
+    }
+    return false;
+  }
+
+  @Override
+  public Boolean visitTableScan(TableScanOperator node, RuntimeFilter filter) {
+    return node.pushDownRuntimeFilter(filter);
+  }
+}
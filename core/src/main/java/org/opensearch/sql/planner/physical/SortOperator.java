@@ -5,11 +5,14 @@
 
 package org.opensearch.sql.planner.physical;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,21 +20,43 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}. The count indicate
- * how many sorted result should been return.
+ * how many sorted result should been return.<br>
+ * If the estimated size of input rows buffered exceeds the memory limit, the rows are sorted and
+ * spilled to a temporary file as a sorted run (external merge sort). Sorted runs are merged lazily
+ * on {@link #next()}, at most {@link #MAX_MERGE_WIDTH} runs at a time. Rows buffered in memory
+ * are accounted to the {@link MemoryBudget} of query until they are spilled or the operator is
+ * closed.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
 public class SortOperator extends PhysicalPlan {
+
+  /** Min number of rows in a sorted run, which avoids too many tiny runs on low memory limit. */
+  static final int MIN_RUN_SIZE = 256;
+
+  /** Max number of sorted runs merged at a time. More runs are merged in multiple passes. */
+  static final int MAX_MERGE_WIDTH = 64;
+
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  /** Memory limit in bytes of rows buffered, which is evaluated on open. */
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude private final LongSupplier memoryLimit;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
   @EqualsAndHashCode.Exclude private final Comparator<ExprValue> sorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+
   /**
    * Sort Operator Constructor.
    *
@@ -40,8 +65,40 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, () -> Long.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit memory limit in bytes of rows buffered beyond which rows spill to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, LongSupplier memoryLimit) {
+    this(input, sortList, memoryLimit, new MemoryBudget());
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit memory limit in bytes of rows buffered beyond which rows spill to disk
+   * @param memoryBudget memory budget of query which rows buffered are accounted to
+   */
+  public SortOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      LongSupplier memoryLimit,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.sortList = sortList;
+    this.memoryLimit = memoryLimit;
+    this.memory = new MemoryReservation(memoryBudget, "sort");
     this.sorter = SortHelper.constructExprComparator(sortList);
   }
 
@@ -53,12 +110,47 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    long limit = memoryLimit.getAsLong();
+
+    List<SpillFile> runs = new ArrayList<>();
+    List<ExprValue> buffer = new ArrayList<>();
+    long bytes = 0;
     while (input.hasNext()) {
-      sorted.add(input.next());
+      ExprValue row = input.next();
+      long size = SpillFile.estimateSize(row);
+      memory.reserve(size);
+      buffer.add(row);
+      bytes += size;
+
+      if (bytes > limit && buffer.size() >= MIN_RUN_SIZE) {
+        buffer.sort(sorter);
+        runs.add(spill(buffer.iterator()));
+        memory.release(bytes);
+        buffer = new ArrayList<>();
+        bytes = 0;
+      }
     }
+    buffer.sort(sorter);
 
-    iterator = iterator(sorted);
+    if (runs.isEmpty()) {
+      iterator = buffer.iterator();
+      return;
+    }
+    while (runs.size() >= MAX_MERGE_WIDTH) {
+      runs = mergeRuns(runs);
+    }
+    List<Iterator<ExprValue>> iterators = new ArrayList<>();
+    runs.forEach(run -> iterators.add(SpillFile.read(run)));
+    iterators.add(buffer.iterator());
+    iterator = Iterators.mergeSorted(iterators, sorter);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::delete);
+    spillFiles.clear();
+    memory.releaseAll();
   }
 
   @Override
@@ -76,17 +168,25 @@ public class SortOperator extends PhysicalPlan {
     return iterator.next();
   }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
+  /** Merge every {@link #MAX_MERGE_WIDTH} sorted runs into one. */
+  private List<SpillFile> mergeRuns(List<SpillFile> runs) {
+    List<SpillFile> merged = new ArrayList<>();
+    for (List<SpillFile> group : Lists.partition(runs, MAX_MERGE_WIDTH)) {
+      if (group.size() == 1) {
+        merged.add(group.get(0));
+      } else {
+        List<Iterator<ExprValue>> iterators = Lists.transform(group, run -> SpillFile.read(run));
+        merged.add(spill(Iterators.mergeSorted(iterators, sorter)));
       }
+    }
+    return merged;
+  }
 
-      @Override
-      public ExprValue next() {
-        return result.poll();
-      }
-    };
+  private SpillFile spill(Iterator<ExprValue> sortedRows) {
+    SpillFile run = new SpillFile("opensearch-sql-sort-");
+    spillFiles.add(run);
+    sortedRows.forEachRemaining(run::write);
+    run.flush();
+    return run;
   }
 }
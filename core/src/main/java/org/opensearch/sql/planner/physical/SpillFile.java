@@ -0,0 +1,359 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.io.CountingOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Temporary file of rows spilled to local disk by physical operator exceeding its memory limit.
+ * Values of core types are written in compact binary encoding, and other values such as
+ * storage-specific ones fall back to Java serialization. Number of files and bytes spilled on this
+ * node are tracked for stats.
+ */
+public class SpillFile {
+
+  private static final LongAdder FILE_COUNT = new LongAdder();
+
+  private static final LongAdder BYTES_WRITTEN = new LongAdder();
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte TIMESTAMP = 12;
+  private static final byte TUPLE = 13;
+  private static final byte ARRAY = 14;
+  private static final byte SERIALIZED = 15;
+
+  private final Path path;
+  private CountingOutputStream counter;
+  private DataOutputStream output;
+  private DataInputStream input;
+  private long count = 0;
+
+  /**
+   * Create spill file in the default temporary directory.
+   *
+   * @param prefix prefix of file name
+   */
+  SpillFile(String prefix) {
+    try {
+      path = Files.createTempFile(prefix, ".spill");
+      counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+      output = new DataOutputStream(counter);
+      FILE_COUNT.increment();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create spill file", e);
+    }
+  }
+
+  /** Total number of spill files created on this node. */
+  public static long fileCount() {
+    return FILE_COUNT.sum();
+  }
+
+  /** Total number of bytes written to spill files on this node. */
+  public static long bytesWritten() {
+    return BYTES_WRITTEN.sum();
+  }
+
+  /** Rough estimation of heap memory taken by the value, to decide when to spill or evict. */
+  public static long estimateSize(ExprValue value) {
+    if (value instanceof ExprStringValue) {
+      return 40 + 2L * value.stringValue().length();
+    } else if (value instanceof ExprTupleValue) {
+      long size = 48;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += 32 + 40 + 2L * entry.getKey().length() + estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof ExprCollectionValue) {
+      long size = 40;
+      for (ExprValue element : value.collectionValue()) {
+        size += 8 + estimateSize(element);
+      }
+      return size;
+    } else {
+      return 24;
+    }
+  }
+
+  void write(ExprValue row) {
+    try {
+      writeValue(output, row);
+      count++;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file " + path, e);
+    }
+  }
+
+  void flush() {
+    try {
+      output.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file " + path, e);
+    }
+  }
+
+  /** Read all rows in the file and delete it after reading. */
+  static Iterator<ExprValue> read(SpillFile file) {
+    if (file == null) {
+      return Collections.emptyIterator();
+    }
+    return file.read();
+  }
+
+  private Iterator<ExprValue> read() {
+    try {
+      closeOutput();
+      input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read spill file " + path, e);
+    }
+
+    return new Iterator<>() {
+      private long remaining = count;
+
+      @Override
+      public boolean hasNext() {
+        if (remaining == 0) {
+          delete();
+        }
+        return remaining > 0;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        try {
+          remaining--;
+          return readValue(input);
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read spill file " + path, e);
+        }
+      }
+    };
+  }
+
+  void delete() {
+    try {
+      closeOutput();
+      if (input != null) {
+        input.close();
+        input = null;
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // ignore, temporary file will be cleaned up anyway
+    }
+  }
+
+  private void closeOutput() throws IOException {
+    if (output != null) {
+      output.close();
+      BYTES_WRITTEN.add(counter.getCount());
+      output = null;
+      counter = null;
+    }
+  }
+
+  /**
+   * Write value in compact binary encoding, which is also used by expression code of literals.
+   *
+   * @param out output stream
+   * @param value value to write
+   */
+  public static void writeValue(DataOutputStream out, ExprValue value) throws IOException {
+    Class<?> clazz = value.getClass();
+    if (value.isNull()) {
+      out.writeByte(NULL);
+    } else if (value.isMissing()) {
+      out.writeByte(MISSING);
+    } else if (clazz == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (clazz == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (clazz == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (clazz == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (clazz == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (clazz == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (clazz == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (clazz == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(out, value.stringValue());
+    } else if (clazz == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (clazz == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (clazz == ExprTimestampValue.class) {
+      Instant instant = value.timestampValue();
+      out.writeByte(TIMESTAMP);
+      out.writeLong(instant.getEpochSecond());
+      out.writeInt(instant.getNano());
+    } else if (clazz == ExprTupleValue.class) {
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeByte(TUPLE);
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(out, entry.getKey());
+        writeValue(out, entry.getValue());
+      }
+    } else if (clazz == ExprCollectionValue.class) {
+      List<ExprValue> collection = value.collectionValue();
+      out.writeByte(ARRAY);
+      out.writeInt(collection.size());
+      for (ExprValue element : collection) {
+        writeValue(out, element);
+      }
+    } else {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+        objectOut.writeObject(value);
+      }
+      out.writeByte(SERIALIZED);
+      out.writeInt(bytes.size());
+      bytes.writeTo(out);
+    }
+  }
+
+  /**
+   * Read value written by {@link #writeValue}.
+   *
+   * @param in input stream
+   * @return value read
+   */
+  public static ExprValue readValue(DataInputStream in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case TUPLE:
+        int size = in.readInt();
+        Map<String, ExprValue> tuple = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          tuple.put(readString(in), readValue(in));
+        }
+        return ExprTupleValue.fromExprValueMap(tuple);
+      case ARRAY:
+        int length = in.readInt();
+        List<ExprValue> collection = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          collection.add(readValue(in));
+        }
+        return new ExprCollectionValue(collection);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (ExprValue) objectIn.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException("Unknown value class in spill file", e);
+        }
+      default:
+        throw new IOException("Unknown value tag in spill file: " + tag);
+    }
+  }
+
+  /** Write string as UTF-8 bytes with length, which is not limited to 64KB as writeUTF. */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -24,6 +24,7 @@ import org.opensearch.sql.ast.tree.Trendline;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleLayout;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
@@ -38,6 +39,7 @@ public class TrendlineOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude private final List<TrendlineAccumulator> accumulators;
   @EqualsAndHashCode.Exclude private final Map<String, Integer> fieldToIndexMap;
   @EqualsAndHashCode.Exclude private final HashSet<String> aliases;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private TupleLayout layout;
 
   public TrendlineOperator(
       PhysicalPlan input, List<Pair<Trendline.TrendlineComputation, ExprCoreType>> computations) {
@@ -70,7 +72,7 @@ public class TrendlineOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    final ExprValue result;
+    final ExprTupleValue result;
     final ExprValue next = input.next();
     final Map<String, ExprValue> inputStruct = consumeInputTuple(next);
     final Builder<String, ExprValue> mapBuilder = new Builder<>();
@@ -85,7 +87,8 @@ public class TrendlineOperator extends PhysicalPlan {
       }
     }
 
-    result = ExprTupleValue.fromExprValueMap(mapBuilder.buildKeepingLast());
+    result = ExprTupleValue.fromExprValueMap(mapBuilder.buildKeepingLast(), layout);
+    layout = result.layout();
     return result;
   }
 
@@ -15,10 +15,12 @@ import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleLayout;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 /** Physical operator for window function computation. */
 @EqualsAndHashCode(callSuper = false)
@@ -39,6 +41,12 @@ public class WindowOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude @ToString.Exclude
   private final PeekingIterator<ExprValue> peekingIterator;
 
+  /** Memory reserved for input rows loaded into window frame but not returned yet. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
+  /** Layout of output row reused while input rows have the same fields. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private TupleLayout layout;
+
   /**
    * Initialize window operator.
    *
@@ -48,11 +56,28 @@ public class WindowOperator extends PhysicalPlan {
    */
   public WindowOperator(
       PhysicalPlan input, NamedExpression windowFunction, WindowDefinition windowDefinition) {
+    this(input, windowFunction, windowDefinition, new MemoryBudget());
+  }
+
+  /**
+   * Initialize window operator.
+   *
+   * @param input child operator
+   * @param windowFunction window function
+   * @param windowDefinition window definition
+   * @param memoryBudget memory budget of query which rows in window frame are accounted to
+   */
+  public WindowOperator(
+      PhysicalPlan input,
+      NamedExpression windowFunction,
+      WindowDefinition windowDefinition,
+      MemoryBudget memoryBudget) {
     this.input = input;
     this.windowFunction = windowFunction;
     this.windowDefinition = windowDefinition;
     this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    this.memory = new MemoryReservation(memoryBudget, "window");
+    this.peekingIterator = Iterators.peekingIterator(Iterators.transform(input, this::reserve));
   }
 
   @Override
@@ -73,7 +98,21 @@ public class WindowOperator extends PhysicalPlan {
   @Override
   public ExprValue next() {
     windowFrame.load(peekingIterator);
-    return enrichCurrentRowByWindowFunctionResult();
+    ExprValue row = windowFrame.current();
+    ExprValue result = enrichCurrentRowByWindowFunctionResult();
+    memory.release(SpillFile.estimateSize(row));
+    return result;
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    memory.releaseAll();
+  }
+
+  private ExprValue reserve(ExprValue row) {
+    memory.reserve(SpillFile.estimateSize(row));
+    return row;
   }
 
   private WindowFrame createWindowFrame() {
@@ -85,7 +124,9 @@ public class WindowOperator extends PhysicalPlan {
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
     preserveAllOriginalColumns(mapBuilder);
     addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    ExprTupleValue result = ExprTupleValue.fromExprValueMap(mapBuilder.build(), layout);
+    layout = result.layout();
+    return result;
   }
 
   private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
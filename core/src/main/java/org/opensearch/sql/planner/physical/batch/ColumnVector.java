@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/**
+ * Values of one column in {@link RowBatch} indexed by row position. Column of integral or floating
+ * point values without NULL or MISSING is stored in primitive array, and any other column is
+ * stored as array of {@link ExprValue}. A row without the field has no value in the column, which
+ * is different from having MISSING value.
+ */
+public abstract class ColumnVector {
+
+  /**
+   * Create column vector of the values, in primitive array if possible.
+   *
+   * @param values values indexed by row position, null if the row has no such field
+   * @return column vector
+   */
+  public static ColumnVector of(ExprValue[] values) {
+    Class<?> clazz = (values.length == 0 || values[0] == null) ? null : values[0].getClass();
+    for (ExprValue value : values) {
+      if (value == null || value.getClass() != clazz) {
+        return new ValueVector(values);
+      }
+    }
+
+    if (clazz == ExprIntegerValue.class || clazz == ExprLongValue.class) {
+      long[] longs = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+        longs[i] = values[i].longValue();
+      }
+      return new LongVector(longs, clazz == ExprIntegerValue.class ? INTEGER : LONG);
+    } else if (clazz == ExprFloatValue.class || clazz == ExprDoubleValue.class) {
+      double[] doubles = new double[values.length];
+      for (int i = 0; i < values.length; i++) {
+        doubles[i] = values[i].doubleValue();
+      }
+      return new DoubleVector(doubles, clazz == ExprFloatValue.class ? FLOAT : DOUBLE);
+    }
+    return new ValueVector(values);
+  }
+
+  /**
+   * Get value at the row position.
+   *
+   * @param position row position
+   * @return value, or null if the row has no such field
+   */
+  public abstract ExprValue get(int position);
+
+  /** Whether the row at the position has no such field. */
+  public abstract boolean isAbsent(int position);
+
+  /** Column of INTEGER or LONG values stored as primitive long. */
+  @RequiredArgsConstructor
+  public static class LongVector extends ColumnVector {
+    private final long[] values;
+    private final ExprCoreType type;
+
+    public long getLong(int position) {
+      return values[position];
+    }
+
+    @Override
+    public ExprValue get(int position) {
+      return (type == INTEGER)
+          ? new ExprIntegerValue((int) values[position])
+          : new ExprLongValue(values[position]);
+    }
+
+    @Override
+    public boolean isAbsent(int position) {
+      return false;
+    }
+  }
+
+  /** Column of FLOAT or DOUBLE values stored as primitive double. */
+  @RequiredArgsConstructor
+  public static class DoubleVector extends ColumnVector {
+    private final double[] values;
+    private final ExprCoreType type;
+
+    public double getDouble(int position) {
+      return values[position];
+    }
+
+    @Override
+    public ExprValue get(int position) {
+      return (type == FLOAT)
+          ? new ExprFloatValue((float) values[position])
+          : new ExprDoubleValue(values[position]);
+    }
+
+    @Override
+    public boolean isAbsent(int position) {
+      return false;
+    }
+  }
+
+  /** Column of any values. */
+  @RequiredArgsConstructor
+  public static class ValueVector extends ColumnVector {
+    private final ExprValue[] values;
+
+    @Override
+    public ExprValue get(int position) {
+      return values[position];
+    }
+
+    @Override
+    public boolean isAbsent(int position) {
+      return values[position] == null;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Batch of rows stored column by column. Rows filtered out are not removed from the columns,
+ * instead the positions of rows remaining are kept in selection vector. Operators evaluate
+ * expressions on the selected rows by a reusable {@link Cursor} without building tuple for each
+ * row.
+ */
+public class RowBatch {
+
+  /** Default maximum number of rows in a batch. */
+  public static final int DEFAULT_SIZE = 1024;
+
+  /** Empty batch which indicates no more rows. */
+  public static final RowBatch EMPTY = new RowBatch(List.of(), List.of(), 0, null, 0);
+
+  /** Column names. */
+  @Getter private final List<String> names;
+
+  /** Columns in the same order as names. */
+  @Getter private final List<ColumnVector> columns;
+
+  /** Number of rows in the columns, including rows not selected. */
+  @Getter private final int size;
+
+  /** Positions of selected rows in ascending order, or null if all rows are selected. */
+  private final int[] selection;
+
+  /** Number of selected rows. */
+  @Getter private final int selectedSize;
+
+  /** Column index by name. */
+  private final Map<String, Integer> indexes;
+
+  private RowBatch(
+      List<String> names, List<ColumnVector> columns, int size, int[] selection, int selectedSize) {
+    this.names = names;
+    this.columns = columns;
+    this.size = size;
+    this.selection = selection;
+    this.selectedSize = selectedSize;
+    this.indexes = new HashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      indexes.put(names.get(i), i);
+    }
+  }
+
+  /**
+   * Create batch from tuple rows. Columns are ordered by first occurrence of field names.
+   *
+   * @param rows tuple rows
+   * @return batch with all rows selected
+   */
+  public static RowBatch of(List<ExprValue> rows) {
+    if (rows.isEmpty()) {
+      return EMPTY;
+    }
+
+    Map<String, ExprValue[]> values = new LinkedHashMap<>();
+    for (int i = 0; i < rows.size(); i++) {
+      for (Map.Entry<String, ExprValue> entry : rows.get(i).tupleValue().entrySet()) {
+        values.computeIfAbsent(entry.getKey(), name -> new ExprValue[rows.size()])[i] =
+            entry.getValue();
+      }
+    }
+
+    List<ColumnVector> columns = new ArrayList<>(values.size());
+    for (ExprValue[] column : values.values()) {
+      columns.add(ColumnVector.of(column));
+    }
+    return new RowBatch(
+        new ArrayList<>(values.keySet()), columns, rows.size(), null, rows.size());
+  }
+
+  public boolean isEmpty() {
+    return selectedSize == 0;
+  }
+
+  /**
+   * Get row position of the i-th selected row.
+   *
+   * @param index index among selected rows
+   * @return row position in columns
+   */
+  public int position(int index) {
+    return (selection == null) ? index : selection[index];
+  }
+
+  /**
+   * Get column by name.
+   *
+   * @param name column name
+   * @return column, or null if not exist
+   */
+  public ColumnVector column(String name) {
+    Integer index = indexes.get(name);
+    return (index == null) ? null : columns.get(index);
+  }
+
+  /**
+   * Get the i-th selected row as tuple.
+   *
+   * @param index index among selected rows
+   * @return tuple row
+   */
+  public ExprValue row(int index) {
+    return tuple(position(index));
+  }
+
+  /** Get all selected rows as tuples. */
+  public List<ExprValue> rows() {
+    List<ExprValue> rows = new ArrayList<>(selectedSize);
+    for (int i = 0; i < selectedSize; i++) {
+      rows.add(row(i));
+    }
+    return rows;
+  }
+
+  /**
+   * Create batch of the same columns with new selection.
+   *
+   * @param selection positions of selected rows in ascending order
+   * @param selectedSize number of selected rows
+   * @return new batch
+   */
+  public RowBatch select(int[] selection, int selectedSize) {
+    return new RowBatch(names, columns, size, selection, selectedSize);
+  }
+
+  /**
+   * Create batch of the same rows and selection with new columns.
+   *
+   * @param names column names
+   * @param columns columns of the same size
+   * @return new batch
+   */
+  public RowBatch withColumns(List<String> names, List<ColumnVector> columns) {
+    return new RowBatch(names, columns, size, selection, selectedSize);
+  }
+
+  /**
+   * Evaluate expression on each selected row. Plain reference to a column present in all selected
+   * rows is resolved to the column itself without evaluation.
+   *
+   * @param expression expression
+   * @return column of results, in which rows not selected have no value
+   */
+  public ColumnVector evaluate(Expression expression) {
+    if (expression instanceof ReferenceExpression ref && ref.getPaths().size() == 1) {
+      ColumnVector column = column(ref.getRawPath());
+      if (column != null && isPresent(column)) {
+        return column;
+      }
+    }
+
+    ExprValue[] values = new ExprValue[size];
+    Cursor cursor = cursor();
+    for (int i = 0; i < selectedSize; i++) {
+      int position = position(i);
+      values[position] = expression.valueOf(cursor.moveTo(position));
+    }
+    return ColumnVector.of(values);
+  }
+
+  /** Create a cursor for resolving fields of rows in this batch. */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  private boolean isPresent(ColumnVector column) {
+    for (int i = 0; i < selectedSize; i++) {
+      if (column.isAbsent(position(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ExprTupleValue tuple(int position) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      ExprValue value = columns.get(i).get(position);
+      if (value != null) {
+        map.put(names.get(i), value);
+      }
+    }
+    return ExprTupleValue.fromExprValueMap(map);
+  }
+
+  /**
+   * {@link BindingTuple} of the row at current position. Field is resolved from its column
+   * directly, and only falls back to resolving on tuple row for nested path not found as a column.
+   */
+  public class Cursor extends BindingTuple {
+    private int position;
+
+    /**
+     * Move to the row position.
+     *
+     * @param position row position
+     * @return this cursor
+     */
+    public Cursor moveTo(int position) {
+      this.position = position;
+      return this;
+    }
+
+    @Override
+    public ExprValue resolve(ReferenceExpression ref) {
+      ColumnVector column = column(ref.getRawPath());
+      ExprValue value = (column == null) ? null : column.get(position);
+      if (value != null && !value.isMissing()) {
+        return value;
+      } else if (ref.getPaths().size() == 1) {
+        return (value == null) ? ExprMissingValue.of() : value;
+      }
+      return ref.resolve(tuple(position));
+    }
+  }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.SpillFile;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect buckets of all group by keys in a single hash table. Group by key values of each {@link
+ * BindingTuple} are encoded into one key mapped to a dense group id, and aggregation states are
+ * kept in arrays indexed by the group id. Single integral or floating point key is encoded into
+ * primitive long without boxing. Buckets are sorted by group by keys only once when results are
+ * requested.
+ */
+public class HashAggregationCollector implements Collector {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** Estimated bytes of hash table entry and key array of a group. */
+  private static final long GROUP_OVERHEAD = 64;
+
+  /** Estimated bytes of an aggregation state. */
+  private static final long STATE_SIZE = 32;
+
+  private static final Set<ExprType> INTEGRAL_TYPES = Set.of(BYTE, SHORT, INTEGER, LONG);
+
+  private static final Set<ExprType> FLOATING_POINT_TYPES = Set.of(FLOAT, DOUBLE);
+
+  /** Group by expressions. */
+  private final List<NamedExpression> buckets;
+
+  /** Aggregators. */
+  private final List<NamedAggregator> aggregators;
+
+  /** Map from encoded group by keys to group id. */
+  private final GroupIds groupIds;
+
+  /** Group by key values of each group, indexed by group id. */
+  private final List<ExprValue[]> groupKeys = new ArrayList<>();
+
+  /** Aggregation states of each aggregator, indexed by aggregator and then group id. */
+  private final AggregationState[][] states;
+
+  /** Estimated size in bytes of all the groups. */
+  private long estimatedSize = 0;
+
+  /**
+   * Constructor of {@link HashAggregationCollector}.
+   *
+   * @param buckets group by expressions.
+   * @param aggregators aggregators.
+   */
+  public HashAggregationCollector(
+      List<NamedExpression> buckets, List<NamedAggregator> aggregators) {
+    this.buckets = buckets;
+    this.aggregators = aggregators;
+    this.groupIds = groupIds(buckets);
+    this.states = new AggregationState[aggregators.size()][INITIAL_CAPACITY];
+  }
+
+  /**
+   * Collect from {@link BindingTuple} into the group of its group by keys. If the group not exist,
+   * create new group and aggregation states.
+   *
+   * @param input {@link BindingTuple}.
+   */
+  @Override
+  public void collect(BindingTuple input) {
+    ExprValue[] keys = new ExprValue[buckets.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = buckets.get(i).valueOf(input);
+    }
+
+    int newGroupId = groupKeys.size();
+    int groupId = groupIds.getOrAdd(keys, newGroupId);
+    if (groupId == newGroupId) {
+      addGroup(keys);
+    }
+    for (int i = 0; i < states.length; i++) {
+      aggregators.get(i).iterate(input, states[i][groupId]);
+    }
+  }
+
+  /**
+   * Get result of all the groups sorted by group by keys.
+   *
+   * @return list of {@link ExprValue}.
+   */
+  @Override
+  public List<ExprValue> results() {
+    Integer[] order = new Integer[groupKeys.size()];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, groupOrder());
+
+    List<ExprValue> results = new ArrayList<>(order.length);
+    for (int groupId : order) {
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      ExprValue[] keys = groupKeys.get(groupId);
+      for (int i = 0; i < keys.length; i++) {
+        map.put(buckets.get(i).getNameOrAlias(), keys[i]);
+      }
+      for (int i = 0; i < states.length; i++) {
+        map.put(aggregators.get(i).getName(), states[i][groupId].result());
+      }
+      results.add(ExprTupleValue.fromExprValueMap(map));
+    }
+    return results;
+  }
+
+  @Override
+  public long estimatedSize() {
+    return estimatedSize;
+  }
+
+  private void addGroup(ExprValue[] keys) {
+    int groupId = groupKeys.size();
+    groupKeys.add(keys);
+    estimatedSize += GROUP_OVERHEAD + STATE_SIZE * states.length;
+    for (ExprValue key : keys) {
+      estimatedSize += SpillFile.estimateSize(key);
+    }
+    for (int i = 0; i < states.length; i++) {
+      if (groupId == states[i].length) {
+        states[i] = Arrays.copyOf(states[i], groupId * 2);
+      }
+      states[i][groupId] = aggregators.get(i).create();
+    }
+  }
+
+  /** Compare group by key values in order, MISSING first and then NULL. */
+  private Comparator<Integer> groupOrder() {
+    ExprValueOrdering ordering = ExprValueOrdering.natural();
+    return (left, right) -> {
+      ExprValue[] leftKeys = groupKeys.get(left);
+      ExprValue[] rightKeys = groupKeys.get(right);
+      for (int i = 0; i < leftKeys.length; i++) {
+        int leftRank = rank(leftKeys[i]);
+        int rightRank = rank(rightKeys[i]);
+        int result =
+            (leftRank != rightRank || leftRank < 2)
+                ? Integer.compare(leftRank, rightRank)
+                : ordering.compare(leftKeys[i], rightKeys[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  private static int rank(ExprValue value) {
+    return value.isMissing() ? 0 : (value.isNull() ? 1 : 2);
+  }
+
+  /** Choose group id map specialized for type of group by keys. */
+  private static GroupIds groupIds(List<NamedExpression> buckets) {
+    if (buckets.size() == 1) {
+      ExprType type = buckets.get(0).type();
+      if (INTEGRAL_TYPES.contains(type)) {
+        return new LongGroupIds(ExprValue::longValue);
+      } else if (FLOATING_POINT_TYPES.contains(type)) {
+        return new LongGroupIds(value -> Double.doubleToLongBits(value.doubleValue()));
+      }
+    }
+    return new ObjectGroupIds();
+  }
+
+  /** Map from group by key values to group id. */
+  private interface GroupIds {
+    /**
+     * Get group id of the group by key values, or add them with the new group id if absent.
+     *
+     * @param keys group by key values
+     * @param newGroupId group id assigned if absent
+     * @return group id
+     */
+    int getOrAdd(ExprValue[] keys, int newGroupId);
+  }
+
+  /**
+   * Open addressing hash table from single key encoded as primitive long to group id. NULL and
+   * MISSING key have their own group id out of the table.
+   */
+  private static class LongGroupIds implements GroupIds {
+    private final ToLongFunction<ExprValue> encoder;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] ids = newIds(INITIAL_CAPACITY);
+    private int size = 0;
+    private int nullId = -1;
+    private int missingId = -1;
+
+    LongGroupIds(ToLongFunction<ExprValue> encoder) {
+      this.encoder = encoder;
+    }
+
+    @Override
+    public int getOrAdd(ExprValue[] values, int newGroupId) {
+      ExprValue value = values[0];
+      if (value.isNull()) {
+        nullId = (nullId < 0) ? newGroupId : nullId;
+        return nullId;
+      } else if (value.isMissing()) {
+        missingId = (missingId < 0) ? newGroupId : missingId;
+        return missingId;
+      }
+
+      long key = encoder.applyAsLong(value);
+      int slot = slot(key, keys.length);
+      while (ids[slot] >= 0) {
+        if (keys[slot] == key) {
+          return ids[slot];
+        }
+        slot = (slot + 1) & (keys.length - 1);
+      }
+      keys[slot] = key;
+      ids[slot] = newGroupId;
+      if (++size * 2 > keys.length) {
+        resize();
+      }
+      return newGroupId;
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      int[] oldIds = ids;
+      keys = new long[oldKeys.length * 2];
+      ids = newIds(keys.length);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldIds[i] >= 0) {
+          int slot = slot(oldKeys[i], keys.length);
+          while (ids[slot] >= 0) {
+            slot = (slot + 1) & (keys.length - 1);
+          }
+          keys[slot] = oldKeys[i];
+          ids[slot] = oldIds[i];
+        }
+      }
+    }
+
+    private static int slot(long key, int capacity) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> (64 - Integer.numberOfTrailingZeros(capacity)));
+    }
+
+    private static int[] newIds(int capacity) {
+      int[] ids = new int[capacity];
+      Arrays.fill(ids, -1);
+      return ids;
+    }
+  }
+
+  /**
+   * Hash table from group by key values encoded as plain Java object to group id. Single key is
+   * encoded as its value, and multiple keys are encoded as a list of their values.
+   */
+  private static class ObjectGroupIds implements GroupIds {
+    private static final Object NULL_KEY = new Object();
+    private static final Object MISSING_KEY = new Object();
+
+    private final Map<Object, Integer> ids = new HashMap<>();
+
+    @Override
+    public int getOrAdd(ExprValue[] values, int newGroupId) {
+      Object key;
+      if (values.length == 1) {
+        key = encode(values[0]);
+      } else {
+        Object[] keys = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+          keys[i] = encode(values[i]);
+        }
+        key = Arrays.asList(keys);
+      }
+      return ids.computeIfAbsent(key, k -> newGroupId);
+    }
+
+    private static Object encode(ExprValue value) {
+      if (value.isNull()) {
+        return NULL_KEY;
+      } else if (value.isMissing()) {
+        return MISSING_KEY;
+      } else if (INTEGRAL_TYPES.contains(value.type())) {
+        return value.longValue();
+      } else if (FLOATING_POINT_TYPES.contains(value.type())) {
+        return value.doubleValue();
+      }
+      return value.value();
+    }
+  }
+}
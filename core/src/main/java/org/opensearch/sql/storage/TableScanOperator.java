@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RuntimeFilter;
 
 /**
  * Abstract table scan class for different storage to implement. This is also to avoid "polluting"
@@ -26,6 +27,17 @@ public abstract class TableScanOperator extends PhysicalPlan {
     return Collections.emptyList();
   }
 
+  /**
+   * Push down runtime filter built from rows of another input before this scan opens. Storage
+   * which can filter rows at source should override this.
+   *
+   * @param filter runtime filter
+   * @return true if the filter is pushed down, otherwise false
+   */
+  public boolean pushDownRuntimeFilter(RuntimeFilter filter) {
+    return false;
+  }
+
   /**
    * Explain the execution plan.
    *
@@ -13,6 +13,14 @@ import org.opensearch.sql.data.model.ExprValue;
 
 @UtilityClass
 public class OperatorUtils {
+  /** Compiled regular expressions of LIKE patterns. */
+  private static final PatternCache<Pattern> LIKE_PATTERNS =
+      new PatternCache<>(
+          pattern -> Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE));
+
+  /** Compiled REGEXP patterns. */
+  private static final PatternCache<Pattern> REGEXP_PATTERNS = new PatternCache<>(Pattern::compile);
+
   /**
    * Wildcard pattern matcher util.<br>
    * Percent (%) character for wildcard,<br>
@@ -22,10 +30,17 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return matches(text, likePattern(pattern.stringValue()));
+  }
+
+  /**
+   * Wildcard pattern matcher util with compiled pattern.
+   *
+   * @param pattern compiled LIKE pattern to match.
+   * @return if text matches pattern returns true; else return false.
+   */
+  public static ExprBooleanValue matches(ExprValue text, Pattern pattern) {
+    return ExprBooleanValue.of(pattern.matcher(text.stringValue()).matches());
   }
 
   /**
@@ -35,8 +50,37 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(
-        Pattern.compile(pattern.stringValue()).matcher(text.stringValue()).matches() ? 1 : 0);
+    return matchesRegexp(text, regexpPattern(pattern.stringValue()));
+  }
+
+  /**
+   * Checks if text matches compiled regular expression pattern.
+   *
+   * @param pattern compiled pattern to match.
+   * @return if text matches pattern returns true; else return false.
+   */
+  public static ExprIntegerValue matchesRegexp(ExprValue text, Pattern pattern) {
+    return new ExprIntegerValue(pattern.matcher(text.stringValue()).matches() ? 1 : 0);
+  }
+
+  /**
+   * Compile LIKE pattern to case-insensitive regular expression, cached across queries.
+   *
+   * @param pattern LIKE pattern string
+   * @return compiled pattern
+   */
+  public static Pattern likePattern(String pattern) {
+    return LIKE_PATTERNS.get(pattern);
+  }
+
+  /**
+   * Compile REGEXP pattern, cached across queries.
+   *
+   * @param pattern regular expression string
+   * @return compiled pattern
+   */
+  public static Pattern regexpPattern(String pattern) {
+    return REGEXP_PATTERNS.get(pattern);
   }
 
   private static final char DEFAULT_ESCAPE = '\\';
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Node level cache of patterns compiled from pattern string, such as regular expression of LIKE
+ * and REGEXP, and date time formatter. It is shared across queries and bounded in size with least
+ * recently used patterns evicted first. Hit and miss count of all pattern caches are tracked for
+ * stats.
+ *
+ * @param <T> compiled pattern type
+ */
+public class PatternCache<T> {
+
+  /** Default maximum number of patterns cached. */
+  public static final long DEFAULT_MAX_SIZE = 1000;
+
+  private static final List<PatternCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+  private final Cache<String, T> cache;
+
+  private final Function<String, T> compiler;
+
+  /**
+   * Create pattern cache of default maximum size.
+   *
+   * @param compiler function to compile pattern string
+   */
+  public PatternCache(Function<String, T> compiler) {
+    this(compiler, DEFAULT_MAX_SIZE);
+  }
+
+  PatternCache(Function<String, T> compiler, long maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.compiler = compiler;
+    CACHES.add(this);
+  }
+
+  /**
+   * Get compiled pattern, compile and cache it if absent. Exception thrown by compiler is
+   * propagated as is.
+   *
+   * @param pattern pattern string
+   * @return compiled pattern
+   */
+  public T get(String pattern) {
+    T compiled = cache.getIfPresent(pattern);
+    if (compiled == null) {
+      compiled = compiler.apply(pattern);
+      cache.put(pattern, compiled);
+    }
+    return compiled;
+  }
+
+  /** Total number of hits of all pattern caches on this node. */
+  public static long hitCount() {
+    return sum(CacheStats::hitCount);
+  }
+
+  /** Total number of misses of all pattern caches on this node. */
+  public static long missCount() {
+    return sum(CacheStats::missCount);
+  }
+
+  private static long sum(ToLongFunction<CacheStats> stat) {
+    return CACHES.stream()
+        .mapToLong(patternCache -> stat.applyAsLong(patternCache.cache.stats()))
+        .sum();
+  }
+}
@@ -8,11 +8,21 @@ package org.opensearch.sql.data.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.LinkedHashMap;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 
@@ -55,4 +65,61 @@ class ExprTupleValueTest {
         assertThrows(ExpressionEvaluationException.class, () -> compare(tupleValue, tupleValue));
     assertEquals("ExprTupleValue instances are not comparable", exception.getMessage());
   }
+
+  @Test
+  public void tuple_in_slots_same_as_tuple_in_map() {
+    ImmutableMap<String, ExprValue> map =
+        ImmutableMap.of("name", new ExprStringValue("bob"), "age", new ExprIntegerValue(30));
+    ExprTupleValue tupleInMap = ExprTupleValue.fromExprValueMap(map);
+    ExprTupleValue tupleInSlots = ExprTupleValue.fromExprValueMap(map, null);
+
+    assertEquals(tupleInMap, tupleInSlots);
+    assertEquals(tupleInMap.hashCode(), tupleInSlots.hashCode());
+    assertEquals(tupleInMap.toString(), tupleInSlots.toString());
+    assertEquals(new ExprIntegerValue(30), tupleInSlots.keyValue("age"));
+    assertTrue(tupleInSlots.keyValue("unknown").isMissing());
+    assertEquals(1, tupleInSlots.layout().slot("age"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> tupleInSlots.tupleValue().remove("age"));
+  }
+
+  @Test
+  public void reuse_layout_of_same_fields() {
+    TupleLayout layout =
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("a", new ExprIntegerValue(1)), null)
+            .layout();
+
+    assertSame(
+        layout,
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("a", new ExprIntegerValue(2)), layout)
+            .layout());
+    assertNotSame(
+        layout,
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("b", new ExprIntegerValue(2)), layout)
+            .layout());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ExprTupleValue.fromSlots(layout, new ExprValue[] {}));
+  }
+
+  @Test
+  public void serialized_form_is_compatible_with_previous_versions() throws Exception {
+    ObjectStreamClass descriptor = ObjectStreamClass.lookup(ExprTupleValue.class);
+    assertEquals(-80781303712508094L, descriptor.getSerialVersionUID());
+    ObjectStreamField[] fields = descriptor.getFields();
+    assertEquals(1, fields.length);
+    assertEquals("valueMap", fields[0].getName());
+    assertEquals(LinkedHashMap.class, fields[0].getType());
+
+    ImmutableMap<String, ExprValue> map = ImmutableMap.of("name", new ExprStringValue("bob"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(ExprTupleValue.fromExprValueMap(map, null));
+    }
+    ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    ExprTupleValue tuple = (ExprTupleValue) input.readObject();
+    assertEquals(ExprTupleValue.fromExprValueMap(map), tuple);
+    assertNull(tuple.layout());
+  }
 }
@@ -56,6 +56,7 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.TrendlineOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -299,6 +300,41 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_profiled_plan_with_runtime_statistics() {
+    Expression filterExpr = DSL.equal(ref("balance", INTEGER), literal(10000));
+    PhysicalPlan plan = new ProfilePlan(filter(new ProfilePlan(tableScan), filterExpr));
+    Explain explainWithScanStats =
+        new Explain() {
+          @Override
+          public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+            ExplainResponseNode explainNode = super.visitTableScan(node, context);
+            explainNode.setStats(Map.of("pages", 0));
+            return explainNode;
+          }
+        };
+
+    ExplainResponseNode filterNode = explainWithScanStats.apply(plan).getRoot();
+    ExplainResponseNode scanNode = filterNode.getChildren().get(0);
+    assertEquals("FilterOperator", filterNode.getName());
+    assertEquals(Map.of("conditions", "=(balance, 10000)"), filterNode.getDescription());
+    assertEquals(
+        List.of(
+            "rowsIn",
+            "rowsOut",
+            "openTimeMs",
+            "openCpuTimeMs",
+            "nextTimeMs",
+            "nextCpuTimeMs",
+            "selfTimeMs",
+            "selfCpuTimeMs"),
+        List.copyOf(filterNode.getStats().keySet()));
+    assertEquals(0L, filterNode.getStats().get("rowsOut"));
+    assertEquals(tableScan.explainNode().getDescription(), scanNode.getDescription());
+    assertEquals(0, scanNode.getStats().get("pages"));
+    assertEquals(0L, scanNode.getStats().get("rowsOut"));
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -80,6 +80,25 @@ class QueryServiceTest {
     queryService().explainFail().handledByExplainOnFailure();
   }
 
+  @Test
+  public void testExplainAnalyzeShouldPass() {
+    queryService().explainAnalyzeSuccess().handledByExplainAnalyzeOnResponse();
+  }
+
+  @Test
+  public void explainAnalyzeWithIllegalQueryShouldBeCaughtByHandler() {
+    queryService()
+        .explainAnalyzeFail()
+        .handledByExplainAnalyzeOnFailure(IllegalStateException.class);
+  }
+
+  @Test
+  public void explainAnalyzeNotSupportedByExecutionEngine() {
+    queryService()
+        .withExecutionEngine(new DefaultExecutionEngine())
+        .handledByExplainAnalyzeOnFailure(UnsupportedOperationException.class);
+  }
+
   @Test
   public void analyzeExceptionShouldBeCached() {
     queryService().analyzeFail().handledByOnFailure();
@@ -154,6 +173,35 @@ class QueryServiceTest {
       return this;
     }
 
+    Helper withExecutionEngine(ExecutionEngine engine) {
+      queryService = new QueryService(analyzer, engine, planner);
+      return this;
+    }
+
+    Helper explainAnalyzeSuccess() {
+      doAnswer(
+              invocation -> {
+                ResponseListener<ExecutionEngine.ExplainResponse> listener =
+                    invocation.getArgument(1);
+                listener.onResponse(
+                    new ExecutionEngine.ExplainResponse(
+                        new ExecutionEngine.ExplainResponseNode("test")));
+                return null;
+              })
+          .when(executionEngine)
+          .explainAnalyze(any(), any());
+
+      return this;
+    }
+
+    Helper explainAnalyzeFail() {
+      doThrow(new IllegalStateException("illegal state exception"))
+          .when(executionEngine)
+          .explainAnalyze(any(), any());
+
+      return this;
+    }
+
     Helper explainFail() {
       doThrow(new IllegalStateException("illegal state exception"))
           .when(executionEngine)
@@ -214,6 +262,38 @@ class QueryServiceTest {
           });
     }
 
+    void handledByExplainAnalyzeOnResponse() {
+      queryService.explainAnalyze(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse response) {
+              assertNotNull(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              fail();
+            }
+          });
+    }
+
+    void handledByExplainAnalyzeOnFailure(Class<? extends Exception> exceptionType) {
+      queryService.explainAnalyze(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse response) {
+              fail();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              assertTrue(exceptionType.isInstance(e));
+            }
+          });
+    }
+
     void handledByExplainOnFailure() {
       queryService.explain(
           ast,
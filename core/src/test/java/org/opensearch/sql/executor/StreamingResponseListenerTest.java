@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+class StreamingResponseListenerTest {
+
+  @Test
+  void response_is_passed_as_single_page() {
+    StreamingResponseListener listener =
+        mock(StreamingResponseListener.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+    Schema schema = new Schema(List.of());
+    List<ExprValue> rows = List.of(integerValue(1), integerValue(2));
+
+    listener.onResponse(new QueryResponse(schema, rows, Cursor.None));
+
+    InOrder order = inOrder(listener);
+    order.verify(listener).onSchema(schema);
+    order.verify(listener).onRows(rows);
+    order.verify(listener).onComplete(Cursor.None);
+  }
+}
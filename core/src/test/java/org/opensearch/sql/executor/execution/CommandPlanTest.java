@@ -74,4 +74,21 @@ public class CommandPlanTest {
     verify(explainListener, never()).onResponse(any());
     verify(explainListener, never()).onFailure(any());
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void explain_analyze_not_supported() {
+    QueryService qs = mock(QueryService.class);
+    ResponseListener listener = mock(ResponseListener.class);
+    ResponseListener explainListener = mock(ResponseListener.class);
+
+    var exception =
+        assertThrows(
+            UnsupportedOperationException.class,
+            () ->
+                new CommandPlan(QueryId.queryId(), mock(UnresolvedPlan.class), qs, listener)
+                    .explainAnalyze(explainListener));
+    assertEquals("CommandPlan does not support explain analyze", exception.getMessage());
+    verify(explainListener, never()).onFailure(any());
+  }
 }
@@ -41,6 +41,16 @@ public class ExplainPlanTest {
     verify(queryPlan, times(1)).explain(explainListener);
   }
 
+  @Test
+  public void executeAnalyze() {
+    doNothing().when(queryPlan).explainAnalyze(any());
+
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, true, explainListener);
+    explainPlan.execute();
+
+    verify(queryPlan, times(1)).explainAnalyze(explainListener);
+  }
+
   @Test
   public void explainThrowException() {
     ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
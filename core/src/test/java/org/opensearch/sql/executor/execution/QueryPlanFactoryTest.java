@@ -30,12 +30,14 @@ import org.opensearch.sql.ast.statement.Explain;
 import org.opensearch.sql.ast.statement.Query;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.ast.tree.CloseCursor;
+import org.opensearch.sql.ast.tree.FetchCursor;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -51,6 +53,8 @@ class QueryPlanFactoryTest {
 
   @Mock private ExecutionEngine.QueryResponse queryResponse;
 
+  @Mock private CursorStore cursorStore;
+
   private QueryPlanFactory factory;
 
   @BeforeEach
@@ -152,4 +156,24 @@ class QueryPlanFactoryTest {
     verify(queryService).execute(captor.capture(), any());
     assertTrue(captor.getValue() instanceof CloseCursor);
   }
+
+  @Test
+  public void create_from_cursor_kept_in_store() {
+    when(cursorStore.resolve("s:id")).thenReturn("n:plan");
+    factory = new QueryPlanFactory(queryService, cursorStore);
+
+    factory.create("s:id", false, queryListener, explainListener).execute();
+    verify(queryService).execute(new FetchCursor("n:plan"), queryListener);
+  }
+
+  @Test
+  public void create_close_cursor_kept_in_store() {
+    when(cursorStore.release("s:id")).thenReturn("n:plan");
+    factory = new QueryPlanFactory(queryService, cursorStore);
+
+    factory.createCloseCursor("s:id", queryListener).execute();
+    var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
+    verify(queryService).execute(captor.capture(), any());
+    assertEquals(new FetchCursor("n:plan"), captor.getValue().getChild().get(0));
+  }
 }
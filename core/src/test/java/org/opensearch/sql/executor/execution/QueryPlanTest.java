@@ -60,6 +60,14 @@ class QueryPlanTest {
     verify(queryService, times(1)).explain(plan, explainListener);
   }
 
+  @Test
+  public void explain_analyze_no_page_size() {
+    QueryPlan query = new QueryPlan(queryId, plan, queryService, queryListener);
+    query.explainAnalyze(explainListener);
+
+    verify(queryService, times(1)).explainAnalyze(plan, explainListener);
+  }
+
   @Test
   public void can_execute_paginated_plan() {
     var listener =
@@ -120,4 +128,21 @@ class QueryPlanTest {
               }
             });
   }
+
+  @Test
+  public void explain_analyze_is_not_supported_for_pagination() {
+    new QueryPlan(null, null, 0, null, null)
+        .explainAnalyze(
+            new ResponseListener<>() {
+              @Override
+              public void onResponse(ExecutionEngine.ExplainResponse response) {
+                fail();
+              }
+
+              @Override
+              public void onFailure(Exception e) {
+                assertTrue(e instanceof NotImplementedException);
+              }
+            });
+  }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.ast.dsl.AstDSL.project;
+import static org.opensearch.sql.ast.dsl.AstDSL.relation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.dsl.AstDSL;
+import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatementCacheTest {
+
+  private static final int WORD = 1;
+
+  private static final int LITERAL = 2;
+
+  private final AtomicInteger parsed = new AtomicInteger();
+
+  /** Parser of query "source=test literal..." which selects the literals bound. */
+  private final Function<String, Supplier<Statement>> parser =
+      parser(ParameterizedQuery::literalText);
+
+  @Test
+  void parse_query_once() {
+    StatementCache cache = new StatementCache();
+    long hitCount = StatementCache.hitCount();
+    long missCount = StatementCache.missCount();
+
+    Statement statement = cache.get(parameterize("source=test 'a'"), false, parser);
+    assertSame(statement, cache.get(parameterize("source=test  'a'"), false, parser));
+    assertEquals(1, parsed.get());
+    assertEquals(hitCount + 1, StatementCache.hitCount());
+    assertEquals(missCount + 1, StatementCache.missCount());
+  }
+
+  @Test
+  void cache_statement_by_template_and_context() {
+    StatementCache cache = new StatementCache();
+
+    Statement statement = cache.get(parameterize("source=test 'a'"), false, parser);
+    assertNotSame(statement, cache.get(parameterize("source=test 'a'"), true, parser));
+    assertNotSame(statement, cache.get(parameterize("source=t 'a'"), false, parser));
+    assertEquals(3, parsed.get());
+  }
+
+  @Test
+  void share_parse_tree_of_template_by_queries_of_different_literals() {
+    StatementCache cache = new StatementCache();
+    long hitCount = StatementCache.hitCount();
+    long missCount = StatementCache.missCount();
+
+    assertEquals(select("'a'", "1"), cache.get(parameterize("source=test 'a' 1"), false, parser));
+    assertEquals(select("'b'", "2"), cache.get(parameterize("source=test 'b' 2"), false, parser));
+    assertEquals(select("'c'", "3"), cache.get(parameterize("source=test 'c' 3"), false, parser));
+    assertEquals(select("'a'", "1"), cache.get(parameterize("source=test 'a' 1"), false, parser));
+    assertEquals(2, parsed.get());
+    assertEquals(hitCount + 2, StatementCache.hitCount());
+    assertEquals(missCount + 2, StatementCache.missCount());
+  }
+
+  @Test
+  void parse_each_query_if_literal_is_read_elsewhere_than_literal_expression() {
+    StatementCache cache = new StatementCache();
+    Function<String, Supplier<Statement>> parser = parser(UnaryOperator.identity());
+
+    assertEquals(select("'a'"), cache.get(parameterize("source=test 'a'"), false, parser));
+    assertEquals(select("'b'"), cache.get(parameterize("source=test 'b'"), false, parser));
+    assertEquals(select("'c'"), cache.get(parameterize("source=test 'c'"), false, parser));
+    assertEquals(select("'a'"), cache.get(parameterize("source=test 'a'"), false, parser));
+    assertEquals(4, parsed.get());
+  }
+
+  @Test
+  void parse_each_query_if_template_fails_to_parse() {
+    StatementCache cache = new StatementCache();
+    Function<String, Supplier<Statement>> parser =
+        query -> {
+          if (query.contains("?")) {
+            throw new IllegalArgumentException("placeholder read as number");
+          }
+          return this.parser.apply(query);
+        };
+
+    assertEquals(select("'a'"), cache.get(parameterize("source=test 'a'"), false, parser));
+    assertEquals(select("'b'"), cache.get(parameterize("source=test 'b'"), false, parser));
+    assertEquals(select("'c'"), cache.get(parameterize("source=test 'c'"), false, parser));
+    assertEquals(3, parsed.get());
+  }
+
+  @Test
+  void parse_long_query_without_cache() {
+    StatementCache cache = new StatementCache();
+    String query = "source=test '" + "x".repeat(StatementCache.MAX_QUERY_LENGTH) + "'";
+    long hitCount = StatementCache.hitCount();
+    long missCount = StatementCache.missCount();
+
+    Statement statement = cache.get(parameterize(query), false, parser);
+    assertNotSame(statement, cache.get(parameterize(query), false, parser));
+    assertEquals(hitCount, StatementCache.hitCount());
+    assertEquals(missCount, StatementCache.missCount());
+  }
+
+  @Test
+  void evict_statement_beyond_max_size() {
+    StatementCache cache = new StatementCache(1);
+    long evictionCount = StatementCache.evictionCount();
+
+    Statement statement = cache.get(parameterize("source=a"), false, parser);
+    cache.get(parameterize("source=b"), false, parser);
+    assertNotSame(statement, cache.get(parameterize("source=a"), false, parser));
+    assertEquals(evictionCount + 2, StatementCache.evictionCount());
+  }
+
+  @Test
+  void propagate_parse_error() {
+    StatementCache cache = new StatementCache();
+    Function<String, Supplier<Statement>> parser =
+        query -> {
+          throw new IllegalArgumentException("syntax error");
+        };
+
+    assertThrows(
+        IllegalArgumentException.class, () -> cache.get(parameterize("source="), false, parser));
+    assertThrows(
+        IllegalArgumentException.class, () -> cache.get(parameterize("source="), false, parser));
+  }
+
+  private Function<String, Supplier<Statement>> parser(UnaryOperator<String> literalText) {
+    return query -> {
+      parsed.incrementAndGet();
+      String[] words = query.split(" +");
+      return () -> select(Arrays.stream(words).skip(1).map(literalText).toArray(String[]::new));
+    };
+  }
+
+  private static Statement select(String... literals) {
+    UnresolvedExpression[] projectList =
+        Arrays.stream(literals).map(AstDSL::stringLiteral).toArray(UnresolvedExpression[]::new);
+    return new Query(project(relation("test"), projectList), 0);
+  }
+
+  /** Split query into words, where quoted or numeric words are literals. */
+  private static ParameterizedQuery parameterize(String query) {
+    List<Token> tokens = new ArrayList<>();
+    Matcher word = Pattern.compile("\\S+").matcher(query);
+    while (word.find()) {
+      boolean literal = word.group().matches("'.*'|\\d+");
+      CommonToken token = new CommonToken(literal ? LITERAL : WORD, word.group());
+      token.setStartIndex(word.start());
+      token.setStopIndex(word.end() - 1);
+      tokens.add(token);
+    }
+    return ParameterizedQuery.of(query, tokens, Set.of(LITERAL));
+  }
+}
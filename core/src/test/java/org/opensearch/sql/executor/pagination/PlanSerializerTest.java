@@ -7,16 +7,26 @@ package org.opensearch.sql.executor.pagination;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -100,10 +110,14 @@ public class PlanSerializerTest {
   @Test
   void deserialize_throws() {
     assertAll(
-        // from gzip - damaged header
+        // unsupported format version
         () -> assertThrows(Throwable.class, () -> deserialize("00")),
-        // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        () -> assertThrows(Throwable.class, () -> deserialize("000")),
+        () -> assertThrows(Throwable.class, () -> deserialize("")),
+        // from gzip - damaged header
+        () -> assertThrows(Throwable.class, () -> deserialize("AQA")),
+        // from Base64 decoder
+        () -> assertThrows(Throwable.class, () -> deserialize("A+/A")));
   }
 
   @Test
@@ -153,6 +167,36 @@ public class PlanSerializerTest {
     assertNotSame(plan, roundTripPlan);
   }
 
+  @Test
+  void convertToCursor_encodes_url_safe_cursor_with_version() {
+    String cursor = planCache.convertToCursor(new TestOperator(42)).toString();
+    assertTrue(cursor.matches("n:[A-Za-z0-9_-]+"));
+    assertEquals(PlanSerializer.VERSION, Base64.getUrlDecoder().decode(cursor.substring(2))[0]);
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_legacy_cursor_in_hex() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(new GZIPOutputStream(output))) {
+      objectOutput.writeObject(new FormatProbe());
+    }
+    String legacyCursor = HashCode.fromBytes(output.toByteArray()).toString();
+
+    assertTrue(((FormatProbe) deserialize(legacyCursor)).legacyFormat);
+    assertFalse(((FormatProbe) deserialize(serialize(new FormatProbe()))).legacyFormat);
+  }
+
+  @Test
+  void convertToCursor_keeps_cursor_in_store() {
+    CursorStore cursorStore = mock(CursorStore.class);
+    when(cursorStore.store(any())).thenReturn(new Cursor("s:id"));
+    planCache = new PlanSerializer(storageEngine, cursorStore);
+
+    assertEquals(new Cursor("s:id"), planCache.convertToCursor(new TestOperator(42)));
+    verify(cursorStore).store(argThat(cursor -> cursor.toString().startsWith("n:")));
+  }
+
   @Test
   @SneakyThrows
   void resolveObject() {
@@ -170,6 +214,16 @@ public class PlanSerializerTest {
 
   // Helpers and auxiliary classes section below
 
+  /** Records the format of the cursor it is deserialized from. */
+  public static class FormatProbe implements Serializable {
+    private transient boolean legacyFormat;
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      legacyFormat = ((PlanSerializer.CursorDeserializationStream) in).isLegacyFormat();
+    }
+  }
+
   @SneakyThrows
   private String serialize(Serializable input) {
     return new PlanSerializer(null).serialize(input);
@@ -31,6 +31,14 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -45,6 +53,26 @@ import org.opensearch.sql.data.type.ExprCoreType;
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class ReferenceExpressionTest extends ExpressionTestBase {
 
+  @Test
+  public void serialized_form_is_compatible_with_previous_versions() throws Exception {
+    ObjectStreamClass descriptor = ObjectStreamClass.lookup(ReferenceExpression.class);
+    assertEquals(1444111620070149924L, descriptor.getSerialVersionUID());
+    assertEquals(
+        List.of("attr", "paths", "rawPath", "type"),
+        Arrays.stream(descriptor.getFields()).map(ObjectStreamField::getName).toList());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(ref("name.first", STRING));
+    }
+    ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    ReferenceExpression deserialized = (ReferenceExpression) input.readObject();
+    ExprTupleValue tuple =
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("name.first", stringValue("bob")));
+    assertEquals(stringValue("bob"), deserialized.resolve(tuple));
+  }
+
   @Test
   public void resolve_value() {
     assertEquals(integerValue(1), DSL.ref("integer_value", INTEGER).valueOf(valueEnv()));
@@ -136,6 +164,28 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("First message in array", actualValue.stringValue());
   }
 
+  @Test
+  public void resolve_tuple_in_slots() {
+    ExprTupleValue tuple = ExprTupleValue.fromExprValueMap(tuple().tupleValue(), null);
+    ReferenceExpression name = ref("name", STRING);
+    ReferenceExpression projectYear = new ReferenceExpression("project.year", INTEGER);
+    ReferenceExpression addressState = new ReferenceExpression("address.state", STRING);
+
+    assertEquals("bob smith", name.resolve(tuple).stringValue());
+    assertEquals(1990, projectYear.resolve(tuple).integerValue());
+    assertEquals("WA", addressState.resolve(tuple).stringValue());
+    assertTrue(new ReferenceExpression("missing_field", STRING).resolve(tuple).isMissing());
+
+    // Slot bound to the previous layout is not used for tuple of another layout
+    ExprTupleValue other =
+        ExprTupleValue.fromExprValueMap(
+            ImmutableMap.of("project.year", integerValue(2000), "name", stringValue("alice")),
+            null);
+    assertEquals("alice", name.resolve(other).stringValue());
+    assertEquals(2000, projectYear.resolve(other).integerValue());
+    assertEquals("bob smith", name.resolve(tuple).stringValue());
+  }
+
   /**
    *
    *
@@ -19,6 +19,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.fromObjectValue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
@@ -54,6 +55,7 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
 
 class BinaryPredicateOperatorTest extends ExpressionTestBase {
 
@@ -570,6 +572,25 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(String.format("not like(\"%s\", \"%s\")", "bob", "bo%"), notLike.toString());
   }
 
+  @Test
+  void test_like_and_regexp_with_pattern_from_field() {
+    FunctionExpression like = DSL.like(DSL.ref("name", STRING), DSL.ref("pattern", STRING));
+    FunctionExpression regexp = DSL.regexp(DSL.ref("name", STRING), DSL.ref("pattern", STRING));
+
+    assertEquals(LITERAL_TRUE, like.valueOf(tuple("bob", "b%")));
+    assertEquals(LITERAL_FALSE, like.valueOf(tuple("bob", "t%")));
+    assertEquals(0, regexp.valueOf(tuple("bob", "b%")).integerValue());
+    assertEquals(1, regexp.valueOf(tuple("bob", "b.*")).integerValue());
+    assertEquals(
+        LITERAL_MISSING,
+        like.valueOf(ExprValueUtils.tupleValue(ImmutableMap.of("name", "bob")).bindingTuples()));
+  }
+
+  private static Environment<Expression, ExprValue> tuple(String name, String pattern) {
+    return ExprValueUtils.tupleValue(ImmutableMap.of("name", name, "pattern", pattern))
+        .bindingTuples();
+  }
+
   @Test
   void test_regexp() {
     STRING_PATTERN_PAIRS.forEach(this::testRegexpString);
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HistogramTest {
+
+  private final Histogram histogram = new Histogram();
+
+  @Test
+  void empty_histogram_reports_zero() {
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.percentile(99));
+  }
+
+  @Test
+  void small_values_are_counted_exactly() {
+    histogram.record(-1);
+    histogram.record(3);
+    histogram.record(3);
+    histogram.record(7);
+
+    assertEquals(4, histogram.count());
+    assertEquals(1, histogram.percentile(25));
+    assertEquals(4, histogram.percentile(75));
+    assertEquals(8, histogram.percentile(100));
+  }
+
+  @Test
+  void large_values_are_counted_with_bounded_relative_error() {
+    histogram.record(1L << 40);
+    histogram.record(Long.MAX_VALUE / 2);
+
+    long percentile = histogram.percentile(50);
+    assertEquals(1L << 40, percentile, (1L << 40) / Histogram.SUB_BUCKETS);
+  }
+
+  @Test
+  void buckets_are_contiguous() {
+    for (long value = 1; value < 100_000; value++) {
+      int bucket = Histogram.bucket(value);
+      assertEquals(bucket, Histogram.bucket(Histogram.upperBound(bucket) - 1));
+      assertEquals(bucket + 1, Histogram.bucket(Histogram.upperBound(bucket)));
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  void empty_histogram_reports_zero() {
+    assertEquals(0, histogram.count());
+    assertEquals(0.0, histogram.percentile(50));
+  }
+
+  @Test
+  void small_latencies_are_counted_by_microsecond() {
+    histogram.record(-1);
+    histogram.record(1_500);
+    histogram.record(2_000);
+
+    assertEquals(3, histogram.count());
+    assertEquals(0.001, histogram.percentile(1));
+    assertEquals(0.002, histogram.percentile(50));
+    assertEquals(0.003, histogram.percentile(100));
+  }
+
+  @Test
+  void large_latencies_are_counted_with_bounded_relative_error() {
+    for (int millis = 1; millis <= 100; millis++) {
+      histogram.record(millis * 1_000_000L);
+    }
+
+    assertEquals(100, histogram.count());
+    assertEquals(50, histogram.percentile(50), 50.0 / Histogram.SUB_BUCKETS);
+    assertEquals(90, histogram.percentile(90), 90.0 / Histogram.SUB_BUCKETS);
+    assertEquals(99, histogram.percentile(99), 99.0 / Histogram.SUB_BUCKETS);
+  }
+
+  @Test
+  void stats_include_count_and_percentiles() {
+    histogram.record(5_000);
+
+    assertEquals(Map.of("count", 1L, "p50", 0.006, "p90", 0.006, "p99", 0.006), histogram.stats());
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MemoryBudgetTest {
+
+  @Test
+  void reserve_and_release_memory() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    memoryBudget.reserve(100, "sort");
+    memoryBudget.reserve(50, "sort");
+    memoryBudget.release(120);
+    memoryBudget.reserve(20, "sort");
+
+    assertEquals(50, memoryBudget.getReservedBytes());
+    assertEquals(150, memoryBudget.getPeakReservedBytes());
+  }
+
+  @Test
+  void release_all_memory_on_close() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    memoryBudget.reserve(100, "sort");
+    memoryBudget.close();
+
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(100, memoryBudget.getPeakReservedBytes());
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryPhaseTest {
+
+  @AfterEach
+  void clearContext() {
+    ThreadContext.clearMap();
+  }
+
+  @Test
+  void record_time_in_histogram_and_add_up_for_current_query() {
+    QueryPhase.start();
+    long count = QueryPhase.ANALYZE.getHistogram().count();
+    QueryPhase.ANALYZE.record(2_000_000);
+    QueryPhase.ANALYZE.record(3_000_000);
+
+    assertEquals(count + 2, QueryPhase.ANALYZE.getHistogram().count());
+    assertEquals(5, QueryPhase.breakdownMillis().get("analyze"));
+  }
+
+  @Test
+  void time_call_whether_it_fails_or_not() {
+    long count = QueryPhase.OPTIMIZE.getHistogram().count();
+
+    assertEquals("plan", QueryPhase.OPTIMIZE.time(() -> "plan"));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            QueryPhase.OPTIMIZE.time(
+                () -> {
+                  throw new IllegalStateException("failed");
+                }));
+    assertEquals(count + 2, QueryPhase.OPTIMIZE.getHistogram().count());
+  }
+
+  @Test
+  void start_resets_time_of_previous_query() {
+    QueryPhase.FETCH.record(7_000_000);
+    SlowQueryLog.setQuery("( source = table )");
+    QueryPhase.start();
+
+    assertEquals(
+        Map.of("parse", 0L, "analyze", 0L, "optimize", 0L, "open", 0L, "fetch", 0L, "format", 0L),
+        QueryPhase.breakdownMillis());
+    assertEquals("", SlowQueryLog.fingerprint());
+    assertTrue(QueryPhase.elapsedNanos() >= 0);
+  }
+
+  @Test
+  void time_is_zero_if_query_not_started() {
+    assertEquals(0, QueryPhase.elapsedNanos());
+    assertEquals(0, QueryPhase.breakdownMillis().get("parse"));
+  }
+
+  @Test
+  void phase_name_is_in_lower_case() {
+    assertEquals("parse", QueryPhase.PARSE.getPhaseName());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlowQueryLogTest {
+
+  @Mock private Settings settings;
+
+  @AfterEach
+  void clearContext() {
+    ThreadContext.clearMap();
+  }
+
+  @Test
+  void fingerprint_is_same_for_same_normalized_query() {
+    assertEquals("", SlowQueryLog.fingerprint());
+
+    SlowQueryLog.setQuery("( SELECT * FROM table WHERE identifier = number )");
+    String fingerprint = SlowQueryLog.fingerprint();
+    assertEquals(8, fingerprint.length());
+    assertEquals(fingerprint, SlowQueryLog.fingerprint());
+
+    SlowQueryLog.setQuery("( SELECT * FROM table )");
+    assertNotEquals(fingerprint, SlowQueryLog.fingerprint());
+  }
+
+  @Test
+  void log_query_exceeding_threshold() {
+    when(settings.getSettingValue(Settings.Key.SQL_SLOWLOG)).thenReturn(0);
+    QueryPhase.start();
+    SlowQueryLog.setQuery("( SELECT * FROM table )");
+    QueryPhase.FETCH.record(1_000_000);
+
+    assertTrue(SlowQueryLog.logIfSlow(settings));
+  }
+
+  @Test
+  void do_not_log_query_within_threshold() {
+    when(settings.getSettingValue(Settings.Key.SQL_SLOWLOG)).thenReturn(60);
+    QueryPhase.start();
+
+    assertFalse(SlowQueryLog.logIfSlow(settings));
+  }
+
+  @Test
+  void do_not_log_if_threshold_not_set() {
+    QueryPhase.start();
+
+    assertFalse(SlowQueryLog.logIfSlow(settings));
+  }
+}
@@ -62,6 +62,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.ranking.RowNumberFunction;
 import org.opensearch.sql.planner.logical.LogicalCloseCursor;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
@@ -311,6 +312,26 @@ class DefaultImplementorTest {
     assertEquals(physicalPlanTree, logicalLimit.accept(implementor, null));
   }
 
+  @Test
+  public void visitJoin_should_build_HashJoinOperator() {
+    LogicalPlan logicalPlan =
+        LogicalPlanDSL.join(
+            values(),
+            values(),
+            LogicalJoin.JoinType.LEFT,
+            List.of(ref("id", INTEGER)),
+            List.of(ref("id", INTEGER)));
+    PhysicalPlan physicalPlan =
+        PhysicalPlanDSL.hashJoin(
+            PhysicalPlanDSL.values(),
+            PhysicalPlanDSL.values(),
+            LogicalJoin.JoinType.LEFT,
+            List.of(ref("id", INTEGER)),
+            List.of(ref("id", INTEGER)));
+
+    assertEquals(physicalPlan, logicalPlan.accept(implementor, null));
+  }
+
   @Test
   public void visitTrendline_should_build_TrendlineOperator() {
     var logicalChild = mock(LogicalPlan.class);
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
@@ -30,6 +31,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -765,4 +767,22 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
 
     assertEquals(plan, copy);
   }
+
+  @Test
+  public void account_groups_collected_to_memory_budget() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new TestScan(),
+            Collections.singletonList(
+                DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))),
+            memoryBudget);
+
+    plan.open();
+    assertTrue(memoryBudget.getReservedBytes() > 0);
+    plan.close();
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertTrue(memoryBudget.getPeakReservedBytes() > 0);
+  }
 }
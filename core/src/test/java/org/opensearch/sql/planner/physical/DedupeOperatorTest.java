@@ -9,18 +9,21 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
 
 @ExtendWith(MockitoExtension.class)
@@ -241,6 +244,39 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     assertEquals(3, deduper.seenTimes(1));
   }
 
+  @Test
+  public void account_dedupe_keys_seen_to_memory_budget() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2")));
+    MemoryBudget memoryBudget = new MemoryBudget();
+
+    execute(
+        new DedupeOperator(
+            inputPlan, List.of(DSL.ref("region", STRING)), 1, false, false, memoryBudget));
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(
+        MemoryReservation.estimateKeySize(List.of(stringValue("us-east-1")))
+            + MemoryReservation.estimateKeySize(List.of(stringValue("us-west-2"))),
+        memoryBudget.getPeakReservedBytes());
+  }
+
+  @Test
+  public void not_account_dedupe_keys_in_consecutive_mode() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2")));
+    MemoryBudget memoryBudget = new MemoryBudget();
+
+    execute(
+        new DedupeOperator(
+            inputPlan, List.of(DSL.ref("region", STRING)), 1, false, true, memoryBudget));
+    assertEquals(0, memoryBudget.getPeakReservedBytes());
+  }
+
   @Test
   public void consecutive_deduper() {
     Deduper<Integer> deduper = Deduper.consecutiveDeduper();
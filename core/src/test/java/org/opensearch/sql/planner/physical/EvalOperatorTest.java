@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -17,6 +18,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -130,4 +132,26 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_batch_same_as_row_by_row() {
+    Supplier<PhysicalPlan> plan =
+        () ->
+            eval(
+                new TestScan(),
+                ImmutablePair.of(
+                    DSL.ref("next", INTEGER),
+                    DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))),
+                ImmutablePair.of(
+                    DSL.ref("response", INTEGER),
+                    DSL.multiply(DSL.ref("next", INTEGER), DSL.literal(2))));
+    List<ExprValue> result = executeBatch(plan.get(), 2);
+
+    assertEquals(execute(plan.get()), result);
+    assertEquals(
+        ExprValueUtils.tupleValue(
+            ImmutableMap.of(
+                "ip", "74.125.19.106", "action", "POST", "response", 1002, "next", 501)),
+        result.get(4));
+  }
 }
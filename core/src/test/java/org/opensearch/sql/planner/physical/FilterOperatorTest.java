@@ -166,4 +166,12 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
         filterOperator.next(),
         "next() should return the matching input value even if hasNext() was not called");
   }
+
+  @Test
+  public void filter_batch_test() {
+    Expression notOk = DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200));
+    assertEquals(
+        execute(new FilterOperator(new TestScan(), notOk)),
+        executeBatch(new FilterOperator(new TestScan(), notOk), 2));
+  }
 }
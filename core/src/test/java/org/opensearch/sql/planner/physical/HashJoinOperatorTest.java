@@ -0,0 +1,365 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.planner.logical.LogicalJoin;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.storage.TableScanOperator;
+
+class HashJoinOperatorTest extends PhysicalPlanTestBase {
+
+  private final List<ExprValue> employees =
+      List.of(
+          tupleValue(ImmutableMap.of("name", "Alice", "dept_id", 1)),
+          tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2)),
+          tupleValue(ImmutableMap.of("name", "Carol", "dept_id", 3)),
+          tupleValue(nullDept("Dave")));
+
+  private final List<ExprValue> departments =
+      List.of(
+          tupleValue(ImmutableMap.of("id", 1L, "dept", "Sales")),
+          tupleValue(ImmutableMap.of("id", 2L, "dept", "HR")),
+          tupleValue(ImmutableMap.of("id", 2L, "dept", "Legal")),
+          tupleValue(ImmutableMap.of("id", 4L, "dept", "IT")));
+
+  @Test
+  public void inner_join() {
+    assertThat(
+        execute(join(JoinType.INNER)),
+        contains(
+            tupleValue(ImmutableMap.of("name", "Alice", "dept_id", 1, "id", 1L, "dept", "Sales")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "HR")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "Legal"))));
+  }
+
+  @Test
+  public void left_join() {
+    assertThat(
+        execute(join(JoinType.LEFT)),
+        contains(
+            tupleValue(ImmutableMap.of("name", "Alice", "dept_id", 1, "id", 1L, "dept", "Sales")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "HR")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "Legal")),
+            withNulls(employees.get(2), "id", "dept"),
+            withNulls(employees.get(3), "id", "dept")));
+  }
+
+  @Test
+  public void left_join_keeps_left_field_of_same_name_as_right_field_without_match() {
+    assertThat(
+        execute(
+            hashJoin(
+                testScan(employees),
+                testScan(List.of(tupleValue(ImmutableMap.of("id", 1L, "name", "Sales")))),
+                JoinType.LEFT,
+                List.of(DSL.ref("dept_id", INTEGER)),
+                List.of(DSL.ref("id", LONG)))),
+        contains(
+            tupleValue(ImmutableMap.of("name", "Sales", "dept_id", 1, "id", 1L)),
+            withNulls(employees.get(1), "id"),
+            withNulls(employees.get(2), "id"),
+            withNulls(employees.get(3), "id")));
+  }
+
+  @Test
+  public void left_join_with_empty_right_side() {
+    assertThat(
+        execute(
+            hashJoin(
+                testScan(employees),
+                testScan(List.of()),
+                JoinType.LEFT,
+                List.of(DSL.ref("dept_id", INTEGER)),
+                List.of(DSL.ref("id", LONG)))),
+        contains(employees.toArray()));
+  }
+
+  @Test
+  public void semi_join() {
+    assertThat(
+        execute(join(JoinType.SEMI)),
+        contains(
+            tupleValue(ImmutableMap.of("name", "Alice", "dept_id", 1)),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2))));
+  }
+
+  @Test
+  public void anti_join() {
+    assertThat(
+        execute(join(JoinType.ANTI)),
+        contains(
+            tupleValue(ImmutableMap.of("name", "Carol", "dept_id", 3)),
+            tupleValue(nullDept("Dave"))));
+  }
+
+  @Test
+  public void join_on_multiple_keys() {
+    PhysicalPlan plan =
+        hashJoin(
+            testScan(
+                List.of(
+                    tupleValue(ImmutableMap.of("a", 1, "b", "x")),
+                    tupleValue(ImmutableMap.of("a", 1, "b", "y")))),
+            testScan(List.of(tupleValue(ImmutableMap.of("c", 1L, "d", "y")))),
+            JoinType.INNER,
+            List.of(DSL.ref("a", INTEGER), DSL.ref("b", STRING)),
+            List.of(DSL.ref("c", LONG), DSL.ref("d", STRING)));
+
+    assertThat(
+        execute(plan), contains(tupleValue(ImmutableMap.of("a", 1, "b", "y", "c", 1L, "d", "y"))));
+  }
+
+  @Test
+  public void spill_to_disk_if_exceeding_memory_limit() {
+    List<ExprValue> left = new ArrayList<>();
+    List<ExprValue> right = new ArrayList<>();
+    List<ExprValue> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      left.add(tupleValue(ImmutableMap.of("name", "name" + i, "dept_id", i % 10)));
+      if (i < 5) {
+        right.add(tupleValue(ImmutableMap.of("id", (long) i, "dept", "dept" + i)));
+      }
+    }
+    for (ExprValue row : left) {
+      int deptId = row.tupleValue().get("dept_id").integerValue();
+      if (deptId < 5) {
+        expected.add(
+            tupleValue(
+                ImmutableMap.of(
+                    "name",
+                    row.tupleValue().get("name").stringValue(),
+                    "dept_id",
+                    deptId,
+                    "id",
+                    (long) deptId,
+                    "dept",
+                    "dept" + deptId)));
+      }
+    }
+
+    PhysicalPlan plan =
+        new HashJoinOperator(
+            testScan(left),
+            testScan(right),
+            JoinType.INNER,
+            List.of(DSL.ref("dept_id", INTEGER)),
+            List.of(DSL.ref("id", LONG)),
+            () -> 0L);
+
+    assertThat(execute(plan), containsInAnyOrder(expected.toArray()));
+  }
+
+  @Test
+  public void spill_to_disk_for_left_join() {
+    PhysicalPlan plan =
+        new HashJoinOperator(
+            testScan(employees),
+            testScan(departments),
+            JoinType.LEFT,
+            List.of(DSL.ref("dept_id", INTEGER)),
+            List.of(DSL.ref("id", LONG)),
+            () -> 100L);
+
+    assertThat(
+        execute(plan),
+        containsInAnyOrder(
+            tupleValue(ImmutableMap.of("name", "Alice", "dept_id", 1, "id", 1L, "dept", "Sales")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "HR")),
+            tupleValue(ImmutableMap.of("name", "Bob", "dept_id", 2, "id", 2L, "dept", "Legal")),
+            withNulls(employees.get(2), "id", "dept"),
+            withNulls(employees.get(3), "id", "dept")));
+  }
+
+  @Test
+  public void logical_join_requires_same_number_of_keys() {
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                new LogicalJoin(
+                    null,
+                    null,
+                    JoinType.INNER,
+                    List.of(DSL.ref("a", INTEGER)),
+                    List.of(DSL.ref("a", INTEGER), DSL.ref("b", INTEGER))));
+    assertEquals(
+        "join requires same number of left and right keys, but got 1 and 2",
+        exception.getMessage());
+  }
+
+  @Test
+  public void push_down_runtime_filter_through_project_to_probe_side_scan() {
+    FilterableScan scan = new FilterableScan(employees);
+    PhysicalPlan plan =
+        hashJoin(
+            PhysicalPlanDSL.project(
+                scan,
+                DSL.named("name", DSL.ref("name", STRING)),
+                DSL.named("key", DSL.ref("dept_id", INTEGER))),
+            testScan(departments),
+            JoinType.INNER,
+            List.of(DSL.ref("key", INTEGER)),
+            List.of(DSL.ref("id", LONG)));
+
+    assertEquals(3, execute(plan).size());
+    assertEquals(1, scan.filters.size());
+    RuntimeFilter filter = scan.filters.get(0);
+    assertEquals(DSL.ref("dept_id", INTEGER), filter.getField());
+    assertThat(filter.getValues(), contains(longValue(1L), longValue(2L), longValue(4L)));
+    assertEquals(longValue(1L), filter.getMin());
+    assertEquals(longValue(4L), filter.getMax());
+  }
+
+  @Test
+  public void push_down_range_runtime_filter_if_too_many_values() {
+    List<ExprValue> right = new ArrayList<>();
+    for (int i = 0; i <= RuntimeFilter.MAX_VALUES; i++) {
+      right.add(tupleValue(ImmutableMap.of("id", (long) i)));
+    }
+    FilterableScan scan = new FilterableScan(employees);
+
+    execute(
+        hashJoin(
+            scan,
+            testScan(right),
+            JoinType.SEMI,
+            List.of(DSL.ref("dept_id", INTEGER)),
+            List.of(DSL.ref("id", LONG))));
+
+    RuntimeFilter filter = scan.filters.get(0);
+    assertNull(filter.getValues());
+    assertEquals(longValue(0L), filter.getMin());
+    assertEquals(longValue((long) RuntimeFilter.MAX_VALUES), filter.getMax());
+  }
+
+  @Test
+  public void has_runtime_filter_only_if_left_rows_without_match_are_not_returned() {
+    assertTrue(((HashJoinOperator) join(JoinType.INNER)).hasRuntimeFilter());
+    assertTrue(((HashJoinOperator) join(JoinType.SEMI)).hasRuntimeFilter());
+    assertFalse(((HashJoinOperator) join(JoinType.LEFT)).hasRuntimeFilter());
+    assertFalse(((HashJoinOperator) join(JoinType.ANTI)).hasRuntimeFilter());
+  }
+
+  @Test
+  public void no_runtime_filter_if_left_rows_without_match_are_returned() {
+    FilterableScan scan = new FilterableScan(employees);
+
+    execute(
+        hashJoin(
+            scan,
+            testScan(departments),
+            JoinType.LEFT,
+            List.of(DSL.ref("dept_id", INTEGER)),
+            List.of(DSL.ref("id", LONG))));
+    assertTrue(scan.filters.isEmpty());
+  }
+
+  @Test
+  public void no_runtime_filter_through_operator_changing_field() {
+    FilterableScan scan = new FilterableScan(employees);
+
+    execute(
+        hashJoin(
+            PhysicalPlanDSL.eval(
+                scan, Pair.of(DSL.ref("dept_id", INTEGER), DSL.ref("dept_id", INTEGER))),
+            testScan(departments),
+            JoinType.INNER,
+            List.of(DSL.ref("dept_id", INTEGER)),
+            List.of(DSL.ref("id", LONG))));
+    assertTrue(scan.filters.isEmpty());
+  }
+
+  private PhysicalPlan join(JoinType joinType) {
+    return hashJoin(
+        testScan(employees),
+        testScan(departments),
+        joinType,
+        List.of(DSL.ref("dept_id", INTEGER)),
+        List.of(DSL.ref("id", LONG)));
+  }
+
+  /** Table scan which records runtime filters pushed down before open. */
+  private static class FilterableScan extends TableScanOperator {
+    private final List<ExprValue> rows;
+    private final List<RuntimeFilter> filters = new ArrayList<>();
+    private Iterator<ExprValue> iterator;
+
+    FilterableScan(List<ExprValue> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean pushDownRuntimeFilter(RuntimeFilter filter) {
+      assertNull(iterator, "runtime filter must be pushed down before open");
+      filters.add(filter);
+      return true;
+    }
+
+    @Override
+    public void open() {
+      iterator = rows.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return iterator.next();
+    }
+
+    @Override
+    public String explain() {
+      return "FilterableScan";
+    }
+  }
+
+  /** Left join result of employee without match, with the given fields of right side null. */
+  private static ExprValue withNulls(ExprValue employee, String... fields) {
+    Map<String, ExprValue> result = new LinkedHashMap<>(employee.tupleValue());
+    for (String field : fields) {
+      result.putIfAbsent(field, ExprNullValue.of());
+    }
+    return ExprTupleValue.fromExprValueMap(result);
+  }
+
+  private static Map<String, Object> nullDept(String name) {
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", name);
+    map.put("dept_id", null);
+    return map;
+  }
+}
@@ -63,4 +63,11 @@ public class LimitOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void limit_and_offset_in_batch() {
+    PhysicalPlan plan = new LimitOperator(new TestScan(countTestInputs), 5, 3);
+    List<ExprValue> result = executeBatch(plan, 2);
+    assertEquals(countTestInputs.subList(3, 8), result);
+  }
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 @ExtendWith(MockitoExtension.class)
 class NestedOperatorTest extends PhysicalPlanTestBase {
@@ -323,4 +325,21 @@ class NestedOperatorTest extends PhysicalPlanTestBase {
     var nested = new NestedOperator(inputPlan, fields, groupedFieldsByPath);
     assertEquals(0, execute(nested).get(0).tupleValue().size());
   }
+
+  @Test
+  public void account_rows_flattened_to_memory_budget() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next()).thenReturn(testData);
+    MemoryBudget memoryBudget = new MemoryBudget();
+
+    var nested =
+        new NestedOperator(
+            inputPlan,
+            Set.of("message.info"),
+            Map.of("message", List.of("message.info")),
+            memoryBudget);
+    assertEquals(3, execute(nested).size());
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertTrue(memoryBudget.getPeakReservedBytes() > 0);
+  }
 }
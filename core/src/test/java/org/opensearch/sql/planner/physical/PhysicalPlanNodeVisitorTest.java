@@ -17,6 +17,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
@@ -51,6 +52,7 @@ import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 
 /** Todo, testing purpose, delete later. */
 @ExtendWith(MockitoExtension.class)
@@ -141,6 +143,8 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
 
     PhysicalPlan limit = limit(plan, 1, 1);
 
+    PhysicalPlan hashJoin = hashJoin(plan, plan, JoinType.INNER, List.of(ref), List.of(ref));
+
     Set<String> nestedArgs = Set.of("nested.test");
     Map<String, List<String>> groupedFieldsByPath = Map.of("nested", List.of("nested.test"));
     PhysicalPlan nested = new NestedOperator(plan, nestedArgs, groupedFieldsByPath);
@@ -167,9 +171,11 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
         Arguments.of(values, "values"),
         Arguments.of(rareTopN, "rareTopN"),
         Arguments.of(limit, "limit"),
+        Arguments.of(hashJoin, "hashJoin"),
         Arguments.of(nested, "nested"),
         Arguments.of(cursorClose, "cursorClose"),
-        Arguments.of(trendline, "trendline"));
+        Arguments.of(trendline, "trendline"),
+        Arguments.of(new ProfilePlan(filter), "profile"));
   }
 
   @ParameterizedTest(name = "{1}")
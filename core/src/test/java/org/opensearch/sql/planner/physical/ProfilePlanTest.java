@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.storage.split.Split;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProfilePlanTest extends PhysicalPlanTestBase {
+
+  @Test
+  void collect_rows_and_time_of_each_node() {
+    ProfilePlan scan = new ProfilePlan(new TestScan());
+    ProfilePlan plan =
+        new ProfilePlan(filter(scan, DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404))));
+    assertEquals(1, execute(plan).size());
+
+    Map<String, Object> stats = plan.stats();
+    assertEquals(
+        List.of(
+            "rowsIn",
+            "rowsOut",
+            "openTimeMs",
+            "openCpuTimeMs",
+            "nextTimeMs",
+            "nextCpuTimeMs",
+            "selfTimeMs",
+            "selfCpuTimeMs"),
+        List.copyOf(stats.keySet()));
+    assertEquals(5L, stats.get("rowsIn"));
+    assertEquals(1L, stats.get("rowsOut"));
+    assertEquals(0L, scan.stats().get("rowsIn"));
+    assertEquals(5L, scan.stats().get("rowsOut"));
+    assertTrue((double) stats.get("nextTimeMs") >= (double) scan.stats().get("nextTimeMs"));
+    assertTrue((double) stats.get("selfTimeMs") >= 0);
+  }
+
+  @Test
+  void count_rows_of_batches() {
+    ProfilePlan plan = new ProfilePlan(new TestScan());
+    assertEquals(5, executeBatch(plan, 2).size());
+    assertEquals(5L, plan.stats().get("rowsOut"));
+  }
+
+  @Test
+  void count_no_rows_in_if_children_not_profiled() {
+    ProfilePlan plan =
+        new ProfilePlan(
+            filter(new TestScan(), DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404))));
+    execute(plan);
+    assertEquals(0L, plan.stats().get("rowsIn"));
+    assertEquals(1L, plan.stats().get("rowsOut"));
+  }
+
+  @Test
+  void delegate_to_plan_profiled() {
+    PhysicalPlan delegate = mock(PhysicalPlan.class);
+    List<PhysicalPlan> children = List.of(new TestScan());
+    when(delegate.getChild()).thenReturn(children);
+    Split split = mock(Split.class);
+
+    ProfilePlan plan = new ProfilePlan(delegate);
+    plan.add(split);
+    plan.close();
+
+    assertSame(delegate, plan.getDelegate());
+    assertSame(children, plan.getChild());
+    verify(delegate).add(split);
+    verify(delegate).close();
+  }
+}
@@ -25,6 +25,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -259,4 +260,22 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
     var roundTripPlan = (ProjectOperator) objectInput.readObject();
     assertEquals(project, roundTripPlan);
   }
+
+  @Test
+  public void project_batch_same_as_row_by_row() {
+    Supplier<PhysicalPlan> plan =
+        () ->
+            project(
+                new TestScan(),
+                DSL.named("response", DSL.ref("response", INTEGER)),
+                DSL.named("referer", DSL.ref("referer", STRING)),
+                DSL.named("next", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))));
+    List<ExprValue> result = executeBatch(plan.get(), 2);
+
+    assertEquals(execute(plan.get()), result);
+    assertEquals(
+        ExprValueUtils.tupleValue(
+            ImmutableMap.of("response", 500, "referer", LITERAL_MISSING, "next", 501)),
+        result.get(4));
+  }
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
@@ -18,6 +19,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 public class RareTopNOperatorTest extends PhysicalPlanTestBase {
 
@@ -106,4 +108,23 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 200)),
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))));
   }
+
+  @Test
+  public void account_keys_counted_to_memory_budget() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    PhysicalPlan plan =
+        new RareTopNOperator(
+            new TestScan(),
+            CommandType.TOP,
+            1,
+            Collections.singletonList(DSL.ref("response", ExprCoreType.INTEGER)),
+            Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+            memoryBudget);
+
+    plan.open();
+    assertTrue(memoryBudget.getReservedBytes() > 0);
+    plan.close();
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertTrue(memoryBudget.getPeakReservedBytes() > 0);
+  }
 }
@@ -15,7 +15,9 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 @ExtendWith(MockitoExtension.class)
 class SortOperatorTest extends PhysicalPlanTestBase {
@@ -264,4 +268,76 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         0,
         execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void spill_sorted_runs_if_exceeding_memory_limit() {
+    assertSpillAndMerge(SortOperator.MIN_RUN_SIZE * 4 + 10, 4);
+  }
+
+  @Test
+  public void merge_sorted_runs_in_multiple_passes() {
+    // 66 runs spilled and then merged into 2 runs before final merge with rows in memory
+    assertSpillAndMerge(SortOperator.MIN_RUN_SIZE * (SortOperator.MAX_MERGE_WIDTH + 2) + 10, 68);
+  }
+
+  private void assertSpillAndMerge(int rowCount, int expectedSpillFiles) {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      rows.add(tupleValue(ImmutableMap.of("id", (i * 7919) % rowCount, "name", "name" + i)));
+    }
+    long fileCount = SpillFile.fileCount();
+
+    List<ExprValue> result =
+        execute(
+            new SortOperator(
+                testScan(rows),
+                List.of(Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER))),
+                () -> 0L));
+
+    assertEquals(rowCount, result.size());
+    for (int i = 0; i < rowCount; i++) {
+      assertEquals(rowCount - 1 - i, result.get(i).tupleValue().get("id").integerValue());
+    }
+    assertEquals(expectedSpillFiles, SpillFile.fileCount() - fileCount);
+  }
+
+  @Test
+  public void account_rows_buffered_to_memory_budget() {
+    List<ExprValue> rows =
+        List.of(tupleValue(ImmutableMap.of("id", 2)), tupleValue(ImmutableMap.of("id", 1)));
+    MemoryBudget memoryBudget = new MemoryBudget();
+    SortOperator plan =
+        new SortOperator(
+            testScan(rows),
+            List.of(Pair.of(SortOption.DEFAULT_ASC, ref("id", INTEGER))),
+            () -> Long.MAX_VALUE,
+            memoryBudget);
+
+    plan.open();
+    long expected = SpillFile.estimateSize(rows.get(0)) + SpillFile.estimateSize(rows.get(1));
+    assertEquals(expected, memoryBudget.getReservedBytes());
+    plan.close();
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(expected, memoryBudget.getPeakReservedBytes());
+  }
+
+  @Test
+  public void release_rows_spilled_from_memory_budget() {
+    List<ExprValue> rows = new ArrayList<>();
+    long totalSize = 0;
+    for (int i = 0; i < SortOperator.MIN_RUN_SIZE * 2; i++) {
+      rows.add(tupleValue(ImmutableMap.of("id", i)));
+      totalSize += SpillFile.estimateSize(rows.get(i));
+    }
+    MemoryBudget memoryBudget = new MemoryBudget();
+
+    execute(
+        new SortOperator(
+            testScan(rows),
+            List.of(Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER))),
+            () -> 0L,
+            memoryBudget));
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(totalSize / 2, memoryBudget.getPeakReservedBytes());
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class SpillFileTest {
+
+  @Test
+  void write_and_read_all_value_types() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("null", null);
+    map.put("boolean", true);
+    map.put("byte", (byte) 1);
+    map.put("short", (short) 2);
+    map.put("integer", 3);
+    map.put("long", 4L);
+    map.put("float", 5.5f);
+    map.put("double", 6.5);
+    map.put("string", "x".repeat(70000));
+    map.put("date", ExprValueUtils.dateValue(LocalDate.of(2024, 1, 2)));
+    map.put("time", ExprValueUtils.timeValue(LocalTime.of(10, 20, 30, 400)));
+    map.put("timestamp", ExprValueUtils.timestampValue(Instant.ofEpochSecond(1700000000L, 5)));
+    map.put("interval", ExprValueUtils.intervalValue(Duration.ofMinutes(3)));
+    map.put("array", List.of(1, "a"));
+    map.put("struct", Map.of("nested", 1L));
+    ExprValue row = ExprValueUtils.tupleValue(map);
+    ExprValue missing = ExprValueUtils.missingValue();
+
+    SpillFile file = new SpillFile("spill-file-test-");
+    file.write(row);
+    file.write(missing);
+    file.flush();
+    long bytesWritten = SpillFile.bytesWritten();
+
+    Iterator<ExprValue> rows = SpillFile.read(file);
+    assertThat(List.of(rows.next(), rows.next()), contains(row, missing));
+    assertFalse(rows.hasNext());
+    assertTrue(SpillFile.bytesWritten() > bytesWritten + 70000);
+  }
+
+  @Test
+  void read_null_file_as_empty() {
+    assertFalse(SpillFile.read(null).hasNext());
+  }
+
+  @Test
+  void estimate_size_of_nested_value() {
+    assertEquals(24, SpillFile.estimateSize(ExprValueUtils.integerValue(1)));
+    assertEquals(
+        48 + 32 + 40 + 2 + 40 + 2,
+        SpillFile.estimateSize(ExprValueUtils.tupleValue(Map.of("a", "b"))));
+  }
+}
@@ -32,6 +32,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.monitor.MemoryBudget;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -213,6 +214,30 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void account_rows_in_window_frame_to_memory_budget() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    WindowDefinition definition =
+        new WindowDefinition(List.of(ref("action", STRING)), List.of());
+    WindowOperator windowOperator =
+        new WindowOperator(
+            new TestScan(),
+            DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER)))),
+            definition,
+            memoryBudget);
+
+    windowOperator.open();
+    assertTrue(windowOperator.hasNext());
+    windowOperator.next();
+    assertTrue(memoryBudget.getReservedBytes() > 0);
+    while (windowOperator.hasNext()) {
+      windowOperator.next();
+    }
+    assertEquals(0, memoryBudget.getReservedBytes());
+    windowOperator.close();
+    assertTrue(memoryBudget.getPeakReservedBytes() > 0);
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+
+class RowBatchTest {
+
+  private final List<ExprValue> rows =
+      List.of(
+          tupleValue(ImmutableMap.of("id", 1, "price", 1.5, "name", "a")),
+          tupleValue(
+              ImmutableMap.of("id", 2, "price", 2.5, "address", ImmutableMap.of("city", "x"))),
+          tupleValue(ImmutableMap.of("id", 3, "price", 3.5, "name", "c")));
+
+  @Test
+  void store_rows_column_by_column() {
+    RowBatch batch = RowBatch.of(rows);
+
+    assertEquals(List.of("id", "price", "name", "address"), batch.getNames());
+    assertInstanceOf(ColumnVector.LongVector.class, batch.column("id"));
+    assertInstanceOf(ColumnVector.DoubleVector.class, batch.column("price"));
+    assertInstanceOf(ColumnVector.ValueVector.class, batch.column("name"));
+    assertTrue(batch.column("name").isAbsent(1));
+    assertNull(batch.column("unknown"));
+    assertEquals(rows, batch.rows());
+  }
+
+  @Test
+  void select_rows() {
+    RowBatch batch = RowBatch.of(rows).select(new int[] {0, 2}, 2);
+
+    assertEquals(2, batch.getSelectedSize());
+    assertEquals(3, batch.getSize());
+    assertEquals(List.of(rows.get(0), rows.get(2)), batch.rows());
+    assertTrue(RowBatch.of(List.of()).isEmpty());
+  }
+
+  @Test
+  void resolve_field_by_cursor() {
+    RowBatch.Cursor cursor = RowBatch.of(rows).cursor().moveTo(1);
+
+    assertEquals(ExprValueUtils.integerValue(2), cursor.resolve(DSL.ref("id", INTEGER)));
+    assertEquals(ExprMissingValue.of(), cursor.resolve(DSL.ref("name", STRING)));
+    assertEquals(ExprValueUtils.stringValue("x"), cursor.resolve(DSL.ref("address.city", STRING)));
+  }
+
+  @Test
+  void evaluate_expression_on_selected_rows() {
+    RowBatch batch = RowBatch.of(rows).select(new int[] {0, 2}, 2);
+
+    assertSame(batch.column("name"), batch.evaluate(DSL.ref("name", STRING)));
+    ColumnVector result = batch.evaluate(DSL.multiply(DSL.ref("price", DOUBLE), DSL.literal(2.0)));
+    assertEquals(ExprValueUtils.doubleValue(3.0), result.get(0));
+    assertTrue(result.isAbsent(1));
+    assertEquals(ExprValueUtils.doubleValue(7.0), result.get(2));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+class HashAggregationCollectorTest {
+
+  private final List<NamedAggregator> count =
+      List.of(DSL.named("count", DSL.count(DSL.literal(1))));
+
+  @Test
+  void group_by_long_key_with_null_and_missing() {
+    Collector collector =
+        Collector.Builder.build(List.of(DSL.named("id", DSL.ref("id", LONG))), count);
+    collect(collector, row("id", 3L), row("id", 1L), row("id", null), row("other", 1));
+    collect(collector, row("id", 3L), row("id", null));
+
+    List<ExprValue> results = collector.results();
+    assertEquals(4, results.size());
+    assertEquals(ExprMissingValue.of(), results.get(0).tupleValue().get("id"));
+    assertEquals(ExprNullValue.of(), results.get(1).tupleValue().get("id"));
+    assertEquals(2, results.get(1).tupleValue().get("count").integerValue());
+    assertThat(
+        results.subList(2, 4),
+        contains(
+            tupleValue(ImmutableMap.of("id", 1L, "count", 1)),
+            tupleValue(ImmutableMap.of("id", 3L, "count", 2))));
+  }
+
+  @Test
+  void group_by_double_key() {
+    Collector collector =
+        Collector.Builder.build(List.of(DSL.named("price", DSL.ref("price", DOUBLE))), count);
+    collect(collector, row("price", 2.5), row("price", -1.0), row("price", 2.5));
+
+    assertThat(
+        collector.results(),
+        contains(
+            tupleValue(ImmutableMap.of("price", -1.0, "count", 1)),
+            tupleValue(ImmutableMap.of("price", 2.5, "count", 2))));
+  }
+
+  @Test
+  void group_by_multiple_keys_sorted_by_keys_in_order() {
+    List<NamedExpression> buckets =
+        List.of(
+            DSL.named("host", DSL.ref("host", STRING)),
+            DSL.named("port", DSL.ref("port", INTEGER)));
+    Collector collector =
+        Collector.Builder.build(
+            buckets, List.of(DSL.named("sum", DSL.sum(DSL.ref("bytes", INTEGER)))));
+    collect(
+        collector,
+        tupleValue(ImmutableMap.of("host", "h2", "port", 80, "bytes", 1)),
+        tupleValue(ImmutableMap.of("host", "h1", "port", 443, "bytes", 2)),
+        tupleValue(ImmutableMap.of("host", "h1", "port", 80, "bytes", 3)),
+        tupleValue(ImmutableMap.of("host", "h1", "port", 443, "bytes", 4)));
+
+    assertThat(
+        collector.results(),
+        contains(
+            tupleValue(ImmutableMap.of("host", "h1", "port", 80, "sum", 3)),
+            tupleValue(ImmutableMap.of("host", "h1", "port", 443, "sum", 6)),
+            tupleValue(ImmutableMap.of("host", "h2", "port", 80, "sum", 1))));
+  }
+
+  @Test
+  void group_by_high_cardinality_key() {
+    Collector collector =
+        Collector.Builder.build(List.of(DSL.named("id", DSL.ref("id", INTEGER))), count);
+    for (int i = 9999; i >= 0; i--) {
+      collect(collector, row("id", i), row("id", i));
+    }
+
+    List<ExprValue> results = collector.results();
+    assertEquals(10000, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(tupleValue(ImmutableMap.of("id", i, "count", 2)), results.get(i));
+    }
+  }
+
+  private static ExprValue row(String name, Object value) {
+    Map<String, Object> map = new HashMap<>();
+    map.put(name, value);
+    return tupleValue(map);
+  }
+
+  private static void collect(Collector collector, ExprValue... rows) {
+    for (ExprValue row : rows) {
+      collector.collect(row.bindingTuples());
+    }
+  }
+}
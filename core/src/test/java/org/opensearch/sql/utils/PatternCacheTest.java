@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class PatternCacheTest {
+
+  @Test
+  void compile_pattern_once() {
+    AtomicInteger compiled = new AtomicInteger();
+    PatternCache<Pattern> cache =
+        new PatternCache<>(
+            pattern -> {
+              compiled.incrementAndGet();
+              return Pattern.compile(pattern);
+            });
+    long hitCount = PatternCache.hitCount();
+    long missCount = PatternCache.missCount();
+
+    Pattern pattern = cache.get("a.*");
+    assertSame(pattern, cache.get("a.*"));
+    assertEquals(1, compiled.get());
+    assertEquals(hitCount + 1, PatternCache.hitCount());
+    assertEquals(missCount + 1, PatternCache.missCount());
+  }
+
+  @Test
+  void evict_pattern_beyond_max_size() {
+    PatternCache<Pattern> cache = new PatternCache<>(Pattern::compile, 1);
+
+    Pattern pattern = cache.get("a");
+    cache.get("b");
+    assertNotSame(pattern, cache.get("a"));
+  }
+
+  @Test
+  void propagate_compile_error() {
+    PatternCache<Pattern> cache = new PatternCache<>(Pattern::compile);
+
+    assertThrows(PatternSyntaxException.class, () -> cache.get("("));
+    assertThrows(PatternSyntaxException.class, () -> cache.get("("));
+  }
+}
@@ -154,6 +154,7 @@ public class AsyncRestExecutor implements RestExecutor {
       executor.execute(client, params, action, channel);
     } finally {
       Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+      Metrics.getInstance().getHistogramMetric(MetricName.REQ_LATENCY).record(elapsed.toMillis());
       int slowLogThreshold = LocalClusterState.state().getSettingValue(Settings.Key.SQL_SLOWLOG);
       if (elapsed.getSeconds() >= slowLogThreshold) {
         LOG.warn(
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.opensearch.sql.monitor.Histogram;
+
+/**
+ * Histogram metric of a distribution, such as latency or size, which is reported as the count of
+ * values recorded and the values at p50, p90 and p99. Values are recorded without lock.
+ */
+public class HistogramMetric extends Metric<Map<String, Long>> {
+
+  private final Histogram histogram = new Histogram();
+
+  public HistogramMetric(String name) {
+    super(name);
+  }
+
+  public void record(long value) {
+    histogram.record(value);
+  }
+
+  @Override
+  public Map<String, Long> getValue() {
+    Map<String, Long> value = new LinkedHashMap<>();
+    value.put("count", histogram.count());
+    value.put("p50", histogram.percentile(50));
+    value.put("p90", histogram.percentile(90));
+    value.put("p99", histogram.percentile(99));
+    return value;
+  }
+}
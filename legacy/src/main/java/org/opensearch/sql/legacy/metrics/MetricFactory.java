@@ -41,6 +41,8 @@ public class MetricFactory {
       case EMR_STREAMING_QUERY_JOBS_CREATION_COUNT:
       case EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT:
         return new NumericMetric<>(name.getName(), new RollingCounter());
+      case REQ_LATENCY:
+        return new HistogramMetric(name.getName());
       default:
         return new NumericMetric<>(name.getName(), new BasicCounter());
     }
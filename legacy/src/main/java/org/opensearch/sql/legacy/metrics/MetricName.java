@@ -48,7 +48,37 @@ public enum MetricName {
   EMR_STREAMING_QUERY_JOBS_CREATION_COUNT("emr_streaming_jobs_creation_count"),
   EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT("emr_interactive_jobs_creation_count"),
   EMR_BATCH_QUERY_JOBS_CREATION_COUNT("emr_batch_jobs_creation_count"),
-  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count");
+  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count"),
+  INDEX_METADATA_CACHE_HIT_COUNT("index_metadata_cache_hit_count"),
+  INDEX_METADATA_CACHE_MISS_COUNT("index_metadata_cache_miss_count"),
+  INDEX_METADATA_CACHE_EVICTION_COUNT("index_metadata_cache_eviction_count"),
+  SPILL_FILE_COUNT("spill_file_count"),
+  SPILL_BYTES_WRITTEN("spill_bytes_written"),
+  PATTERN_CACHE_HIT_COUNT("pattern_cache_hit_count"),
+  PATTERN_CACHE_MISS_COUNT("pattern_cache_miss_count"),
+  SCAN_PREFETCH_HIT_COUNT("scan_prefetch_hit_count"),
+  SCAN_PREFETCH_STALL_COUNT("scan_prefetch_stall_count"),
+  STATEMENT_CACHE_HIT_COUNT("statement_cache_hit_count"),
+  STATEMENT_CACHE_MISS_COUNT("statement_cache_miss_count"),
+  STATEMENT_CACHE_EVICTION_COUNT("statement_cache_eviction_count"),
+  RESULT_CACHE_HIT_COUNT("result_cache_hit_count"),
+  RESULT_CACHE_MISS_COUNT("result_cache_miss_count"),
+  RESULT_CACHE_EVICTION_COUNT("result_cache_eviction_count"),
+  RESULT_CACHE_SIZE_IN_BYTES("result_cache_size_in_bytes"),
+  EXPRESSION_CACHE_HIT_COUNT("expression_cache_hit_count"),
+  EXPRESSION_CACHE_MISS_COUNT("expression_cache_miss_count"),
+  ADMISSION_REJECTED_COUNT("admission_rejected_count"),
+  INTERACTIVE_QUEUE_WAIT_COUNT("interactive_queue_wait_count"),
+  INTERACTIVE_QUEUE_WAIT_MILLIS("interactive_queue_wait_millis"),
+  BATCH_QUEUE_WAIT_COUNT("batch_queue_wait_count"),
+  BATCH_QUEUE_WAIT_MILLIS("batch_queue_wait_millis"),
+  QUERY_PARSE_LATENCY("query_parse_latency"),
+  QUERY_ANALYZE_LATENCY("query_analyze_latency"),
+  QUERY_OPTIMIZE_LATENCY("query_optimize_latency"),
+  QUERY_OPEN_LATENCY("query_open_latency"),
+  QUERY_FETCH_LATENCY("query_fetch_latency"),
+  QUERY_FORMAT_LATENCY("query_format_latency"),
+  REQ_LATENCY("request_latency");
 
   private final String name;
 
@@ -6,7 +6,7 @@
 package org.opensearch.sql.legacy.metrics;
 
 import java.time.Clock;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
@@ -14,14 +14,17 @@ import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 /**
  * Rolling counter. The count is refreshed every interval. In every interval the count is
  * cumulative.
+ *
+ * <p>Counts of the intervals within the window are kept in a ring of slots indexed by interval, so
+ * that an increment only adds to the {@link LongAdder} of current interval without locking or
+ * allocating. The slot of an interval out of the window is taken over by the first increment in a
+ * new interval mapped to the same slot.
  */
 public class RollingCounter implements Counter<Long> {
 
-  private final long capacity;
-  private final long window;
   private final long interval;
   private final Clock clock;
-  private final ConcurrentSkipListMap<Long, Long> time2CountWin;
+  private final AtomicReferenceArray<Bucket> buckets;
   private final LongAdder count;
 
   public RollingCounter() {
@@ -31,12 +34,11 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public RollingCounter(long window, long interval, Clock clock) {
-    this.window = window;
     this.interval = interval;
     this.clock = clock;
-    time2CountWin = new ConcurrentSkipListMap<>();
+    // Current interval and all the previous ones in the window
+    buckets = new AtomicReferenceArray<>((int) (window / interval) + 1);
     count = new LongAdder();
-    capacity = window / interval * 2;
   }
 
   public RollingCounter(long window, long interval) {
@@ -50,8 +52,21 @@ public class RollingCounter implements Counter<Long> {
 
   @Override
   public void add(long n) {
-    trim();
-    time2CountWin.compute(getKey(clock.millis()), (k, v) -> (v == null) ? n : v + n);
+    long key = getKey(clock.millis());
+    int slot = slot(key);
+    Bucket bucket = buckets.get(slot);
+    while (bucket == null || bucket.key < key) {
+      Bucket newBucket = new Bucket(key);
+      if (buckets.compareAndSet(slot, bucket, newBucket)) {
+        bucket = newBucket;
+      } else {
+        bucket = buckets.get(slot);
+      }
+    }
+    // Count of an interval which has been taken over by a later one is dropped
+    if (bucket.key == key) {
+      bucket.count.add(n);
+    }
   }
 
   @Override
@@ -60,24 +75,18 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public long getValue(long key) {
-    Long res = time2CountWin.get(key);
-    if (res == null) {
+    Bucket bucket = buckets.get(slot(key));
+    if (bucket == null || bucket.key != key) {
       return 0;
     }
 
-    return res;
+    return bucket.count.sum();
   }
 
   public long getSum() {
     return count.longValue();
   }
 
-  private void trim() {
-    if (time2CountWin.size() > capacity) {
-      time2CountWin.headMap(getKey(clock.millis() - window * 1000)).clear();
-    }
-  }
-
   private long getKey(long millis) {
     return millis / 1000 / this.interval;
   }
@@ -86,11 +95,36 @@ public class RollingCounter implements Counter<Long> {
     return getKey(millis) - 1;
   }
 
+  private int slot(long key) {
+    return (int) Math.floorMod(key, (long) buckets.length());
+  }
+
+  /** Number of intervals within the window which have been counted. */
   public int size() {
-    return time2CountWin.size();
+    long key = getKey(clock.millis());
+    int size = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket != null && bucket.key > key - buckets.length()) {
+        size++;
+      }
+    }
+    return size;
   }
 
   public void reset() {
-    time2CountWin.clear();
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, null);
+    }
+  }
+
+  /** Count of an interval. */
+  private static class Bucket {
+    private final long key;
+    private final LongAdder count = new LongAdder();
+
+    Bucket(long key) {
+      this.key = key;
+    }
   }
 }
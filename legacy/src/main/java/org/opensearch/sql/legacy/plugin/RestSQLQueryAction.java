@@ -9,12 +9,18 @@ import static org.opensearch.core.rest.RestStatus.OK;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -22,11 +28,18 @@ import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.monitor.QueryPhase;
+import org.opensearch.sql.monitor.SlowQueryLog;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.CommandResponseFormatter;
@@ -36,6 +49,8 @@ import org.opensearch.sql.protocol.response.format.JdbcResponseFormatter;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
+import org.opensearch.sql.protocol.response.format.RowStreamWriter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
@@ -106,13 +121,15 @@ public class RestSQLQueryAction extends BaseRestHandler {
     }
     // If close request, sqlService.closeCursor
     else {
-      return channel ->
-          sqlService.execute(
-              request,
-              fallBackListener(
-                  channel,
-                  createQueryResponseListener(channel, request, executionErrorHandler),
-                  fallbackHandler));
+      return channel -> {
+        ResponseListener<QueryResponse> queryListener =
+            createQueryResponseListener(channel, request, executionErrorHandler);
+        sqlService.execute(
+            request,
+            (queryListener instanceof StreamingResponseListener streamingListener)
+                ? streamingFallBackListener(channel, streamingListener, fallbackHandler)
+                : fallBackListener(channel, queryListener, fallbackHandler));
+      };
     }
   }
 
@@ -138,6 +155,35 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
+  private StreamingResponseListener streamingFallBackListener(
+      RestChannel channel,
+      StreamingResponseListener next,
+      BiConsumer<RestChannel, Exception> fallBackHandler) {
+    ResponseListener<QueryResponse> fallBack = fallBackListener(channel, next, fallBackHandler);
+    return new StreamingResponseListener() {
+      @Override
+      public void onSchema(Schema schema) {
+        LOG.info("[{}] Request is handled by new SQL query engine", QueryContext.getRequestId());
+        next.onSchema(schema);
+      }
+
+      @Override
+      public void onRows(List<ExprValue> rows) {
+        next.onRows(rows);
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        next.onComplete(cursor);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fallBack.onFailure(e);
+      }
+    };
+  }
+
   private ResponseListener<ExplainResponse> createExplainResponseListener(
       RestChannel channel, BiConsumer<RestChannel, Exception> errorHandler) {
     return new ResponseListener<>() {
@@ -176,15 +222,21 @@ public class RestSQLQueryAction extends BaseRestHandler {
     } else {
       formatter = new JdbcResponseFormatter(PRETTY);
     }
+    if (formatter instanceof StreamingResponseFormatter streamingFormatter
+        && streamingFormatter.isStreamable()) {
+      return createStreamingResponseListener(channel, streamingFormatter, errorHandler);
+    }
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
+        String content =
+            QueryPhase.FORMAT.time(
+                () ->
+                    formatter.format(
+                        new QueryResult(
+                            response.getSchema(), response.getResults(), response.getCursor())));
+        SlowQueryLog.logIfSlow(injector.getInstance(Settings.class));
+        sendResponse(channel, OK, content, formatter.contentType());
       }
 
       @Override
@@ -194,6 +246,63 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
+  /**
+   * Create listener which writes rows to response content page by page as they are produced,
+   * instead of building the whole result set and response string in memory.
+   */
+  private StreamingResponseListener createStreamingResponseListener(
+      RestChannel channel,
+      StreamingResponseFormatter formatter,
+      BiConsumer<RestChannel, Exception> errorHandler) {
+    BytesStreamOutput content = new BytesStreamOutput();
+    RowStreamWriter writer =
+        formatter.streamWriter(new OutputStreamWriter(content, StandardCharsets.UTF_8));
+    return new StreamingResponseListener() {
+      /** Time spent on writing pages, which is recorded as format time once all are written. */
+      private long formatNanos;
+
+      @Override
+      public void onSchema(Schema schema) {
+        format(() -> writer.writeHeader(schema));
+      }
+
+      @Override
+      public void onRows(List<ExprValue> rows) {
+        format(() -> writer.writeRows(rows));
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        format(() -> writer.writeFooter(cursor));
+        QueryPhase.FORMAT.record(formatNanos);
+        SlowQueryLog.logIfSlow(injector.getInstance(Settings.class));
+        channel.sendResponse(new BytesRestResponse(OK, formatter.contentType(), content.bytes()));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        errorHandler.accept(channel, e);
+      }
+
+      private void format(CheckedRunnable<IOException> action) {
+        long start = System.nanoTime();
+        try {
+          write(action);
+        } finally {
+          formatNanos += System.nanoTime() - start;
+        }
+      }
+    };
+  }
+
+  private static void write(CheckedRunnable<IOException> action) {
+    try {
+      action.run();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private void sendResponse(
       RestChannel channel, RestStatus status, String content, String contentType) {
     channel.sendResponse(new BytesRestResponse(status, contentType, content));
@@ -63,6 +63,7 @@ import org.opensearch.sql.legacy.request.SqlRequestParam;
 import org.opensearch.sql.legacy.rewriter.matchtoterm.VerificationException;
 import org.opensearch.sql.legacy.utils.JsonPrettyFormatter;
 import org.opensearch.sql.legacy.utils.QueryDataAnonymizer;
+import org.opensearch.sql.monitor.QueryPhase;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
 public class RestSqlAction extends BaseRestHandler {
@@ -122,6 +123,7 @@ public class RestSqlAction extends BaseRestHandler {
     Metrics.getInstance().getNumericalMetric(MetricName.REQ_COUNT_TOTAL).increment();
 
     QueryContext.addRequestId();
+    QueryPhase.start();
 
     try {
       if (!isSQLFeatureEnabled()) {
@@ -206,7 +208,16 @@ public class RestSqlAction extends BaseRestHandler {
     Set<String> responseParams = new HashSet<>(super.responseParams());
     responseParams.addAll(
         Arrays.asList(
-            "sql", "flat", "separator", "_score", "_type", "_id", "newLine", "format", "sanitize"));
+            "sql",
+            "flat",
+            "separator",
+            "_score",
+            "_type",
+            "_id",
+            "newLine",
+            "format",
+            "sanitize",
+            "analyze"));
     return responseParams;
   }
 
@@ -7,6 +7,8 @@ package org.opensearch.sql.legacy.executor;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -28,6 +30,9 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.query.QueryAction;
 import org.opensearch.sql.legacy.request.SqlRequest;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
@@ -60,6 +65,7 @@ public class AsyncRestExecutorTest {
     OpenSearchSettings settings = spy(new OpenSearchSettings(clusterSettings));
     doReturn(emptyList()).when(settings).getSettings();
     LocalClusterState.state().setPluginSettings(settings);
+    Metrics.getInstance().registerMetric(new HistogramMetric(MetricName.REQ_LATENCY.getName()));
   }
 
   @Test
@@ -81,6 +87,14 @@ public class AsyncRestExecutorTest {
     verifyRunInCurrentThread();
   }
 
+  @Test
+  public void recordLatencyOfQuery() throws Exception {
+    execute(anyAction -> NON_BLOCKING);
+    assertThat(
+        Metrics.getInstance().getHistogramMetric(MetricName.REQ_LATENCY).getValue().get("count"),
+        equalTo(1L));
+  }
+
   private void execute() throws Exception {
     AsyncRestExecutor asyncExecutor = new AsyncRestExecutor(executor);
     asyncExecutor.execute(client, params, action, channel);
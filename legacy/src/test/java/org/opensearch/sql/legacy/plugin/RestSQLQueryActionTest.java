@@ -5,19 +5,31 @@
 
 package org.opensearch.sql.legacy.plugin;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.EXPLAIN_API_ENDPOINT;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.QUERY_API_ENDPOINT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -28,9 +40,21 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.JdbcResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
@@ -49,6 +73,8 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
 
   @Mock private RestChannel restChannel;
 
+  @Mock private Settings settings;
+
   private Injector injector;
 
   @Before
@@ -59,6 +85,7 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
         b -> {
           b.bind(SQLService.class)
               .toInstance(new SQLService(new SQLSyntaxParser(), queryManager, factory));
+          b.bind(Settings.class).toInstance(settings);
         });
     injector = modules.createInjector();
     Mockito.lenient()
@@ -165,6 +192,47 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
     assertTrue(executionErrorHandler.get());
   }
 
+  @Test
+  public void queryResponseIsStreamedToChannel() throws Exception {
+    SQLQueryRequest request =
+        new SQLQueryRequest(
+            new JSONObject("{\"query\": \"SELECT -123\"}"),
+            "SELECT -123",
+            QUERY_API_ENDPOINT,
+            "jdbc");
+    AtomicReference<ResponseListener<QueryResponse>> queryListener = new AtomicReference<>();
+    when(factory.create(any(Statement.class), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Optional<ResponseListener<QueryResponse>> listener = invocation.getArgument(1);
+              queryListener.set(listener.get());
+              return mock(AbstractPlan.class);
+            });
+
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector);
+    queryAction
+        .prepareRequest(
+            request,
+            (channel, exception) -> {
+              fail();
+            },
+            (channel, exception) -> {
+              fail();
+            })
+        .accept(restChannel);
+
+    assertTrue(queryListener.get() instanceof StreamingResponseListener);
+    Schema schema = new Schema(List.of(new Schema.Column("-123", null, INTEGER)));
+    List<ExprValue> rows = List.of(tupleValue(Map.of("-123", -123)));
+    queryListener.get().onResponse(new QueryResponse(schema, rows, Cursor.None));
+
+    ArgumentCaptor<RestResponse> response = ArgumentCaptor.forClass(RestResponse.class);
+    verify(restChannel).sendResponse(response.capture());
+    assertEquals(
+        new JdbcResponseFormatter(PRETTY).format(new QueryResult(schema, rows)),
+        response.getValue().content().utf8ToString());
+  }
+
   @Override
   public String getName() {
     // do nothing, RestChannelConsumer is protected which required to extend BaseRestHandler
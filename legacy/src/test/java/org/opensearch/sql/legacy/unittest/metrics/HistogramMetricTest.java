@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.util.Map;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
+import org.opensearch.sql.legacy.metrics.MetricFactory;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
+
+public class HistogramMetricTest {
+
+  @Test
+  public void getValue() {
+    HistogramMetric histogramMetric = new HistogramMetric("test");
+    for (int i = 0; i < 4; ++i) {
+      histogramMetric.record(i);
+    }
+
+    assertThat(
+        histogramMetric.getValue(), equalTo(Map.of("count", 4L, "p50", 2L, "p90", 4L, "p99", 4L)));
+  }
+
+  @Test
+  public void createdByFactory() {
+    assertThat(
+        MetricFactory.createMetric(MetricName.REQ_LATENCY), instanceOf(HistogramMetric.class));
+  }
+
+  @Test
+  public void collectToJSON() {
+    Metrics.getInstance().clear();
+    Metrics.getInstance().registerMetric(new HistogramMetric("test"));
+    JSONObject jsonObject = new JSONObject(Metrics.getInstance().collectToJSON());
+
+    assertThat(jsonObject.getJSONObject("test").getLong("count"), equalTo(0L));
+  }
+}
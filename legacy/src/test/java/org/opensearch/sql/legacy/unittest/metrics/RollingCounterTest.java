@@ -67,10 +67,45 @@ public class RollingCounterTest {
 
     for (int i = 1; i < 6; ++i) {
       counter.increment();
-      assertThat(counter.size(), equalTo(i));
+      // current interval and 2 previous ones in the window at most
+      assertThat(counter.size(), equalTo(Math.min(i, 3)));
       when(clock.millis()).thenReturn(i * 1000L); // i seconds passed
     }
     counter.increment();
     assertThat(counter.size(), lessThanOrEqualTo(3));
   }
+
+  @Test
+  public void concurrentIncrement() throws InterruptedException {
+    RollingCounter counter = new RollingCounter(3, 1, clock);
+
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; ++i) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; ++j) {
+                  counter.increment();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    when(clock.millis()).thenReturn(1000L); // 1 second passed
+    assertThat(counter.getValue(), equalTo(8000L));
+  }
+
+  @Test
+  public void reset() {
+    RollingCounter counter = new RollingCounter(3, 1, clock);
+    counter.add(5);
+    counter.reset();
+
+    when(clock.millis()).thenReturn(1000L); // 1 second passed
+    assertThat(counter.getValue(), equalTo(0L));
+    assertThat(counter.size(), equalTo(0));
+  }
 }
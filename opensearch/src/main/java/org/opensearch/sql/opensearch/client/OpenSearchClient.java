@@ -7,9 +7,11 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -54,6 +56,24 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch number of primary shards according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of primary shards
+   */
+  Map<String, Integer> getIndexShardCounts(String... indexExpression);
+
+  /**
+   * Fetch number of refreshes of indices according to index expression given. The number
+   * increases whenever any shard copy of the index is refreshed, which may make changes visible
+   * to search.
+   *
+   * @param indexExpression index expression
+   * @return map from index UUID to total number of refreshes of all its shard copies
+   */
+  Map<String, Long> getIndexRefreshCounts(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -62,6 +82,14 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Perform search query in the search request asynchronously without blocking the calling thread.
+   *
+   * @param request search request
+   * @param listener listener of search response
+   */
+  void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener);
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -90,10 +118,32 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Get executor to fetch pages of index scan asynchronously, such as slices of a sliced scan.
+   *
+   * @return executor
+   */
+  Executor scanExecutor();
+
+  /**
+   * Get executor to resume query execution once responses awaited asynchronously have arrived.
+   *
+   * @return executor
+   */
+  Executor queryExecutor();
+
+  /**
+   * Get executor to run queries of batch lane, which is separate from the executor of interactive
+   * queries so that large scans don't hold up the others.
+   *
+   * @return executor
+   */
+  Executor batchExecutor();
+
   NodeClient getNodeClient();
 
   /**
-   * Create PIT for given indices
+   * Create PIT for given indices. It blocks the calling thread until the PIT is created.
    *
    * @param createPitRequest Create Point In Time request
    * @return PitId
@@ -101,7 +151,7 @@ public interface OpenSearchClient {
   String createPit(CreatePitRequest createPitRequest);
 
   /**
-   * Delete PIT
+   * Delete PIT. It blocks the calling thread until the PIT is deleted.
    *
    * @param deletePitRequest Delete Point In Time request
    */
@@ -12,21 +12,28 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.stats.IndexStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
@@ -40,6 +47,15 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   public static final Function<String, Predicate<String>> ALL_FIELDS =
       (anyIndex -> (anyField -> true));
 
+  /** Name of thread pool to fetch pages of index scan asynchronously. */
+  public static final String SQL_SCAN_WORKER_THREAD_POOL_NAME = "sql-scan-worker";
+
+  /** Name of thread pool to execute queries. */
+  public static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+
+  /** Name of thread pool to execute queries of batch lane. */
+  public static final String SQL_BATCH_WORKER_THREAD_POOL_NAME = "sql-batch-worker";
+
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
@@ -127,6 +143,42 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    try {
+      GetSettingsResponse settingsResponse =
+          client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
+      ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
+      for (Map.Entry<String, Settings> indexToSetting :
+          settingsResponse.getIndexToSettings().entrySet()) {
+        result.put(
+            indexToSetting.getKey(),
+            indexToSetting.getValue().getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1));
+      }
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read setting for index pattern [" + indexExpression + "]", e);
+    }
+  }
+
+  @Override
+  public Map<String, Long> getIndexRefreshCounts(String... indexExpression) {
+    // Read as system because the user may not be allowed to monitor stats of indices searched
+    try (StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
+      IndicesStatsResponse statsResponse =
+          client.admin().indices().prepareStats(indexExpression).clear().setRefresh(true).get();
+      ImmutableMap.Builder<String, Long> result = ImmutableMap.builder();
+      for (IndexStats indexStats : statsResponse.getIndices().values()) {
+        result.put(indexStats.getUuid(), indexStats.getTotal().getRefresh().getTotal());
+      }
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read refresh stats for index pattern [" + indexExpression + "]", e);
+    }
+  }
+
   /** TODO: Scroll doesn't work for aggregation. Support aggregation later. */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
@@ -134,6 +186,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
   }
 
+  @Override
+  public void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    request.searchAsync(client::search, client::searchScroll, listener);
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -193,6 +250,46 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     task.run();
   }
 
+  /** Pages are fetched by the sql-scan-worker thread pool with the current log context. */
+  @Override
+  public Executor scanExecutor() {
+    Executor executor = client.threadPool().executor(SQL_SCAN_WORKER_THREAD_POOL_NAME);
+    return task -> {
+      final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+      executor.execute(
+          () -> {
+            ThreadContext.putAll(currentContext);
+            task.run();
+          });
+    };
+  }
+
+  /**
+   * Query execution resumes in the sql-worker thread pool with the log context of the thread
+   * getting the executor, since tasks are usually submitted by the thread completing a response.
+   */
+  @Override
+  public Executor queryExecutor() {
+    return withCurrentContext(SQL_WORKER_THREAD_POOL_NAME);
+  }
+
+  /** Queries of batch lane run in the sql-batch-worker thread pool with the same log context. */
+  @Override
+  public Executor batchExecutor() {
+    return withCurrentContext(SQL_BATCH_WORKER_THREAD_POOL_NAME);
+  }
+
+  private Executor withCurrentContext(String threadPoolName) {
+    Executor executor = client.threadPool().executor(threadPoolName);
+    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+    return task ->
+        executor.execute(
+            () -> {
+              ThreadContext.putAll(currentContext);
+              task.run();
+            });
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
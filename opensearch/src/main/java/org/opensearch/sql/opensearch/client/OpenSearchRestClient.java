@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
@@ -110,6 +112,27 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexShardCounts(String... indexExpression) {
+    GetSettingsRequest request = new GetSettingsRequest().indices(indexExpression);
+    try {
+      GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
+      Map<String, Integer> result = new HashMap<>();
+      response
+          .getIndexToSettings()
+          .forEach((key, value) -> result.put(key, value.getAsInt("index.number_of_shards", 1)));
+      return result;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get shard count for " + indexExpression, e);
+    }
+  }
+
+  /** Refresh stats is not used in standalone mode which has no query result cache. */
+  @Override
+  public Map<String, Long> getIndexRefreshCounts(String... indexExpression) {
+    throw new UnsupportedOperationException("Unsupported method.");
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -131,6 +154,14 @@ public class OpenSearchRestClient implements OpenSearchClient {
         });
   }
 
+  @Override
+  public void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    request.searchAsync(
+        (req, l) -> client.searchAsync(req, RequestOptions.DEFAULT, l),
+        (req, l) -> client.scrollAsync(req, RequestOptions.DEFAULT, l),
+        listener);
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -203,6 +234,24 @@ public class OpenSearchRestClient implements OpenSearchClient {
     task.run();
   }
 
+  /** Pages are fetched in the calling thread in standalone mode. */
+  @Override
+  public Executor scanExecutor() {
+    return Runnable::run;
+  }
+
+  /** Query execution resumes in the thread completing the response in standalone mode. */
+  @Override
+  public Executor queryExecutor() {
+    return Runnable::run;
+  }
+
+  /** Queries of batch lane run in the calling thread in standalone mode. */
+  @Override
+  public Executor batchExecutor() {
+    return Runnable::run;
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
@@ -64,6 +64,9 @@ public class OpenSearchDataType implements ExprType, Serializable {
   // resolved ExprCoreType
   @Getter protected ExprCoreType exprCoreType;
 
+  // For keyword type, strings longer than it are not indexed, null if no such limit
+  @EqualsAndHashCode.Exclude @Getter protected Integer ignoreAbove;
+
   /**
    * Get a simplified type {@link ExprCoreType} if possible. To avoid returning `UNKNOWN` for
    * `OpenSearch*Type`s, e.g. for IP, returns itself. If the `exprCoreType` is {@link
@@ -84,7 +87,7 @@ public class OpenSearchDataType implements ExprType, Serializable {
   /**
    * Simple instances of OpenSearchDataType are created once during entire SQL engine lifetime and
    * cached there. This reduces memory usage and increases type comparison. Note: Types with
-   * non-empty fields and properties are not cached.
+   * non-empty fields and properties, and keyword types with ignore_above, are not cached.
    */
   private static final Map<String, OpenSearchDataType> instances = new HashMap<>();
 
@@ -173,6 +176,14 @@ public class OpenSearchDataType implements ExprType, Serializable {
         Map<String, OpenSearchDataType> fields =
             parseMapping((Map<String, Object>) innerMap.getOrDefault("fields", Map.of()));
         return (!fields.isEmpty()) ? OpenSearchTextType.of(fields) : OpenSearchTextType.of();
+      case Keyword:
+        Number ignoreAbove = (Number) innerMap.get("ignore_above");
+        if (ignoreAbove == null) {
+          return res;
+        }
+        OpenSearchDataType keywordDataType = res.cloneEmpty();
+        keywordDataType.ignoreAbove = ignoreAbove.intValue();
+        return keywordDataType;
       case GeoPoint:
         return OpenSearchGeoPointType.of();
       case Binary:
@@ -262,9 +273,12 @@ public class OpenSearchDataType implements ExprType, Serializable {
    * @return A cloned object.
    */
   protected OpenSearchDataType cloneEmpty() {
-    return this.mappingType == null
-        ? new OpenSearchDataType(this.exprCoreType)
-        : new OpenSearchDataType(this.mappingType);
+    OpenSearchDataType clone =
+        this.mappingType == null
+            ? new OpenSearchDataType(this.exprCoreType)
+            : new OpenSearchDataType(this.mappingType);
+    clone.ignoreAbove = this.ignoreAbove;
+    return clone;
   }
 
   /**
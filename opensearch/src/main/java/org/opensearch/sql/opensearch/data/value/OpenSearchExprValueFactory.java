@@ -21,10 +21,13 @@ import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -40,10 +43,17 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.regex.Regex;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.common.time.FormatNames;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -94,6 +104,16 @@ public class OpenSearchExprValueFactory {
 
   @Getter @Setter private OpenSearchAggregationResponseParser parser;
 
+  /**
+   * Get type of field in index mapping, or of output produced by aggregation pushed down.
+   *
+   * @param field flattened field name
+   * @return type of the field, or empty if unknown
+   */
+  public Optional<OpenSearchDataType> fieldType(String field) {
+    return Optional.ofNullable(typeMapping.get(field));
+  }
+
   private static final String TOP_PATH = "";
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -174,6 +194,45 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from search hit source with a streaming parser. Different from {@link
+   * #construct(String, boolean)}, this neither converts the source to JSON string nor builds the
+   * JSON tree of the whole document. Object fields are parsed token by token and only leaf values
+   * are read as JSON nodes. Fields not in the projection are skipped without being parsed.
+   *
+   * @param source search hit source
+   * @param includes fields included in projection, all fields are parsed if empty
+   * @param supportArrays parsing the whole array if array is type nested
+   * @return ExprValue
+   */
+  public ExprValue constructFromSource(
+      BytesReference source, List<String> includes, boolean supportArrays) {
+    if (source == null || source.length() == 0) {
+      return ExprTupleValue.fromExprValueMap(ImmutableMap.of());
+    }
+
+    MediaType mediaType = MediaTypeRegistry.xContentType(source);
+    if (mediaType != null && mediaType != XContentType.JSON) {
+      try {
+        return construct(XContentHelper.convertToJson(source, false, mediaType), supportArrays);
+      } catch (IOException e) {
+        throw new IllegalStateException("failed to convert source to json", e);
+      }
+    }
+
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException(String.format("invalid json: %s.", source.utf8ToString()));
+      }
+      return parseStruct(parser, TOP_PATH, includes, fieldTypeTolerance || supportArrays);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type.<br>
@@ -331,6 +390,73 @@ public class OpenSearchExprValueFactory {
     return new ExprTupleValue(result);
   }
 
+  /**
+   * Parse struct from streaming parser positioned at the start of the object. Nested object field
+   * is parsed recursively in streaming way. Other fields are read as JSON node and parsed as
+   * {@link Content} same as {@link #construct(String, boolean)}.
+   *
+   * @param parser Parser positioned at START_OBJECT token.
+   * @param prefix Prefix for Level of object depth to parse.
+   * @param includes Fields included in projection.
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return Value parsed from content.
+   */
+  private ExprValue parseStruct(
+      JsonParser parser, String prefix, List<String> includes, boolean supportArrays)
+      throws IOException {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      String field = makeField(prefix, name);
+      JsonToken token = parser.nextToken();
+      if (!isIncluded(field, includes)) {
+        parser.skipChildren();
+        continue;
+      }
+
+      Optional<ExprType> fieldType = type(field);
+      if (fieldType.isEmpty() || token == JsonToken.VALUE_NULL) {
+        parser.skipChildren();
+        result.put(name, ExprNullValue.of());
+      } else if (token == JsonToken.START_OBJECT && isStructType(fieldType.get())) {
+        result.put(name, parseStruct(parser, field, includes, supportArrays));
+      } else {
+        result.put(
+            name,
+            parse(
+                new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)),
+                field,
+                fieldType,
+                supportArrays));
+      }
+    }
+    return new ExprTupleValue(result);
+  }
+
+  private boolean isStructType(ExprType type) {
+    return type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
+        || type == STRUCT;
+  }
+
+  /**
+   * Check if the field is required by projection, which means it is projected itself, or it is
+   * the parent or child of any projected field.
+   */
+  private boolean isIncluded(String field, List<String> includes) {
+    if (includes == null || includes.isEmpty()) {
+      return true;
+    }
+    for (String include : includes) {
+      if (include.equals(field)
+          || include.startsWith(field + ".")
+          || field.startsWith(include + ".")
+          || Regex.simpleMatch(include, field)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Parse array content. Can also parse nested which isn't necessarily an array.
    *
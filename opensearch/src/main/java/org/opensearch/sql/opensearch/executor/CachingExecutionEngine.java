@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionContext;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+/**
+ * Execution engine which answers queries from {@link QueryResultCache} if the result is cached
+ * already, and caches the result of cacheable queries executed by the delegated engine.
+ */
+@RequiredArgsConstructor
+public class CachingExecutionEngine implements ExecutionEngine {
+
+  private final ExecutionEngine delegate;
+
+  private final QueryResultCache resultCache;
+
+  @Override
+  public void execute(PhysicalPlan plan, ResponseListener<QueryResponse> listener) {
+    execute(plan, ExecutionContext.emptyExecutionContext(), listener);
+  }
+
+  @Override
+  public void execute(
+      PhysicalPlan plan, ExecutionContext context, ResponseListener<QueryResponse> listener) {
+    String key;
+    try {
+      key = context.getSplit().isPresent() ? null : resultCache.key(plan);
+    } catch (Exception e) {
+      listener.onFailure(e);
+      return;
+    }
+    if (key == null) {
+      delegate.execute(plan, context, listener);
+      return;
+    }
+
+    List<ExprValue> rows = resultCache.get(key);
+    if (rows != null) {
+      listener.onResponse(new QueryResponse(plan.schema(), rows, Cursor.None));
+    } else if (listener instanceof StreamingResponseListener streamingListener) {
+      delegate.execute(plan, context, cachingListener(key, streamingListener));
+    } else {
+      delegate.execute(plan, context, cachingListener(key, listener));
+    }
+  }
+
+  @Override
+  public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+    delegate.explain(plan, listener);
+  }
+
+  /** Explain analyze runs the query to collect statistics, so its result is never cached. */
+  @Override
+  public void explainAnalyze(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+    delegate.explainAnalyze(plan, listener);
+  }
+
+  private ResponseListener<QueryResponse> cachingListener(
+      String key, ResponseListener<QueryResponse> listener) {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+        if (Cursor.None.equals(response.getCursor())) {
+          resultCache.put(key, response.getResults());
+        }
+        listener.onResponse(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+
+  /** Collect rows streamed to the listener, which are bounded by aggregation buckets. */
+  private StreamingResponseListener cachingListener(
+      String key, StreamingResponseListener listener) {
+    List<ExprValue> rows = new ArrayList<>();
+    return new StreamingResponseListener() {
+      @Override
+      public void onSchema(Schema schema) {
+        listener.onSchema(schema);
+      }
+
+      @Override
+      public void onRows(List<ExprValue> page) {
+        rows.addAll(page);
+        listener.onRows(page);
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        if (Cursor.None.equals(cursor)) {
+          resultCache.put(key, rows);
+        }
+        listener.onComplete(cursor);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.pagination.CursorStore;
+
+/**
+ * Node level {@link CursorStore} enabled by {@link Settings.Key#SQL_CURSOR_STORE_ENABLED}, which
+ * keeps encoded cursors in memory and hands out a random id instead. A cursor expires after the
+ * cursor keep alive, same as the point in time it searches, and the least recently used cursors
+ * are evicted beyond the maximum number. Since the store is local, the cursor id must be sent back
+ * to the same node which issued it. A cursor id unknown to the store is rejected as bad request.
+ */
+public class OpenSearchCursorStore implements CursorStore {
+
+  public static final String CURSOR_PREFIX = "s:";
+
+  /** Maximum number of cursors kept on the node. */
+  static final int MAXIMUM_SIZE = 10_000;
+
+  /** Number of random bytes of cursor id. */
+  private static final int ID_BYTES = 16;
+
+  private final Settings settings;
+
+  private final LongSupplier nanoClock;
+
+  private final SecureRandom random = new SecureRandom();
+
+  private final Cache<String, Entry> cursors =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+  /** Constructor. */
+  public OpenSearchCursorStore(Settings settings) {
+    this(settings, System::nanoTime);
+  }
+
+  OpenSearchCursorStore(Settings settings, LongSupplier nanoClock) {
+    this.settings = settings;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public Cursor store(Cursor cursor) {
+    Boolean enabled = settings.getSettingValue(Settings.Key.SQL_CURSOR_STORE_ENABLED);
+    if (!enabled || Cursor.None.equals(cursor)) {
+      return cursor;
+    }
+    TimeValue keepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    byte[] bytes = new byte[ID_BYTES];
+    random.nextBytes(bytes);
+    String id = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    cursors.put(id, new Entry(cursor.toString(), nanoClock.getAsLong() + keepAlive.nanos()));
+    return new Cursor(CURSOR_PREFIX + id);
+  }
+
+  @Override
+  public String resolve(String cursor) {
+    return lookup(cursor, false);
+  }
+
+  @Override
+  public String release(String cursor) {
+    return lookup(cursor, true);
+  }
+
+  private String lookup(String cursor, boolean remove) {
+    if (!cursor.startsWith(CURSOR_PREFIX)) {
+      return cursor;
+    }
+    String id = cursor.substring(CURSOR_PREFIX.length());
+    Entry entry = cursors.getIfPresent(id);
+    if (entry == null || nanoClock.getAsLong() > entry.expiryNanos) {
+      cursors.invalidate(id);
+      throw new IllegalArgumentException(
+          "Cursor is expired, closed or was not issued by this node. Send the cursor to the node"
+              + " which returned it, or run the query again for a new cursor");
+    }
+    if (remove) {
+      cursors.invalidate(id);
+    }
+    return entry.cursor;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final String cursor;
+    private final long expiryNanos;
+  }
+}
@@ -8,19 +8,37 @@ package org.opensearch.sql.opensearch.executor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.monitor.MemoryBudget;
+import org.opensearch.sql.monitor.QueryPhase;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController.Lane;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch execution engine implementation. */
+@Log4j2
 @RequiredArgsConstructor
 public class OpenSearchExecutionEngine implements ExecutionEngine {
 
@@ -29,64 +47,436 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
   private final ExecutionProtector executionProtector;
   private final PlanSerializer planSerializer;
 
+  /** Settings to check if asynchronous execution is enabled, or null if it is never. */
+  private final Settings settings;
+
+  /** Admission controller of queries on this node, or null if queries are always admitted. */
+  private final QueryAdmissionController admissionController;
+
+  /** Constructor of execution engine which always blocks while waiting for search responses. */
+  public OpenSearchExecutionEngine(
+      OpenSearchClient client,
+      ExecutionProtector executionProtector,
+      PlanSerializer planSerializer) {
+    this(client, executionProtector, planSerializer, null);
+  }
+
+  /** Constructor of execution engine without admission control. */
+  public OpenSearchExecutionEngine(
+      OpenSearchClient client,
+      ExecutionProtector executionProtector,
+      PlanSerializer planSerializer,
+      Settings settings) {
+    this(client, executionProtector, planSerializer, settings, null);
+  }
+
   @Override
   public void execute(PhysicalPlan physicalPlan, ResponseListener<QueryResponse> listener) {
     execute(physicalPlan, ExecutionContext.emptyExecutionContext(), listener);
   }
 
+  /**
+   * Execute the plan in the worker thread. If admission control is enabled, the query is rejected
+   * if any concurrency limit is reached, and moved to the batch lane if it is estimated to be
+   * expensive. If asynchronous execution is enabled, first pages of index scans in the plan are
+   * fetched asynchronously beforehand, so the worker thread is released while waiting for them,
+   * and the plan is resumed by the executor of its lane once they have all arrived. Buffering
+   * operators in the plan account their memory to a budget of the query, which is released once
+   * the query completes.
+   */
   @Override
   public void execute(
       PhysicalPlan physicalPlan,
       ExecutionContext context,
       ResponseListener<QueryResponse> listener) {
-    PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    MemoryBudget memoryBudget = executionProtector.newMemoryBudget();
+    PhysicalPlan plan = executionProtector.protect(physicalPlan, memoryBudget);
+    execute(physicalPlan, plan, memoryBudget, context, listener);
+  }
+
+  /**
+   * Run the query as {@link #execute(PhysicalPlan, ExecutionContext, ResponseListener)} does, with
+   * every node of the plan profiled, and explain the plan with runtime statistics collected once
+   * all the rows are consumed. Rows are dropped page by page rather than buffered in a response.
+   */
+  @Override
+  public void explainAnalyze(
+      PhysicalPlan physicalPlan, ResponseListener<ExplainResponse> listener) {
+    MemoryBudget memoryBudget = executionProtector.newMemoryBudget();
+    PhysicalPlan plan = executionProtector.profile(physicalPlan, memoryBudget);
+    execute(
+        physicalPlan,
+        plan,
+        memoryBudget,
+        ExecutionContext.emptyExecutionContext(),
+        new StreamingResponseListener() {
+          @Override
+          public void onSchema(Schema schema) {}
+
+          @Override
+          public void onRows(List<ExprValue> rows) {}
+
+          @Override
+          public void onComplete(Cursor cursor) {
+            listener.onResponse(newExplain(true).apply(plan));
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
+
+  private void execute(
+      PhysicalPlan physicalPlan,
+      PhysicalPlan plan,
+      MemoryBudget memoryBudget,
+      ExecutionContext context,
+      ResponseListener<QueryResponse> listener) {
     client.schedule(
         () -> {
-          try {
-            List<ExprValue> result = new ArrayList<>();
-
-            context.getSplit().ifPresent(plan::add);
-            plan.open();
+          if (admissionController == null) {
+            start(
+                new Execution(physicalPlan, plan, context, listener, memoryBudget, () -> {}),
+                false);
+            return;
+          }
 
-            while (plan.hasNext()) {
-              result.add(plan.next());
-            }
+          List<OpenSearchIndexScan> scans = new ArrayList<>();
+          plan.accept(new IndexScanCollector(false), scans);
+          Runnable release;
+          try {
+            release = admissionController.admit(scans);
+          } catch (Exception e) {
+            fail(new Execution(physicalPlan, plan, context, listener, memoryBudget, () -> {}), e);
+            return;
+          }
+          Execution execution =
+              new Execution(physicalPlan, plan, context, listener, memoryBudget, release);
+          long workerQueueWait = admissionController.takeQueueWait();
+          if (admissionController.lane(scans) == Lane.INTERACTIVE) {
+            admissionController.recordQueueWait(Lane.INTERACTIVE, workerQueueWait);
+            start(execution, false);
+            return;
+          }
 
-            QueryResponse response =
-                new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
-            listener.onResponse(response);
+          long enqueuedAt = System.nanoTime();
+          try {
+            client
+                .batchExecutor()
+                .execute(
+                    () -> {
+                      admissionController.recordQueueWait(
+                          Lane.BATCH, workerQueueWait + System.nanoTime() - enqueuedAt);
+                      start(execution, true);
+                    });
           } catch (Exception e) {
-            listener.onFailure(e);
-          } finally {
-            plan.close();
+            fail(execution, e);
           }
         });
   }
 
+  /**
+   * Fetch first pages asynchronously if enabled, and run the plan once they have all arrived. Index
+   * scans on the probe side of hash join with runtime filter are left out and fetched on open,
+   * because the runtime filter is only pushed down to them once the build side is loaded. Time
+   * from sending the first requests until all of them have settled is recorded in the open phase,
+   * as it is when first pages are fetched on open.
+   */
+  private void start(Execution execution, boolean batch) {
+    List<OpenSearchIndexScan> scans = new ArrayList<>();
+    if (isAsyncExecutionEnabled()) {
+      execution.plan.accept(new IndexScanCollector(true), scans);
+    }
+    if (scans.isEmpty()) {
+      run(execution, 0);
+      return;
+    }
+
+    Executor executor = batch ? client.batchExecutor() : client.queryExecutor();
+    long sentAt = System.nanoTime();
+    FirstPagesListener firstPagesListener =
+        new FirstPagesListener(
+            scans.size(),
+            () -> resume(executor, execution, System.nanoTime() - sentAt),
+            e -> resumeWithFailure(executor, execution, e, System.nanoTime() - sentAt));
+    for (OpenSearchIndexScan scan : scans) {
+      ActionListener<Void> scanListener = firstPagesListener.newScanListener();
+      try {
+        scan.fetchFirstPage(scanListener);
+      } catch (Exception e) {
+        scanListener.onFailure(e);
+      }
+    }
+  }
+
+  /**
+   * Resume the plan by the executor. If the executor rejects it, e.g. its queue is full, the query
+   * fails in the calling thread, so that it is always completed and released. Time waiting for
+   * first pages is recorded by the executor which carries the log context of the query.
+   */
+  private void resume(Executor executor, Execution execution, long firstPagesNanos) {
+    try {
+      executor.execute(() -> run(execution, firstPagesNanos));
+    } catch (Exception rejected) {
+      fail(execution, rejected);
+    }
+  }
+
+  private void resumeWithFailure(
+      Executor executor, Execution execution, Exception e, long firstPagesNanos) {
+    try {
+      executor.execute(
+          () -> {
+            QueryPhase.OPEN.record(firstPagesNanos);
+            fail(execution, e);
+          });
+    } catch (Exception rejected) {
+      e.addSuppressed(rejected);
+      fail(execution, e);
+    }
+  }
+
+  /**
+   * Open and run the plan, and record time of the open phase including the given time waiting for
+   * first pages fetched beforehand.
+   */
+  private void run(Execution execution, long firstPagesNanos) {
+    PhysicalPlan plan = execution.plan;
+    ResponseListener<QueryResponse> listener = execution.listener;
+    try {
+      execution.context.getSplit().ifPresent(plan::add);
+      long openStart = System.nanoTime();
+      try {
+        plan.open();
+      } finally {
+        QueryPhase.OPEN.record(firstPagesNanos + System.nanoTime() - openStart);
+      }
+
+      if (listener instanceof StreamingResponseListener streamingListener) {
+        stream(execution.physicalPlan.schema(), plan, streamingListener);
+        return;
+      }
+
+      List<ExprValue> result =
+          QueryPhase.FETCH.time(
+              () -> {
+                List<ExprValue> rows = new ArrayList<>();
+                while (plan.hasNext()) {
+                  rows.add(plan.next());
+                }
+                return rows;
+              });
+
+      QueryResponse response =
+          new QueryResponse(
+              execution.physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
+      listener.onResponse(response);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    } finally {
+      execution.close();
+    }
+  }
+
+  private void fail(Execution execution, Exception e) {
+    try {
+      execution.listener.onFailure(e);
+    } finally {
+      execution.close();
+    }
+  }
+
+  private boolean isAsyncExecutionEnabled() {
+    return settings != null
+        && Boolean.TRUE.equals(
+            settings.getSettingValue(Settings.Key.QUERY_ASYNC_EXECUTION_ENABLED));
+  }
+
+  /**
+   * Hand out rows to the listener page by page so that only one page is held in memory. Time spent
+   * by the listener on each page is excluded from the fetch time of the query, which is recorded
+   * whether the query completes normally or not.
+   */
+  private void stream(
+      Schema schema, PhysicalPlan plan, StreamingResponseListener streamingListener) {
+    streamingListener.onSchema(schema);
+    long fetchNanos = 0;
+    try {
+      List<ExprValue> page;
+      do {
+        long fetchStart = System.nanoTime();
+        try {
+          page = nextPage(plan);
+        } finally {
+          fetchNanos += System.nanoTime() - fetchStart;
+        }
+        if (!page.isEmpty()) {
+          streamingListener.onRows(page);
+        }
+      } while (page.size() >= RowBatch.DEFAULT_SIZE);
+    } finally {
+      QueryPhase.FETCH.record(fetchNanos);
+    }
+    streamingListener.onComplete(planSerializer.convertToCursor(plan));
+  }
+
+  private static List<ExprValue> nextPage(PhysicalPlan plan) {
+    List<ExprValue> page = new ArrayList<>();
+    while (page.size() < RowBatch.DEFAULT_SIZE && plan.hasNext()) {
+      page.add(plan.next());
+    }
+    return page;
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(
         () -> {
           try {
-            Explain openSearchExplain =
-                new Explain() {
-                  @Override
-                  public ExplainResponseNode visitTableScan(
-                      TableScanOperator node, Object context) {
-                    return explain(
-                        node,
-                        context,
-                        explainNode -> {
-                          explainNode.setDescription(Map.of("request", node.explain()));
-                        });
-                  }
-                };
-
-            listener.onResponse(openSearchExplain.apply(plan));
+            listener.onResponse(newExplain(false).apply(plan));
           } catch (Exception e) {
             listener.onFailure(e);
           }
         });
   }
+
+  /**
+   * Explain with the request of index scans, and what they have fetched if the plan has been run
+   * by explain analyze.
+   */
+  private Explain newExplain(boolean analyze) {
+    return new Explain() {
+      @Override
+      public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+        return explain(
+            node,
+            context,
+            explainNode -> {
+              explainNode.setDescription(Map.of("request", node.explain()));
+              if (analyze && node instanceof OpenSearchIndexScan scan) {
+                explainNode.setStats(scan.fetchStats());
+              }
+            });
+      }
+    };
+  }
+
+  /** Plan being executed with what is needed to complete it. */
+  @RequiredArgsConstructor
+  private static class Execution {
+    private final PhysicalPlan physicalPlan;
+    private final PhysicalPlan plan;
+    private final ExecutionContext context;
+    private final ResponseListener<QueryResponse> listener;
+
+    /** Memory budget which buffering operators in the plan account their memory to. */
+    private final MemoryBudget memoryBudget;
+
+    /** Callback to release the query admitted. */
+    private final Runnable release;
+
+    /**
+     * Close the plan, release its memory budget and the query, which is done once the listener is
+     * completed.
+     */
+    void close() {
+      try {
+        plan.close();
+      } finally {
+        memoryBudget.close();
+        log.debug("Peak memory reserved by query: {} bytes", memoryBudget.getPeakReservedBytes());
+        release.run();
+      }
+    }
+  }
+
+  /**
+   * Listener of first pages fetched by all index scans of the plan. Unlike {@link
+   * org.opensearch.action.support.GroupedActionListener} which fails on the first failure, it
+   * completes only once every fetch has settled, so that the plan is never closed while any fetch
+   * is still in flight. Failures after the first one are suppressed by it. Each index scan has its
+   * own listener which settles only once, even if it is called again with the failure thrown by
+   * the first call.
+   */
+  private static class FirstPagesListener {
+    private final AtomicInteger pending;
+    private final Runnable onAllArrived;
+    private final Consumer<Exception> onAnyFailed;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    FirstPagesListener(int count, Runnable onAllArrived, Consumer<Exception> onAnyFailed) {
+      this.pending = new AtomicInteger(count);
+      this.onAllArrived = onAllArrived;
+      this.onAnyFailed = onAnyFailed;
+    }
+
+    ActionListener<Void> newScanListener() {
+      AtomicBoolean settled = new AtomicBoolean();
+      return new ActionListener<>() {
+        @Override
+        public void onResponse(Void ignored) {
+          if (settled.compareAndSet(false, true)) {
+            settle();
+          }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          if (settled.compareAndSet(false, true)) {
+            if (!failure.compareAndSet(null, e) && failure.get() != e) {
+              failure.get().addSuppressed(e);
+            }
+            settle();
+          } else {
+            log.warn("First page fetch failed after it has settled", e);
+          }
+        }
+      };
+    }
+
+    private void settle() {
+      if (pending.decrementAndGet() == 0) {
+        Exception e = failure.get();
+        if (e == null) {
+          onAllArrived.run();
+        } else {
+          onAnyFailed.accept(e);
+        }
+      }
+    }
+  }
+
+  /** Collect index scans in the plan, including those decorated by execution protector. */
+  @RequiredArgsConstructor
+  private static class IndexScanCollector
+      extends PhysicalPlanNodeVisitor<Void, List<OpenSearchIndexScan>> {
+
+    /** Whether to skip index scans on the probe side of hash join with runtime filter. */
+    private final boolean skipProbeSide;
+
+    @Override
+    protected Void visitNode(PhysicalPlan node, List<OpenSearchIndexScan> scans) {
+      node.getChild().forEach(child -> child.accept(this, scans));
+      return null;
+    }
+
+    @Override
+    public Void visitHashJoin(HashJoinOperator node, List<OpenSearchIndexScan> scans) {
+      if (!skipProbeSide || !node.hasRuntimeFilter()) {
+        node.getLeft().accept(this, scans);
+      }
+      node.getRight().accept(this, scans);
+      return null;
+    }
+
+    @Override
+    public Void visitTableScan(TableScanOperator node, List<OpenSearchIndexScan> scans) {
+      if (node instanceof OpenSearchIndexScan scan) {
+        scans.add(scan);
+      }
+      return null;
+    }
+  }
 }
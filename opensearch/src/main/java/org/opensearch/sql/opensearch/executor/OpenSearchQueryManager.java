@@ -24,11 +24,31 @@ public class OpenSearchQueryManager implements QueryManager {
 
   private final NodeClient nodeClient;
 
+  /**
+   * Admission controller to record time waited in the queue for the lane of the query once known,
+   * or null if not recorded.
+   */
+  private final QueryAdmissionController admissionController;
+
   private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
 
+  /** Constructor of query manager without admission control. */
+  public OpenSearchQueryManager(NodeClient nodeClient) {
+    this(nodeClient, null);
+  }
+
   @Override
   public QueryId submit(AbstractPlan queryPlan) {
-    schedule(nodeClient, () -> queryPlan.execute());
+    long enqueuedAt = System.nanoTime();
+    schedule(
+        nodeClient,
+        () -> {
+          if (admissionController == null) {
+            queryPlan.execute();
+          } else {
+            admissionController.runQueued(System.nanoTime() - enqueuedAt, queryPlan::execute);
+          }
+        });
 
     return queryPlan.getQueryId();
   }
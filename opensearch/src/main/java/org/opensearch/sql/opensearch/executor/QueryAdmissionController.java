@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+
+/**
+ * Admission control of queries executed on this node. A query is rejected if the user or any
+ * index queried already has as many queries running as allowed, so that one tenant can't take up
+ * all threads of the worker thread pool. Admitted queries are assigned to a lane by the estimated
+ * number of documents fetched by their index scans: cheap queries such as aggregations pushed
+ * down run in the interactive lane, and large scans run in the batch lane which has its own
+ * thread pool. Time waited in the queue of each lane is recorded for metrics. The user is resolved
+ * by {@link SecurityContext}, and only index limits apply if the security plugin is not installed.
+ */
+@RequiredArgsConstructor
+public class QueryAdmissionController {
+
+  /** Lane in which a query is executed. */
+  public enum Lane {
+    INTERACTIVE,
+    BATCH
+  }
+
+  private final Settings settings;
+
+  /** Thread context to look up the user of current query. */
+  private final ThreadContext threadContext;
+
+  /** Number of running queries by user, guarded by this. */
+  private final Map<String, Integer> userQueries = new HashMap<>();
+
+  /** Number of running queries by index, guarded by this. */
+  private final Map<String, Integer> indexQueries = new HashMap<>();
+
+  private final LongAdder rejectedCount = new LongAdder();
+
+  private final Map<Lane, LongAdder> queueWaitCounts = newLaneCounters();
+
+  private final Map<Lane, LongAdder> queueWaitNanos = newLaneCounters();
+
+  /** Time waited in the worker queue by the query running on current thread, until taken. */
+  private final ThreadLocal<Long> workerQueueWait = new ThreadLocal<>();
+
+  /**
+   * Admit query of current user on the indices scanned.
+   *
+   * @param scans index scans of the query
+   * @return callback to release the query once completed, which is safe to call more than once
+   * @throws OpenSearchRejectedExecutionException if any concurrency limit is reached
+   */
+  public Runnable admit(Collection<OpenSearchIndexScan> scans) {
+    String user = SecurityContext.userName(threadContext);
+    Set<String> indices =
+        scans.stream()
+            .map(OpenSearchIndexScan::getRequest)
+            .map(OpenSearchRequest::getIndexName)
+            .flatMap(indexName -> Arrays.stream(indexName.getIndexNames()))
+            .collect(Collectors.toSet());
+    int userLimit = limit(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER);
+    int indexLimit = limit(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX);
+
+    synchronized (this) {
+      if (user != null) {
+        checkLimit(userQueries, user, userLimit, "user");
+      }
+      for (String index : indices) {
+        checkLimit(indexQueries, index, indexLimit, "index");
+      }
+      if (user != null) {
+        userQueries.merge(user, 1, Integer::sum);
+      }
+      indices.forEach(index -> indexQueries.merge(index, 1, Integer::sum));
+    }
+
+    AtomicBoolean released = new AtomicBoolean(false);
+    return () -> {
+      if (released.compareAndSet(false, true)) {
+        release(user, indices);
+      }
+    };
+  }
+
+  /**
+   * Choose the lane of a query by estimated number of documents fetched by its index scans.
+   *
+   * @param scans index scans of the query
+   * @return batch lane if the estimate exceeds threshold, or interactive lane otherwise
+   */
+  public Lane lane(Collection<OpenSearchIndexScan> scans) {
+    int threshold = limit(Settings.Key.QUERY_ADMISSION_BATCH_THRESHOLD);
+    if (threshold > 0 && estimateCost(scans) > threshold) {
+      return Lane.BATCH;
+    }
+    return Lane.INTERACTIVE;
+  }
+
+  /**
+   * Estimate number of documents fetched by the index scans. Aggregation pushed down fetches no
+   * document, and single search request fetches as many as its size. Scroll and point in time
+   * requests page through up to the max response size of scan.
+   */
+  static long estimateCost(Collection<OpenSearchIndexScan> scans) {
+    long cost = 0;
+    for (OpenSearchIndexScan scan : scans) {
+      if (scan.getRequest() instanceof OpenSearchQueryRequest request
+          && request.getPitId() == null) {
+        if (request.getSourceBuilder().aggregations() == null) {
+          cost += Math.max(request.getSourceBuilder().size(), 0);
+        }
+      } else {
+        cost += scan.getMaxResponseSize();
+      }
+    }
+    return cost;
+  }
+
+  /**
+   * Record time waited by a query in the queue of the lane.
+   *
+   * @param lane lane of the query
+   * @param nanos time waited in nanoseconds
+   */
+  public void recordQueueWait(Lane lane, long nanos) {
+    queueWaitCounts.get(lane).increment();
+    queueWaitNanos.get(lane).add(nanos);
+  }
+
+  /**
+   * Run a query in the worker thread after it has waited in the worker queue. The time waited is
+   * kept until the lane of the query is known, so it can be recorded for the right lane.
+   *
+   * @param nanos time waited in the worker queue in nanoseconds
+   * @param task task running the query
+   */
+  public void runQueued(long nanos, Runnable task) {
+    workerQueueWait.set(nanos);
+    try {
+      task.run();
+    } finally {
+      workerQueueWait.remove();
+    }
+  }
+
+  /**
+   * Take time waited in the worker queue by the query running on current thread.
+   *
+   * @return time waited in nanoseconds, or 0 if the query didn't wait in the worker queue
+   */
+  public long takeQueueWait() {
+    Long nanos = workerQueueWait.get();
+    workerQueueWait.remove();
+    return nanos == null ? 0 : nanos;
+  }
+
+  /** Number of queries rejected by concurrency limits. */
+  public long rejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /** Number of queries which have waited in the queue of the lane. */
+  public long queueWaitCount(Lane lane) {
+    return queueWaitCounts.get(lane).sum();
+  }
+
+  /** Total time in milliseconds waited by queries in the queue of the lane. */
+  public long queueWaitMillis(Lane lane) {
+    return TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.get(lane).sum());
+  }
+
+  private int limit(Settings.Key key) {
+    Integer limit = settings.getSettingValue(key);
+    return limit == null ? 0 : limit;
+  }
+
+  private void checkLimit(Map<String, Integer> running, String name, int limit, String kind) {
+    if (limit > 0 && running.getOrDefault(name, 0) >= limit) {
+      rejectedCount.increment();
+      throw new OpenSearchRejectedExecutionException(
+          String.format(
+              "Too many concurrent queries on %s [%s], the limit is %d", kind, name, limit));
+    }
+  }
+
+  private synchronized void release(String user, Set<String> indices) {
+    if (user != null) {
+      decrement(userQueries, user);
+    }
+    indices.forEach(index -> decrement(indexQueries, index));
+  }
+
+  private static void decrement(Map<String, Integer> running, String name) {
+    running.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+  }
+
+  private static Map<Lane, LongAdder> newLaneCounters() {
+    Map<Lane, LongAdder> counters = new EnumMap<>(Lane.class);
+    for (Lane lane : Lane.values()) {
+      counters.put(lane, new LongAdder());
+    }
+    return counters;
+  }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.LimitOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.SpillFile;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Node level cache of results of aggregation queries, which is enabled by {@link
+ * Settings.Key#QUERY_RESULT_CACHE_ENABLED}. Only a plan of aggregation pushed down to OpenSearch,
+ * optionally with projection, sort and limit of its output on top, is cached. The result is keyed
+ * by the plan including the search request, and the number of refreshes of indices searched. So
+ * once any shard copy of the indices is refreshed, the cached result is not reachable anymore and
+ * will be evicted as least recently used. Refresh counts are fetched by indices stats which fans
+ * out to every shard, so a snapshot of them is reused for {@link
+ * Settings.Key#QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL} by queries of the same indices, which
+ * means a refresh is noticed at most that long later. Results also expire after TTL, and the
+ * estimated size of all results is bounded by the memory budget. The key also includes the user
+ * and roles of current request if security plugin is installed, so that a result is never returned
+ * to another user who may not be allowed to see the same documents or fields.
+ */
+public class QueryResultCache {
+
+  /** Estimated heap memory taken by an entry besides the rows. */
+  private static final long ENTRY_OVERHEAD = 128;
+
+  private final OpenSearchClient client;
+
+  private final Settings settings;
+
+  /** Thread context to look up the user of current query. */
+  private final ThreadContext threadContext;
+
+  private final LongSupplier nanoClock;
+
+  /** Cached entries in the order of access, least recently used first. */
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Snapshots of refresh counts keyed by the indices searched. */
+  private final Map<String, RefreshCounts> refreshCounts = new ConcurrentHashMap<>();
+
+  private long sizeInBytes = 0;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /** Constructor. */
+  public QueryResultCache(
+      OpenSearchClient client, Settings settings, ThreadContext threadContext) {
+    this(client, settings, threadContext, System::nanoTime);
+  }
+
+  QueryResultCache(
+      OpenSearchClient client,
+      Settings settings,
+      ThreadContext threadContext,
+      LongSupplier nanoClock) {
+    this.client = client;
+    this.settings = settings;
+    this.threadContext = threadContext;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Get cache key of the physical plan for current user, which fetches refresh stats of indices
+   * searched unless the snapshot of them is fetched within refresh check interval.
+   *
+   * @param plan physical plan before execution
+   * @return cache key, or null if the cache is disabled or the plan is not cacheable
+   */
+  public String key(PhysicalPlan plan) {
+    if (!isEnabled()) {
+      return null;
+    }
+    CacheablePlan cacheable = plan.accept(new CacheablePlanVisitor(), null);
+    if (cacheable == null) {
+      return null;
+    }
+    Map<String, Long> refreshCounts = refreshCounts(cacheable.indexNames);
+    String user = SecurityContext.userIdentity(threadContext);
+    return (user == null ? "" : "user " + user + " ") + cacheable.description + refreshCounts;
+  }
+
+  /**
+   * Get refresh counts of the indices from the snapshot, or fetch them if the snapshot is older
+   * than refresh check interval. Snapshots expired are dropped at the same time so that those of
+   * indices not queried anymore don't pile up.
+   */
+  private Map<String, Long> refreshCounts(String[] indexNames) {
+    String indices = String.join(",", indexNames);
+    long now = nanoClock.getAsLong();
+    long interval = refreshCheckInterval().nanos();
+    RefreshCounts snapshot = refreshCounts.get(indices);
+    if (snapshot == null || now - snapshot.fetchedNanos >= interval) {
+      refreshCounts.values().removeIf(counts -> now - counts.fetchedNanos >= interval);
+      snapshot = new RefreshCounts(new TreeMap<>(client.getIndexRefreshCounts(indexNames)), now);
+      refreshCounts.put(indices, snapshot);
+    }
+    return snapshot.counts;
+  }
+
+  /**
+   * Get rows of the cached result.
+   *
+   * @param key cache key
+   * @return rows, or null if absent or expired
+   */
+  public synchronized List<ExprValue> get(String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && nanoClock.getAsLong() - entry.createdNanos > ttl().nanos()) {
+      remove(key);
+      entry = null;
+    }
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return entry.rows;
+  }
+
+  /**
+   * Cache rows of the result and evict least recently used results beyond memory budget. Result
+   * larger than the budget is not cached.
+   *
+   * @param key cache key
+   * @param rows rows of the result which must not be modified afterwards
+   */
+  public synchronized void put(String key, List<ExprValue> rows) {
+    long bytes = ENTRY_OVERHEAD + 2L * key.length();
+    for (ExprValue row : rows) {
+      bytes += SpillFile.estimateSize(row);
+    }
+    long budget = budget();
+    if (bytes > budget) {
+      return;
+    }
+
+    Entry previous = entries.put(key, new Entry(rows, bytes, nanoClock.getAsLong()));
+    if (previous != null) {
+      sizeInBytes -= previous.bytes;
+    }
+    sizeInBytes += bytes;
+    Iterator<Map.Entry<String, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+    while (sizeInBytes > budget) {
+      Entry evicted = leastRecentlyUsed.next().getValue();
+      leastRecentlyUsed.remove();
+      sizeInBytes -= evicted.bytes;
+      evictions.increment();
+    }
+  }
+
+  private void remove(String key) {
+    sizeInBytes -= entries.remove(key).bytes;
+    evictions.increment();
+  }
+
+  private boolean isEnabled() {
+    return settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_ENABLED);
+  }
+
+  private long budget() {
+    ByteSizeValue size = settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_SIZE);
+    return size.getBytes();
+  }
+
+  private TimeValue ttl() {
+    return settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_TTL);
+  }
+
+  private TimeValue refreshCheckInterval() {
+    return settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL);
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /** Number of results evicted by memory budget or expired. */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  /** Estimated heap memory taken by results cached. */
+  public synchronized long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final List<ExprValue> rows;
+    private final long bytes;
+    private final long createdNanos;
+  }
+
+  /** Refresh counts of indices by index UUID and when they are fetched. */
+  @RequiredArgsConstructor
+  private static class RefreshCounts {
+    private final Map<String, Long> counts;
+    private final long fetchedNanos;
+  }
+
+  /** Description of a cacheable plan and the indices it searches. */
+  @RequiredArgsConstructor
+  private static class CacheablePlan {
+    private final String description;
+    private final String[] indexNames;
+
+    private CacheablePlan wrap(String operator) {
+      return new CacheablePlan(operator + "(" + description + ")", indexNames);
+    }
+  }
+
+  /**
+   * Describe the plan if it is cacheable, or return null. Operators on top of the index scan must
+   * only reference output fields of aggregation, so their results depend on the search response
+   * only. Their descriptions include everything that affects the result because operator's own
+   * toString is not always deterministic.
+   */
+  private static class CacheablePlanVisitor
+      extends PhysicalPlanNodeVisitor<CacheablePlan, Object> {
+
+    @Override
+    public CacheablePlan visitProject(ProjectOperator node, Object context) {
+      if (!node.getNamedParseExpressions().isEmpty()
+          || !node.getProjectList().stream().allMatch(this::isReference)) {
+        return null;
+      }
+      CacheablePlan input = node.getInput().accept(this, context);
+      if (input == null) {
+        return null;
+      }
+      return input.wrap(
+          "project "
+              + node.getProjectList().stream()
+                  .map(expr -> expr.getNameOrAlias() + "=" + expr.getDelegated())
+                  .collect(Collectors.joining(",")));
+    }
+
+    @Override
+    public CacheablePlan visitSort(SortOperator node, Object context) {
+      if (!node.getSortList().stream().map(Pair::getRight).allMatch(this::isReference)) {
+        return null;
+      }
+      CacheablePlan input = node.getInput().accept(this, context);
+      if (input == null) {
+        return null;
+      }
+      return input.wrap(
+          "sort "
+              + node.getSortList().stream()
+                  .map(sort -> sort.getRight() + " " + describe(sort.getLeft()))
+                  .collect(Collectors.joining(",")));
+    }
+
+    @Override
+    public CacheablePlan visitLimit(LimitOperator node, Object context) {
+      CacheablePlan input = node.getInput().accept(this, context);
+      if (input == null) {
+        return null;
+      }
+      return input.wrap("limit " + node.getLimit() + " offset " + node.getOffset());
+    }
+
+    @Override
+    public CacheablePlan visitTableScan(TableScanOperator node, Object context) {
+      if (node instanceof OpenSearchIndexScan scan
+          && scan.getRequest() instanceof OpenSearchQueryRequest request
+          && request.getPitId() == null
+          && request.getSourceBuilder().aggregations() != null) {
+        String[] indexNames = request.getIndexName().getIndexNames();
+        if (Arrays.stream(indexNames).noneMatch(name -> name.contains(":"))) {
+          return new CacheablePlan(scan.toString(), indexNames);
+        }
+      }
+      return null;
+    }
+
+    private boolean isReference(Expression expr) {
+      if (expr instanceof NamedExpression named) {
+        return isReference(named.getDelegated());
+      }
+      return expr instanceof ReferenceExpression;
+    }
+
+    private String describe(SortOption option) {
+      return option.getSortOrder() + " " + option.getNullOrder();
+    }
+  }
+}
@@ -5,12 +5,36 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 /** Execution Plan Protector. */
 public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<PhysicalPlan, Object> {
 
   /** Decorated the PhysicalPlan to run in resource sensitive mode. */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Decorate the PhysicalPlan to run in resource sensitive mode, with buffering operators
+   * accounting their memory to the budget of query.
+   */
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, MemoryBudget memoryBudget) {
+    return protect(physicalPlan);
+  }
+
+  /**
+   * Decorate the PhysicalPlan to run in resource sensitive mode as {@link #protect(PhysicalPlan,
+   * MemoryBudget)} does, and to collect runtime statistics for explain analyze by {@link
+   * ProfilePlan}. By default, only the root of the plan is profiled.
+   */
+  public PhysicalPlan profile(PhysicalPlan physicalPlan, MemoryBudget memoryBudget) {
+    return new ProfilePlan(protect(physicalPlan, memoryBudget));
+  }
+
+  /** Create memory budget of a new query. */
+  public MemoryBudget newMemoryBudget() {
+    return new MemoryBudget();
+  }
 }
@@ -5,20 +5,26 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
 import org.opensearch.sql.opensearch.planner.physical.OpenSearchEvalOperator;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -34,13 +40,47 @@ import org.opensearch.sql.storage.TableScanOperator;
 @RequiredArgsConstructor
 public class OpenSearchExecutionProtector extends ExecutionProtector {
 
+  /** Default memory limit of sort which is used if not configured by setting. */
+  static final long DEFAULT_SORT_MEMORY_LIMIT = 64 * 1024 * 1024;
+
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /** Factory of memory budget of each query. */
+  private final Supplier<MemoryBudget> memoryBudgetFactory;
+
+  /** Memory limit in bytes of rows buffered by each sort beyond which rows spill to disk. */
+  private final LongSupplier sortMemoryLimit;
+
+  /**
+   * Constructor of protector with memory budget of query which has no limit and default memory
+   * limit of sort.
+   */
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, MemoryBudget::new, () -> DEFAULT_SORT_MEMORY_LIMIT);
+  }
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
 
+  /** The memory budget is passed down as visitor context to buffering operators. */
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, MemoryBudget memoryBudget) {
+    return physicalPlan.accept(this, memoryBudget);
+  }
+
+  /** Every node of the plan is profiled, which is requested by {@link ProfileContext}. */
+  @Override
+  public PhysicalPlan profile(PhysicalPlan physicalPlan, MemoryBudget memoryBudget) {
+    return new ProfilePlan(physicalPlan.accept(this, new ProfileContext(memoryBudget)));
+  }
+
+  @Override
+  public MemoryBudget newMemoryBudget() {
+    return memoryBudgetFactory.get();
+  }
+
   /**
    * Don't protect {@link CursorCloseOperator} and entire nested tree, because {@link
    * CursorCloseOperator} as designed as no-op.
@@ -58,7 +98,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(
-        visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        memoryBudget(context));
   }
 
   @Override
@@ -68,7 +111,24 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getCommandType(),
         node.getNoOfResults(),
         node.getFieldExprList(),
-        node.getGroupByExprList());
+        node.getGroupByExprList(),
+        memoryBudget(context));
+  }
+
+  /**
+   * Decorate with {@link ResourceMonitorPlan}. Build side spills to disk when it exceeds the
+   * available memory of resource monitor.
+   */
+  @Override
+  public PhysicalPlan visitHashJoin(HashJoinOperator node, Object context) {
+    return doProtect(
+        new HashJoinOperator(
+            visitInput(node.getLeft(), context),
+            visitInput(node.getRight(), context),
+            node.getJoinType(),
+            node.getLeftKeys(),
+            node.getRightKeys(),
+            resourceMonitor::availableMemory));
   }
 
   @Override
@@ -79,6 +139,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** Decorate with {@link ResourceMonitorPlan}. */
   @Override
   public PhysicalPlan visitTableScan(TableScanOperator node, Object context) {
+    // Index scan slows down fetching pages while the resource is under pressure
+    if (node instanceof OpenSearchIndexScan indexScan) {
+      indexScan.setResourceMonitor(resourceMonitor);
+    }
     return doProtect(node);
   }
 
@@ -113,7 +177,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         new NestedOperator(
             visitInput(node.getInput(), context),
             node.getFields(),
-            node.getGroupedPathsAndFields()));
+            node.getGroupedPathsAndFields(),
+            memoryBudget(context)));
   }
 
   @Override
@@ -123,7 +188,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getDedupeList(),
         node.getAllowedDuplication(),
         node.getKeepEmpty(),
-        node.getConsecutive());
+        node.getConsecutive(),
+        memoryBudget(context));
   }
 
   @Override
@@ -131,13 +197,23 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
         node.getWindowFunction(),
-        node.getWindowDefinition());
+        node.getWindowDefinition(),
+        memoryBudget(context));
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /**
+   * Decorate with {@link ResourceMonitorPlan}. Rows spill to disk beyond the sort memory limit
+   * rather than the available memory of resource monitor, which is shared by concurrent sorts and
+   * shrinks to tiny runs near the limit.
+   */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            sortMemoryLimit,
+            memoryBudget(context)));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
@@ -205,19 +281,36 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
-    } else {
-      return node.accept(this, context);
     }
+    PhysicalPlan input = node.accept(this, context);
+    return (context instanceof ProfileContext) ? new ProfilePlan(input) : input;
   }
 
   protected PhysicalPlan doProtect(PhysicalPlan node) {
+    if (node instanceof ProfilePlan profilePlan) {
+      // Keep profile plan outermost so that its parent sees it as a child profiled
+      return new ProfilePlan(doProtect(profilePlan.getDelegate()));
+    }
     if (isProtected(node)) {
       return node;
     }
     return new ResourceMonitorPlan(node, resourceMonitor);
   }
 
+  /** Memory budget of query passed as context, or a budget without limit if absent. */
+  private static MemoryBudget memoryBudget(Object context) {
+    Object budget =
+        (context instanceof ProfileContext profileContext) ? profileContext.memoryBudget : context;
+    return (budget instanceof MemoryBudget memoryBudget) ? memoryBudget : new MemoryBudget();
+  }
+
   private boolean isProtected(PhysicalPlan node) {
     return (node instanceof ResourceMonitorPlan);
   }
+
+  /** Visitor context to profile every node of the plan, with memory budget of the query. */
+  @RequiredArgsConstructor
+  private static class ProfileContext {
+    private final MemoryBudget memoryBudget;
+  }
 }
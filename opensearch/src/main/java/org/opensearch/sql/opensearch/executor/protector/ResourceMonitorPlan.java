@@ -17,6 +17,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 
 /** A PhysicalPlan which will run the delegate plan in resource protection manner. */
 @ToString
@@ -73,6 +74,17 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    long previousChecks = nextCallCount / NUMBER_OF_NEXT_CALL_TO_CHECK;
+    nextCallCount += maxSize;
+    boolean shouldCheck = (nextCallCount / NUMBER_OF_NEXT_CALL_TO_CHECK > previousChecks);
+    if (shouldCheck && !this.monitor.isHealthy()) {
+      throw new IllegalStateException("insufficient resources to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
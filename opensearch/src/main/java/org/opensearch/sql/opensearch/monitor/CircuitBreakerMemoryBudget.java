@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryBudget;
+
+/**
+ * {@link MemoryBudget} backed by OpenSearch circuit breaker. Memory is acquired from the breaker
+ * in chunks of at least {@link #CHUNK_SIZE} bytes to avoid updating the breaker shared by all the
+ * queries for each row. If the breaker trips, {@link CircuitBreakingException} is thrown and only
+ * the query reserving memory fails, while the memory held by other queries is left intact.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerMemoryBudget extends MemoryBudget {
+
+  /** Min bytes acquired from or given back to the breaker at a time. */
+  static final long CHUNK_SIZE = 1024 * 1024;
+
+  private final CircuitBreaker breaker;
+
+  /** Bytes acquired from the breaker which is no less than reserved bytes. */
+  private long acquiredBytes;
+
+  @Override
+  public void reserve(long bytes, String label) {
+    long required = getReservedBytes() + bytes;
+    if (required > acquiredBytes) {
+      long chunk = Math.max(required - acquiredBytes, CHUNK_SIZE);
+      breaker.addEstimateBytesAndMaybeBreak(chunk, label);
+      acquiredBytes += chunk;
+    }
+    super.reserve(bytes, label);
+  }
+
+  @Override
+  public void release(long bytes) {
+    super.release(bytes);
+    long excess = acquiredBytes - getReservedBytes();
+    if (excess > CHUNK_SIZE) {
+      giveBack(excess);
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    giveBack(acquiredBytes);
+  }
+
+  private void giveBack(long bytes) {
+    breaker.addWithoutBreaking(-bytes);
+    acquiredBytes -= bytes;
+  }
+}
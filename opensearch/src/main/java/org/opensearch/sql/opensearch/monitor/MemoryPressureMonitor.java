@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.security.SecurityAccess;
+
+/**
+ * Monitor of heap memory pressure on the node. Instead of sampling the heap usage on the query
+ * thread, which includes garbage not collected yet and so depends on GC timing, the monitor listens
+ * to GC notifications and usage threshold notifications of heap memory pools, and publishes the
+ * heap usage measured right after them in a volatile field. Checking the pressure level is
+ * therefore cheap enough to be done by query threads as often as needed. Management beans are
+ * called in privileged mode, because arming usage threshold requires {@code
+ * ManagementPermission("control")} which is granted to the plugin but not to the threads notifying.
+ */
+@Log4j2
+public class MemoryPressureMonitor implements NotificationListener {
+
+  /** Ratio of {@link Settings.Key#QUERY_MEMORY_LIMIT} beyond which queries are throttled. */
+  static final double THROTTLE_RATIO = 0.9;
+
+  /** Memory pressure level. */
+  public enum Level {
+    /** Heap usage is well below the limit. */
+    NORMAL,
+    /** Heap usage is close to the limit, so queries should slow down fetching more data. */
+    THROTTLE,
+    /** Heap usage exceeds the limit, so queries should fail. */
+    SHED
+  }
+
+  private final Settings settings;
+
+  private final MemoryMXBean memoryBean;
+
+  private final List<MemoryPoolMXBean> heapPools;
+
+  private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+  /** Heap usage in bytes measured after last notification. */
+  private volatile long usedBytes;
+
+  /** Usage threshold in bytes armed on heap pools, or -1 if not armed yet. */
+  private long armedThreshold = -1;
+
+  /** Constructor of monitor on the memory of current JVM. */
+  public MemoryPressureMonitor(Settings settings) {
+    this(
+        settings,
+        ManagementFactory.getMemoryMXBean(),
+        ManagementFactory.getMemoryPoolMXBeans(),
+        ManagementFactory.getGarbageCollectorMXBeans());
+  }
+
+  @VisibleForTesting
+  MemoryPressureMonitor(
+      Settings settings,
+      MemoryMXBean memoryBean,
+      List<MemoryPoolMXBean> pools,
+      List<GarbageCollectorMXBean> collectors) {
+    this.settings = settings;
+    this.memoryBean = memoryBean;
+    this.heapPools =
+        pools.stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported())
+            .collect(Collectors.toList());
+    // Memory bean emits usage threshold notifications of all the pools
+    if (memoryBean instanceof NotificationEmitter) {
+      emitters.add((NotificationEmitter) memoryBean);
+    }
+    for (GarbageCollectorMXBean collector : collectors) {
+      if (collector instanceof NotificationEmitter) {
+        emitters.add((NotificationEmitter) collector);
+      }
+    }
+  }
+
+  /** Measure heap usage and start listening to notifications. */
+  public void start() {
+    refresh();
+    SecurityAccess.doPrivileged(
+        () -> {
+          for (NotificationEmitter emitter : emitters) {
+            emitter.addNotificationListener(this, null, null);
+          }
+          return null;
+        });
+  }
+
+  /** Stop listening to notifications. */
+  public void stop() {
+    SecurityAccess.doPrivileged(
+        () -> {
+          for (NotificationEmitter emitter : emitters) {
+            try {
+              emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+              log.debug("Memory pressure monitor is not listening to {}", emitter);
+            }
+          }
+          return null;
+        });
+  }
+
+  @Override
+  public void handleNotification(Notification notification, Object handback) {
+    refresh();
+    log.debug("Heap usage {} after notification {}", usedBytes, notification.getType());
+  }
+
+  /**
+   * Current memory pressure level. Heap usage is compared with the limit on each call so that an
+   * update of the limit takes effect without waiting for next notification.
+   *
+   * @return memory pressure level
+   */
+  public Level level() {
+    long limit = limitBytes();
+    long used = usedBytes;
+    if (used >= limit) {
+      return Level.SHED;
+    }
+    if (used >= throttleBytes(limit)) {
+      return Level.THROTTLE;
+    }
+    return Level.NORMAL;
+  }
+
+  /** Heap usage in bytes measured after last notification. */
+  public long usedBytes() {
+    return usedBytes;
+  }
+
+  /**
+   * Heap usage in bytes measured now, which is up to date but includes garbage not collected yet.
+   */
+  public long currentUsedBytes() {
+    return SecurityAccess.doPrivileged(() -> memoryBean.getHeapMemoryUsage().getUsed());
+  }
+
+  /**
+   * Measure heap usage, and arm usage threshold of heap pools again if the limit changed, so that
+   * old generation growing beyond throttle level is notified without waiting for next GC.
+   */
+  private synchronized void refresh() {
+    long threshold = throttleBytes(limitBytes());
+    SecurityAccess.doPrivileged(
+        () -> {
+          usedBytes = memoryBean.getHeapMemoryUsage().getUsed();
+          if (threshold != armedThreshold) {
+            for (MemoryPoolMXBean pool : heapPools) {
+              long max = pool.getUsage().getMax();
+              pool.setUsageThreshold(max < 0 ? threshold : Math.min(threshold, max));
+            }
+            armedThreshold = threshold;
+          }
+          return null;
+        });
+  }
+
+  private long limitBytes() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    return limit.getBytes();
+  }
+
+  private static long throttleBytes(long limit) {
+    return (long) (limit * THROTTLE_RATIO);
+  }
+}
@@ -5,39 +5,23 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
-import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.monitor.ResourceMonitor;
 
 /**
- * {@link ResourceMonitor} implementation on Elasticsearch. When the heap memory usage exceeds
- * certain threshold, the monitor is not healthy.<br>
- * Todo, add metrics.
+ * {@link ResourceMonitor} implementation on OpenSearch. When the heap memory usage exceeds {@link
+ * Settings.Key#QUERY_MEMORY_LIMIT}, the monitor is not healthy, and when it is close to the limit,
+ * the monitor is under pressure. The memory pressure level is published by {@link
+ * MemoryPressureMonitor} in background, so checking it never blocks the query thread.
  */
 @Log4j2
+@RequiredArgsConstructor
 public class OpenSearchResourceMonitor extends ResourceMonitor {
   private final Settings settings;
-  private final Retry retry;
-  private final OpenSearchMemoryHealthy memoryMonitor;
-
-  /** Constructor. */
-  public OpenSearchResourceMonitor(Settings settings, OpenSearchMemoryHealthy memoryMonitor) {
-    this.settings = settings;
-    RetryConfig config =
-        RetryConfig.custom()
-            .maxAttempts(3)
-            .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(1000))
-            .retryExceptions(OpenSearchMemoryHealthy.MemoryUsageExceedException.class)
-            .ignoreExceptions(OpenSearchMemoryHealthy.MemoryUsageExceedFastFailureException.class)
-            .build();
-    retry = Retry.of("mem", config);
-    this.memoryMonitor = memoryMonitor;
-  }
+  private final MemoryPressureMonitor memoryMonitor;
 
   /**
    * Is Healthy.
@@ -46,13 +30,25 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
    */
   @Override
   public boolean isHealthy() {
-    try {
-      ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
-      Supplier<Boolean> booleanSupplier =
-          Retry.decorateSupplier(retry, () -> memoryMonitor.isMemoryHealthy(limit.getBytes()));
-      return booleanSupplier.get();
-    } catch (Exception e) {
+    if (memoryMonitor.level() == MemoryPressureMonitor.Level.SHED) {
+      log.warn("Memory usage:{} exceeds limit, shedding the query", memoryMonitor.usedBytes());
       return false;
     }
+    return true;
+  }
+
+  @Override
+  public boolean isUnderPressure() {
+    return memoryMonitor.level() != MemoryPressureMonitor.Level.NORMAL;
+  }
+
+  /**
+   * Available memory is the heap usage headroom below {@link Settings.Key#QUERY_MEMORY_LIMIT}.
+   * Heap usage is measured now rather than taken from last notification, which may be stale.
+   */
+  @Override
+  public long availableMemory() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    return Math.max(0, limit.getBytes() - memoryMonitor.currentUsedBytes());
   }
 }
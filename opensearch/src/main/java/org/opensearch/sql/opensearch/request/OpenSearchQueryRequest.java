@@ -13,22 +13,31 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.Version;
 import org.opensearch.action.search.*;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -127,27 +136,48 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
    * @throws IOException thrown if reading from input {@code in} fails.
    */
   public OpenSearchQueryRequest(StreamInput in, OpenSearchStorageEngine engine) throws IOException {
-    // Deserialize the SearchSourceBuilder from the string representation
-    String sourceBuilderString = in.readString();
-
-    NamedXContentRegistry xContentRegistry =
-        new NamedXContentRegistry(
-            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
-    XContentParser parser =
-        XContentType.JSON
-            .xContent()
-            .createParser(xContentRegistry, IGNORE_DEPRECATIONS, sourceBuilderString);
-    this.sourceBuilder = SearchSourceBuilder.fromXContent(parser);
-
-    cursorKeepAlive = in.readTimeValue();
-    pitId = in.readString();
-    includes = in.readStringList();
-    indexName = new IndexName(in);
-
-    int length = in.readVInt();
-    this.searchAfter = new Object[length];
-    for (int i = 0; i < length; i++) {
-      this.searchAfter[i] = in.readGenericValue();
+    this(in, engine, false);
+  }
+
+  /**
+   * Constructs OpenSearchQueryRequest from serialized representation, which is in the legacy
+   * format with search source in JSON if read from cursor in hex issued before format version.
+   *
+   * @param in stream to read data from.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @param legacyFormat whether the request is serialized in legacy format.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchQueryRequest(
+      StreamInput in, OpenSearchStorageEngine engine, boolean legacyFormat) throws IOException {
+    if (legacyFormat) {
+      XContentParser parser =
+          XContentType.JSON
+              .xContent()
+              .createParser(SearchRegistries.X_CONTENT, IGNORE_DEPRECATIONS, in.readString());
+      this.sourceBuilder = SearchSourceBuilder.fromXContent(parser);
+
+      cursorKeepAlive = in.readTimeValue();
+      pitId = in.readString();
+      includes = in.readStringList();
+      indexName = new IndexName(in);
+
+      int length = in.readVInt();
+      this.searchAfter = new Object[length];
+      for (int i = 0; i < length; i++) {
+        this.searchAfter[i] = in.readGenericValue();
+      }
+    } else {
+      Version version = Version.readVersion(in);
+      StreamInput input = new NamedWriteableAwareStreamInput(in, SearchRegistries.WRITEABLE);
+      input.setVersion(version);
+      this.sourceBuilder = new SearchSourceBuilder(input);
+
+      cursorKeepAlive = input.readTimeValue();
+      includes = input.readStringList();
+      indexName = new IndexName(input);
+      pitId = sourceBuilder.pointInTimeBuilder().getId();
+      searchAfter = sourceBuilder.searchAfter();
     }
 
     OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
@@ -162,16 +192,10 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
       Function<SearchScrollRequest, SearchResponse> scrollAction) {
     if (this.pitId == null) {
       // When SearchRequest doesn't contain PitId, fetch single page request
-      if (searchDone) {
-        return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
-      } else {
-        searchDone = true;
-        return new OpenSearchResponse(
-            searchAction.apply(
-                new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)),
-            exprValueFactory,
-            includes);
-      }
+      SearchRequest searchRequest = nextSearchRequest();
+      return (searchRequest == null)
+          ? emptyResponse()
+          : handleResponse(searchAction.apply(searchRequest));
     } else {
       // Search with PIT instead of scroll API
       return searchWithPIT(searchAction);
@@ -179,39 +203,112 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
   }
 
   public OpenSearchResponse searchWithPIT(Function<SearchRequest, SearchResponse> searchAction) {
-    OpenSearchResponse openSearchResponse;
-    if (searchDone) {
-      openSearchResponse = new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    SearchRequest searchRequest = nextSearchRequest();
+    return (searchRequest == null)
+        ? emptyResponse()
+        : handleResponse(searchAction.apply(searchRequest));
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    SearchRequest searchRequest = nextSearchRequest();
+    if (searchRequest == null) {
+      listener.onResponse(emptyResponse());
     } else {
-      this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
-      this.sourceBuilder.timeout(cursorKeepAlive);
-      // check for search after
-      if (searchAfter != null) {
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
-      // Set sort field for search_after
-      if (this.sourceBuilder.sorts() == null) {
-        this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
-        // Workaround to preserve sort location more exactly,
-        // see https://github.com/opensearch-project/sql/pull/3061
-        this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
-      }
-      SearchRequest searchRequest = new SearchRequest().source(this.sourceBuilder);
-      this.searchResponse = searchAction.apply(searchRequest);
+      searchAction.accept(searchRequest, ActionListener.map(listener, this::handleResponse));
+    }
+  }
 
-      openSearchResponse = new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+  /**
+   * Build search request of the next page, which is sent by either blocking or asynchronous
+   * search.
+   *
+   * @return search request, or null if the search is done already.
+   */
+  private SearchRequest nextSearchRequest() {
+    if (searchDone) {
+      return null;
+    }
+    if (this.pitId == null) {
+      searchDone = true;
+      return new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder);
+    }
+    this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
+    this.sourceBuilder.timeout(cursorKeepAlive);
+    // check for search after
+    if (searchAfter != null) {
+      this.sourceBuilder.searchAfter(searchAfter);
+    }
+    // Set sort field for search_after
+    if (this.sourceBuilder.sorts() == null) {
+      this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+      // Workaround to preserve sort location more exactly,
+      // see https://github.com/opensearch-project/sql/pull/3061
+      this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+    return new SearchRequest().source(this.sourceBuilder);
+  }
 
-      needClean = openSearchResponse.isEmpty();
-      searchDone = openSearchResponse.isEmpty();
-      SearchHit[] searchHits = this.searchResponse.getHits().getHits();
-      if (searchHits != null && searchHits.length > 0) {
-        searchAfter = searchHits[searchHits.length - 1].getSortValues();
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
+  /**
+   * Update paging state from the search response of the page requested.
+   *
+   * @param response search response.
+   * @return OpenSearchResponse.
+   */
+  private OpenSearchResponse handleResponse(SearchResponse response) {
+    if (this.pitId == null) {
+      // Keep paging through composite buckets until the last page is returned
+      searchDone = !advanceCompositeAggregation(response);
+      return new OpenSearchResponse(response, exprValueFactory, includes);
+    }
+    this.searchResponse = response;
+    OpenSearchResponse openSearchResponse =
+        new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+
+    needClean = openSearchResponse.isEmpty();
+    searchDone = openSearchResponse.isEmpty();
+    SearchHit[] searchHits = this.searchResponse.getHits().getHits();
+    if (searchHits != null && searchHits.length > 0) {
+      searchAfter = searchHits[searchHits.length - 1].getSortValues();
+      this.sourceBuilder.searchAfter(searchAfter);
     }
     return openSearchResponse;
   }
 
+  private OpenSearchResponse emptyResponse() {
+    return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+  }
+
+  /**
+   * Move composite aggregation in the request to the next page of buckets by setting its after key
+   * from the given response.
+   *
+   * @param response search response of current page.
+   * @return true if there may be another page of composite buckets.
+   */
+  private boolean advanceCompositeAggregation(SearchResponse response) {
+    if (sourceBuilder.aggregations() == null || response.getAggregations() == null) {
+      return false;
+    }
+    for (AggregationBuilder builder : sourceBuilder.aggregations().getAggregatorFactories()) {
+      if (builder instanceof CompositeAggregationBuilder) {
+        CompositeAggregationBuilder compositeBuilder = (CompositeAggregationBuilder) builder;
+        CompositeAggregation composite = response.getAggregations().get(compositeBuilder.getName());
+        // A page with fewer buckets than requested is the last one
+        if (composite != null
+            && composite.afterKey() != null
+            && composite.getBuckets().size() >= compositeBuilder.size()) {
+          compositeBuilder.aggregateAfter(composite.afterKey());
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     try {
@@ -233,28 +330,38 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     return false;
   }
 
+  @Override
+  public void pushDownFilter(QueryBuilder filter) {
+    sourceBuilder.query(OpenSearchRequest.addFilter(sourceBuilder.query(), filter));
+  }
+
   @Override
   public void writeTo(StreamOutput out) throws IOException {
     if (this.pitId != null) {
-      // Convert SearchSourceBuilder to XContent and write it as a string
-      out.writeString(sourceBuilder.toString());
+      // Search source is written in binary including PIT id and search after values, and prefixed
+      // with the version it is written in since the cursor may be continued on another node.
+      Version.writeVersion(out.getVersion(), out);
+      sourceBuilder.writeTo(out);
 
       out.writeTimeValue(sourceBuilder.timeout());
-      out.writeString(sourceBuilder.pointInTimeBuilder().getId());
       out.writeStringCollection(includes);
       indexName.writeTo(out);
-
-      // Serialize the searchAfter array
-      if (searchAfter != null) {
-        out.writeVInt(searchAfter.length);
-        for (Object obj : searchAfter) {
-          out.writeGenericValue(obj);
-        }
-      }
     } else {
       // OpenSearch Query request without PIT for single page requests
       throw new UnsupportedOperationException(
           "OpenSearchQueryRequest serialization is not implemented.");
     }
   }
+
+  /** Registries of queries and aggregations to read search source, which are built on first use. */
+  private static class SearchRegistries {
+    private static final SearchModule SEARCH_MODULE =
+        new SearchModule(Settings.EMPTY, Collections.emptyList());
+
+    private static final NamedWriteableRegistry WRITEABLE =
+        new NamedWriteableRegistry(SEARCH_MODULE.getNamedWriteables());
+
+    private static final NamedXContentRegistry X_CONTENT =
+        new NamedXContentRegistry(SEARCH_MODULE.getNamedXContents());
+  }
 }
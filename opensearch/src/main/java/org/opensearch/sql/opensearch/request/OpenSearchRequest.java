@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.request;
 
 import java.io.IOException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -13,9 +14,13 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -36,6 +41,19 @@ public interface OpenSearchRequest extends Writeable {
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Apply the search action or scroll action on request asynchronously, which completes the
+   * listener with the response instead of blocking the calling thread until it arrives.
+   *
+   * @param searchAction asynchronous search action.
+   * @param scrollAction asynchronous scroll search action.
+   * @param listener listener of OpenSearchResponse.
+   */
+  void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener);
+
   /**
    * Apply the cleanAction on request.
    *
@@ -50,6 +68,13 @@ public interface OpenSearchRequest extends Writeable {
    */
   OpenSearchExprValueFactory getExprValueFactory();
 
+  /**
+   * Get the names of indices searched.
+   *
+   * @return IndexName.
+   */
+  IndexName getIndexName();
+
   /**
    * Check if there is more data to get from OpenSearch.
    *
@@ -58,6 +83,29 @@ public interface OpenSearchRequest extends Writeable {
    */
   boolean hasAnotherBatch();
 
+  /**
+   * Add filter to the query of the request, which must be called before the first search.
+   *
+   * @param filter query builder of the filter
+   */
+  void pushDownFilter(QueryBuilder filter);
+
+  /**
+   * Combine query with filter in bool query. The filter runs in filter context and doesn't change
+   * the score.
+   *
+   * @param query query which may be null
+   * @param filter filter to add
+   * @return combined query
+   */
+  static QueryBuilder addFilter(QueryBuilder query, QueryBuilder filter) {
+    BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+    if (query != null) {
+      boolQuery.must(query);
+    }
+    return boolQuery.filter(filter);
+  }
+
   /** OpenSearch Index Name. Indices are separated by ",". */
   @EqualsAndHashCode
   class IndexName implements Writeable {
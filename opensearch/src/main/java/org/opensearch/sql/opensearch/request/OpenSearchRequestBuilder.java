@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.join.ScoreMode;
@@ -47,7 +48,10 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /** OpenSearch search request builder. */
 @EqualsAndHashCode
@@ -72,6 +76,10 @@ public class OpenSearchRequestBuilder {
 
   private final Settings settings;
 
+  /** Serializer of expressions in scripts pushed down, which all nodes must be able to decode. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude @Setter
+  private ExpressionSerializer serializer = new DefaultExpressionSerializer();
+
   /** Constructor. */
   public OpenSearchRequestBuilder(
       int requestedTotalSize, OpenSearchExprValueFactory exprValueFactory, Settings settings) {
@@ -95,6 +103,9 @@ public class OpenSearchRequestBuilder {
       int maxResultWindow,
       TimeValue cursorKeepAlive,
       OpenSearchClient client) {
+    if (pageSize == null && sourceBuilder.aggregations() != null) {
+      return buildAggregationRequest(indexName, maxResultWindow);
+    }
     if (this.settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)) {
       return buildRequestWithPit(indexName, maxResultWindow, cursorKeepAlive, client);
     } else {
@@ -102,6 +113,18 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Aggregation is always searched without PIT or scroll, however many groups are requested. Its
+   * composite buckets are paged by after key, whereas PIT and scroll only page through hits. Hits
+   * are not returned for aggregation, so their size only has to stay within max result window.
+   */
+  private OpenSearchRequest buildAggregationRequest(
+      OpenSearchRequest.IndexName indexName, int maxResultWindow) {
+    sourceBuilder.from(startFrom);
+    sourceBuilder.size(Math.max(0, Math.min(requestedTotalSize, maxResultWindow - startFrom)));
+    return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, List.of());
+  }
+
   private OpenSearchRequest buildRequestWithPit(
       OpenSearchRequest.IndexName indexName,
       int maxResultWindow,
@@ -114,8 +137,19 @@ public class OpenSearchRequestBuilder {
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
         sourceBuilder.size(maxResultWindow - startFrom);
+        int sliceCount = sliceCount(indexName, client);
         // Search with PIT request
         String pitId = createPit(indexName, cursorKeepAlive, client);
+        if (sliceCount > 1) {
+          return new OpenSearchSlicedQueryRequest(
+              indexName,
+              sourceBuilder,
+              exprValueFactory,
+              includes,
+              cursorKeepAlive,
+              pitId,
+              sliceCount);
+        }
         return new OpenSearchQueryRequest(
             indexName, sourceBuilder, exprValueFactory, includes, cursorKeepAlive, pitId);
       } else {
@@ -170,6 +204,18 @@ public class OpenSearchRequestBuilder {
     return client.createPit(createPitRequest);
   }
 
+  /**
+   * Number of slices to scan the PIT concurrently, which is bounded by the total number of shards.
+   * Aggregation is never sliced because each slice would only aggregate part of the documents.
+   */
+  private int sliceCount(OpenSearchRequest.IndexName indexName, OpenSearchClient client) {
+    Integer slices = settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES);
+    if (slices == null || slices <= 1 || sourceBuilder.aggregations() != null) {
+      return 1;
+    }
+    return Math.min(slices, new OpenSearchDescribeIndexRequest(client, indexName).getShardCount());
+  }
+
   boolean isBoolFilterQuery(QueryBuilder current) {
     return (current instanceof BoolQueryBuilder);
   }
@@ -209,6 +255,16 @@ public class OpenSearchRequestBuilder {
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
 
+  /**
+   * Push down limit of aggregate query. Only the number of rows returned is bounded because the
+   * size of DSL request must remain 0 for aggregation.
+   *
+   * @param limit maximum number of groups to return.
+   */
+  public void pushDownAggregationLimit(int limit) {
+    requestedTotalSize = Math.min(requestedTotalSize, limit);
+  }
+
   /**
    * Push down sort to DSL request.
    *
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.request;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -18,8 +19,10 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -94,14 +97,35 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     if (isScroll()) {
       openSearchResponse = scrollAction.apply(scrollRequest());
     } else {
-      if (initialSearchRequest == null) {
-        // Probably a first page search (since there is no scroll set) called on a deserialized
-        // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
-        throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
-      }
-      openSearchResponse = searchAction.apply(initialSearchRequest);
+      openSearchResponse = searchAction.apply(firstSearchRequest());
+    }
+    return handleResponse(openSearchResponse);
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    ActionListener<SearchResponse> responseListener =
+        ActionListener.map(listener, this::handleResponse);
+    if (isScroll()) {
+      scrollAction.accept(scrollRequest(), responseListener);
+    } else {
+      searchAction.accept(firstSearchRequest(), responseListener);
     }
+  }
 
+  private SearchRequest firstSearchRequest() {
+    if (initialSearchRequest == null) {
+      // Probably a first page search (since there is no scroll set) called on a deserialized
+      // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
+      throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
+    }
+    return initialSearchRequest;
+  }
+
+  private OpenSearchResponse handleResponse(SearchResponse openSearchResponse) {
     var response = new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
     needClean = response.isEmpty();
     if (!needClean) {
@@ -123,6 +147,15 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     }
   }
 
+  @Override
+  public void pushDownFilter(QueryBuilder filter) {
+    if (initialSearchRequest == null || isScroll()) {
+      throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
+    }
+    SearchSourceBuilder sourceBuilder = initialSearchRequest.source();
+    sourceBuilder.query(OpenSearchRequest.addFilter(sourceBuilder.query(), filter));
+  }
+
   /**
    * Is scroll started which means pages after first is being requested.
    *
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch search request which scans a point in time in slices. Each slice is an {@link
+ * OpenSearchQueryRequest} paging through its own part of the documents by search_after, so that
+ * slices can be fetched concurrently by the index scan. The point in time is shared by all slices
+ * and deleted only once by this request.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchSlicedQueryRequest implements OpenSearchRequest {
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Requests of each slice. */
+  private final List<OpenSearchQueryRequest> slices;
+
+  /** Sort pushed down, or empty if rows of slices are returned in any order. */
+  private final List<SortBuilder<?>> sorts;
+
+  /** OpenSearchExprValueFactory. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** List of includes expected in the response. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  private String pitId;
+
+  /** Index of the slice searched by {@link #search}. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private int current = 0;
+
+  /** Constructor of OpenSearchSlicedQueryRequest. */
+  public OpenSearchSlicedQueryRequest(
+      IndexName indexName,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory factory,
+      List<String> includes,
+      TimeValue cursorKeepAlive,
+      String pitId,
+      int sliceCount) {
+    this.indexName = indexName;
+    this.exprValueFactory = factory;
+    this.includes = includes;
+    this.pitId = pitId;
+    this.sorts = isSortByDocOnly(sourceBuilder.sorts()) ? List.of() : sourceBuilder.sorts();
+    this.slices = new ArrayList<>(sliceCount);
+    for (int id = 0; id < sliceCount; id++) {
+      SearchSourceBuilder slice =
+          sourceBuilder.shallowCopy().slice(new SliceBuilder(id, sliceCount));
+      slices.add(
+          new OpenSearchQueryRequest(indexName, slice, factory, includes, cursorKeepAlive, pitId));
+    }
+  }
+
+  /** Search slices one after another. Index scan fetches slices concurrently instead. */
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    while (current < slices.size()) {
+      OpenSearchResponse response = slices.get(current).search(searchAction, scrollAction);
+      if (!response.isEmpty()) {
+        return response;
+      }
+      current++;
+    }
+    return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+  }
+
+  /** Search slices one after another asynchronously. */
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (current >= slices.size()) {
+      listener.onResponse(new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes));
+      return;
+    }
+    slices
+        .get(current)
+        .searchAsync(
+            searchAction,
+            scrollAction,
+            ActionListener.wrap(
+                response -> {
+                  if (response.isEmpty()) {
+                    current++;
+                    searchAsync(searchAction, scrollAction, listener);
+                  } else {
+                    listener.onResponse(response);
+                  }
+                },
+                listener::onFailure));
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    try {
+      if (pitId != null) {
+        cleanAction.accept(pitId);
+      }
+    } finally {
+      pitId = null;
+    }
+  }
+
+  /** Sliced scan is never paginated. */
+  @Override
+  public boolean hasAnotherBatch() {
+    return false;
+  }
+
+  @Override
+  public void pushDownFilter(QueryBuilder filter) {
+    slices.forEach(slice -> slice.pushDownFilter(filter));
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    throw new UnsupportedOperationException(
+        "OpenSearchSlicedQueryRequest serialization is not implemented.");
+  }
+
+  /** Sort by _doc only is added for consistent paging rather than order of results. */
+  private static boolean isSortByDocOnly(List<SortBuilder<?>> sorts) {
+    return sorts == null
+        || sorts.stream()
+            .allMatch(
+                sort ->
+                    sort instanceof FieldSortBuilder
+                        && DOC_FIELD_NAME.equals(((FieldSortBuilder) sort).getFieldName()));
+  }
+}
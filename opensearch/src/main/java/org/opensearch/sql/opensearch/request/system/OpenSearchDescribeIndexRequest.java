@@ -101,6 +101,20 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
         .get();
   }
 
+  /**
+   * Get total number of primary shards of the indices.
+   *
+   * @return number of shards
+   */
+  public int getShardCount() {
+    return client
+        .getIndexShardCounts(getLocalIndexNames(indexName.getIndexNames()))
+        .values()
+        .stream()
+        .mapToInt(Integer::intValue)
+        .sum();
+  }
+
   private ExprTupleValue row(String fieldName, String fieldType, int position, String clusterName) {
     LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
     valueMap.put("TABLE_CAT", stringValue(clusterName));
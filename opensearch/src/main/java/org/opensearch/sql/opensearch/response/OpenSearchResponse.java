@@ -18,10 +18,13 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -32,6 +35,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleLayout;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** OpenSearch search response. */
@@ -51,6 +55,12 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
   /** OpenSearchExprValueFactory used to build ExprValue from search result. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory exprValueFactory;
 
+  /** Time in milliseconds OpenSearch took to execute the search, or 0 if unknown. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude @Getter private final long tookMillis;
+
+  /** Layout of hit rows, reused by following hits with the same fields. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private TupleLayout layout;
+
   /** Constructor of OpenSearchResponse. */
   public OpenSearchResponse(
       SearchResponse searchResponse,
@@ -60,6 +70,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.tookMillis = (searchResponse.getTook() == null) ? 0 : searchResponse.getTook().getMillis();
   }
 
   /** Constructor of OpenSearchResponse with SearchHits. */
@@ -69,6 +80,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.tookMillis = 0;
   }
 
   /**
@@ -101,15 +113,45 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
                 addParsedHitsToBuilder(builder, hit);
                 addMetaDataFieldsToBuilder(builder, hit);
                 addHighlightsToBuilder(builder, hit);
-                return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
+                ExprTupleValue row = ExprTupleValue.fromExprValueMap(builder.build(), layout);
+                layout = row.layout();
+                return (ExprValue) row;
               })
           .iterator();
     }
   }
 
+  /**
+   * Get sort values of hits in the same order as the rows of {@link #iterator()}.
+   *
+   * @return sort values of each hit
+   */
+  public List<Object[]> sortValues() {
+    if (hits.getHits() == null) {
+      return List.of();
+    }
+    return Arrays.stream(hits.getHits()).map(SearchHit::getSortValues).toList();
+  }
+
+  /**
+   * Get total size of the source of hits, which is what the response costs to transfer and parse.
+   *
+   * @return source size in bytes
+   */
+  public long sourceBytes() {
+    if (hits.getHits() == null) {
+      return 0;
+    }
+    return Arrays.stream(hits.getHits())
+        .map(SearchHit::getSourceRef)
+        .filter(Objects::nonNull)
+        .mapToLong(BytesReference::length)
+        .sum();
+  }
+
   /**
    * Parse response for all hits to add to builder. Inner_hits supports arrays of objects with
-   * nested type.
+   * nested type. The source is parsed from its bytes directly and fields not included are skipped.
    *
    * @param builder builder to build values from response.
    * @param hit Search hit from response.
@@ -118,8 +160,9 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
       ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
     builder.putAll(
         exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
+            .constructFromSource(
+                hit.getSourceRef(),
+                includes,
                 !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
             .tupleValue());
   }
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+/**
+ * User of current request authenticated by the security plugin, resolved from the thread context.
+ * The user info transient, as "name|backend roles|roles|tenant", is only set once a transport
+ * action is authorized, which has not happened yet on the REST path of SQL and PPL. So the user
+ * transient set on authentication and the user header sent between nodes are looked up in turn.
+ * Nothing is found if the security plugin is not installed.
+ */
+public class SecurityContext {
+
+  /** Thread context transient of user info, as "name|backend roles|roles|tenant". */
+  public static final String USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
+  /** Thread context transient of authenticated user, as "User [name=..., backend_roles=...]". */
+  public static final String USER_TRANSIENT = "_opendistro_security_user";
+
+  /** Thread context header of serialized user sent to other nodes. */
+  public static final String USER_HEADER = "_opendistro_security_user_header";
+
+  /** Name in string representation of authenticated user. */
+  private static final Pattern USER_NAME = Pattern.compile("name=([^,\\]]*)");
+
+  /**
+   * Identity of current user, which includes name and roles so that users who may see different
+   * documents or fields have different identities.
+   *
+   * @param threadContext thread context of current request
+   * @return identity of current user, or null if unknown
+   */
+  public static String userIdentity(ThreadContext threadContext) {
+    String userInfo = threadContext.getTransient(USER_INFO_TRANSIENT);
+    if (userInfo != null && !userInfo.isEmpty()) {
+      return userInfo;
+    }
+    Object user = threadContext.getTransient(USER_TRANSIENT);
+    if (user != null) {
+      return user.toString();
+    }
+    return userHeader(threadContext);
+  }
+
+  /**
+   * Name of current user, which is the same whichever of user info or user transient is set. The
+   * user header is serialized by the security plugin and can't be read here, so it stands for the
+   * name if neither transient is set.
+   *
+   * @param threadContext thread context of current request
+   * @return name of current user, or null if unknown
+   */
+  public static String userName(ThreadContext threadContext) {
+    String userInfo = threadContext.getTransient(USER_INFO_TRANSIENT);
+    if (userInfo != null && !userInfo.isEmpty()) {
+      int end = userInfo.indexOf('|');
+      return end < 0 ? userInfo : userInfo.substring(0, end);
+    }
+    Object user = threadContext.getTransient(USER_TRANSIENT);
+    if (user != null) {
+      Matcher matcher = USER_NAME.matcher(user.toString());
+      return matcher.find() ? matcher.group(1) : user.toString();
+    }
+    return userHeader(threadContext);
+  }
+
+  private static String userHeader(ThreadContext threadContext) {
+    String header = threadContext.getHeader(USER_HEADER);
+    return (header == null || header.isEmpty()) ? null : header;
+  }
+
+  private SecurityContext() {}
+}
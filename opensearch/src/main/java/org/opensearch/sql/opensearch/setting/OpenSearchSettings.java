@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.setting;
 import static org.opensearch.common.settings.Settings.EMPTY;
 import static org.opensearch.common.unit.TimeValue.timeValueDays;
 import static org.opensearch.common.unit.TimeValue.timeValueMinutes;
+import static org.opensearch.common.unit.TimeValue.timeValueSeconds;
 import static org.opensearch.sql.common.setting.Settings.Key.ENCYRPTION_MASTER_KEY;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -28,6 +29,7 @@ import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.MemorySizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.common.setting.LegacySettings;
 import org.opensearch.sql.common.setting.Settings;
@@ -78,6 +80,13 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SQL_CURSOR_STORE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.SQL_CURSOR_STORE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> PPL_ENABLED_SETTING =
       Setting.boolSetting(
           Key.PPL_ENABLED.getKeyValue(),
@@ -95,6 +104,18 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  /** Limit of the circuit breaker of memory reserved by queries, which is set on node start. */
+  public static final Setting<ByteSizeValue> QUERY_MEMORY_BREAKER_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_MEMORY_BREAKER_LIMIT.getKeyValue(), "40%", Setting.Property.NodeScope);
+
+  public static final Setting<?> QUERY_SORT_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_SORT_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_SIZE_LIMIT_SETTING =
       Setting.intSetting(
           Key.QUERY_SIZE_LIMIT.getKeyValue(),
@@ -103,6 +124,89 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_BUCKET_SIZE_SETTING =
+      Setting.intSetting(
+          Key.QUERY_BUCKET_SIZE.getKeyValue(),
+          1000,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_SLICES.getKeyValue(),
+          1,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_PAGES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_PREFETCH_PAGES.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ASYNC_EXECUTION_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_ASYNC_EXECUTION_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_RESULT_CACHE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_SIZE_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_RESULT_CACHE_SIZE.getKeyValue(),
+          "1%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_TTL_SETTING =
+      Setting.positiveTimeSetting(
+          Key.QUERY_RESULT_CACHE_TTL.getKeyValue(),
+          timeValueMinutes(1),
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL_SETTING =
+      Setting.positiveTimeSetting(
+          Key.QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL.getKeyValue(),
+          timeValueSeconds(1),
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING =
+      Setting.intSetting(
+          Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING =
+      Setting.intSetting(
+          Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_BATCH_THRESHOLD_SETTING =
+      Setting.intSetting(
+          Key.QUERY_ADMISSION_BATCH_THRESHOLD.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING =
       Setting.longSetting(
           Key.METRICS_ROLLING_WINDOW.getKeyValue(),
@@ -270,6 +374,12 @@ public class OpenSearchSettings extends Settings {
         Key.SQL_PAGINATION_API_SEARCH_AFTER,
         SQL_PAGINATION_API_SEARCH_AFTER_SETTING,
         new Updater(Key.SQL_PAGINATION_API_SEARCH_AFTER));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_CURSOR_STORE_ENABLED,
+        SQL_CURSOR_STORE_ENABLED_SETTING,
+        new Updater(Key.SQL_CURSOR_STORE_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
@@ -282,12 +392,84 @@ public class OpenSearchSettings extends Settings {
         Key.QUERY_MEMORY_LIMIT,
         QUERY_MEMORY_LIMIT_SETTING,
         new Updater(Key.QUERY_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_MEMORY_LIMIT,
+        QUERY_SORT_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_SORT_MEMORY_LIMIT));
     register(
         settingBuilder,
         clusterSettings,
         Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING,
         new Updater(Key.QUERY_SIZE_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_BUCKET_SIZE,
+        QUERY_BUCKET_SIZE_SETTING,
+        new Updater(Key.QUERY_BUCKET_SIZE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_PREFETCH_PAGES,
+        QUERY_SCAN_PREFETCH_PAGES_SETTING,
+        new Updater(Key.QUERY_SCAN_PREFETCH_PAGES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ASYNC_EXECUTION_ENABLED,
+        QUERY_ASYNC_EXECUTION_ENABLED_SETTING,
+        new Updater(Key.QUERY_ASYNC_EXECUTION_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_RESULT_CACHE_ENABLED,
+        QUERY_RESULT_CACHE_ENABLED_SETTING,
+        new Updater(Key.QUERY_RESULT_CACHE_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_RESULT_CACHE_SIZE,
+        QUERY_RESULT_CACHE_SIZE_SETTING,
+        new Updater(Key.QUERY_RESULT_CACHE_SIZE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_RESULT_CACHE_TTL,
+        QUERY_RESULT_CACHE_TTL_SETTING,
+        new Updater(Key.QUERY_RESULT_CACHE_TTL));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL,
+        QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL_SETTING,
+        new Updater(Key.QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER,
+        QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING,
+        new Updater(Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX,
+        QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING,
+        new Updater(Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ADMISSION_BATCH_THRESHOLD,
+        QUERY_ADMISSION_BATCH_THRESHOLD_SETTING,
+        new Updater(Key.QUERY_ADMISSION_BATCH_THRESHOLD));
     register(
         settingBuilder,
         clusterSettings,
@@ -449,9 +631,22 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_CURSOR_KEEP_ALIVE_SETTING)
         .add(SQL_DELETE_ENABLED_SETTING)
         .add(SQL_PAGINATION_API_SEARCH_AFTER_SETTING)
+        .add(SQL_CURSOR_STORE_ENABLED_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
+        .add(QUERY_SORT_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_BUCKET_SIZE_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_SCAN_PREFETCH_PAGES_SETTING)
+        .add(QUERY_ASYNC_EXECUTION_ENABLED_SETTING)
+        .add(QUERY_RESULT_CACHE_ENABLED_SETTING)
+        .add(QUERY_RESULT_CACHE_SIZE_SETTING)
+        .add(QUERY_RESULT_CACHE_TTL_SETTING)
+        .add(QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL_SETTING)
+        .add(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING)
+        .add(QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING)
+        .add(QUERY_ADMISSION_BATCH_THRESHOLD_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
@@ -477,6 +672,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(QUERY_MEMORY_BREAKER_LIMIT_SETTING)
         .build();
   }
 
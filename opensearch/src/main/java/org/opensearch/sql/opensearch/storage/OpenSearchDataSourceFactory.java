@@ -21,6 +21,14 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
 
   private final Settings settings;
 
+  /** Node level cache of index mapping and settings. */
+  private final OpenSearchIndexMetadataCache metadataCache;
+
+  /** Constructor without metadata cache. */
+  public OpenSearchDataSourceFactory(OpenSearchClient client, Settings settings) {
+    this(client, settings, new OpenSearchIndexMetadataCache(0));
+  }
+
   @Override
   public DataSourceType getDataSourceType() {
     return DataSourceType.OPENSEARCH;
@@ -31,6 +39,6 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
     return new DataSource(
         metadata.getName(),
         DataSourceType.OPENSEARCH,
-        new OpenSearchStorageEngine(client, settings));
+        new OpenSearchStorageEngine(client, settings, metadataCache));
   }
 }
@@ -27,6 +27,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalEval;
@@ -65,6 +66,9 @@ public class OpenSearchIndex implements Table {
   /** {@link OpenSearchRequest.IndexName}. */
   private final OpenSearchRequest.IndexName indexName;
 
+  /** Node level cache of index mapping and settings. */
+  private final OpenSearchIndexMetadataCache metadataCache;
+
   /** The cached mapping of field and type in index. */
   private Map<String, OpenSearchDataType> cachedFieldOpenSearchTypes = null;
 
@@ -74,11 +78,21 @@ public class OpenSearchIndex implements Table {
   /** The cached max result window setting of index. */
   private Integer cachedMaxResultWindow = null;
 
-  /** Constructor. */
+  /** Constructor without metadata cache. */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
+    this(client, settings, indexName, new OpenSearchIndexMetadataCache(0));
+  }
+
+  /** Constructor. */
+  public OpenSearchIndex(
+      OpenSearchClient client,
+      Settings settings,
+      String indexName,
+      OpenSearchIndexMetadataCache metadataCache) {
     this.client = client;
     this.settings = settings;
     this.indexName = new OpenSearchRequest.IndexName(indexName);
+    this.metadataCache = metadataCache;
   }
 
   @Override
@@ -111,13 +125,9 @@ public class OpenSearchIndex implements Table {
    */
   @Override
   public Map<String, ExprType> getFieldTypes() {
-    if (cachedFieldOpenSearchTypes == null) {
-      cachedFieldOpenSearchTypes =
-          new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
-    }
     if (cachedFieldTypes == null) {
       cachedFieldTypes =
-          OpenSearchDataType.traverseAndFlatten(cachedFieldOpenSearchTypes).entrySet().stream()
+          OpenSearchDataType.traverseAndFlatten(getFieldOpenSearchTypes()).entrySet().stream()
               .collect(
                   LinkedHashMap::new,
                   (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
@@ -139,7 +149,9 @@ public class OpenSearchIndex implements Table {
   public Map<String, OpenSearchDataType> getFieldOpenSearchTypes() {
     if (cachedFieldOpenSearchTypes == null) {
       cachedFieldOpenSearchTypes =
-          new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
+          metadataCache.getFieldTypes(
+              indexName.toString(),
+              () -> new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes());
     }
     return cachedFieldOpenSearchTypes;
   }
@@ -148,7 +160,9 @@ public class OpenSearchIndex implements Table {
   public Integer getMaxResultWindow() {
     if (cachedMaxResultWindow == null) {
       cachedMaxResultWindow =
-          new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow();
+          metadataCache.getMaxResultWindow(
+              indexName.toString(),
+              () -> new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow());
     }
     return cachedMaxResultWindow;
   }
@@ -163,16 +177,30 @@ public class OpenSearchIndex implements Table {
   @Override
   public TableScanBuilder createScanBuilder() {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
+    final int bucketSize = settings.getSettingValue(Settings.Key.QUERY_BUCKET_SIZE);
 
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
     var builder = new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory(), settings);
+    if (metadataCache.isMinNodeVersionOnOrAfter(CompactExpressionSerializer.MIN_NODE_VERSION)) {
+      builder.setSerializer(new CompactExpressionSerializer());
+    }
     Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
         requestBuilder ->
             new OpenSearchIndexScan(
                 client,
                 requestBuilder.getMaxResponseSize(),
-                requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive, client));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+                requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive, client),
+                getPrefetchPages(requestBuilder));
+    return new OpenSearchIndexScanBuilder(builder, bucketSize, createScanOperator);
+  }
+
+  /**
+   * Number of pages fetched ahead by the index scan. Paginated scan never fetches ahead because
+   * the cursor returned must point to the page right after the current one.
+   */
+  private int getPrefetchPages(OpenSearchRequestBuilder requestBuilder) {
+    Integer prefetchPages = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES);
+    return (prefetchPages == null || requestBuilder.getPageSize() != null) ? 0 : prefetchPages;
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.index.Index;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+
+/**
+ * Node level cache of index mapping and max result window keyed by index pattern. It saves the
+ * GetMappings and GetSettings round trips that {@link OpenSearchIndex} would otherwise issue for
+ * each query. Entries are invalidated on cluster state change when the mapping, settings or aliases
+ * version of any index matched by the pattern changes, or when such index is created or deleted.
+ * Entries are also keyed by the user and roles of current request if security plugin is installed,
+ * because the requests are authorized per user and fields hidden by field level security are not
+ * returned to the user. Besides, the minimum version of nodes in the cluster is tracked so that
+ * requests are only built in a format which all nodes understand.
+ */
+@Log4j2
+public class OpenSearchIndexMetadataCache implements ClusterStateListener {
+
+  /** Default maximum number of index patterns cached. */
+  public static final long DEFAULT_MAX_SIZE = 1000;
+
+  private static final String COMMA = ",";
+
+  /** Cached field types by user and index pattern. */
+  private final Cache<Key, Map<String, OpenSearchDataType>> fieldTypes;
+
+  /** Cached max result window by user and index pattern. */
+  private final Cache<Key, Integer> maxResultWindows;
+
+  /** Thread context to look up the user of current request, or null if no user. */
+  private final ThreadContext threadContext;
+
+  /**
+   * Incremented on each invalidation so that a value loaded concurrently with invalidation, which
+   * may be stale already, is not put into the cache.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /** Number of entries invalidated by cluster state change. */
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  /** Minimum version of nodes in the cluster, or null if no cluster state seen yet. */
+  private volatile Version minNodeVersion;
+
+  /** Constructor with default maximum size. */
+  public OpenSearchIndexMetadataCache(ThreadContext threadContext) {
+    this(DEFAULT_MAX_SIZE, threadContext);
+  }
+
+  /** Constructor of cache without user. A cache with maximum size 0 doesn't cache anything. */
+  public OpenSearchIndexMetadataCache(long maxSize) {
+    this(maxSize, null);
+  }
+
+  /** Constructor. */
+  public OpenSearchIndexMetadataCache(long maxSize, ThreadContext threadContext) {
+    this.fieldTypes = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.maxResultWindows = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.threadContext = threadContext;
+  }
+
+  /**
+   * Get field types of the given index pattern for current user, load and cache it if absent.
+   *
+   * @param indexPattern index pattern
+   * @param loader function to load field types from cluster
+   * @return field types which is unmodifiable
+   */
+  public Map<String, OpenSearchDataType> getFieldTypes(
+      String indexPattern, Supplier<Map<String, OpenSearchDataType>> loader) {
+    return get(fieldTypes, indexPattern, () -> Collections.unmodifiableMap(loader.get()));
+  }
+
+  /**
+   * Get max result window of the given index pattern for current user, load and cache it if
+   * absent.
+   *
+   * @param indexPattern index pattern
+   * @param loader function to load max result window from cluster
+   * @return max result window
+   */
+  public Integer getMaxResultWindow(String indexPattern, Supplier<Integer> loader) {
+    return get(maxResultWindows, indexPattern, loader);
+  }
+
+  private <T> T get(Cache<Key, T> cache, String indexPattern, Supplier<T> loader) {
+    if (!isCacheable(indexPattern)) {
+      return loader.get();
+    }
+
+    String user = (threadContext == null) ? null : SecurityContext.userIdentity(threadContext);
+    Key key = new Key(user, indexPattern);
+    T value = cache.getIfPresent(key);
+    if (value == null) {
+      long current = generation.get();
+      value = loader.get();
+      synchronized (this) {
+        if (current == generation.get()) {
+          cache.put(key, value);
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Check if all nodes in the cluster are on or after the given version. It is false until any
+   * cluster state is seen.
+   *
+   * @param version version required
+   * @return true if minimum version of nodes is known and on or after the given version
+   */
+  public boolean isMinNodeVersionOnOrAfter(Version version) {
+    Version current = minNodeVersion;
+    return current != null && current.onOrAfter(version);
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (event.nodesChanged()) {
+      minNodeVersion = event.state().nodes().getMinNodeVersion();
+    }
+    if (!event.metadataChanged()) {
+      return;
+    }
+
+    Set<String> changedNames = changedIndexNames(event);
+    if (!changedNames.isEmpty()) {
+      invalidateIf(indexPattern -> matchesAny(indexPattern, changedNames));
+    }
+  }
+
+  /** Invalidate all entries. */
+  public void invalidateAll() {
+    invalidateIf(indexPattern -> true);
+  }
+
+  private synchronized void invalidateIf(Predicate<String> predicate) {
+    generation.incrementAndGet();
+    Set<Key> keys = new HashSet<>(fieldTypes.asMap().keySet());
+    keys.addAll(maxResultWindows.asMap().keySet());
+    for (Key key : keys) {
+      if (predicate.test(key.indexPattern)) {
+        log.debug("Invalidate cached metadata of index pattern [{}]", key.indexPattern);
+        fieldTypes.invalidate(key);
+        maxResultWindows.invalidate(key);
+        invalidationCount.incrementAndGet();
+      }
+    }
+  }
+
+  public long hitCount() {
+    return fieldTypes.stats().hitCount() + maxResultWindows.stats().hitCount();
+  }
+
+  public long missCount() {
+    return fieldTypes.stats().missCount() + maxResultWindows.stats().missCount();
+  }
+
+  /** Number of entries evicted by size limit or invalidated by cluster state change. */
+  public long evictionCount() {
+    return fieldTypes.stats().evictionCount()
+        + maxResultWindows.stats().evictionCount()
+        + invalidationCount.get();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return fieldTypes.size() + maxResultWindows.size();
+  }
+
+  /**
+   * Cross cluster index pattern is skipped because remote cluster state change is invisible here.
+   * So is date math index name which resolves to different indices as time goes.
+   */
+  private boolean isCacheable(String indexPattern) {
+    return !indexPattern.contains(":") && !indexPattern.contains("<");
+  }
+
+  /**
+   * Collect names and aliases of indices whose mapping, settings or aliases changed, including
+   * created and deleted indices.
+   */
+  private Set<String> changedIndexNames(ClusterChangedEvent event) {
+    Metadata previous = event.previousState().metadata();
+    Set<String> names = new HashSet<>();
+    for (IndexMetadata index : event.state().metadata()) {
+      IndexMetadata old = previous.index(index.getIndex());
+      if (old == null) {
+        addNames(names, index);
+      } else if (old.getMappingVersion() != index.getMappingVersion()
+          || old.getSettingsVersion() != index.getSettingsVersion()
+          || old.getAliasesVersion() != index.getAliasesVersion()) {
+        addNames(names, old);
+        addNames(names, index);
+      }
+    }
+    for (Index deleted : event.indicesDeleted()) {
+      IndexMetadata old = previous.index(deleted);
+      if (old == null) {
+        names.add(deleted.getName());
+      } else {
+        addNames(names, old);
+      }
+    }
+    return names;
+  }
+
+  private void addNames(Set<String> names, IndexMetadata index) {
+    names.add(index.getIndex().getName());
+    names.addAll(index.getAliases().keySet());
+  }
+
+  /** Exclusion in index pattern is treated as match conservatively. */
+  private boolean matchesAny(String indexPattern, Set<String> names) {
+    return Arrays.stream(indexPattern.split(COMMA))
+        .anyMatch(
+            part ->
+                Metadata.ALL.equals(part)
+                    || part.startsWith("-")
+                    || names.stream().anyMatch(name -> Regex.simpleMatch(part, name)));
+  }
+
+  /** Cache key of index pattern queried by a user. */
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class Key {
+    private final String user;
+    private final String indexPattern;
+  }
+}
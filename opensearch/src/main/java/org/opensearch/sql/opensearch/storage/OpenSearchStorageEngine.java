@@ -25,12 +25,20 @@ public class OpenSearchStorageEngine implements StorageEngine {
 
   @Getter private final Settings settings;
 
+  /** Node level cache of index mapping and settings shared by all tables. */
+  private final OpenSearchIndexMetadataCache metadataCache;
+
+  /** Constructor without metadata cache. */
+  public OpenSearchStorageEngine(OpenSearchClient client, Settings settings) {
+    this(client, settings, new OpenSearchIndexMetadataCache(0));
+  }
+
   @Override
   public Table getTable(DataSourceSchemaName dataSourceSchemaName, String name) {
     if (isSystemIndex(name)) {
       return new OpenSearchSystemIndex(client, name);
     } else {
-      return new OpenSearchIndex(client, settings, name);
+      return new OpenSearchIndex(client, settings, name, metadataCache);
     }
   }
 }
@@ -8,23 +8,42 @@ package org.opensearch.sql.opensearch.storage.scan;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.monitor.AlwaysHealthyMonitor;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedQueryRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.RuntimeFilter;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch index scan operator. */
@@ -32,14 +51,24 @@ import org.opensearch.sql.storage.TableScanOperator;
 @ToString(onlyExplicitlyIncluded = true)
 public class OpenSearchIndexScan extends TableScanOperator implements SerializablePlan {
 
+  /** Max times to wait before fetching next page while the resource is under pressure. */
+  static final int MAX_THROTTLE_WAITS = 5;
+
+  /** Milliseconds to wait each time before fetching next page under pressure. */
+  static final long THROTTLE_WAIT_MILLIS = 50;
+
+  /** Types of values which fields of integral types index as terms. */
+  private static final Set<ExprType> INTEGRAL_TYPES =
+      Set.of(ExprCoreType.BYTE, ExprCoreType.SHORT, ExprCoreType.INTEGER, ExprCoreType.LONG);
+
   /** OpenSearch client. */
   private OpenSearchClient client;
 
   /** Search request. */
-  @EqualsAndHashCode.Include @ToString.Include private OpenSearchRequest request;
+  @Getter @EqualsAndHashCode.Include @ToString.Include private OpenSearchRequest request;
 
   /** Largest number of rows allowed in the response. */
-  @EqualsAndHashCode.Include @ToString.Include private int maxResponseSize;
+  @Getter @EqualsAndHashCode.Include @ToString.Include private int maxResponseSize;
 
   /** Number of rows returned. */
   private Integer queryCount;
@@ -47,12 +76,43 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Fetcher of slices if the request is sliced, or null otherwise. */
+  private SlicedScanFetcher slicedFetcher;
+
+  /** Number of pages fetched ahead asynchronously, or 0 to fetch each page when needed. */
+  private int prefetchPages;
+
+  /** Fetcher of pages ahead if prefetch is enabled, or null otherwise. */
+  private PrefetchScanFetcher prefetcher;
+
+  /** First page fetched asynchronously before the scan is opened, or null otherwise. */
+  private OpenSearchResponse firstPage;
+
+  /** Number of pages of search response taken by the scan. */
+  private long fetchedPages;
+
+  /** Total size in bytes of the source of hits in the pages taken. */
+  private long fetchedBytes;
+
+  /** Total time in milliseconds OpenSearch took to execute the searches of the pages taken. */
+  private long tookMillis;
+
+  /** Monitor of the resource which page fetching slows down or fails on pressure of. */
+  @Setter private ResourceMonitor resourceMonitor = AlwaysHealthyMonitor.ALWAYS_HEALTHY_MONITOR;
+
   /** Creates index scan based on a provided OpenSearchRequestBuilder. */
   public OpenSearchIndexScan(
       OpenSearchClient client, int maxResponseSize, OpenSearchRequest request) {
+    this(client, maxResponseSize, request, 0);
+  }
+
+  /** Creates index scan which fetches the given number of pages ahead. */
+  public OpenSearchIndexScan(
+      OpenSearchClient client, int maxResponseSize, OpenSearchRequest request, int prefetchPages) {
     this.client = client;
     this.maxResponseSize = maxResponseSize;
     this.request = request;
+    this.prefetchPages = prefetchPages;
   }
 
   @Override
@@ -60,7 +120,46 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     super.open();
     iterator = Collections.emptyIterator();
     queryCount = 0;
-    fetchNextBatch();
+    if (request instanceof OpenSearchSlicedQueryRequest slicedRequest) {
+      slicedFetcher = new SlicedScanFetcher(client, slicedRequest);
+      iterator = slicedFetcher;
+    } else if (firstPage == null) {
+      if (prefetchPages > 0) {
+        prefetcher = newPrefetcher();
+      }
+      fetchNextBatch();
+    } else {
+      // Pages ahead depend on the response of first page, so they are fetched only after it
+      if (!firstPage.isEmpty()) {
+        take(firstPage);
+        if (prefetchPages > 0) {
+          prefetcher = newPrefetcher();
+        }
+      }
+      firstPage = null;
+    }
+  }
+
+  /**
+   * Fetch the first page asynchronously before the scan is opened, so no thread is blocked while
+   * waiting for the search response. The page is taken when the scan is opened. Sliced scan
+   * completes the listener right away because its slices are fetched concurrently on open.
+   *
+   * @param listener listener completed once the first page is fetched
+   */
+  public void fetchFirstPage(ActionListener<Void> listener) {
+    if (request instanceof OpenSearchSlicedQueryRequest) {
+      listener.onResponse(null);
+      return;
+    }
+    client.searchAsync(
+        request,
+        ActionListener.wrap(
+            response -> {
+              firstPage = response;
+              listener.onResponse(null);
+            },
+            listener::onFailure));
   }
 
   @Override
@@ -79,10 +178,85 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return iterator.next();
   }
 
+  /**
+   * Build batch from rows of current search response only, so a batch never waits for another
+   * search request once it has rows.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    if (!hasNext()) {
+      return RowBatch.EMPTY;
+    }
+    int size = Math.min(maxSize, maxResponseSize - queryCount);
+    List<ExprValue> rows = new ArrayList<>(Math.min(size, RowBatch.DEFAULT_SIZE));
+    while (rows.size() < size && iterator.hasNext()) {
+      rows.add(iterator.next());
+    }
+    queryCount += rows.size();
+    return RowBatch.of(rows);
+  }
+
+  private PrefetchScanFetcher newPrefetcher() {
+    return new PrefetchScanFetcher(
+        client, request, prefetchPages, resourceMonitor::isUnderPressure);
+  }
+
   private void fetchNextBatch() {
+    if (slicedFetcher != null) {
+      return;
+    }
+    throttle();
+    if (prefetcher != null) {
+      OpenSearchResponse page = prefetcher.nextPage();
+      if (page != null) {
+        take(page);
+      }
+      return;
+    }
     OpenSearchResponse response = client.search(request);
     if (!response.isEmpty()) {
-      iterator = response.iterator();
+      take(response);
+    }
+  }
+
+  /** Iterate rows of the page and record what it costs to fetch. */
+  private void take(OpenSearchResponse page) {
+    iterator = page.iterator();
+    fetchedPages++;
+    fetchedBytes += page.sourceBytes();
+    tookMillis += page.getTookMillis();
+  }
+
+  /**
+   * Statistics of the pages taken by the scan for explain analyze. Slices of sliced scan are
+   * fetched concurrently by {@link SlicedScanFetcher}, so they are not counted.
+   *
+   * @return statistics by name in order
+   */
+  public Map<String, Object> fetchStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("pages", fetchedPages);
+    stats.put("bytes", fetchedBytes);
+    stats.put("tookMillis", tookMillis);
+    return stats;
+  }
+
+  /**
+   * Wait a bit before fetching next page while the resource is under pressure, which gives GC a
+   * chance to reclaim memory, and fail the scan if the resource becomes unhealthy. The scan goes
+   * on fetching after a bounded wait even if still under pressure.
+   */
+  private void throttle() {
+    for (int i = 0; i < MAX_THROTTLE_WAITS && resourceMonitor.isUnderPressure(); i++) {
+      if (!resourceMonitor.isHealthy()) {
+        throw new IllegalStateException("insufficient resources to run the query, quit.");
+      }
+      try {
+        Thread.sleep(THROTTLE_WAIT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
     }
   }
 
@@ -90,9 +264,85 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   public void close() {
     super.close();
 
+    if (slicedFetcher != null) {
+      slicedFetcher.close();
+    }
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
     client.cleanup(request);
   }
 
+  /**
+   * Push down runtime filter as terms query on distinct values, or range query on min and max if
+   * too many values. It is only pushed down on a field of index mapping whose type the values
+   * match, because a search with aggregation returns aggregation outputs rather than fields of
+   * index, and OpenSearch fails a query with values it can't parse into the field type. Text field
+   * is filtered on its keyword subfield since its own terms are analyzed. Values longer than
+   * ignore_above of keyword are not indexed, so no filter is pushed down if any value may be
+   * longer, which range on min and max can't tell.
+   */
+  @Override
+  public boolean pushDownRuntimeFilter(RuntimeFilter filter) {
+    OpenSearchExprValueFactory exprValueFactory = request.getExprValueFactory();
+    if (exprValueFactory.getParser() != null) {
+      return false;
+    }
+    String fieldName = filter.getField().getAttr();
+    OpenSearchDataType fieldType = exprValueFactory.fieldType(fieldName).orElse(null);
+    if (fieldType instanceof OpenSearchTextType textType) {
+      fieldType = textType.getFields().get("keyword");
+      fieldName = OpenSearchTextType.convertTextToKeyword(fieldName, textType);
+    }
+    if (fieldType == null) {
+      return false;
+    }
+
+    ExprCoreType type = fieldType.getExprCoreType();
+    Integer ignoreAbove = fieldType.getIgnoreAbove();
+    if (filter.getValues() != null) {
+      if (!filter.getValues().stream().allMatch(value -> isTermOf(type, ignoreAbove, value))) {
+        return false;
+      }
+      request.pushDownFilter(
+          QueryBuilders.termsQuery(
+              fieldName, filter.getValues().stream().map(ExprValue::value).toList()));
+    } else {
+      if (ignoreAbove != null
+          || !isTermOf(type, null, filter.getMin())
+          || !isTermOf(type, null, filter.getMax())) {
+        return false;
+      }
+      request.pushDownFilter(
+          QueryBuilders.rangeQuery(fieldName)
+              .gte(filter.getMin().value())
+              .lte(filter.getMax().value()));
+    }
+    return true;
+  }
+
+  /** Whether value is a term that field of the type indexes, e.g. no fraction for integers. */
+  private static boolean isTermOf(ExprCoreType type, Integer ignoreAbove, ExprValue value) {
+    ExprType valueType = value.type();
+    switch (type) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        return INTEGRAL_TYPES.contains(valueType);
+      case FLOAT:
+      case DOUBLE:
+        return ExprCoreType.numberTypes().contains(valueType);
+      case BOOLEAN:
+        return valueType == ExprCoreType.BOOLEAN;
+      case STRING:
+        return valueType == ExprCoreType.STRING
+            && (ignoreAbove == null || value.stringValue().length() <= ignoreAbove);
+      default:
+        return false;
+    }
+  }
+
   @Override
   public String explain() {
     return request.toString();
@@ -119,9 +369,8 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
       read += currentRead;
     } while (read < reqSize);
 
-    var engine =
-        (OpenSearchStorageEngine)
-            ((PlanSerializer.CursorDeserializationStream) in).resolveObject("engine");
+    var cursorStream = (PlanSerializer.CursorDeserializationStream) in;
+    var engine = (OpenSearchStorageEngine) cursorStream.resolveObject("engine");
 
     client = engine.getClient();
     boolean pointInTimeEnabled =
@@ -129,7 +378,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
             client.meta().get(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER.getKeyValue()));
     try (BytesStreamInput bsi = new BytesStreamInput(requestStream)) {
       if (pointInTimeEnabled) {
-        request = new OpenSearchQueryRequest(bsi, engine);
+        request = new OpenSearchQueryRequest(bsi, engine, cursorStream.isLegacyFormat());
       } else {
         request = new OpenSearchScrollRequest(bsi, engine);
       }
@@ -19,9 +19,9 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 /** Index scan builder for aggregate query used by {@link OpenSearchIndexScanBuilder} internally. */
@@ -40,20 +40,38 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
   /** Sorting items pushed down. */
   private List<Pair<Sort.SortOption, Expression>> sortList;
 
+  /** Number of composite buckets fetched in each page. */
+  private final int bucketSize;
+
+  /** Maximum number of groups to return, null if no limit pushed down. */
+  private Integer limit;
+
   OpenSearchIndexScanAggregationBuilder(
       OpenSearchRequestBuilder requestBuilder, LogicalAggregation aggregation) {
+    this(requestBuilder, aggregation, AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE);
+  }
+
+  OpenSearchIndexScanAggregationBuilder(
+      OpenSearchRequestBuilder requestBuilder, LogicalAggregation aggregation, int bucketSize) {
     this.requestBuilder = requestBuilder;
+    this.bucketSize = bucketSize;
     aggregatorList = aggregation.getAggregatorList();
     groupByList = aggregation.getGroupByList();
   }
 
   @Override
   public OpenSearchRequestBuilder build() {
+    // No need to fetch a full page of buckets if fewer groups are requested
     AggregationQueryBuilder builder =
-        new AggregationQueryBuilder(new DefaultExpressionSerializer());
+        new AggregationQueryBuilder(
+            requestBuilder.getSerializer(),
+            limit == null ? bucketSize : Math.min(bucketSize, limit));
     Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
         builder.buildAggregationBuilder(aggregatorList, groupByList, sortList);
     requestBuilder.pushDownAggregation(aggregationBuilder);
+    if (limit != null) {
+      requestBuilder.pushDownAggregationLimit(limit);
+    }
     requestBuilder.pushTypeMapping(builder.buildTypeMapping(aggregatorList, groupByList));
     return requestBuilder;
   }
@@ -65,7 +83,8 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
 
   @Override
   public boolean pushDownSort(LogicalSort sort) {
-    if (hasAggregatorInSortBy(sort)) {
+    // Sort above a pushed down limit applies to the limited groups only
+    if (limit != null || hasAggregatorInSortBy(sort)) {
       return false;
     }
 
@@ -73,6 +92,19 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     return true;
   }
 
+  /**
+   * Push down limit without offset so that the index scan stops paging through composite buckets
+   * once enough groups are returned. Limit with offset or zero limit is kept in the plan.
+   */
+  @Override
+  public boolean pushDownLimit(LogicalLimit limit) {
+    if (limit.getLimit() <= 0 || limit.getOffset() != 0) {
+      return false;
+    }
+    this.limit = limit.getLimit();
+    return true;
+  }
+
   private boolean hasAggregatorInSortBy(LogicalSort sort) {
     final Set<String> aggregatorNames =
         aggregatorList.stream().map(NamedAggregator::getName).collect(Collectors.toSet());
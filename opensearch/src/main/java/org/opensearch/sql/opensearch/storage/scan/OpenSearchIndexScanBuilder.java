@@ -11,6 +11,7 @@ import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
@@ -37,11 +38,23 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
+  /** Number of composite buckets fetched in each page for aggregate query. */
+  private final int bucketSize;
+
   /** Constructor used during query execution. */
   public OpenSearchIndexScanBuilder(
       OpenSearchRequestBuilder requestBuilder,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    this(requestBuilder, AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE, scanFactory);
+  }
+
+  /** Constructor used during query execution with composite bucket page size. */
+  public OpenSearchIndexScanBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      int bucketSize,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
     this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
+    this.bucketSize = bucketSize;
     this.scanFactory = scanFactory;
   }
 
@@ -50,6 +63,7 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
       PushDownQueryBuilder translator,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
     this.delegate = translator;
+    this.bucketSize = AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE;
     this.scanFactory = scanFactory;
   }
 
@@ -71,7 +85,8 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
     // Switch to builder for aggregate query which has different push down logic
     //  for later filter, sort and limit operator.
-    delegate = new OpenSearchIndexScanAggregationBuilder(delegate.build(), aggregation);
+    delegate =
+        new OpenSearchIndexScanAggregationBuilder(delegate.build(), aggregation, bucketSize);
     return true;
   }
 
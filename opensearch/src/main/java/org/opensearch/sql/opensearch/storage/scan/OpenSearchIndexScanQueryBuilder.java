@@ -25,7 +25,6 @@ import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -50,7 +49,7 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
-    FilterQueryBuilder queryBuilder = new FilterQueryBuilder(new DefaultExpressionSerializer());
+    FilterQueryBuilder queryBuilder = new FilterQueryBuilder(requestBuilder.getSerializer());
     Expression queryCondition = filter.getCondition();
     QueryBuilder query = queryBuilder.build(queryCondition);
     requestBuilder.pushDownFilter(query);
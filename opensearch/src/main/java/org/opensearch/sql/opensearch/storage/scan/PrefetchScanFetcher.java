@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch pages of {@link OpenSearchRequest} ahead of the index scan, so that the network fetch of
+ * next pages overlaps with processing rows of current page. Because search_after and scroll
+ * requests depend on the previous response, pages are still fetched one after another, and at
+ * most the given number of pages is fetched or being fetched ahead. While throttled, for example
+ * because memory is under pressure, only one page is fetched ahead.
+ */
+public class PrefetchScanFetcher {
+
+  /** Number of pages already fetched when taken by the scan. */
+  private static final LongAdder HITS = new LongAdder();
+
+  /** Number of pages the scan had to wait for. */
+  private static final LongAdder STALLS = new LongAdder();
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest request;
+
+  private final Executor executor;
+
+  private final int maxPages;
+
+  /** Whether to fetch only one page ahead for now. */
+  private final BooleanSupplier throttled;
+
+  /** Pages fetched or being fetched ahead in order. Null response means fetch stopped. */
+  private final Deque<CompletableFuture<OpenSearchResponse>> pages = new ArrayDeque<>();
+
+  /** Last page in the fetch chain which next page depends on. */
+  private CompletableFuture<OpenSearchResponse> last;
+
+  private boolean exhausted = false;
+
+  private volatile boolean closed = false;
+
+  PrefetchScanFetcher(OpenSearchClient client, OpenSearchRequest request, int maxPages) {
+    this(client, request, maxPages, () -> false);
+  }
+
+  PrefetchScanFetcher(
+      OpenSearchClient client,
+      OpenSearchRequest request,
+      int maxPages,
+      BooleanSupplier throttled) {
+    this.client = client;
+    this.request = request;
+    this.executor = client.scanExecutor();
+    this.maxPages = maxPages;
+    this.throttled = throttled;
+    prefetch();
+  }
+
+  /**
+   * Take next page and start fetching another page in place of it.
+   *
+   * @return response of next page, or null if no more rows
+   */
+  OpenSearchResponse nextPage() {
+    if (exhausted || closed) {
+      return null;
+    }
+    CompletableFuture<OpenSearchResponse> page = pages.poll();
+    if (page.isDone()) {
+      HITS.increment();
+    } else {
+      STALLS.increment();
+    }
+    OpenSearchResponse response = join(page);
+    if (response == null || response.isEmpty()) {
+      exhausted = true;
+      pages.clear();
+      return null;
+    }
+    prefetch();
+    return response;
+  }
+
+  /** Stop fetching and wait for the page being fetched, so the request can be cleaned safely. */
+  void close() {
+    closed = true;
+    pages.clear();
+    if (last != null) {
+      last.handle((response, error) -> null).join();
+    }
+  }
+
+  private void prefetch() {
+    int depth = throttled.getAsBoolean() ? 1 : maxPages;
+    while (pages.size() < depth) {
+      last =
+          (last == null)
+              ? CompletableFuture.supplyAsync(this::search, executor)
+              : last.thenApplyAsync(
+                  previous -> (previous == null || previous.isEmpty()) ? null : search(),
+                  executor);
+      pages.add(last);
+    }
+  }
+
+  private OpenSearchResponse search() {
+    return closed ? null : client.search(request);
+  }
+
+  private static OpenSearchResponse join(CompletableFuture<OpenSearchResponse> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** Total number of pages already fetched when taken by index scans. */
+  public static long hitCount() {
+    return HITS.sum();
+  }
+
+  /** Total number of pages which index scans had to wait for. */
+  public static long stallCount() {
+    return STALLS.sum();
+  }
+}
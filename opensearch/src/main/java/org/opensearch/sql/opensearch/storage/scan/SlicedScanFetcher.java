@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedQueryRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch slices of {@link OpenSearchSlicedQueryRequest} concurrently and merge their rows. Each
+ * slice has at most one page being fetched ahead, so pages handed off to the scan are bounded by
+ * number of slices. Without sort pushed down, pages are returned in the order they arrive.
+ * Otherwise, rows of slices are k-way merged by the sort values of hits.
+ */
+class SlicedScanFetcher implements Iterator<ExprValue> {
+
+  private final OpenSearchClient client;
+
+  private final Executor executor;
+
+  /** Comparator of sort values, or null if rows are returned in any order. */
+  private final Comparator<Object[]> comparator;
+
+  /** All the slices, each of which has a page being fetched until exhausted. */
+  private final List<Slice> slices;
+
+  /** Slices of which the page being fetched arrived, in the order of arrival. */
+  private final BlockingQueue<Slice> arrived;
+
+  /** Slices ordered by sort values of their current row, used for sorted merge only. */
+  private final PriorityQueue<Slice> heads;
+
+  /** Number of slices not finished yet, used for unordered merge only. */
+  private int active;
+
+  /** Slice of which rows are being returned, used for unordered merge only. */
+  private Slice current;
+
+  private volatile boolean closed = false;
+
+  SlicedScanFetcher(OpenSearchClient client, OpenSearchSlicedQueryRequest request) {
+    List<OpenSearchQueryRequest> requests = request.getSlices();
+    this.client = client;
+    this.executor = client.scanExecutor();
+    this.comparator = request.getSorts().isEmpty() ? null : sortValueComparator(request.getSorts());
+    this.arrived = new ArrayBlockingQueue<>(requests.size());
+    this.heads = new PriorityQueue<>(requests.size(), (s1, s2) -> compare(s1, s2));
+    this.active = requests.size();
+
+    this.slices = requests.stream().map(Slice::new).toList();
+    slices.forEach(Slice::fetch);
+    if (comparator != null) {
+      for (Slice slice : slices) {
+        if (slice.advance()) {
+          heads.add(slice);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (comparator != null) {
+      return !heads.isEmpty();
+    }
+    while (current == null || !current.rows.hasNext()) {
+      if (active == 0) {
+        return false;
+      }
+      Slice slice = takeArrived();
+      if (slice.takePage()) {
+        current = slice;
+      } else {
+        active--;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ExprValue next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    if (comparator == null) {
+      return current.rows.next();
+    }
+    Slice slice = heads.poll();
+    ExprValue row = slice.row;
+    if (slice.advance()) {
+      heads.add(slice);
+    }
+    return row;
+  }
+
+  /**
+   * Stop fetching next pages and returning rows. Pages being fetched are discarded once they
+   * arrive, which is waited for so that the point in time searched can be deleted safely.
+   */
+  void close() {
+    closed = true;
+    for (Slice slice : slices) {
+      slice.pending.handle((response, error) -> null).join();
+    }
+  }
+
+  private Slice takeArrived() {
+    try {
+      return arrived.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for slices of index scan", e);
+    }
+  }
+
+  private int compare(Slice s1, Slice s2) {
+    return comparator.compare(s1.sortValue, s2.sortValue);
+  }
+
+  /**
+   * Compare sort values in the same way as OpenSearch sorts hits. Missing value is placed last
+   * unless the sort specifies missing first, regardless of sort order.
+   */
+  static Comparator<Object[]> sortValueComparator(List<SortBuilder<?>> sorts) {
+    return (left, right) -> {
+      for (int i = 0; i < sorts.size(); i++) {
+        SortBuilder<?> sort = sorts.get(i);
+        Object l = left[i];
+        Object r = right[i];
+        int result;
+        if (l == null || r == null) {
+          boolean missingFirst =
+              sort instanceof FieldSortBuilder
+                  && "_first".equals(((FieldSortBuilder) sort).missing());
+          result = (l == r) ? 0 : ((l == null) == missingFirst ? -1 : 1);
+        } else {
+          @SuppressWarnings("unchecked")
+          int compared = ((Comparable<Object>) l).compareTo(r);
+          result = (sort.order() == SortOrder.DESC) ? -compared : compared;
+        }
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  /** A slice with its current page and the next page being fetched ahead. */
+  private class Slice {
+    private final OpenSearchQueryRequest request;
+
+    private CompletableFuture<OpenSearchResponse> pending;
+
+    private Iterator<ExprValue> rows = Collections.emptyIterator();
+
+    private Iterator<Object[]> sortValues = Collections.emptyIterator();
+
+    private boolean done = false;
+
+    /** Current row and its sort values, used for sorted merge only. */
+    private ExprValue row;
+
+    private Object[] sortValue;
+
+    Slice(OpenSearchQueryRequest request) {
+      this.request = request;
+    }
+
+    void fetch() {
+      pending = CompletableFuture.supplyAsync(() -> client.search(request), executor);
+      if (comparator == null) {
+        pending.whenComplete((response, error) -> arrived.add(this));
+      }
+    }
+
+    /**
+     * Take the page fetched and start fetching next page, unless the slice is exhausted.
+     *
+     * @return true if there are rows in the page taken
+     */
+    boolean takePage() {
+      OpenSearchResponse response = join();
+      if (response.isEmpty()) {
+        done = true;
+        return false;
+      }
+      rows = response.iterator();
+      if (comparator != null) {
+        sortValues = response.sortValues().iterator();
+      }
+      if (!closed) {
+        fetch();
+      }
+      return true;
+    }
+
+    /**
+     * Move to next row of the slice, waiting for next page if current page is exhausted.
+     *
+     * @return true if there is another row
+     */
+    boolean advance() {
+      while (!rows.hasNext()) {
+        if (done || !takePage()) {
+          return false;
+        }
+      }
+      row = rows.next();
+      sortValue = sortValues.next();
+      return true;
+    }
+
+    private OpenSearchResponse join() {
+      try {
+        return pending.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -5,11 +5,12 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
 import org.opensearch.script.ScriptContext;
@@ -21,14 +22,18 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
  * Custom expression script engine that supports using core engine expression code in DSL as a new
- * script language just like built-in Painless language.
+ * script language just like built-in Painless language. Expressions deserialized are cached by
+ * script code on this node, so the same script of queries submitted repeatedly or sent to many
+ * shards is deserialized only once.
  */
-@RequiredArgsConstructor
 public class ExpressionScriptEngine implements ScriptEngine {
 
   /** Expression script language name. */
   public static final String EXPRESSION_LANG_NAME = "opensearch_query_expression";
 
+  /** Default maximum number of expressions cached. */
+  public static final long DEFAULT_CACHE_SIZE = 1000;
+
   /** All supported script contexts and function to create factory from expression. */
   private static final Map<ScriptContext<?>, Function<Expression, Object>> CONTEXTS =
       new ImmutableMap.Builder<ScriptContext<?>, Function<Expression, Object>>()
@@ -39,6 +44,20 @@ public class ExpressionScriptEngine implements ScriptEngine {
   /** Expression serializer that (de-)serializes expression. */
   private final ExpressionSerializer serializer;
 
+  /** Expressions deserialized by script code. */
+  private final Cache<String, Expression> expressionCache;
+
+  /** Create expression script engine with expression cache of default size. */
+  public ExpressionScriptEngine(ExpressionSerializer serializer) {
+    this(serializer, DEFAULT_CACHE_SIZE);
+  }
+
+  /** Create expression script engine. An expression cache of size 0 doesn't cache anything. */
+  public ExpressionScriptEngine(ExpressionSerializer serializer, long cacheSize) {
+    this.serializer = serializer;
+    this.expressionCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+  }
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -47,25 +66,39 @@ public class ExpressionScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> params) {
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(
+          String.format(
+              "Script context is currently not supported: "
+                  + "all supported contexts [%s], given context [%s] ",
+              CONTEXTS, context));
+    }
+
     /*
      * Note that in fact the expression source is already compiled in query engine.
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
-
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    Expression expression = expressionCache.getIfPresent(scriptCode);
+    if (expression == null) {
+      expression = serializer.deserialize(scriptCode);
+      expressionCache.put(scriptCode, expression);
     }
-    throw new IllegalStateException(
-        String.format(
-            "Script context is currently not supported: "
-                + "all supported contexts [%s], given context [%s] ",
-            CONTEXTS, context));
+    return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
   }
 
   @Override
   public Set<ScriptContext<?>> getSupportedContexts() {
     return CONTEXTS.keySet();
   }
+
+  /** Number of scripts compiled with expression cached already. */
+  public long cacheHitCount() {
+    return expressionCache.stats().hitCount();
+  }
+
+  /** Number of scripts compiled by deserializing expression. */
+  public long cacheMissCount() {
+    return expressionCache.stats().missCount();
+  }
 }
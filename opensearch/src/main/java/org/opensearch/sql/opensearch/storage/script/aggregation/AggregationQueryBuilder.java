@@ -14,7 +14,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.opensearch.search.aggregations.AggregationBuilder;
@@ -41,10 +40,9 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
  * Build the AggregationBuilder from the list of {@link NamedAggregator} and list of {@link
  * NamedExpression}.
  */
-@RequiredArgsConstructor
 public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBuilder, Object> {
 
-  /** How many composite buckets should be returned. */
+  /** Default number of composite buckets returned in each page. */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
   /** Bucket Aggregation builder. */
@@ -53,10 +51,19 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
   /** Metric Aggregation builder. */
   private final MetricAggregationBuilder metricBuilder;
 
+  /** How many composite buckets should be returned in each page. */
+  private final int bucketSize;
+
   /** Aggregation Query Builder Constructor. */
   public AggregationQueryBuilder(ExpressionSerializer serializer) {
+    this(serializer, AGGREGATION_BUCKET_SIZE);
+  }
+
+  /** Aggregation Query Builder Constructor with composite bucket page size. */
+  public AggregationQueryBuilder(ExpressionSerializer serializer, int bucketSize) {
     this.bucketBuilder = new BucketAggregationBuilder(serializer);
     this.metricBuilder = new MetricAggregationBuilder(serializer);
+    this.bucketSize = bucketSize;
   }
 
   /** Build AggregationBuilder. */
@@ -91,7 +98,7 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
                                           groupSortOrder.missingOrder(expr)))
                               .collect(Collectors.toList())))
                   .subAggregations(metrics.getLeft())
-                  .size(AGGREGATION_BUCKET_SIZE)),
+                  .size(bucketSize)),
           new CompositeAggregationParser(metrics.getRight()));
     }
   }
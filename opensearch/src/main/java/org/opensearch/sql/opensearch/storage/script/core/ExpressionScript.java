@@ -6,8 +6,6 @@
 package org.opensearch.sql.opensearch.storage.script.core;
 
 import static java.util.stream.Collectors.toMap;
-import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
-import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -17,11 +15,21 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -33,7 +41,10 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /**
  * Expression script executor that executes the expression on each document and determine if the
- * document is supposed to be filtered out or not.
+ * document is supposed to be filtered out or not. Fields referenced are bound to doc value readers
+ * and value slots once per script instance, which is created per segment, so that evaluation on
+ * each document reads doc values into the slots without allocating a new environment. Values of
+ * numeric, string and boolean fields are converted directly instead of by the value factory.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -47,6 +58,19 @@ public class ExpressionScript {
   /** Reference Fields. */
   @EqualsAndHashCode.Exclude private final Set<ReferenceExpression> fields;
 
+  /** Readers of reference fields, each of which reads into the slot of the same index. */
+  @EqualsAndHashCode.Exclude private final FieldReader[] readers;
+
+  /** Values of reference fields on current document. */
+  @EqualsAndHashCode.Exclude private final ExprValue[] slots;
+
+  /** Slot index of each reference field. */
+  @EqualsAndHashCode.Exclude private final Map<Expression, Integer> slotIndex = new HashMap<>();
+
+  /** Environment which resolves reference fields to values in the slots. */
+  @EqualsAndHashCode.Exclude
+  private final Environment<Expression, ExprValue> valueEnv = this::resolve;
+
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
@@ -56,6 +80,12 @@ public class ExpressionScript {
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.readers = new FieldReader[fields.size()];
+    this.slots = new ExprValue[fields.size()];
+    for (ReferenceExpression field : fields) {
+      slotIndex.put(field, slotIndex.size());
+      readers[slotIndex.get(field)] = new FieldReader(field, valueConverter(field));
+    }
   }
 
   /**
@@ -71,13 +101,19 @@ public class ExpressionScript {
     return AccessController.doPrivileged(
         (PrivilegedAction<ExprValue>)
             () -> {
-              Environment<Expression, ExprValue> valueEnv =
-                  buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
-              return result;
+              Map<String, ScriptDocValues<?>> doc = docProvider.get();
+              for (int i = 0; i < readers.length; i++) {
+                slots[i] = readers[i].read(doc);
+              }
+              return evaluator.apply(expression, valueEnv);
             });
   }
 
+  private ExprValue resolve(Expression var) {
+    Integer slot = slotIndex.get(var);
+    return (slot == null) ? null : slots[slot];
+  }
+
   private Set<ReferenceExpression> extractFields(Expression expr) {
     Set<ReferenceExpression> fields = new HashSet<>();
     expr.accept(
@@ -105,53 +141,59 @@ public class ExpressionScript {
     return new OpenSearchExprValueFactory(typeEnv, false);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields,
-      OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue =
-          valueFactory.construct(fieldName, getDocValue(field, docProvider), false);
-      valueEnv.put(field, exprValue);
+  /**
+   * Converter of doc value to expression value of the field type. DocValue only support long and
+   * double for numbers, so they are narrowed to integer and float etc. if needed. Values of other
+   * types are converted by the value factory, and date time values are converted to instant first.
+   */
+  private Function<Object, ExprValue> valueConverter(ReferenceExpression field) {
+    if (field.type() instanceof ExprCoreType) {
+      switch ((ExprCoreType) field.type()) {
+        case BYTE:
+          return value -> new ExprByteValue((Number) value);
+        case SHORT:
+          return value -> new ExprShortValue((Number) value);
+        case INTEGER:
+          return value -> new ExprIntegerValue((Number) value);
+        case LONG:
+          return value -> new ExprLongValue((Number) value);
+        case FLOAT:
+          return value -> new ExprFloatValue((Number) value);
+        case DOUBLE:
+          return value -> new ExprDoubleValue((Number) value);
+        case STRING:
+          return value -> new ExprStringValue((String) value);
+        case BOOLEAN:
+          return value -> ExprBooleanValue.of((Boolean) value);
+        default:
+          break;
+      }
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
+    String fieldName = field.getAttr();
+    return value -> {
+      if (value instanceof ChronoZonedDateTime) {
+        value = ((ChronoZonedDateTime<?>) value).toInstant();
+      }
+      return valueFactory.construct(fieldName, value, false);
+    };
   }
 
-  private Object getDocValue(
-      ReferenceExpression field, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
-    if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
-    }
+  /** Reader of the first doc value of a field, bound to its doc value name and converter. */
+  private static class FieldReader {
+    private final String docValueName;
+    private final Function<Object, ExprValue> converter;
 
-    Object value = docValue.get(0);
-    if (value instanceof ChronoZonedDateTime) {
-      return ((ChronoZonedDateTime<?>) value).toInstant();
-    }
-    return castNumberToFieldType(value, field.type());
-  }
-
-  /**
-   * DocValue only support long and double so cast to integer and float if needed. The doc value
-   * must be Long and Double for expr type Long/Integer and Double/Float respectively. Otherwise
-   * there must be bugs in our engine that causes the mismatch.
-   */
-  private Object castNumberToFieldType(Object value, ExprType type) {
-    if (value == null) {
-      return value;
+    FieldReader(ReferenceExpression field, Function<Object, ExprValue> converter) {
+      this.docValueName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+      this.converter = converter;
     }
 
-    if (type == INTEGER) {
-      return ((Long) value).intValue();
-    } else if (type == FLOAT) {
-      return ((Double) value).floatValue();
-    } else {
-      return value;
+    ExprValue read(Map<String, ScriptDocValues<?>> doc) {
+      ScriptDocValues<?> docValue = doc.get(docValueName);
+      if (docValue == null || docValue.isEmpty()) {
+        return ExprNullValue.of(); // No way to differentiate null and missing from doc value
+      }
+      return converter.apply(docValue.get(0));
     }
   }
 }
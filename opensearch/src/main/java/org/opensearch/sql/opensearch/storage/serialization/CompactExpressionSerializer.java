@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.opensearch.Version;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.planner.physical.SpillFile;
+
+/**
+ * Serializer that encodes expressions in compact binary format, which is much smaller and faster
+ * to decode than JDK serialization used by {@link DefaultExpressionSerializer}. Literals,
+ * references of core types and built-in functions are encoded as tag followed by value, name and
+ * arguments, and functions are resolved again from {@link BuiltinFunctionRepository} on decoding
+ * with the function properties they captured. Any other expression falls back to JDK serialization
+ * of that subtree only. The code starts with a version byte, and code of JDK serialization
+ * entirely is still decoded for compatibility. Nodes before {@link #MIN_NODE_VERSION} cannot
+ * decode the code, so it must only be used for scripts when all nodes in the cluster are on or
+ * after that version.
+ */
+public class CompactExpressionSerializer implements ExpressionSerializer {
+
+  /** Minimum version of nodes which are able to decode the code. */
+  public static final Version MIN_NODE_VERSION = Version.V_3_0_0;
+
+  /** Version of the format, which must be increased on any incompatible change. */
+  static final byte VERSION = 1;
+
+  private static final byte LITERAL = 0;
+  private static final byte REFERENCE = 1;
+  private static final byte FUNCTION = 2;
+  private static final byte SERIALIZED = 3;
+
+  private final ExpressionSerializer jdkSerializer = new DefaultExpressionSerializer();
+
+  private final BuiltinFunctionRepository repository = BuiltinFunctionRepository.getInstance();
+
+  @Override
+  public String serialize(Expression expr) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream output = new DataOutputStream(bytes);
+      output.writeByte(VERSION);
+      write(output, expr);
+      output.flush();
+      return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize expression: " + expr, e);
+    }
+  }
+
+  @Override
+  public Expression deserialize(String code) {
+    try {
+      byte[] bytes = Base64.getDecoder().decode(code);
+      if (bytes.length > 1 && bytes[0] == (byte) 0xAC && bytes[1] == (byte) 0xED) {
+        return jdkSerializer.deserialize(code);
+      }
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+      byte version = input.readByte();
+      if (version != VERSION) {
+        throw new IOException("Unsupported expression code version: " + version);
+      }
+      return read(input);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+  }
+
+  private void write(DataOutputStream output, Expression expr) throws IOException {
+    if (expr.getClass() == LiteralExpression.class) {
+      output.writeByte(LITERAL);
+      SpillFile.writeValue(output, expr.valueOf());
+      return;
+    }
+    if (expr.getClass() == ReferenceExpression.class && expr.type() instanceof ExprCoreType type) {
+      output.writeByte(REFERENCE);
+      output.writeUTF(((ReferenceExpression) expr).getAttr());
+      output.writeUTF(type.name());
+      return;
+    }
+
+    Optional<FunctionProperties> properties = resolveBuiltinFunction(expr);
+    if (properties.isPresent()) {
+      FunctionExpression function = (FunctionExpression) expr;
+      output.writeByte(FUNCTION);
+      output.writeUTF(function.getFunctionName().getFunctionName());
+      writeProperties(output, properties.get());
+      output.writeInt(function.getArguments().size());
+      for (Expression arg : function.getArguments()) {
+        write(output, arg);
+      }
+    } else {
+      byte[] bytes = toBytes(expr);
+      output.writeByte(SERIALIZED);
+      output.writeInt(bytes.length);
+      output.write(bytes);
+    }
+  }
+
+  private Expression read(DataInputStream input) throws IOException, ClassNotFoundException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case LITERAL:
+        return DSL.literal(SpillFile.readValue(input));
+      case REFERENCE:
+        String attr = input.readUTF();
+        return DSL.ref(attr, ExprCoreType.valueOf(input.readUTF()));
+      case FUNCTION:
+        FunctionName functionName = FunctionName.of(input.readUTF());
+        FunctionProperties properties = readProperties(input);
+        int size = input.readInt();
+        List<Expression> arguments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          arguments.add(read(input));
+        }
+        return (Expression) repository.compile(properties, functionName, arguments);
+      case SERIALIZED:
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        try (ObjectInputStream objectInput =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (Expression) objectInput.readObject();
+        }
+      default:
+        throw new IOException("Unknown expression tag: " + tag);
+    }
+  }
+
+  /**
+   * Function is encoded by name only if the function resolved from repository by its name,
+   * arguments and the function properties it captures is the same, which is verified by comparing
+   * their serialized form including the implementation and all captured states. The function
+   * properties, which hold the query start time that functions such as now() depend on, are
+   * encoded along with the name so that the function is resolved with the same on decoding.
+   *
+   * @return function properties to resolve the function with, or empty if not encoded by name
+   */
+  private Optional<FunctionProperties> resolveBuiltinFunction(Expression expr) {
+    if (!(expr instanceof FunctionExpression function)) {
+      return Optional.empty();
+    }
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      Set<FunctionProperties> captured = new HashSet<>();
+      try (ObjectOutputStream output = new FunctionPropertiesCollector(bytes, captured)) {
+        output.writeObject(function);
+      }
+      FunctionProperties properties =
+          captured.isEmpty() ? FunctionProperties.None : captured.iterator().next();
+      if (captured.size() > 1
+          || (properties != FunctionProperties.None
+              && properties.getClass() != FunctionProperties.class)) {
+        return Optional.empty();
+      }
+
+      Expression resolved =
+          (Expression)
+              repository.compile(properties, function.getFunctionName(), function.getArguments());
+      return Arrays.equals(toBytes(resolved), bytes.toByteArray())
+          ? Optional.of(properties)
+          : Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private void writeProperties(DataOutputStream output, FunctionProperties properties)
+      throws IOException {
+    if (properties == FunctionProperties.None) {
+      output.writeBoolean(false);
+      return;
+    }
+    Clock clock = properties.getQueryStartClock();
+    output.writeBoolean(true);
+    output.writeLong(clock.instant().getEpochSecond());
+    output.writeInt(clock.instant().getNano());
+    output.writeUTF(clock.getZone().getId());
+  }
+
+  private FunctionProperties readProperties(DataInputStream input) throws IOException {
+    if (!input.readBoolean()) {
+      return FunctionProperties.None;
+    }
+    Instant nowInstant = Instant.ofEpochSecond(input.readLong(), input.readInt());
+    return new FunctionProperties(nowInstant, ZoneId.of(input.readUTF()));
+  }
+
+  private byte[] toBytes(Expression expr) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+      objectOutput.writeObject(expr);
+    }
+    return bytes.toByteArray();
+  }
+
+  /** Object output stream which collects function properties in the objects written. */
+  private static class FunctionPropertiesCollector extends ObjectOutputStream {
+
+    private final Set<FunctionProperties> captured;
+
+    FunctionPropertiesCollector(OutputStream output, Set<FunctionProperties> captured)
+        throws IOException {
+      super(output);
+      this.captured = captured;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) {
+      if (obj instanceof FunctionProperties properties) {
+        captured.add(properties);
+      }
+      return obj;
+    }
+  }
+}
@@ -12,8 +12,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -24,15 +26,20 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.Mapping
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.logging.log4j.ThreadContext;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -50,6 +57,8 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.stats.IndexStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
@@ -59,7 +68,9 @@ import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
@@ -285,6 +296,27 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_refresh_counts() {
+    IndexStats indexStats = mock(IndexStats.class, RETURNS_DEEP_STUBS);
+    when(indexStats.getUuid()).thenReturn("uuid");
+    when(indexStats.getTotal().getRefresh().getTotal()).thenReturn(3L);
+    IndicesStatsResponse statsResponse = mock(IndicesStatsResponse.class);
+    when(statsResponse.getIndices()).thenReturn(Map.of("test", indexStats));
+    when(nodeClient.admin().indices().prepareStats("test").clear().setRefresh(true).get())
+        .thenReturn(statsResponse);
+
+    assertEquals(Map.of("uuid", 3L), client.getIndexRefreshCounts("test"));
+    verify(nodeClient.threadPool().getThreadContext()).stashContext();
+  }
+
+  @Test
+  void get_index_refresh_counts_with_exception() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexRefreshCounts("test"));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -301,8 +333,8 @@ class OpenSearchNodeClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\": 1}"));
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -331,6 +363,73 @@ class OpenSearchNodeClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void search_async() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    doAnswer(
+            invocation -> {
+              ActionListener<SearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(searchResponse);
+              return null;
+            })
+        .when(nodeClient)
+        .search(any(), any());
+    SearchResponse scrollResponse = mock(SearchResponse.class);
+    when(scrollResponse.getHits()).thenReturn(SearchHits.empty());
+    doAnswer(
+            invocation -> {
+              ActionListener<SearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(scrollResponse);
+              return null;
+            })
+        .when(nodeClient)
+        .searchScroll(any(), any());
+
+    OpenSearchScrollRequest request =
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of("id"));
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    client.searchAsync(request, ActionListener.wrap(responses::add, e -> fail(e)));
+    client.searchAsync(request, ActionListener.wrap(responses::add, e -> fail(e)));
+    assertFalse(responses.get(0).isEmpty());
+    assertTrue(responses.get(1).isEmpty());
+  }
+
+  @Test
+  void query_executor_runs_task_in_sql_worker_thread_pool_with_log_context() {
+    when(nodeClient.threadPool().executor(OpenSearchNodeClient.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    AtomicReference<String> requestId = new AtomicReference<>();
+    try {
+      ThreadContext.put("request_id", "123");
+      Executor executor = client.queryExecutor();
+      ThreadContext.clearAll();
+
+      executor.execute(() -> requestId.set(ThreadContext.get("request_id")));
+      assertEquals("123", requestId.get());
+    } finally {
+      ThreadContext.clearAll();
+    }
+  }
+
+  @Test
+  void batch_executor_runs_task_in_sql_batch_worker_thread_pool() {
+    when(nodeClient.threadPool().executor(OpenSearchNodeClient.SQL_BATCH_WORKER_THREAD_POOL_NAME))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.batchExecutor().execute(() -> isRun.set(true));
+    assertTrue(isRun.get());
+  }
+
   @Test
   void schedule() {
     AtomicBoolean isRun = new AtomicBoolean(false);
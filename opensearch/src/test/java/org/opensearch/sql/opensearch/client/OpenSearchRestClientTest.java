@@ -11,9 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -26,6 +28,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -58,7 +61,9 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
@@ -291,8 +296,8 @@ class OpenSearchRestClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\": 1}"));
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -364,6 +369,61 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.search(scrollRequest));
   }
 
+  @Test
+  void search_async() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    doAnswer(
+            invocation -> {
+              ActionListener<SearchResponse> listener = invocation.getArgument(2);
+              listener.onResponse(searchResponse);
+              return null;
+            })
+        .when(restClient)
+        .searchAsync(any(), any(), any());
+    SearchResponse scrollResponse = mock(SearchResponse.class);
+    when(scrollResponse.getHits()).thenReturn(SearchHits.empty());
+    doAnswer(
+            invocation -> {
+              ActionListener<SearchResponse> listener = invocation.getArgument(2);
+              listener.onResponse(scrollResponse);
+              return null;
+            })
+        .when(restClient)
+        .scrollAsync(any(), any(), any());
+
+    OpenSearchScrollRequest request =
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of("id"));
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    client.searchAsync(request, ActionListener.wrap(responses::add, e -> fail(e)));
+    client.searchAsync(request, ActionListener.wrap(responses::add, e -> fail(e)));
+    assertFalse(responses.get(0).isEmpty());
+    assertTrue(responses.get(1).isEmpty());
+  }
+
+  @Test
+  void query_executor_runs_task_in_calling_thread() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.queryExecutor().execute(() -> isRun.set(true));
+    assertTrue(isRun.get());
+  }
+
+  @Test
+  void batch_executor_runs_task_in_calling_thread() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.batchExecutor().execute(() -> isRun.set(true));
+    assertTrue(isRun.get());
+  }
+
   @Test
   void schedule() {
     AtomicBoolean isRun = new AtomicBoolean(false);
@@ -520,6 +580,11 @@ class OpenSearchRestClientTest {
     assertThrows(UnsupportedOperationException.class, () -> client.getNodeClient());
   }
 
+  @Test
+  void get_index_refresh_counts_not_supported() {
+    assertThrows(UnsupportedOperationException.class, () -> client.getIndexRefreshCounts("test"));
+  }
+
   private Map<String, MappingMetadata> mockFieldMappings(String indexName, String mappings)
       throws IOException {
     return ImmutableMap.of(indexName, IndexMetadata.fromXContent(createParser(mappings)).mapping());
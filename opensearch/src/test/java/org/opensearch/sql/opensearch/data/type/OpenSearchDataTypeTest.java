@@ -407,6 +407,25 @@ class OpenSearchDataTypeTest {
                 OpenSearchDataType.of(MappingType.Keyword), type.getFields().get("words")));
   }
 
+  @Test
+  public void keyword_type_with_ignore_above() {
+    var type = OpenSearchDataType.of(MappingType.Keyword, Map.of("ignore_above", 256));
+    var textType =
+        (OpenSearchTextType)
+            OpenSearchDataType.of(
+                MappingType.Text,
+                Map.of(
+                    "fields",
+                    Map.of("keyword", Map.of("type", "keyword", "ignore_above", 256))));
+    assertAll(
+        () -> assertEquals(OpenSearchDataType.of(MappingType.Keyword), type),
+        () -> assertNotSame(OpenSearchDataType.of(MappingType.Keyword), type),
+        () -> assertEquals(256, type.getIgnoreAbove()),
+        () -> assertEquals(256, type.cloneEmpty().getIgnoreAbove()),
+        () -> assertEquals(256, textType.getFields().get("keyword").getIgnoreAbove()),
+        () -> assertNull(OpenSearchDataType.of(MappingType.Keyword).getIgnoreAbove()));
+  }
+
   private Map<String, OpenSearchDataType> getSampleMapping() {
     Map<String, Object> subsubmapping =
         Map.of(
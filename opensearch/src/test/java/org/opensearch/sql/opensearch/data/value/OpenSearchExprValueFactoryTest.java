@@ -49,6 +49,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.geometry.utils.Geohash;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
@@ -1003,6 +1004,53 @@ class OpenSearchExprValueFactoryTest {
         () -> assertEquals(OpenSearchDataType.of(DATE), mapping.get("agg")));
   }
 
+  @Test
+  public void constructFromSourceSameAsFromString() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"unknownV\":{\"a\":1},"
+            + "\"structV\":{\"id\":1,\"state\":\"WA\"},"
+            + "\"nestedV\":[{\"count\":1},{\"count\":2}],"
+            + "\"dateV\":\"1984-04-12\",\"geoV\":{\"lat\":42.6,\"lon\":-97.25},"
+            + "\"arrayV\":[],\"boolV\":null}";
+    assertEquals(
+        exprValueFactory.construct(source, false),
+        exprValueFactory.constructFromSource(new BytesArray(source), List.of(), false));
+    assertEquals(
+        exprValueFactoryNoArrays.construct(source, false),
+        exprValueFactoryNoArrays.constructFromSource(new BytesArray(source), List.of(), false));
+  }
+
+  @Test
+  public void constructFromSourceSkipFieldsNotIncluded() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"structV\":{\"id\":1,\"state\":\"WA\"}}";
+    assertEquals(
+        ExprTupleValue.fromExprValueMap(
+            ImmutableMap.of(
+                "intV",
+                integerValue(1),
+                "structV",
+                ExprTupleValue.fromExprValueMap(ImmutableMap.of("state", stringValue("WA"))))),
+        exprValueFactory.constructFromSource(
+            new BytesArray(source), List.of("intV", "structV.state", "_id"), false));
+  }
+
+  @Test
+  public void constructFromEmptySource() {
+    assertEquals(
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of()),
+        exprValueFactory.constructFromSource(null, List.of(), false));
+  }
+
+  @Test
+  public void constructFromInvalidSourceThrowException() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> exprValueFactory.constructFromSource(new BytesArray("[1]"), List.of(), false));
+    assertEquals("invalid json: [1].", exception.getMessage());
+  }
+
   public Map<String, ExprValue> tupleValue(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString, false);
     return construct.tupleValue();
@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionContext;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.split.Split;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CachingExecutionEngineTest {
+
+  @Mock private ExecutionEngine delegate;
+
+  @Mock private QueryResultCache resultCache;
+
+  @Mock private PhysicalPlan plan;
+
+  @Mock private Schema schema;
+
+  @Mock private ResponseListener<QueryResponse> listener;
+
+  @Mock private StreamingResponseListener streamingListener;
+
+  private final List<ExprValue> rows = List.of(integerValue(1), integerValue(2));
+
+  @Test
+  void answer_query_from_cached_result() {
+    when(resultCache.key(plan)).thenReturn("key");
+    when(resultCache.get("key")).thenReturn(rows);
+    when(plan.schema()).thenReturn(schema);
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+
+    new CachingExecutionEngine(delegate, resultCache)
+        .execute(plan, listener(response::set, e -> {}));
+    assertSame(schema, response.get().getSchema());
+    assertSame(rows, response.get().getResults());
+    assertEquals(Cursor.None, response.get().getCursor());
+    verify(delegate, never()).execute(any(), any(), any());
+  }
+
+  @Test
+  void cache_result_of_query_executed() {
+    when(resultCache.key(plan)).thenReturn("key");
+    QueryResponse response = new QueryResponse(schema, rows, Cursor.None);
+    respond(response);
+
+    execute(listener);
+    verify(resultCache).put("key", rows);
+    verify(listener).onResponse(response);
+  }
+
+  @Test
+  void skip_caching_result_of_paginated_query() {
+    when(resultCache.key(plan)).thenReturn("key");
+    QueryResponse response = new QueryResponse(schema, rows, new Cursor("n:1"));
+    respond(response);
+
+    execute(listener);
+    verify(resultCache, never()).put(any(), any());
+    verify(listener).onResponse(response);
+  }
+
+  @Test
+  void propagate_failure_of_query_executed() {
+    when(resultCache.key(plan)).thenReturn("key");
+    IllegalStateException error = new IllegalStateException("search failed");
+    doAnswer(
+            invocation -> {
+              ResponseListener<QueryResponse> delegated = invocation.getArgument(2);
+              delegated.onFailure(error);
+              return null;
+            })
+        .when(delegate)
+        .execute(eq(plan), any(), any());
+
+    execute(listener);
+    verify(resultCache, never()).put(any(), any());
+    verify(listener).onFailure(error);
+  }
+
+  @Test
+  void cache_rows_streamed_after_completion() {
+    when(resultCache.key(plan)).thenReturn("key");
+    stream(Cursor.None);
+
+    execute(streamingListener);
+    InOrder order = inOrder(streamingListener, resultCache);
+    order.verify(streamingListener).onSchema(schema);
+    order.verify(streamingListener).onRows(rows.subList(0, 1));
+    order.verify(streamingListener).onRows(rows.subList(1, 2));
+    order.verify(resultCache).put("key", rows);
+    order.verify(streamingListener).onComplete(Cursor.None);
+  }
+
+  @Test
+  void skip_caching_rows_streamed_of_paginated_query() {
+    when(resultCache.key(plan)).thenReturn("key");
+    Cursor cursor = new Cursor("n:1");
+    stream(cursor);
+
+    execute(streamingListener);
+    verify(resultCache, never()).put(any(), any());
+    verify(streamingListener).onComplete(cursor);
+  }
+
+  @Test
+  void propagate_failure_of_query_streamed() {
+    when(resultCache.key(plan)).thenReturn("key");
+    IllegalStateException error = new IllegalStateException("search failed");
+    doAnswer(
+            invocation -> {
+              StreamingResponseListener delegated = invocation.getArgument(2);
+              delegated.onFailure(error);
+              return null;
+            })
+        .when(delegate)
+        .execute(eq(plan), any(), any());
+
+    execute(streamingListener);
+    verify(streamingListener).onFailure(error);
+  }
+
+  @Test
+  void delegate_query_not_cacheable() {
+    ExecutionContext context = ExecutionContext.emptyExecutionContext();
+
+    new CachingExecutionEngine(delegate, resultCache).execute(plan, context, listener);
+    verify(delegate).execute(plan, context, listener);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void delegate_query_of_split() {
+    ExecutionContext context = new ExecutionContext(mock(Split.class));
+
+    new CachingExecutionEngine(delegate, resultCache).execute(plan, context, listener);
+    verify(delegate).execute(plan, context, listener);
+    verify(resultCache, never()).key(any());
+  }
+
+  @Test
+  void propagate_failure_of_cache_key() {
+    IllegalStateException error = new IllegalStateException("Failed to read refresh stats");
+    when(resultCache.key(plan)).thenThrow(error);
+
+    execute(listener);
+    verify(listener).onFailure(error);
+    verify(delegate, never()).execute(any(), any(), any());
+  }
+
+  @Test
+  void delegate_explain() {
+    ResponseListener<ExplainResponse> explainListener = listener(response -> {}, e -> {});
+
+    new CachingExecutionEngine(delegate, resultCache).explain(plan, explainListener);
+    verify(delegate).explain(plan, explainListener);
+  }
+
+  @Test
+  void delegate_explain_analyze() {
+    ResponseListener<ExplainResponse> explainListener = listener(response -> {}, e -> {});
+
+    new CachingExecutionEngine(delegate, resultCache).explainAnalyze(plan, explainListener);
+    verify(delegate).explainAnalyze(plan, explainListener);
+  }
+
+  private void execute(ResponseListener<QueryResponse> listener) {
+    new CachingExecutionEngine(delegate, resultCache)
+        .execute(plan, ExecutionContext.emptyExecutionContext(), listener);
+  }
+
+  private void respond(QueryResponse response) {
+    doAnswer(
+            invocation -> {
+              ResponseListener<QueryResponse> delegated = invocation.getArgument(2);
+              delegated.onResponse(response);
+              return null;
+            })
+        .when(delegate)
+        .execute(eq(plan), any(), any());
+  }
+
+  private void stream(Cursor cursor) {
+    doAnswer(
+            invocation -> {
+              StreamingResponseListener delegated = invocation.getArgument(2);
+              delegated.onSchema(schema);
+              delegated.onRows(rows.subList(0, 1));
+              delegated.onRows(rows.subList(1, 2));
+              delegated.onComplete(cursor);
+              return null;
+            })
+        .when(delegate)
+        .execute(eq(plan), any(), any());
+  }
+
+  private static <T> ResponseListener<T> listener(
+      Consumer<T> onResponse, Consumer<Exception> onFailure) {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(T response) {
+        onResponse.accept(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        onFailure.accept(e);
+      }
+    };
+  }
+}
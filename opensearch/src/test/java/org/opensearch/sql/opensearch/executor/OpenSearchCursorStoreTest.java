@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
+import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_STORE_ENABLED;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchCursorStoreTest {
+
+  @Mock private Settings settings;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private OpenSearchCursorStore cursorStore;
+
+  @BeforeEach
+  void setUp() {
+    cursorStore = new OpenSearchCursorStore(settings, nanos::get);
+  }
+
+  @Test
+  void hand_out_cursor_if_disabled() {
+    when(settings.getSettingValue(SQL_CURSOR_STORE_ENABLED)).thenReturn(false);
+    Cursor cursor = new Cursor("n:plan");
+
+    assertSame(cursor, cursorStore.store(cursor));
+  }
+
+  @Test
+  void skip_no_cursor() {
+    when(settings.getSettingValue(SQL_CURSOR_STORE_ENABLED)).thenReturn(true);
+
+    assertSame(Cursor.None, cursorStore.store(Cursor.None));
+  }
+
+  @Test
+  void resolve_cursor_kept_in_store() {
+    enable(TimeValue.timeValueMinutes(1));
+
+    Cursor cursor = cursorStore.store(new Cursor("n:plan"));
+    assertTrue(cursor.toString().matches("s:[A-Za-z0-9_-]{22}"));
+    assertNotEquals(cursor, cursorStore.store(new Cursor("n:plan")));
+    assertEquals("n:plan", cursorStore.resolve(cursor.toString()));
+    assertEquals("n:plan", cursorStore.resolve(cursor.toString()));
+  }
+
+  @Test
+  void pass_through_cursor_not_issued_by_store() {
+    assertEquals("n:plan", cursorStore.resolve("n:plan"));
+    assertEquals("n:plan", cursorStore.release("n:plan"));
+  }
+
+  @Test
+  void release_cursor_kept_in_store() {
+    enable(TimeValue.timeValueMinutes(1));
+
+    String cursor = cursorStore.store(new Cursor("n:plan")).toString();
+    assertEquals("n:plan", cursorStore.release(cursor));
+    assertThrows(IllegalArgumentException.class, () -> cursorStore.resolve(cursor));
+  }
+
+  @Test
+  void expire_cursor_after_keep_alive() {
+    enable(TimeValue.timeValueSeconds(1));
+
+    String cursor = cursorStore.store(new Cursor("n:plan")).toString();
+    nanos.set(TimeValue.timeValueSeconds(1).nanos());
+    assertEquals("n:plan", cursorStore.resolve(cursor));
+    nanos.set(TimeValue.timeValueSeconds(2).nanos());
+    assertThrows(IllegalArgumentException.class, () -> cursorStore.resolve(cursor));
+    nanos.set(0);
+    assertThrows(IllegalArgumentException.class, () -> cursorStore.resolve(cursor));
+  }
+
+  @Test
+  void fail_to_resolve_unknown_cursor() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> cursorStore.resolve("s:unknown"));
+    assertEquals(
+        "Cursor is expired, closed or was not issued by this node. Send the cursor to the node"
+            + " which returned it, or run the query again for a new cursor",
+        exception.getMessage());
+  }
+
+  private void enable(TimeValue keepAlive) {
+    when(settings.getSettingValue(SQL_CURSOR_STORE_ENABLED)).thenReturn(true);
+    when(settings.getSettingValue(SQL_CURSOR_KEEP_ALIVE)).thenReturn(keepAlive);
+  }
+}
@@ -6,52 +6,85 @@
 package org.opensearch.sql.opensearch.executor;
 
 import static com.google.common.collect.ImmutableMap.of;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.monitor.MemoryBudget;
+import org.opensearch.sql.monitor.QueryPhase;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController.Lane;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
+import org.opensearch.sql.planner.physical.batch.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.split.Split;
 
@@ -69,6 +102,10 @@ class OpenSearchExecutionEngineTest {
 
   @Mock private Split split;
 
+  @Mock private Settings settings;
+
+  @Mock private QueryAdmissionController admissionController;
+
   @BeforeEach
   void setUp() {
     doAnswer(
@@ -80,6 +117,7 @@ class OpenSearchExecutionEngineTest {
             })
         .when(client)
         .schedule(any());
+    lenient().when(protector.newMemoryBudget()).thenReturn(new MemoryBudget());
   }
 
   @Test
@@ -88,11 +126,13 @@ class OpenSearchExecutionEngineTest {
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
     List<ExprValue> actual = new ArrayList<>();
+    long openCount = QueryPhase.OPEN.getHistogram().count();
+    long fetchCount = QueryPhase.FETCH.getHistogram().count();
     executor.execute(
         plan,
         new ResponseListener<>() {
@@ -110,6 +150,8 @@ class OpenSearchExecutionEngineTest {
     assertTrue(plan.hasOpen);
     assertEquals(expected, actual);
     assertTrue(plan.hasClosed);
+    assertEquals(openCount + 1, QueryPhase.OPEN.getHistogram().count());
+    assertEquals(fetchCount + 1, QueryPhase.FETCH.getHistogram().count());
   }
 
   @Test
@@ -118,7 +160,7 @@ class OpenSearchExecutionEngineTest {
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     var plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
@@ -141,12 +183,98 @@ class OpenSearchExecutionEngineTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void execute_with_streaming_listener() {
+    List<ExprValue> expected = new ArrayList<>();
+    for (int i = 0; i < RowBatch.DEFAULT_SIZE + 1; i++) {
+      expected.add(tupleValue(of("id", i)));
+    }
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    List<ExprValue> actual = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    AtomicReference<Cursor> cursor = new AtomicReference<>();
+    long fetchCount = QueryPhase.FETCH.getHistogram().count();
+    executor.execute(
+        plan,
+        ExecutionContext.emptyExecutionContext(),
+        new StreamingResponseListener() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actualSchema) {
+            assertEquals(schema, actualSchema);
+            assertTrue(actual.isEmpty());
+          }
+
+          @Override
+          public void onRows(List<ExprValue> rows) {
+            pageSizes.add(rows.size());
+            actual.addAll(rows);
+          }
+
+          @Override
+          public void onComplete(Cursor actualCursor) {
+            cursor.set(actualCursor);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(expected, actual);
+    assertEquals(List.of(RowBatch.DEFAULT_SIZE, 1), pageSizes);
+    assertNotNull(cursor.get());
+    assertTrue(plan.hasClosed);
+    assertEquals(fetchCount + 1, QueryPhase.FETCH.getHistogram().count());
+  }
+
+  @Test
+  void execute_with_streaming_listener_and_no_rows() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<Cursor> cursor = new AtomicReference<>();
+    executor.execute(
+        plan,
+        ExecutionContext.emptyExecutionContext(),
+        new StreamingResponseListener() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actualSchema) {
+            assertEquals(schema, actualSchema);
+          }
+
+          @Override
+          public void onRows(List<ExprValue> rows) {
+            fail("No page expected for empty result");
+          }
+
+          @Override
+          public void onComplete(Cursor actualCursor) {
+            cursor.set(actualCursor);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertNotNull(cursor.get());
+    assertTrue(plan.hasClosed);
+  }
+
   @Test
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
     when(plan.hasNext()).thenThrow(expected);
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
@@ -168,6 +296,65 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void record_fetch_time_of_failure_with_streaming_listener() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    RuntimeException expected = new RuntimeException("Execution error");
+    when(plan.hasNext()).thenThrow(expected);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    long fetchCount = QueryPhase.FETCH.getHistogram().count();
+    executor.execute(
+        plan,
+        ExecutionContext.emptyExecutionContext(),
+        new StreamingResponseListener() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actualSchema) {}
+
+          @Override
+          public void onRows(List<ExprValue> rows) {
+            fail("No page expected for failure");
+          }
+
+          @Override
+          public void onComplete(Cursor actualCursor) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertEquals(expected, actual.get());
+    assertEquals(fetchCount + 1, QueryPhase.FETCH.getHistogram().count());
+    verify(plan).close();
+  }
+
+  @Test
+  void execute_releases_memory_budget_of_query() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    MemoryBudget memoryBudget = new MemoryBudget();
+    when(protector.newMemoryBudget()).thenReturn(memoryBudget);
+    when(protector.protect(plan, memoryBudget))
+        .thenAnswer(
+            invocation -> {
+              memoryBudget.reserve(100, "sort");
+              return plan;
+            });
+
+    new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null))
+        .execute(plan, listener(response -> {}, e -> fail(e)));
+
+    assertTrue(plan.hasClosed);
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(100, memoryBudget.getPeakReservedBytes());
+  }
+
   @Test
   void explain_successfully() {
     OpenSearchExecutionEngine executor =
@@ -232,13 +419,74 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void explain_analyze_successfully() {
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(rows.iterator());
+    when(protector.profile(eq(plan), any())).thenReturn(new ProfilePlan(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.explainAnalyze(plan, listener(result::set, e -> fail(e)));
+
+    ExplainResponseNode root = result.get().getRoot();
+    assertEquals(Map.of("request", "explain"), root.getDescription());
+    assertEquals(0L, root.getStats().get("rowsIn"));
+    assertEquals(2L, root.getStats().get("rowsOut"));
+    assertTrue(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void explain_analyze_with_fetch_stats_of_index_scan() {
+    OpenSearchClient scanClient = mock(OpenSearchClient.class);
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(true);
+    when(scanClient.search(request)).thenReturn(response);
+    PhysicalPlan plan =
+        project(new OpenSearchIndexScan(scanClient, 10, request), named(ref("name", STRING)));
+    when(protector.profile(eq(plan), any())).thenReturn(new ProfilePlan(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.explainAnalyze(plan, listener(result::set, e -> fail(e)));
+
+    ExplainResponseNode root = result.get().getRoot();
+    assertEquals(0L, root.getStats().get("rowsOut"));
+    assertEquals(
+        Map.of("pages", 0L, "bytes", 0L, "tookMillis", 0L),
+        root.getChildren().get(0).getStats());
+    verify(scanClient).cleanup(request);
+  }
+
+  @Test
+  void explain_analyze_with_failure() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    doThrow(IllegalStateException.class).when(plan).open();
+    when(protector.profile(eq(plan), any())).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<Exception> result = new AtomicReference<>();
+    executor.explainAnalyze(
+        plan, listener(response -> fail("Should fail as expected"), result::set));
+
+    assertTrue(result.get() instanceof IllegalStateException);
+    verify(plan).close();
+  }
+
   @Test
   void call_add_split_and_open_in_order() {
     List<ExprValue> expected =
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
     when(executionContext.getSplit()).thenReturn(Optional.of(split));
 
     OpenSearchExecutionEngine executor =
@@ -265,6 +513,520 @@ class OpenSearchExecutionEngineTest {
     assertTrue(plan.hasClosed);
   }
 
+  @Test
+  void execute_with_first_pages_fetched_asynchronously() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan =
+        project(new OpenSearchIndexScan(client, 10, request), named("name", ref("name", STRING)));
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    List<ExprValue> rows = List.of(tupleValue(of("name", "John")), tupleValue(of("name", "Allen")));
+    OpenSearchResponse firstPage = mock(OpenSearchResponse.class);
+    when(firstPage.isEmpty()).thenReturn(false);
+    when(firstPage.iterator()).thenReturn(rows.iterator());
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(firstPage);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(lastPage);
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithSettings(plan, listener(response::set, e -> fail(e)));
+    assertEquals(rows, response.get().getResults());
+    verify(client).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void record_time_waiting_for_first_pages_in_open_phase() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    OpenSearchResponse emptyPage = mock(OpenSearchResponse.class);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              Thread.sleep(20);
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(emptyPage);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    when(client.search(request)).thenReturn(emptyPage);
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+    long openCount = QueryPhase.OPEN.getHistogram().count();
+
+    QueryPhase.start();
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithSettings(plan, listener(response::set, e -> fail(e)));
+    assertEquals(List.of(), response.get().getResults());
+    assertEquals(openCount + 1, QueryPhase.OPEN.getHistogram().count());
+    assertTrue(QueryPhase.breakdownMillis().get("open") >= 20);
+  }
+
+  @Test
+  void execute_with_failure_of_first_page_fetched_asynchronously() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    RuntimeException expected = new RuntimeException("search failed");
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onFailure(expected);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+    long openCount = QueryPhase.OPEN.getHistogram().count();
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithSettings(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    assertEquals(openCount + 1, QueryPhase.OPEN.getHistogram().count());
+    verify(client, never()).search(any());
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void execute_with_failure_of_first_page_request() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    RuntimeException expected = new RuntimeException("Misuse of request");
+    doThrow(expected).when(client).searchAsync(eq(request), any());
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithSettings(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void execute_with_failure_if_rejected_on_resume_after_first_pages_arrived() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(any())).thenReturn(released::incrementAndGet);
+    when(admissionController.lane(any())).thenReturn(Lane.INTERACTIVE);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(lastPage);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    OpenSearchRejectedExecutionException expected =
+        new OpenSearchRejectedExecutionException("Queue is full");
+    when(client.queryExecutor())
+        .thenReturn(
+            task -> {
+              throw expected;
+            });
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    verify(client).cleanup(request);
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  void execute_with_failure_if_rejected_on_resume_after_first_page_failed() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(any())).thenReturn(released::incrementAndGet);
+    when(admissionController.lane(any())).thenReturn(Lane.INTERACTIVE);
+    RuntimeException expected = new RuntimeException("search failed");
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onFailure(expected);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    OpenSearchRejectedExecutionException rejected =
+        new OpenSearchRejectedExecutionException("Queue is full");
+    when(client.queryExecutor())
+        .thenReturn(
+            task -> {
+              throw rejected;
+            });
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    assertArrayEquals(new Throwable[] {rejected}, expected.getSuppressed());
+    verify(client).cleanup(request);
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  void execute_once_if_first_page_listener_called_again() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(lastPage);
+              listener.onFailure(new RuntimeException("Failed after response"));
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    when(client.search(request)).thenReturn(lastPage);
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+
+    AtomicInteger responses = new AtomicInteger();
+    executeWithSettings(plan, listener(response -> responses.incrementAndGet(), e -> fail(e)));
+    assertEquals(1, responses.get());
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void execute_after_first_pages_fetched_asynchronously_have_all_settled() {
+    OpenSearchRequest request1 = mock(OpenSearchRequest.class);
+    OpenSearchRequest request2 = mock(OpenSearchRequest.class);
+    OpenSearchRequest request3 = mock(OpenSearchRequest.class);
+    PhysicalPlan plan =
+        project(
+            hashJoin(
+                hashJoin(
+                    new OpenSearchIndexScan(client, 10, request1),
+                    new OpenSearchIndexScan(client, 10, request2),
+                    JoinType.LEFT,
+                    List.of(ref("name", STRING)),
+                    List.of(ref("name", STRING))),
+                new OpenSearchIndexScan(client, 10, request3),
+                JoinType.LEFT,
+                List.of(ref("name", STRING)),
+                List.of(ref("name", STRING))),
+            named("name", ref("name", STRING)));
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    RuntimeException expected = new RuntimeException("search failed");
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onFailure(expected);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request1), any());
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onFailure(expected);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request2), any());
+    AtomicReference<ActionListener<OpenSearchResponse>> pending = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              pending.set(invocation.getArgument(1));
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request3), any());
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithSettings(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertNull(actual.get());
+    verify(client, never()).cleanup(any());
+
+    RuntimeException suppressed = new RuntimeException("search timed out");
+    pending.get().onFailure(suppressed);
+    assertEquals(expected, actual.get());
+    assertArrayEquals(new Throwable[] {suppressed}, expected.getSuppressed());
+    verify(client).cleanup(request1);
+    verify(client).cleanup(request2);
+    verify(client).cleanup(request3);
+  }
+
+  @Test
+  void execute_with_first_page_of_join_probe_side_fetched_after_runtime_filter_pushed_down() {
+    OpenSearchRequest leftRequest = mock(OpenSearchRequest.class);
+    when(leftRequest.getExprValueFactory())
+        .thenReturn(
+            new OpenSearchExprValueFactory(
+                Map.of("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword)),
+                true));
+    OpenSearchRequest rightRequest = mock(OpenSearchRequest.class);
+    PhysicalPlan plan =
+        project(
+            hashJoin(
+                new OpenSearchIndexScan(client, 10, leftRequest),
+                new OpenSearchIndexScan(client, 10, rightRequest),
+                JoinType.INNER,
+                List.of(ref("name", STRING)),
+                List.of(ref("name", STRING))),
+            named("name", ref("name", STRING)));
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    OpenSearchResponse firstPage = mock(OpenSearchResponse.class);
+    when(firstPage.isEmpty()).thenReturn(false);
+    when(firstPage.iterator()).thenReturn(List.of(tupleValue(of("name", "John"))).iterator());
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(firstPage);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(rightRequest), any());
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(client.search(rightRequest)).thenReturn(lastPage);
+    when(client.search(leftRequest)).thenReturn(lastPage);
+    when(client.queryExecutor()).thenReturn(Runnable::run);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithSettings(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+    verify(client, never()).searchAsync(eq(leftRequest), any());
+    InOrder inOrder = inOrder(leftRequest, client);
+    inOrder.verify(leftRequest).pushDownFilter(any());
+    inOrder.verify(client).search(leftRequest);
+  }
+
+  @Test
+  void admit_all_index_scans_of_join() {
+    OpenSearchRequest leftRequest = mock(OpenSearchRequest.class);
+    OpenSearchRequest rightRequest = mock(OpenSearchRequest.class);
+    OpenSearchIndexScan leftScan = new OpenSearchIndexScan(client, 10, leftRequest);
+    OpenSearchIndexScan rightScan = new OpenSearchIndexScan(client, 10, rightRequest);
+    PhysicalPlan plan =
+        project(
+            hashJoin(
+                leftScan,
+                rightScan,
+                JoinType.INNER,
+                List.of(ref("name", STRING)),
+                List.of(ref("name", STRING))),
+            named("name", ref("name", STRING)));
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    when(admissionController.admit(List.of(leftScan, rightScan))).thenReturn(() -> {});
+    when(admissionController.lane(List.of(leftScan, rightScan))).thenReturn(Lane.INTERACTIVE);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(client.search(any())).thenReturn(lastPage);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+  }
+
+  @Test
+  void execute_synchronously_without_index_scan() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithSettings(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+    verify(client, never()).queryExecutor();
+  }
+
+  @Test
+  void execute_synchronously_if_async_execution_disabled() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(false);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(lastPage);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithSettings(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  @Test
+  void execute_with_failure_if_rejected_by_admission_control() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    OpenSearchRejectedExecutionException expected =
+        new OpenSearchRejectedExecutionException("Too many concurrent queries");
+    when(admissionController.admit(any())).thenThrow(expected);
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    assertFalse(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void release_query_admitted_once_completed() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(any())).thenReturn(released::incrementAndGet);
+    when(admissionController.takeQueueWait()).thenReturn(5_000L);
+    when(admissionController.lane(any())).thenReturn(Lane.INTERACTIVE);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response::set, e -> fail(e)));
+    assertNotNull(response.get());
+    assertEquals(1, released.get());
+    verify(client, never()).batchExecutor();
+    verify(admissionController).recordQueueWait(Lane.INTERACTIVE, 5_000L);
+  }
+
+  @Test
+  void release_query_admitted_once_failed() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(any())).thenReturn(released::incrementAndGet);
+    when(admissionController.lane(any())).thenReturn(Lane.INTERACTIVE);
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithAdmissionControl(
+        plan,
+        listener(
+            response -> {
+              throw new IllegalStateException("Failed to send response");
+            },
+            actual::set));
+    assertEquals("Failed to send response", actual.get().getMessage());
+    assertEquals(1, released.get());
+  }
+
+  @Test
+  void execute_in_batch_lane() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    OpenSearchIndexScan plan = new OpenSearchIndexScan(client, 10000, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(List.of(plan))).thenReturn(released::incrementAndGet);
+    when(admissionController.takeQueueWait()).thenReturn(5_000L);
+    when(admissionController.lane(List.of(plan))).thenReturn(Lane.BATCH);
+    when(client.batchExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(lastPage);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+    assertEquals(1, released.get());
+    verify(admissionController).recordQueueWait(eq(Lane.BATCH), longThat(nanos -> nanos >= 5_000L));
+    verify(admissionController, never()).recordQueueWait(eq(Lane.INTERACTIVE), anyLong());
+  }
+
+  @Test
+  void execute_in_batch_lane_with_first_pages_fetched_asynchronously() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    PhysicalPlan plan = new OpenSearchIndexScan(client, 10000, request);
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    enableAsyncExecution(true);
+    when(admissionController.admit(any())).thenReturn(() -> {});
+    when(admissionController.lane(any())).thenReturn(Lane.BATCH);
+    when(client.batchExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(lastPage);
+              return null;
+            })
+        .when(client)
+        .searchAsync(eq(request), any());
+    when(client.search(request)).thenReturn(lastPage);
+
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response::set, e -> fail(e)));
+    assertTrue(response.get().getResults().isEmpty());
+    verify(client, times(2)).batchExecutor();
+    verify(client, never()).queryExecutor();
+  }
+
+  @Test
+  void execute_with_failure_if_rejected_by_batch_lane() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(eq(plan), any())).thenReturn(plan);
+    AtomicInteger released = new AtomicInteger();
+    when(admissionController.admit(any())).thenReturn(released::incrementAndGet);
+    when(admissionController.lane(any())).thenReturn(Lane.BATCH);
+    OpenSearchRejectedExecutionException expected =
+        new OpenSearchRejectedExecutionException("Queue is full");
+    when(client.batchExecutor())
+        .thenReturn(
+            task -> {
+              throw expected;
+            });
+
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executeWithAdmissionControl(plan, listener(response -> fail("Expect failure"), actual::set));
+    assertEquals(expected, actual.get());
+    assertFalse(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+    assertEquals(1, released.get());
+  }
+
+  private void enableAsyncExecution(boolean enabled) {
+    when(settings.getSettingValue(Settings.Key.QUERY_ASYNC_EXECUTION_ENABLED)).thenReturn(enabled);
+  }
+
+  private void executeWithSettings(PhysicalPlan plan, ResponseListener<QueryResponse> listener) {
+    new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null), settings)
+        .execute(plan, listener);
+  }
+
+  private void executeWithAdmissionControl(
+      PhysicalPlan plan, ResponseListener<QueryResponse> listener) {
+    new OpenSearchExecutionEngine(
+            client, protector, new PlanSerializer(null), settings, admissionController)
+        .execute(plan, listener);
+  }
+
+  private static <T> ResponseListener<T> listener(
+      Consumer<T> onResponse, Consumer<Exception> onFailure) {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(T response) {
+        onResponse.accept(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        onFailure.accept(e);
+      }
+    };
+  }
+
   @RequiredArgsConstructor
   private static class FakePhysicalPlan extends TableScanOperator implements SerializablePlan {
     private final Iterator<ExprValue> it;
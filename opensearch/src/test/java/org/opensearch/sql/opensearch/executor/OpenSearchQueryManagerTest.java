@@ -10,8 +10,11 @@ package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,4 +70,43 @@ class OpenSearchQueryManagerTest {
 
     assertTrue(isRun.get());
   }
+
+  @Test
+  public void recordQueueWaitOfSubmittedQuery() {
+    NodeClient nodeClient = mock(NodeClient.class);
+    ThreadPool threadPool = mock(ThreadPool.class);
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+    QueryAdmissionController admissionController = mock(QueryAdmissionController.class);
+
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            isRun.set(true);
+          }
+        };
+
+    doAnswer(
+            invocation -> {
+              Runnable task = invocation.getArgument(0);
+              task.run();
+              return null;
+            })
+        .when(threadPool)
+        .schedule(any(), any(), any());
+    doAnswer(
+            invocation -> {
+              Runnable task = invocation.getArgument(1);
+              task.run();
+              return null;
+            })
+        .when(admissionController)
+        .runQueued(anyLong(), any());
+    new OpenSearchQueryManager(nodeClient, admissionController).submit(queryPlan);
+
+    assertTrue(isRun.get());
+    verify(admissionController).runQueued(anyLong(), any());
+    verify(admissionController, never()).recordQueueWait(any(), anyLong());
+  }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_ADMISSION_BATCH_THRESHOLD;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController.Lane;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryAdmissionControllerTest {
+
+  @Mock private Settings settings;
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  private ThreadContext threadContext;
+
+  private QueryAdmissionController controller;
+
+  @BeforeEach
+  void setUp() {
+    threadContext = new ThreadContext(org.opensearch.common.settings.Settings.EMPTY);
+    controller = new QueryAdmissionController(settings, threadContext);
+  }
+
+  @Test
+  void reject_query_once_user_limit_is_reached() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER)).thenReturn(2);
+    threadContext.putTransient(
+        SecurityContext.USER_INFO_TRANSIENT, "alice|backend_role|all_access|");
+
+    controller.admit(List.of(scan("logs")));
+    controller.admit(List.of(scan("metrics")));
+    OpenSearchRejectedExecutionException e =
+        assertThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> controller.admit(List.of(scan("traces"))));
+    assertEquals("Too many concurrent queries on user [alice], the limit is 2", e.getMessage());
+    assertEquals(1, controller.rejectedCount());
+  }
+
+  @Test
+  void reject_query_once_index_limit_is_reached() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX)).thenReturn(1);
+
+    controller.admit(List.of(scan("logs")));
+    controller.admit(List.of(scan("metrics")));
+    OpenSearchRejectedExecutionException e =
+        assertThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> controller.admit(List.of(scan("traces,logs"))));
+    assertEquals("Too many concurrent queries on index [logs], the limit is 1", e.getMessage());
+
+    // Query rejected doesn't count towards limit of the other index
+    controller.admit(List.of(scan("traces")));
+  }
+
+  @Test
+  void admit_query_again_once_released_only_once() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER)).thenReturn(2);
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "bob");
+
+    Runnable release = controller.admit(List.of());
+    controller.admit(List.of());
+    release.run();
+    release.run();
+    controller.admit(List.of());
+    assertThrows(OpenSearchRejectedExecutionException.class, () -> controller.admit(List.of()));
+  }
+
+  @Test
+  void reject_query_of_user_resolved_from_user_transient() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER)).thenReturn(1);
+    threadContext.putTransient(
+        SecurityContext.USER_TRANSIENT, "User [name=carol, backend_roles=[]]");
+
+    controller.admit(List.of(scan("logs")));
+    OpenSearchRejectedExecutionException e =
+        assertThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> controller.admit(List.of(scan("metrics"))));
+    assertEquals("Too many concurrent queries on user [carol], the limit is 1", e.getMessage());
+  }
+
+  @Test
+  void release_index_of_query() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX)).thenReturn(1);
+
+    controller.admit(List.of(scan("logs"))).run();
+    controller.admit(List.of(scan("logs")));
+  }
+
+  @Test
+  void admit_queries_without_limit_by_default() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "");
+
+    for (int i = 0; i < 10; i++) {
+      controller.admit(List.of(scan("logs")));
+    }
+    assertEquals(0, controller.rejectedCount());
+  }
+
+  @Test
+  void skip_user_limit_if_user_is_unknown() {
+    when(settings.getSettingValue(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER)).thenReturn(1);
+
+    controller.admit(List.of(scan("logs")));
+    controller.admit(List.of(scan("logs")));
+    assertEquals(0, controller.rejectedCount());
+  }
+
+  @Test
+  void run_all_queries_in_interactive_lane_by_default() {
+    assertEquals(Lane.INTERACTIVE, controller.lane(List.of(scan("logs", 100000))));
+  }
+
+  @Test
+  void run_query_in_batch_lane_if_estimate_exceeds_threshold() {
+    when(settings.getSettingValue(QUERY_ADMISSION_BATCH_THRESHOLD)).thenReturn(1000);
+
+    assertEquals(Lane.BATCH, controller.lane(List.of(scan("logs", 1001))));
+    assertEquals(Lane.INTERACTIVE, controller.lane(List.of(scan("logs", 1000))));
+    assertEquals(Lane.INTERACTIVE, controller.lane(List.of()));
+  }
+
+  @Test
+  void estimate_documents_fetched_by_search_request() {
+    assertEquals(
+        200,
+        QueryAdmissionController.estimateCost(
+            List.of(scan(queryRequest(new SearchSourceBuilder().size(200)), 10000))));
+    assertEquals(
+        0,
+        QueryAdmissionController.estimateCost(
+            List.of(scan(queryRequest(new SearchSourceBuilder()), 10000))));
+  }
+
+  @Test
+  void estimate_no_document_fetched_by_aggregation() {
+    SearchSourceBuilder sourceBuilder =
+        new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.terms("terms"));
+
+    assertEquals(
+        0, QueryAdmissionController.estimateCost(List.of(scan(queryRequest(sourceBuilder), 200))));
+  }
+
+  @Test
+  void estimate_documents_fetched_by_paging_requests() {
+    OpenSearchQueryRequest pitRequest =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("logs"),
+            new SearchSourceBuilder().size(100),
+            factory,
+            List.of(),
+            TimeValue.timeValueMinutes(1),
+            "samplePITId");
+    OpenSearchScrollRequest scrollRequest =
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("logs"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder().size(100),
+            factory,
+            List.of());
+
+    assertEquals(
+        30000,
+        QueryAdmissionController.estimateCost(
+            List.of(scan(pitRequest, 10000), scan(scrollRequest, 20000))));
+  }
+
+  @Test
+  void record_queue_wait_of_each_lane() {
+    controller.recordQueueWait(Lane.INTERACTIVE, 2_000_000);
+    controller.recordQueueWait(Lane.INTERACTIVE, 3_000_000);
+    controller.recordQueueWait(Lane.BATCH, 7_000_000);
+
+    assertEquals(2, controller.queueWaitCount(Lane.INTERACTIVE));
+    assertEquals(5, controller.queueWaitMillis(Lane.INTERACTIVE));
+    assertEquals(1, controller.queueWaitCount(Lane.BATCH));
+    assertEquals(7, controller.queueWaitMillis(Lane.BATCH));
+  }
+
+  @Test
+  void take_queue_wait_of_query_run_on_current_thread_once() {
+    AtomicLong taken = new AtomicLong();
+    controller.runQueued(
+        5_000_000,
+        () -> {
+          taken.set(controller.takeQueueWait());
+          assertEquals(0, controller.takeQueueWait());
+        });
+
+    assertEquals(5_000_000, taken.get());
+    assertEquals(0, controller.takeQueueWait());
+  }
+
+  @Test
+  void clear_queue_wait_not_taken_once_query_completes() {
+    controller.runQueued(5_000_000, () -> {});
+
+    assertEquals(0, controller.takeQueueWait());
+  }
+
+  private OpenSearchIndexScan scan(String indexName) {
+    return scan(indexName, 200);
+  }
+
+  private OpenSearchIndexScan scan(String indexName, int maxResponseSize) {
+    return scan(
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName(indexName),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of()),
+        maxResponseSize);
+  }
+
+  private OpenSearchIndexScan scan(OpenSearchRequest request, int maxResponseSize) {
+    return new OpenSearchIndexScan(client, maxResponseSize, request);
+  }
+
+  private OpenSearchQueryRequest queryRequest(SearchSourceBuilder sourceBuilder) {
+    return new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("logs"), sourceBuilder, factory, List.of());
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_RESULT_CACHE_ENABLED;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_RESULT_CACHE_SIZE;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_RESULT_CACHE_TTL;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.TableScanOperator;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryResultCacheTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private Settings settings;
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private ThreadContext threadContext;
+
+  private QueryResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    threadContext = new ThreadContext(org.opensearch.common.settings.Settings.EMPTY);
+    cache = new QueryResultCache(client, settings, threadContext, nanos::get);
+  }
+
+  @Test
+  void no_key_if_disabled() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(false);
+
+    assertNull(cache.key(aggregationScan("test")));
+  }
+
+  @Test
+  void key_of_aggregation_plan_includes_refresh_counts() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(true);
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL))
+        .thenReturn(TimeValue.ZERO);
+    when(client.getIndexRefreshCounts("test"))
+        .thenReturn(Map.of("uuid2", 3L, "uuid1", 5L), Map.of("uuid2", 4L, "uuid1", 5L));
+    PhysicalPlan scan = aggregationScan("test");
+    PhysicalPlan plan =
+        limit(
+            sort(
+                project(scan, named("avg", ref("avg", DOUBLE))),
+                Pair.of(DEFAULT_ASC, ref("avg", DOUBLE))),
+            10,
+            0);
+
+    String key = cache.key(plan);
+    String description =
+        "limit 10 offset 0(sort avg ASC NULL_FIRST(project avg=avg(" + scan + ")))";
+    assertEquals(description + "{uuid1=5, uuid2=3}", key);
+    assertNotEquals(key, cache.key(plan));
+  }
+
+  @Test
+  void key_includes_user_and_roles_if_security_enabled() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(true);
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL))
+        .thenReturn(TimeValue.timeValueSeconds(1));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of("uuid", 1L));
+    PhysicalPlan scan = aggregationScan("test");
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "alice||readall|");
+
+    String key = cache.key(scan);
+    assertEquals("user alice||readall| " + scan + "{uuid=1}", key);
+    try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+      threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "bob||dls_role|");
+      assertNotEquals(key, cache.key(scan));
+    }
+  }
+
+  @Test
+  void reuse_refresh_counts_of_same_indices_within_refresh_check_interval() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(true);
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_REFRESH_CHECK_INTERVAL))
+        .thenReturn(TimeValue.timeValueSeconds(1));
+    when(client.getIndexRefreshCounts("test"))
+        .thenReturn(Map.of("uuid", 1L), Map.of("uuid", 2L), Map.of("uuid", 3L));
+    when(client.getIndexRefreshCounts("other")).thenReturn(Map.of("uuid0", 1L));
+    PhysicalPlan test = aggregationScan("test");
+    PhysicalPlan other = aggregationScan("other");
+
+    assertEquals(test + "{uuid=1}", cache.key(test));
+    nanos.set(TimeValue.timeValueMillis(500).nanos());
+    assertEquals(test + "{uuid=1}", cache.key(test));
+    assertEquals(other + "{uuid0=1}", cache.key(other));
+    nanos.set(TimeValue.timeValueSeconds(1).nanos());
+    assertEquals(test + "{uuid=2}", cache.key(test));
+    assertEquals(other + "{uuid0=1}", cache.key(other));
+    nanos.set(TimeValue.timeValueSeconds(2).nanos());
+    assertEquals(test + "{uuid=3}", cache.key(test));
+    verify(client, times(3)).getIndexRefreshCounts("test");
+    verify(client, times(1)).getIndexRefreshCounts("other");
+  }
+
+  @Test
+  void no_key_if_plan_not_cacheable() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(true);
+    PhysicalPlan scan = aggregationScan("test");
+    OpenSearchRequest otherRequest = mock(OpenSearchRequest.class);
+    TableScanOperator otherScan =
+        mock(TableScanOperator.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+
+    assertNull(cache.key(project(scan, named("s", literal("a")))));
+    List<NamedExpression> parseExpressions = List.of(named("s", literal("a")));
+    assertNull(cache.key(project(scan, List.of(named("s", ref("s", STRING))), parseExpressions)));
+    assertNull(cache.key(sort(scan, Pair.of(DEFAULT_ASC, literal(1)))));
+    assertNull(cache.key(filter(scan, literal(true))));
+    assertNull(cache.key(otherScan));
+    assertNull(cache.key(new OpenSearchIndexScan(client, 200, otherRequest)));
+    assertNull(cache.key(scan(new SearchSourceBuilder(), "test", null)));
+    assertNull(cache.key(scan(aggregation(), "test", "pit")));
+    assertNull(cache.key(aggregationScan("remote:test")));
+  }
+
+  @Test
+  void no_key_if_input_not_cacheable() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_ENABLED)).thenReturn(true);
+    PhysicalPlan input = filter(aggregationScan("test"), literal(true));
+
+    assertNull(cache.key(project(input, named("avg", ref("avg", DOUBLE)))));
+    assertNull(cache.key(sort(input, Pair.of(DEFAULT_ASC, ref("avg", DOUBLE)))));
+    assertNull(cache.key(limit(input, 10, 0)));
+  }
+
+  @Test
+  void get_cached_rows() {
+    enable(1024 * 1024, TimeValue.timeValueMinutes(1));
+    List<ExprValue> rows = rows(1, 2);
+    long hitCount = cache.hitCount();
+    long missCount = cache.missCount();
+
+    assertNull(cache.get("key"));
+    cache.put("key", rows);
+    assertSame(rows, cache.get("key"));
+    assertEquals(hitCount + 1, cache.hitCount());
+    assertEquals(missCount + 1, cache.missCount());
+  }
+
+  @Test
+  void expire_rows_after_ttl() {
+    enable(1024 * 1024, TimeValue.timeValueSeconds(1));
+    cache.put("key", rows(1));
+
+    nanos.set(TimeValue.timeValueSeconds(1).nanos());
+    assertEquals(rows(1), cache.get("key"));
+    nanos.set(TimeValue.timeValueSeconds(2).nanos());
+    assertNull(cache.get("key"));
+    assertEquals(1, cache.evictionCount());
+    assertEquals(0, cache.sizeInBytes());
+  }
+
+  @Test
+  void evict_least_recently_used_rows_beyond_budget() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_SIZE)).thenReturn(new ByteSizeValue(700));
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_TTL))
+        .thenReturn(TimeValue.timeValueMinutes(1));
+    cache.put("a", rows(1));
+    cache.put("b", rows(2));
+    cache.get("a");
+    long sizeInBytes = cache.sizeInBytes();
+
+    cache.put("c", rows(3));
+    assertEquals(1, cache.evictionCount());
+    assertEquals(sizeInBytes, cache.sizeInBytes());
+    assertNull(cache.get("b"));
+    assertEquals(rows(1), cache.get("a"));
+    assertEquals(rows(3), cache.get("c"));
+  }
+
+  @Test
+  void skip_rows_larger_than_budget() {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_SIZE)).thenReturn(new ByteSizeValue(100));
+
+    cache.put("key", rows(1));
+    assertEquals(0, cache.sizeInBytes());
+  }
+
+  @Test
+  void replace_rows_of_same_key() {
+    enable(1024 * 1024, TimeValue.timeValueMinutes(1));
+    cache.put("key", rows(1, 2));
+    cache.put("key", rows(3));
+    long sizeInBytes = cache.sizeInBytes();
+
+    cache.put("other", rows(3));
+    assertEquals(2 * sizeInBytes - 2 * "key".length() + 2 * "other".length(), cache.sizeInBytes());
+    assertEquals(rows(3), cache.get("key"));
+    assertEquals(0, cache.evictionCount());
+  }
+
+  private void enable(long budget, TimeValue ttl) {
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_SIZE)).thenReturn(new ByteSizeValue(budget));
+    when(settings.getSettingValue(QUERY_RESULT_CACHE_TTL)).thenReturn(ttl);
+  }
+
+  private PhysicalPlan aggregationScan(String indexName) {
+    return scan(aggregation(), indexName, null);
+  }
+
+  private PhysicalPlan scan(SearchSourceBuilder sourceBuilder, String indexName, String pitId) {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName(indexName),
+            sourceBuilder,
+            factory,
+            List.of(),
+            TimeValue.timeValueMinutes(1),
+            pitId);
+    return new OpenSearchIndexScan(client, 200, request);
+  }
+
+  private static SearchSourceBuilder aggregation() {
+    return new SearchSourceBuilder().aggregation(AggregationBuilders.avg("avg").field("age"));
+  }
+
+  private static List<ExprValue> rows(Integer... values) {
+    return Arrays.stream(values)
+        .map(value -> ExprValueUtils.tupleValue(Map.of("value", value)))
+        .toList();
+  }
+}
@@ -82,6 +82,18 @@ class ResourceMonitorPlanTest {
     assertEquals("insufficient resources to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    monitorPlan.nextBatch(600);
+    verify(plan, times(1)).nextBatch(600);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(600));
+    assertEquals("insufficient resources to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
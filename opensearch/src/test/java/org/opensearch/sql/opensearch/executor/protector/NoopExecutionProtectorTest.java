@@ -6,12 +6,15 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 @ExtendWith(MockitoExtension.class)
 class NoopExecutionProtectorTest {
@@ -25,4 +28,20 @@ class NoopExecutionProtectorTest {
 
     assertEquals(plan, protectedPlan);
   }
+
+  @Test
+  void protect_with_memory_budget() {
+    NoopExecutionProtector executionProtector = new NoopExecutionProtector();
+    MemoryBudget memoryBudget = executionProtector.newMemoryBudget();
+
+    assertNotNull(memoryBudget);
+    assertEquals(plan, executionProtector.protect(plan, memoryBudget));
+  }
+
+  @Test
+  void profile_root_of_plan() {
+    NoopExecutionProtector executionProtector = new NoopExecutionProtector();
+
+    assertEquals(new ProfilePlan(plan), executionProtector.profile(plan, new MemoryBudget()));
+  }
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.executor.protector;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.ast.tree.Trendline.TrendlineType.SMA;
@@ -17,6 +18,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
@@ -29,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,6 +60,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
+import org.opensearch.sql.monitor.MemoryBudget;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
@@ -69,12 +73,17 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.ProfilePlan;
+import org.opensearch.sql.planner.physical.SortOperator;
 import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.TrendlineOperator;
+import org.opensearch.sql.storage.TableScanOperator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -308,6 +317,86 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.visitNested(nestedOperator, values(emptyList())));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void protect_buffering_operators_with_memory_budget_of_query() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    PhysicalPlan plan =
+        executionProtector.protect(
+            dedupe(values(List.of(literal(1)), List.of(literal(2))), literal("key")),
+            memoryBudget);
+
+    plan.open();
+    while (plan.hasNext()) {
+      plan.next();
+    }
+    assertTrue(memoryBudget.getReservedBytes() > 0);
+    plan.close();
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertTrue(memoryBudget.getPeakReservedBytes() > 0);
+  }
+
+  @Test
+  void profile_every_node_with_memory_budget_of_query() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    ProfilePlan plan =
+        (ProfilePlan)
+            executionProtector.profile(
+                dedupe(values(List.of(literal(1)), List.of(literal(2))), literal("key")),
+                memoryBudget);
+
+    plan.open();
+    while (plan.hasNext()) {
+      plan.next();
+    }
+    assertTrue(memoryBudget.getReservedBytes() > 0);
+    assertEquals(2L, plan.stats().get("rowsIn"));
+    assertEquals(1L, plan.stats().get("rowsOut"));
+    plan.close();
+  }
+
+  @Test
+  void profile_windowOperator_input_outside_of_protection() {
+    NamedExpression avg = named(mock(AggregateWindowFunction.class));
+    WindowDefinition windowDefinition = mock(WindowDefinition.class);
+
+    assertEquals(
+        new ProfilePlan(window(new ProfilePlan(resourceMonitor(values())), avg, windowDefinition)),
+        executionProtector.profile(window(values(), avg, windowDefinition), new MemoryBudget()));
+  }
+
+  @Test
+  void create_memory_budget_of_query_by_factory() {
+    MemoryBudget memoryBudget = new MemoryBudget();
+    assertSame(
+        memoryBudget,
+        new OpenSearchExecutionProtector(resourceMonitor, () -> memoryBudget, () -> 100L)
+            .newMemoryBudget());
+  }
+
+  @Test
+  void spill_sort_by_sort_memory_limit_rather_than_available_memory() {
+    LongSupplier sortMemoryLimit = mock(LongSupplier.class);
+    when(sortMemoryLimit.getAsLong()).thenReturn(100L);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    Pair<Sort.SortOption, Expression> sortItem = ImmutablePair.of(DEFAULT_ASC, ref("a", INTEGER));
+    SortOperator sort = sort(values(emptyList()), sortItem);
+
+    PhysicalPlan protectedPlan =
+        new OpenSearchExecutionProtector(resourceMonitor, MemoryBudget::new, sortMemoryLimit)
+            .visitSort(sort, null);
+    assertEquals(resourceMonitor(sort), protectedPlan);
+    protectedPlan.open();
+    verify(sortMemoryLimit).getAsLong();
+    verify(resourceMonitor, never()).availableMemory();
+  }
+
+  @Test
+  void protect_table_scan_of_other_storage() {
+    TableScanOperator scan = mock(TableScanOperator.class, CALLS_REAL_METHODS);
+    assertEquals(resourceMonitor(scan), executionProtector.protect(scan));
+  }
+
   @Test
   void do_nothing_with_CursorCloseOperator_and_children() {
     var child = mock(PhysicalPlan.class);
@@ -342,6 +431,24 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.visitTrendline(trendlineOperator, null));
   }
 
+  @Test
+  public void test_visitHashJoin() {
+    HashJoinOperator hashJoin =
+        PhysicalPlanDSL.hashJoin(
+            values(emptyList()),
+            values(emptyList()),
+            JoinType.INNER,
+            List.of(ref("a", INTEGER)),
+            List.of(ref("b", INTEGER)));
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    when(resourceMonitor.availableMemory()).thenReturn(100L);
+
+    PhysicalPlan protectedPlan = executionProtector.visitHashJoin(hashJoin, null);
+    assertEquals(resourceMonitor(hashJoin), protectedPlan);
+    protectedPlan.open();
+    verify(resourceMonitor).availableMemory();
+  }
+
   /**
    * To ensure the original Eval functionality continue to work after the OpenSearchEvalOperator
    * wrapper.
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.monitor.CircuitBreakerMemoryBudget.CHUNK_SIZE;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CircuitBreakerMemoryBudgetTest {
+
+  @Mock private CircuitBreaker breaker;
+
+  private CircuitBreakerMemoryBudget memoryBudget;
+
+  @BeforeEach
+  void setUp() {
+    memoryBudget = new CircuitBreakerMemoryBudget(breaker);
+  }
+
+  @Test
+  void acquire_memory_from_breaker_by_chunk() {
+    memoryBudget.reserve(100, "sort");
+    memoryBudget.reserve(CHUNK_SIZE - 100, "sort");
+    memoryBudget.reserve(CHUNK_SIZE + 1, "sort");
+
+    verify(breaker).addEstimateBytesAndMaybeBreak(CHUNK_SIZE, "sort");
+    verify(breaker).addEstimateBytesAndMaybeBreak(CHUNK_SIZE + 1, "sort");
+    verifyNoMoreInteractions(breaker);
+    assertEquals(2 * CHUNK_SIZE + 1, memoryBudget.getReservedBytes());
+  }
+
+  @Test
+  void give_back_memory_to_breaker_beyond_chunk() {
+    memoryBudget.reserve(3 * CHUNK_SIZE, "aggregation");
+    memoryBudget.release(CHUNK_SIZE);
+    verify(breaker, never()).addWithoutBreaking(anyLong());
+
+    memoryBudget.release(CHUNK_SIZE);
+    verify(breaker).addWithoutBreaking(-2 * CHUNK_SIZE);
+    assertEquals(CHUNK_SIZE, memoryBudget.getReservedBytes());
+    assertEquals(3 * CHUNK_SIZE, memoryBudget.getPeakReservedBytes());
+  }
+
+  @Test
+  void give_back_all_memory_to_breaker_on_close() {
+    memoryBudget.reserve(100, "dedupe");
+    memoryBudget.close();
+
+    verify(breaker).addWithoutBreaking(-CHUNK_SIZE);
+    assertEquals(0, memoryBudget.getReservedBytes());
+    assertEquals(100, memoryBudget.getPeakReservedBytes());
+  }
+
+  @Test
+  void reject_reservation_if_breaker_trips() {
+    when(breaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString()))
+        .thenThrow(
+            new CircuitBreakingException("Data too large", CircuitBreaker.Durability.TRANSIENT));
+
+    assertThrows(CircuitBreakingException.class, () -> memoryBudget.reserve(100, "window"));
+    assertEquals(0, memoryBudget.getReservedBytes());
+
+    memoryBudget.close();
+    verify(breaker).addWithoutBreaking(0);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.monitor.MemoryPressureMonitor.Level;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MemoryPressureMonitorTest {
+
+  private static final Notification GC_NOTIFICATION =
+      new Notification("com.sun.management.gc.notification", "G1 Young Generation", 1L);
+
+  @Mock private Settings settings;
+
+  @Mock private MemoryPoolMXBean oldGen;
+
+  @Mock private MemoryPoolMXBean eden;
+
+  @Mock private MemoryPoolMXBean metaspace;
+
+  @Mock private GarbageCollectorMXBean collectorWithoutNotification;
+
+  private MemoryMXBean memoryBean;
+
+  private GarbageCollectorMXBean collector;
+
+  private MemoryPressureMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    memoryBean =
+        mock(MemoryMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+    collector =
+        mock(
+            GarbageCollectorMXBean.class,
+            withSettings().extraInterfaces(NotificationEmitter.class));
+    lenient().when(oldGen.getType()).thenReturn(MemoryType.HEAP);
+    lenient().when(oldGen.isUsageThresholdSupported()).thenReturn(true);
+    lenient().when(oldGen.getUsage()).thenReturn(new MemoryUsage(0, 0, 0, 800));
+    lenient().when(eden.getType()).thenReturn(MemoryType.HEAP);
+    lenient().when(eden.isUsageThresholdSupported()).thenReturn(false);
+    lenient().when(metaspace.getType()).thenReturn(MemoryType.NON_HEAP);
+    lenient()
+        .when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1000L));
+    monitor =
+        new MemoryPressureMonitor(
+            settings,
+            memoryBean,
+            List.of(oldGen, eden, metaspace),
+            List.of(collector, collectorWithoutNotification));
+  }
+
+  @Test
+  void start_listening_to_notifications() {
+    heapUsed(100);
+    monitor.start();
+
+    verify((NotificationEmitter) memoryBean).addNotificationListener(monitor, null, null);
+    verify((NotificationEmitter) collector).addNotificationListener(monitor, null, null);
+    verify(oldGen).setUsageThreshold(800);
+    verify(eden, never()).setUsageThreshold(anyLong());
+    verify(metaspace, never()).setUsageThreshold(anyLong());
+    assertEquals(100, monitor.usedBytes());
+    assertEquals(Level.NORMAL, monitor.level());
+  }
+
+  @Test
+  void arm_usage_threshold_at_throttle_level_if_pool_max_undefined() {
+    when(oldGen.getUsage()).thenReturn(new MemoryUsage(0, 0, 0, -1));
+    heapUsed(100);
+    monitor.start();
+
+    verify(oldGen).setUsageThreshold(900);
+  }
+
+  @Test
+  void publish_pressure_level_measured_after_notification() {
+    heapUsed(100);
+    monitor.start();
+    assertEquals(Level.NORMAL, monitor.level());
+
+    heapUsed(950);
+    monitor.handleNotification(GC_NOTIFICATION, null);
+    assertEquals(Level.THROTTLE, monitor.level());
+
+    heapUsed(1000);
+    monitor.handleNotification(
+        new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, "Memory", 2L), null);
+    assertEquals(Level.SHED, monitor.level());
+    assertEquals(1000, monitor.usedBytes());
+
+    heapUsed(300);
+    monitor.handleNotification(GC_NOTIFICATION, null);
+    assertEquals(Level.NORMAL, monitor.level());
+  }
+
+  @Test
+  void compare_with_updated_limit_without_waiting_for_notification() {
+    heapUsed(500);
+    monitor.start();
+    assertEquals(Level.NORMAL, monitor.level());
+
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
+    assertEquals(Level.SHED, monitor.level());
+  }
+
+  @Test
+  void arm_usage_threshold_again_only_if_limit_changed() {
+    when(oldGen.getUsage()).thenReturn(new MemoryUsage(0, 0, 0, -1));
+    heapUsed(100);
+    monitor.start();
+    monitor.handleNotification(GC_NOTIFICATION, null);
+    verify(oldGen, times(1)).setUsageThreshold(900);
+
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(500L));
+    monitor.handleNotification(GC_NOTIFICATION, null);
+    verify(oldGen).setUsageThreshold(450);
+  }
+
+  @Test
+  void measure_current_heap_usage_without_waiting_for_notification() {
+    heapUsed(100);
+    monitor.start();
+
+    heapUsed(700);
+    assertEquals(700, monitor.currentUsedBytes());
+    assertEquals(100, monitor.usedBytes());
+  }
+
+  @Test
+  void stop_listening_to_notifications() throws ListenerNotFoundException {
+    doThrow(ListenerNotFoundException.class)
+        .when((NotificationEmitter) collector)
+        .removeNotificationListener(monitor);
+    monitor.stop();
+
+    verify((NotificationEmitter) memoryBean).removeNotificationListener(monitor);
+    verify((NotificationEmitter) collector).removeNotificationListener(monitor);
+  }
+
+  private void heapUsed(long bytes) {
+    when(memoryBean.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, bytes, bytes, 1000));
+  }
+}
@@ -5,11 +5,9 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,55 +23,46 @@ class OpenSearchResourceMonitorTest {
 
   @Mock private Settings settings;
 
-  @Mock private OpenSearchMemoryHealthy memoryMonitor;
+  @Mock private MemoryPressureMonitor memoryMonitor;
+
+  private OpenSearchResourceMonitor resourceMonitor;
 
   @BeforeEach
   public void setup() {
-    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
-        .thenReturn(new ByteSizeValue(10L));
+    resourceMonitor = new OpenSearchResourceMonitor(settings, memoryMonitor);
   }
 
   @Test
   void isHealthy() {
-    when(memoryMonitor.isMemoryHealthy(anyLong())).thenReturn(true);
+    when(memoryMonitor.level()).thenReturn(MemoryPressureMonitor.Level.NORMAL);
 
-    OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
     assertTrue(resourceMonitor.isHealthy());
+    assertFalse(resourceMonitor.isUnderPressure());
   }
 
   @Test
-  void notHealthyFastFailure() {
-    when(memoryMonitor.isMemoryHealthy(anyLong()))
-        .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedFastFailureException.class);
+  void isHealthyUnderPressure() {
+    when(memoryMonitor.level()).thenReturn(MemoryPressureMonitor.Level.THROTTLE);
 
-    OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
-    assertFalse(resourceMonitor.isHealthy());
-    verify(memoryMonitor, times(1)).isMemoryHealthy(anyLong());
+    assertTrue(resourceMonitor.isHealthy());
+    assertTrue(resourceMonitor.isUnderPressure());
   }
 
   @Test
-  void notHealthyWithRetry() {
-    when(memoryMonitor.isMemoryHealthy(anyLong()))
-        .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class);
+  void notHealthy() {
+    when(memoryMonitor.level()).thenReturn(MemoryPressureMonitor.Level.SHED);
 
-    OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
     assertFalse(resourceMonitor.isHealthy());
-    verify(memoryMonitor, times(3)).isMemoryHealthy(anyLong());
+    assertTrue(resourceMonitor.isUnderPressure());
   }
 
   @Test
-  void healthyWithRetry() {
-
-    when(memoryMonitor.isMemoryHealthy(anyLong()))
-        .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class)
-        .thenReturn(true);
+  void availableMemory() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
+    when(memoryMonitor.currentUsedBytes()).thenReturn(4L, 20L);
 
-    OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
-    assertTrue(resourceMonitor.isHealthy());
-    verify(memoryMonitor, times(2)).isMemoryHealthy(anyLong());
+    assertEquals(6L, resourceMonitor.availableMemory());
+    assertEquals(0L, resourceMonitor.availableMemory());
   }
 }
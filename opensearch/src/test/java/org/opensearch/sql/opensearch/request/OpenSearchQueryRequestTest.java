@@ -10,11 +10,12 @@ import static org.mockito.Mockito.*;
 import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QUERY_TIMEOUT;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import lombok.SneakyThrows;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +25,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -66,80 +73,78 @@ public class OpenSearchQueryRequestTest {
       new OpenSearchQueryRequest("ccs:test", 200, factory, List.of());
 
   @Mock private StreamOutput streamOutput;
-  @Mock private StreamInput streamInput;
   @Mock private OpenSearchStorageEngine engine;
-  @Mock private PointInTimeBuilder pointInTimeBuilder;
-
-  private OpenSearchQueryRequest serializationRequest;
 
   private SearchSourceBuilder sourceBuilderForSerializer;
 
   @BeforeEach
   void setup() {
     sourceBuilderForSerializer = new SearchSourceBuilder();
-    sourceBuilderForSerializer.pointInTimeBuilder(pointInTimeBuilder);
+    sourceBuilderForSerializer.query(QueryBuilders.termQuery("name", "John"));
+    sourceBuilderForSerializer.pointInTimeBuilder(new PointInTimeBuilder("samplePITId"));
     sourceBuilderForSerializer.timeout(TimeValue.timeValueSeconds(30));
   }
 
-  @SneakyThrows
   @Test
   void testWriteTo() throws IOException {
-    when(pointInTimeBuilder.getId()).thenReturn("samplePITId");
     sourceBuilderForSerializer.searchAfter(new Object[] {"value1", 123});
     List<String> includes = List.of("field1", "field2");
-    serializationRequest =
-        new OpenSearchQueryRequest(
-            new OpenSearchRequest.IndexName("test"),
-            sourceBuilderForSerializer,
-            factory,
-            includes,
-            new TimeValue(1000),
-            "samplePITId");
 
-    Field searchAfterField = OpenSearchQueryRequest.class.getDeclaredField("searchAfter");
-    searchAfterField.setAccessible(true);
-    searchAfterField.set(serializationRequest, new Object[] {"value1", 123});
+    OpenSearchQueryRequest deserialized = serializeAndDeserialize(includes);
+    assertEquals(sourceBuilderForSerializer, deserialized.getSourceBuilder());
+    assertEquals("samplePITId", deserialized.getPitId());
+    assertArrayEquals(new Object[] {"value1", 123}, deserialized.getSearchAfter());
+    assertEquals(TimeValue.timeValueSeconds(30), deserialized.getCursorKeepAlive());
+    assertEquals(includes, deserialized.getIncludes());
+    assertEquals("test", deserialized.getIndexName().toString());
+  }
 
-    serializationRequest.writeTo(streamOutput);
+  @Test
+  void testWriteToWithoutSearchAfter() throws IOException {
+    List<String> includes = List.of("field1", "field2");
 
-    String expectedJson = "{\"timeout\":\"30s\",\"search_after\":[\"value1\",123]}";
-    verify(streamOutput).writeString(expectedJson);
-    verify(streamOutput).writeTimeValue(TimeValue.timeValueSeconds(30));
-    verify(streamOutput).writeString("samplePITId");
-    verify(streamOutput).writeStringCollection(includes);
+    OpenSearchQueryRequest deserialized = serializeAndDeserialize(includes);
+    assertEquals(sourceBuilderForSerializer, deserialized.getSourceBuilder());
+    assertEquals("samplePITId", deserialized.getPitId());
+    assertNull(deserialized.getSearchAfter());
+  }
 
-    verify(streamOutput).writeVInt(2);
-    verify(streamOutput).writeGenericValue("value1");
-    verify(streamOutput).writeGenericValue(123);
+  @Test
+  void testReadFromLegacyFormat() throws IOException {
+    when(engine.getTable(null, "test")).thenReturn(mock(OpenSearchIndex.class));
+    List<String> includes = List.of("field1", "field2");
+    BytesStreamOutput output = new BytesStreamOutput();
+    output.writeString("{\"timeout\":\"30s\",\"search_after\":[\"value1\",123]}");
+    output.writeTimeValue(TimeValue.timeValueSeconds(30));
+    output.writeString("samplePITId");
+    output.writeStringCollection(includes);
+    new OpenSearchRequest.IndexName("test").writeTo(output);
+    output.writeVInt(2);
+    output.writeGenericValue("value1");
+    output.writeGenericValue(123);
+
+    OpenSearchQueryRequest deserialized =
+        new OpenSearchQueryRequest(output.bytes().streamInput(), engine, true);
+    assertEquals(TimeValue.timeValueSeconds(30), deserialized.getSourceBuilder().timeout());
+    assertEquals("samplePITId", deserialized.getPitId());
+    assertArrayEquals(new Object[] {"value1", 123}, deserialized.getSearchAfter());
+    assertEquals(TimeValue.timeValueSeconds(30), deserialized.getCursorKeepAlive());
+    assertEquals(includes, deserialized.getIncludes());
+    assertEquals("test", deserialized.getIndexName().toString());
   }
 
   @Test
-  void testWriteToWithoutSearchAfter()
-      throws IOException, NoSuchFieldException, IllegalAccessException {
-    when(pointInTimeBuilder.getId()).thenReturn("samplePITId");
+  void testWriteToInBinary() throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    serializationRequest(List.of()).writeTo(output);
 
-    List<String> includes = List.of("field1", "field2");
-    serializationRequest =
-        new OpenSearchQueryRequest(
-            new OpenSearchRequest.IndexName("test"),
-            sourceBuilderForSerializer,
-            factory,
-            includes,
-            new TimeValue(1000),
-            "samplePITId");
-
-    serializationRequest.writeTo(streamOutput);
-    verify(streamOutput).writeString("{\"timeout\":\"30s\"}");
-    verify(streamOutput).writeTimeValue(TimeValue.timeValueSeconds(30));
-    verify(streamOutput).writeString("samplePITId");
-    verify(streamOutput).writeStringCollection(includes);
-    verify(streamOutput, never()).writeVInt(anyInt());
-    verify(streamOutput, never()).writeGenericValue(any());
+    assertTrue(output.size() < sourceBuilderForSerializer.toString().length());
   }
 
   @Test
   void testWriteToWithoutPIT() {
-    serializationRequest = new OpenSearchQueryRequest("test", 200, factory, List.of());
+    OpenSearchQueryRequest serializationRequest =
+        new OpenSearchQueryRequest("test", 200, factory, List.of());
 
     UnsupportedOperationException exception =
         assertThrows(
@@ -152,6 +157,19 @@ public class OpenSearchQueryRequestTest {
         "OpenSearchQueryRequest serialization is not implemented.", exception.getMessage());
   }
 
+  @Test
+  void push_down_filter_keeps_original_query_scoring() {
+    request.getSourceBuilder().query(QueryBuilders.matchQuery("name", "John"));
+
+    request.pushDownFilter(QueryBuilders.termsQuery("age", List.of(10, 20)));
+
+    assertEquals(
+        QueryBuilders.boolQuery()
+            .must(QueryBuilders.matchQuery("name", "John"))
+            .filter(QueryBuilders.termsQuery("age", List.of(10, 20))),
+        request.getSourceBuilder().query());
+  }
+
   @Test
   void search() {
     OpenSearchQueryRequest request =
@@ -169,6 +187,42 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void search_composite_aggregation_by_pages() {
+    CompositeAggregationBuilder compositeBuilder =
+        AggregationBuilders.composite(
+                "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .size(1);
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder().size(0).aggregation(compositeBuilder),
+            factory,
+            List.of());
+
+    Aggregations aggregations = mock(Aggregations.class);
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[0]);
+    when(searchResponse.getAggregations()).thenReturn(aggregations);
+    when(aggregations.get("composite_buckets")).thenReturn(composite);
+    when(composite.afterKey()).thenReturn(Map.of("name", "a"));
+    doReturn(List.of(mock(CompositeAggregation.Bucket.class)))
+        .doReturn(List.of())
+        .when(composite)
+        .getBuckets();
+
+    // First page is full so the next page is requested after the last bucket
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.getSourceBuilder().toString().contains("\"after\""));
+
+    // Second page is not full so it is the last one
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
   @Test
   void search_with_pit() {
     OpenSearchQueryRequest request =
@@ -264,6 +318,77 @@ public class OpenSearchQueryRequestTest {
     assertFalse(openSearchResponse.isEmpty());
   }
 
+  @Test
+  void search_async() {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), sourceBuilder, factory, List.of());
+
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    List<SearchRequest> requests = new ArrayList<>();
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    BiConsumer<SearchRequest, ActionListener<SearchResponse>> asyncSearchAction =
+        (req, listener) -> {
+          requests.add(req);
+          listener.onResponse(searchResponse);
+        };
+
+    request.searchAsync(asyncSearchAction, null, ActionListener.wrap(responses::add, e -> fail(e)));
+    request.searchAsync(asyncSearchAction, null, ActionListener.wrap(responses::add, e -> fail(e)));
+    assertEquals(1, requests.size());
+    assertArrayEquals(new String[] {"test"}, requests.get(0).indices());
+    assertFalse(responses.get(0).isEmpty());
+    assertTrue(responses.get(1).isEmpty());
+  }
+
+  @Test
+  void search_async_with_pit() {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            sourceBuilder,
+            factory,
+            List.of(),
+            new TimeValue(1000),
+            "samplePid");
+
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new String[] {"sortedValue"});
+    when(sourceBuilder.sorts()).thenReturn(null);
+    List<SearchRequest> requests = new ArrayList<>();
+    List<OpenSearchResponse> responses = new ArrayList<>();
+
+    request.searchAsync(
+        (req, listener) -> {
+          requests.add(req);
+          listener.onResponse(searchResponse);
+        },
+        null,
+        ActionListener.wrap(responses::add, e -> fail(e)));
+    assertSame(sourceBuilder, requests.get(0).source());
+    verify(sourceBuilder).pointInTimeBuilder(any());
+    assertFalse(responses.get(0).isEmpty());
+    assertArrayEquals(new String[] {"sortedValue"}, request.getSearchAfter());
+    assertTrue(request.hasAnotherBatch());
+  }
+
+  @Test
+  void search_async_with_failure() {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), sourceBuilder, factory, List.of());
+    IllegalStateException error = new IllegalStateException("search failed");
+    List<Exception> failures = new ArrayList<>();
+
+    request.searchAsync(
+        (req, listener) -> listener.onFailure(error),
+        null,
+        ActionListener.wrap(response -> fail("Expect failure"), failures::add));
+    assertEquals(List.of(error), failures);
+  }
+
   @Test
   void has_another_batch() {
     OpenSearchQueryRequest request =
@@ -448,20 +573,6 @@ public class OpenSearchQueryRequestTest {
         UnsupportedOperationException.class, () -> request.writeTo(mock(StreamOutput.class)));
   }
 
-  @Test
-  void constructor_serialized() throws IOException {
-    StreamInput stream = mock(StreamInput.class);
-    OpenSearchStorageEngine engine = mock(OpenSearchStorageEngine.class);
-    when(stream.readString()).thenReturn("{}");
-    when(stream.readStringArray()).thenReturn(new String[] {"sample"});
-    OpenSearchIndex index = mock(OpenSearchIndex.class);
-    when(engine.getTable(null, "sample")).thenReturn(index);
-    when(stream.readVInt()).thenReturn(2);
-    when(stream.readGenericValue()).thenReturn("sampleSearchAfter");
-    OpenSearchQueryRequest request = new OpenSearchQueryRequest(stream, engine);
-    assertNotNull(request);
-  }
-
   private void assertSearchRequest(SearchRequest expected, OpenSearchQueryRequest request) {
     Function<SearchRequest, SearchResponse> querySearch =
         searchRequest -> {
@@ -474,4 +585,22 @@ public class OpenSearchQueryRequestTest {
         };
     request.search(querySearch, searchScrollRequest -> null);
   }
+
+  private OpenSearchQueryRequest serializationRequest(List<String> includes) {
+    return new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        sourceBuilderForSerializer,
+        factory,
+        includes,
+        new TimeValue(1000),
+        "samplePITId");
+  }
+
+  private OpenSearchQueryRequest serializeAndDeserialize(List<String> includes)
+      throws IOException {
+    when(engine.getTable(null, "test")).thenReturn(mock(OpenSearchIndex.class));
+    BytesStreamOutput output = new BytesStreamOutput();
+    serializationRequest(includes).writeTo(output);
+    return new OpenSearchQueryRequest(output.bytes().streamInput(), engine);
+  }
 }
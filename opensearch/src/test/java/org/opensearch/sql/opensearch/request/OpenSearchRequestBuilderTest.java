@@ -14,6 +14,7 @@ import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,10 +37,14 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilders;
@@ -89,6 +94,7 @@ class OpenSearchRequestBuilderTest {
         .when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER))
         .thenReturn(true);
     lenient().when(settings.getSettingValue(Settings.Key.FIELD_TYPE_TOLERANCE)).thenReturn(false);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
   }
 
   @Test
@@ -166,6 +172,23 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, client));
   }
 
+  @Test
+  void buildRequestWithPit_sliced_by_no_more_than_shard_count() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(4);
+    when(client.getIndexShardCounts("test")).thenReturn(Map.of("test", 2));
+    when(client.createPit(any(CreatePitRequest.class))).thenReturn("samplePITId");
+    requestBuilder = new OpenSearchRequestBuilder(600, exprValueFactory, settings);
+    requestBuilder.pushDownLimit(600, 0);
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, client);
+    assertTrue(request instanceof OpenSearchSlicedQueryRequest);
+    List<OpenSearchQueryRequest> slices = ((OpenSearchSlicedQueryRequest) request).getSlices();
+    assertEquals(2, slices.size());
+    assertEquals(new SliceBuilder(1, 2), slices.get(1).getSourceBuilder().slice());
+    assertEquals("samplePITId", slices.get(1).getPitId());
+  }
+
   @Test
   void buildRequestWithPit_pageSizeNull_sizeLessThanMaxResultWindow() {
     when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)).thenReturn(true);
@@ -366,6 +389,91 @@ class OpenSearchRequestBuilderTest {
     verify(exprValueFactory).setParser(responseParser);
   }
 
+  @Test
+  void build_aggregation_request_without_pit_if_size_exceeds_max_result_window() {
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+                "composite_buckets",
+                Collections.singletonList(new TermsValuesSourceBuilder("longA").field("longA")))
+            .size(1);
+    OpenSearchAggregationResponseParser responseParser =
+        new CompositeAggregationParser(new SingleValueParser("AVG(intA)"));
+    OpenSearchRequestBuilder builder =
+        new OpenSearchRequestBuilder(MAX_RESULT_WINDOW + 1, exprValueFactory, settings);
+    builder.pushDownAggregation(Pair.of(List.of(aggBuilder), responseParser));
+
+    assertEquals(
+        new OpenSearchQueryRequest(
+            indexName,
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(MAX_RESULT_WINDOW)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .aggregation(aggBuilder),
+            exprValueFactory,
+            List.of()),
+        builder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, client));
+    verify(client, never()).createPit(any());
+  }
+
+  @Test
+  void search_all_composite_buckets_if_size_exceeds_max_result_window() {
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+                "composite_buckets",
+                Collections.singletonList(new TermsValuesSourceBuilder("longA").field("longA")))
+            .size(1);
+    OpenSearchRequestBuilder builder =
+        new OpenSearchRequestBuilder(MAX_RESULT_WINDOW + 1, exprValueFactory, settings);
+    builder.pushDownAggregation(
+        Pair.of(
+            List.of(aggBuilder),
+            new CompositeAggregationParser(new SingleValueParser("AVG(intA)"))));
+    OpenSearchRequest request =
+        builder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, client);
+
+    // Two full pages of one bucket each, then the last page with no bucket
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    doReturn(List.of(mock(CompositeAggregation.Bucket.class)))
+        .doReturn(List.of(mock(CompositeAggregation.Bucket.class)))
+        .doReturn(List.of())
+        .when(composite)
+        .getBuckets();
+    when(composite.afterKey()).thenReturn(Map.of("longA", 1L), Map.of("longA", 2L));
+    Aggregations aggregations = mock(Aggregations.class);
+    when(aggregations.get("composite_buckets")).thenReturn(composite);
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(aggregations);
+    List<String> searched = new ArrayList<>();
+    Function<SearchRequest, SearchResponse> search =
+        searchRequest -> {
+          searched.add(searchRequest.source().toString());
+          return response;
+        };
+    Function<SearchScrollRequest, SearchResponse> scroll =
+        scrollRequest -> {
+          throw new UnsupportedOperationException();
+        };
+
+    for (int i = 0; i < 4; i++) {
+      request.search(search, scroll);
+    }
+    assertEquals(3, searched.size());
+    assertFalse(searched.get(0).contains("\"after\""));
+    assertTrue(searched.get(1).contains("\"after\":{\"longA\":1}"));
+    assertTrue(searched.get(2).contains("\"after\":{\"longA\":2}"));
+    verify(client, never()).createPit(any());
+  }
+
+  @Test
+  void test_push_down_aggregation_limit() {
+    requestBuilder.pushDownAggregationLimit(10);
+    assertEquals(10, requestBuilder.getMaxResponseSize());
+
+    requestBuilder.pushDownAggregationLimit(DEFAULT_LIMIT + 1);
+    assertEquals(10, requestBuilder.getMaxResponseSize());
+  }
+
   @Test
   void test_push_down_percentile_aggregation() {
     AggregationBuilder aggBuilder =
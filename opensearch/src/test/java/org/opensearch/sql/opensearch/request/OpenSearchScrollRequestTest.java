@@ -18,6 +18,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.request.OpenSearchScrollRequest.NO_SCROLL_ID;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
@@ -34,6 +35,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
@@ -145,6 +147,30 @@ class OpenSearchScrollRequestTest {
     assertFalse(response.isEmpty());
   }
 
+  @Test
+  void search_async_first_page_and_then_scroll() {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    List<OpenSearchResponse> responses = new ArrayList<>();
+
+    request.searchAsync(
+        (sr, listener) -> listener.onResponse(searchResponse),
+        (sr, listener) -> fail("scroll"),
+        ActionListener.wrap(responses::add, e -> fail(e)));
+    assertEquals("scroll123", request.getScrollId());
+
+    request.searchAsync(
+        (sr, listener) -> fail("search"),
+        (sr, listener) -> {
+          assertEquals(request.scrollRequest(), sr);
+          listener.onResponse(searchResponse);
+        },
+        ActionListener.wrap(responses::add, e -> fail(e)));
+    assertEquals(2, responses.size());
+    assertFalse(responses.get(1).isEmpty());
+  }
+
   @Test
   @SneakyThrows
   void search_without_scroll_and_initial_request_should_throw() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchSlicedQueryRequestTest {
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  @Mock private SearchResponse emptyResponse;
+
+  @Mock private SearchResponse nonEmptyResponse;
+
+  private OpenSearchSlicedQueryRequest request;
+
+  private final List<SearchRequest> requests = new ArrayList<>();
+
+  private final List<OpenSearchResponse> responses = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    request =
+        new OpenSearchSlicedQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder(),
+            factory,
+            List.of(),
+            TimeValue.timeValueMinutes(1),
+            "samplePITId",
+            2);
+  }
+
+  @Test
+  void search_async_moves_to_next_slice_once_slice_is_exhausted() {
+    when(emptyResponse.getHits()).thenReturn(SearchHits.empty());
+    when(nonEmptyResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {new SearchHit(1)},
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+
+    searchAsync(emptyResponse, nonEmptyResponse);
+    assertEquals(2, requests.size());
+    assertEquals(1, requests.get(1).source().slice().getId());
+    assertFalse(responses.get(0).isEmpty());
+  }
+
+  @Test
+  void search_async_returns_empty_response_once_all_slices_are_exhausted() {
+    when(emptyResponse.getHits()).thenReturn(SearchHits.empty());
+
+    searchAsync(emptyResponse, emptyResponse);
+    assertEquals(2, requests.size());
+    assertTrue(responses.get(0).isEmpty());
+  }
+
+  @Test
+  void search_async_with_failure() {
+    IllegalStateException error = new IllegalStateException("search failed");
+    List<Exception> failures = new ArrayList<>();
+
+    request.searchAsync(
+        (req, listener) -> listener.onFailure(error),
+        null,
+        ActionListener.wrap(response -> fail("Expect failure"), failures::add));
+    assertEquals(List.of(error), failures);
+  }
+
+  private void searchAsync(SearchResponse... searchResponses) {
+    request.searchAsync(
+        (req, listener) -> {
+          requests.add(req);
+          listener.onResponse(searchResponses[requests.size() - 1]);
+        },
+        null,
+        ActionListener.wrap(responses::add, e -> fail(e)));
+  }
+}
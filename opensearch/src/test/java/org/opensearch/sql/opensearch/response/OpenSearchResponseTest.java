@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.core.index.shard.ShardId;
@@ -100,6 +101,33 @@ class OpenSearchResponseTest {
     assertFalse(response.isEmpty());
   }
 
+  @Test
+  void took_and_source_bytes() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1, searchHit2},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchResponse.getTook()).thenReturn(TimeValue.timeValueMillis(12));
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
+    when(searchHit2.getSourceRef()).thenReturn(null);
+
+    var response = new OpenSearchResponse(searchResponse, factory, includes);
+    assertEquals(12, response.getTookMillis());
+    assertEquals(10, response.sourceBytes());
+  }
+
+  @Test
+  void no_took_and_source_bytes_without_hits() {
+    when(searchResponse.getHits())
+        .thenReturn(new SearchHits(null, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0));
+
+    var response = new OpenSearchResponse(searchResponse, factory, includes);
+    assertEquals(0, response.getTookMillis());
+    assertEquals(0, response.sourceBytes());
+  }
+
   @Test
   void iterator() {
     when(searchResponse.getHits())
@@ -109,11 +137,11 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
+    when(searchHit2.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 2}"));
     when(searchHit1.getInnerHits()).thenReturn(null);
     when(searchHit2.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean()))
+    when(factory.constructFromSource(any(), any(), anyBoolean()))
         .thenReturn(exprTupleValue1)
         .thenReturn(exprTupleValue2);
 
@@ -146,14 +174,14 @@ class OpenSearchResponseTest {
     ShardId shardId = new ShardId("index", "indexUUID", 42);
     SearchShardTarget shardTarget = new SearchShardTarget("node", shardId, null, null);
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getShard()).thenReturn(shardTarget);
     when(searchHit1.getScore()).thenReturn(3.75F);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleHit);
 
     ExprTupleValue exprTupleResponse =
         ExprTupleValue.fromExprValueMap(
@@ -191,9 +219,9 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 3.75F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1");
     ExprTupleValue exprTupleResponse =
@@ -222,13 +250,13 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 Float.NaN));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getScore()).thenReturn(Float.NaN);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1", "_index", "_id", "_sort", "_score", "_maxscore");
     ExprTupleValue exprTupleResponse =
@@ -261,7 +289,7 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue1);
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(exprTupleValue1);
 
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
       assertEquals(exprTupleValue1, hit);
@@ -327,7 +355,7 @@ class OpenSearchResponseTest {
                 1.0F));
 
     when(searchHit1.getHighlightFields()).thenReturn(highlightMap);
-    when(factory.construct(any(), anyBoolean())).thenReturn(resultTuple);
+    when(factory.constructFromSource(any(), any(), anyBoolean())).thenReturn(resultTuple);
 
     for (ExprValue resultHit : new OpenSearchResponse(searchResponse, factory, includes)) {
       var expected =
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SecurityContextTest {
+
+  private ThreadContext threadContext;
+
+  @BeforeEach
+  void setUp() {
+    threadContext = new ThreadContext(Settings.EMPTY);
+  }
+
+  @Test
+  void no_user_if_security_plugin_absent() {
+    assertNull(SecurityContext.userIdentity(threadContext));
+  }
+
+  @Test
+  void identity_from_user_info_transient() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "alice|backend|readall|");
+    threadContext.putTransient(SecurityContext.USER_TRANSIENT, new User("alice"));
+
+    assertEquals("alice|backend|readall|", SecurityContext.userIdentity(threadContext));
+  }
+
+  @Test
+  void identity_from_user_transient_if_user_info_absent() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "");
+    threadContext.putTransient(SecurityContext.USER_TRANSIENT, new User("alice"));
+
+    assertEquals(
+        "User [name=alice, backend_roles=[backend], requestedTenant=null]",
+        SecurityContext.userIdentity(threadContext));
+  }
+
+  @Test
+  void identity_from_user_header_if_transients_absent() {
+    threadContext.putHeader(SecurityContext.USER_HEADER, "rO0ABXNy");
+
+    assertEquals("rO0ABXNy", SecurityContext.userIdentity(threadContext));
+  }
+
+  @Test
+  void no_user_if_user_header_empty() {
+    threadContext.putHeader(SecurityContext.USER_HEADER, "");
+
+    assertNull(SecurityContext.userIdentity(threadContext));
+  }
+
+  @Test
+  void no_user_name_if_security_plugin_absent() {
+    assertNull(SecurityContext.userName(threadContext));
+  }
+
+  @Test
+  void user_name_from_user_info_transient() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "alice|backend|readall|");
+
+    assertEquals("alice", SecurityContext.userName(threadContext));
+  }
+
+  @Test
+  void user_name_from_user_info_transient_without_roles() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "alice");
+
+    assertEquals("alice", SecurityContext.userName(threadContext));
+  }
+
+  @Test
+  void user_name_from_user_transient_if_user_info_absent() {
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "");
+    threadContext.putTransient(SecurityContext.USER_TRANSIENT, new User("alice"));
+
+    assertEquals("alice", SecurityContext.userName(threadContext));
+  }
+
+  @Test
+  void user_transient_stands_for_name_if_name_not_found() {
+    threadContext.putTransient(SecurityContext.USER_TRANSIENT, "anonymous");
+
+    assertEquals("anonymous", SecurityContext.userName(threadContext));
+  }
+
+  @Test
+  void user_header_stands_for_name_if_transients_absent() {
+    threadContext.putHeader(SecurityContext.USER_HEADER, "rO0ABXNy");
+
+    assertEquals("rO0ABXNy", SecurityContext.userName(threadContext));
+  }
+
+  /** User of security plugin which is only known by its string representation. */
+  @RequiredArgsConstructor
+  private static class User {
+    private final String name;
+
+    @Override
+    public String toString() {
+      return "User [name=" + name + ", backend_roles=[backend], requestedTenant=null]";
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.index.Index;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.security.SecurityContext;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchIndexMetadataCacheTest {
+
+  private static final Index INDEX = new Index("accounts", "uuid");
+
+  @Mock private Supplier<Map<String, OpenSearchDataType>> fieldTypesLoader;
+
+  @Mock private Supplier<Integer> maxResultWindowLoader;
+
+  @Mock private ClusterChangedEvent event;
+
+  private ThreadContext threadContext;
+
+  private OpenSearchIndexMetadataCache cache;
+
+  @BeforeEach
+  void setUp() {
+    threadContext = new ThreadContext(Settings.EMPTY);
+    cache = new OpenSearchIndexMetadataCache(threadContext);
+  }
+
+  @Test
+  void load_once_and_hit_cache() {
+    when(fieldTypesLoader.get())
+        .thenReturn(Map.of("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Text)));
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+
+    cache.getFieldTypes("accounts", fieldTypesLoader);
+    cache.getFieldTypes("accounts", fieldTypesLoader);
+    assertEquals(10000, cache.getMaxResultWindow("accounts", maxResultWindowLoader));
+    assertEquals(10000, cache.getMaxResultWindow("accounts", maxResultWindowLoader));
+
+    verify(fieldTypesLoader, times(1)).get();
+    verify(maxResultWindowLoader, times(1)).get();
+    assertEquals(2, cache.hitCount());
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  void load_again_for_another_user() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+    threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "alice||readall|");
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+
+    try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+      threadContext.putTransient(SecurityContext.USER_INFO_TRANSIENT, "bob||fls_role|");
+      cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+    }
+
+    verify(maxResultWindowLoader, times(2)).get();
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void skip_cache_for_cross_cluster_and_date_math_index() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+
+    cache.getMaxResultWindow("remote:accounts", maxResultWindowLoader);
+    cache.getMaxResultWindow("remote:accounts", maxResultWindowLoader);
+    cache.getMaxResultWindow("<logs-{now/d}>", maxResultWindowLoader);
+
+    verify(maxResultWindowLoader, times(3)).get();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void zero_size_cache_does_not_cache() {
+    cache = new OpenSearchIndexMetadataCache(0);
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+
+    verify(maxResultWindowLoader, times(2)).get();
+  }
+
+  @Test
+  void invalidate_on_mapping_version_change() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+    cache.getMaxResultWindow("acc*", maxResultWindowLoader);
+    cache.getMaxResultWindow("accounts,other", maxResultWindowLoader);
+    cache.getMaxResultWindow("other", maxResultWindowLoader);
+
+    IndexMetadata previous = indexMetadata(1L);
+    IndexMetadata current = indexMetadata(2L);
+    mockEvent(Map.of(INDEX, previous), List.of(current), List.of());
+    cache.clusterChanged(event);
+
+    assertEquals(1, cache.size());
+    assertEquals(2, cache.evictionCount());
+  }
+
+  @Test
+  void invalidate_on_index_created_and_deleted() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+    cache.getMaxResultWindow("other", maxResultWindowLoader);
+
+    IndexMetadata created = mock(IndexMetadata.class);
+    when(created.getIndex()).thenReturn(new Index("other", "uuid2"));
+    when(created.getAliases()).thenReturn(Map.of());
+    mockEvent(Map.of(), List.of(created), List.of(INDEX));
+    cache.clusterChanged(event);
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void keep_cache_if_metadata_not_changed() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+    when(event.metadataChanged()).thenReturn(false);
+
+    cache.clusterChanged(event);
+
+    assertEquals(1, cache.size());
+    verify(event, never()).state();
+  }
+
+  @Test
+  void invalidate_all() {
+    when(maxResultWindowLoader.get()).thenReturn(10000);
+    cache.getMaxResultWindow("accounts", maxResultWindowLoader);
+
+    cache.invalidateAll();
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void track_min_node_version_on_nodes_change() {
+    assertFalse(cache.isMinNodeVersionOnOrAfter(Version.V_3_0_0));
+
+    ClusterState state = mock(ClusterState.class);
+    DiscoveryNodes nodes = mock(DiscoveryNodes.class);
+    when(event.nodesChanged()).thenReturn(true);
+    when(event.state()).thenReturn(state);
+    when(state.nodes()).thenReturn(nodes);
+    when(nodes.getMinNodeVersion()).thenReturn(Version.fromString("2.17.0"));
+    cache.clusterChanged(event);
+    assertFalse(cache.isMinNodeVersionOnOrAfter(Version.V_3_0_0));
+
+    when(nodes.getMinNodeVersion()).thenReturn(Version.V_3_0_0);
+    cache.clusterChanged(event);
+    assertTrue(cache.isMinNodeVersionOnOrAfter(Version.V_3_0_0));
+  }
+
+  private IndexMetadata indexMetadata(long mappingVersion) {
+    IndexMetadata indexMetadata = mock(IndexMetadata.class);
+    when(indexMetadata.getIndex()).thenReturn(INDEX);
+    when(indexMetadata.getMappingVersion()).thenReturn(mappingVersion);
+    when(indexMetadata.getAliases()).thenReturn(Map.of());
+    return indexMetadata;
+  }
+
+  private void mockEvent(
+      Map<Index, IndexMetadata> previousIndices,
+      List<IndexMetadata> currentIndices,
+      List<Index> deletedIndices) {
+    ClusterState previousState = mock(ClusterState.class);
+    Metadata previousMetadata = mock(Metadata.class);
+    ClusterState currentState = mock(ClusterState.class);
+    Metadata currentMetadata = mock(Metadata.class);
+
+    when(event.metadataChanged()).thenReturn(true);
+    when(event.previousState()).thenReturn(previousState);
+    when(previousState.metadata()).thenReturn(previousMetadata);
+    when(event.state()).thenReturn(currentState);
+    when(currentState.metadata()).thenReturn(currentMetadata);
+    when(currentMetadata.iterator()).thenReturn(currentIndices.iterator());
+    currentIndices.forEach(
+        index ->
+            when(previousMetadata.index(index.getIndex()))
+                .thenReturn(previousIndices.get(index.getIndex())));
+    deletedIndices.forEach(
+        index -> when(previousMetadata.index(index)).thenReturn(previousIndices.get(index)));
+    when(event.indicesDeleted()).thenReturn(deletedIndices);
+  }
+}
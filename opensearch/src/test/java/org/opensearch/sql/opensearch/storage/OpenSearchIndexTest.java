@@ -13,8 +13,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -44,6 +46,7 @@ import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -52,12 +55,16 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.storage.read.TableScanBuilder;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexTest {
@@ -84,6 +91,7 @@ class OpenSearchIndexTest {
         .when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER))
         .thenReturn(true);
     lenient().when(settings.getSettingValue(Settings.Key.FIELD_TYPE_TOLERANCE)).thenReturn(true);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_BUCKET_SIZE)).thenReturn(1000);
   }
 
   @Test
@@ -281,4 +289,28 @@ class OpenSearchIndexTest {
     assertTrue(index.isFieldTypeTolerance());
     assertFalse(index.isFieldTypeTolerance());
   }
+
+  @Test
+  void push_down_script_in_compact_format_only_if_all_nodes_support_it() {
+    // Code of JDK serialization in base64 always starts with magic bytes encoded as "rO0AB"
+    assertTrue(pushDownScript(false).contains("rO0AB"));
+    assertFalse(pushDownScript(true).contains("rO0AB"));
+  }
+
+  private String pushDownScript(boolean allNodesSupportCompactFormat) {
+    OpenSearchIndexMetadataCache metadataCache = mock(OpenSearchIndexMetadataCache.class);
+    when(metadataCache.isMinNodeVersionOnOrAfter(CompactExpressionSerializer.MIN_NODE_VERSION))
+        .thenReturn(allNodesSupportCompactFormat);
+    when(metadataCache.getFieldTypes(eq("test"), any())).thenReturn(Map.of());
+    when(metadataCache.getMaxResultWindow(eq("test"), any())).thenReturn(10000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, "test", metadataCache);
+
+    TableScanBuilder scanBuilder = index.createScanBuilder();
+    scanBuilder.pushDownFilter(
+        new LogicalFilter(
+            scanBuilder, DSL.equal(DSL.abs(ref("age", INTEGER)), DSL.literal(30))));
+    OpenSearchIndexScan scan = (OpenSearchIndexScan) scanBuilder.build();
+    return ((OpenSearchQueryRequest) scan.getRequest()).getSourceBuilder().toString();
+  }
 }
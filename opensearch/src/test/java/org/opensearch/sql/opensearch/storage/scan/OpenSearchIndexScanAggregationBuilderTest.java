@@ -47,7 +47,18 @@ class OpenSearchIndexScanAggregationBuilderTest {
 
   @Test
   void pushDownLimit() {
-    assertFalse(builder.pushDownLimit(mock(LogicalLimit.class)));
+    assertTrue(builder.pushDownLimit(new LogicalLimit(null, 10, 0)));
+  }
+
+  @Test
+  void pushDownLimitWithOffset() {
+    assertFalse(builder.pushDownLimit(new LogicalLimit(null, 10, 5)));
+  }
+
+  @Test
+  void pushDownSortAfterLimit() {
+    builder.pushDownLimit(new LogicalLimit(null, 10, 0));
+    assertFalse(builder.pushDownSort(mock(LogicalSort.class)));
   }
 
   @Test
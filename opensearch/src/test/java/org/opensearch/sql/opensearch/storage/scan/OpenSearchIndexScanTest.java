@@ -11,16 +11,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.*;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import java.io.*;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
@@ -30,13 +40,17 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
@@ -51,16 +65,22 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedQueryRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.planner.physical.RuntimeFilter;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -73,6 +93,7 @@ class OpenSearchIndexScanTest {
   public static final TimeValue CURSOR_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
   @Mock private OpenSearchClient client;
   @Mock private Settings settings;
+  @Mock private ResourceMonitor resourceMonitor;
 
   private final OpenSearchExprValueFactory exprValueFactory =
       new OpenSearchExprValueFactory(
@@ -97,6 +118,249 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @Test
+  void push_down_runtime_filter_as_terms_query() {
+    var request =
+        requestOn(
+            "name",
+            OpenSearchTextType.of(
+                Map.of("keyword", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            new LinkedHashSet<>(
+                List.of(ExprValueUtils.stringValue("John"), ExprValueUtils.stringValue("Jane"))),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request)
+        .pushDownFilter(QueryBuilders.termsQuery("name.keyword", List.of("John", "Jane")));
+  }
+
+  @Test
+  void push_down_runtime_filter_as_range_query_if_too_many_values() {
+    var request = requestOn("age", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("age", INTEGER),
+            null,
+            ExprValueUtils.integerValue(10),
+            ExprValueUtils.integerValue(30));
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request).pushDownFilter(QueryBuilders.rangeQuery("age").gte(10).lte(30));
+  }
+
+  @Test
+  void push_down_runtime_filter_of_any_number_on_floating_point_field() {
+    var request =
+        requestOn("salary", OpenSearchDataType.of(OpenSearchDataType.MappingType.Double));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("salary", DOUBLE),
+            new LinkedHashSet<>(
+                List.of(ExprValueUtils.integerValue(1000), ExprValueUtils.doubleValue(1500.5))),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request).pushDownFilter(QueryBuilders.termsQuery("salary", List.of(1000, 1500.5)));
+  }
+
+  @Test
+  void push_down_runtime_filter_on_boolean_field() {
+    var request =
+        requestOn("active", OpenSearchDataType.of(OpenSearchDataType.MappingType.Boolean));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("active", BOOLEAN),
+            Set.of(ExprValueUtils.booleanValue(true)),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request).pushDownFilter(QueryBuilders.termsQuery("active", List.of(true)));
+  }
+
+  @Test
+  void no_runtime_filter_on_text_field_without_keyword() {
+    var request = requestOn("name", OpenSearchTextType.of());
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            Set.of(ExprValueUtils.stringValue("John")),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void no_runtime_filter_on_field_not_in_index_mapping() {
+    var request = requestOn("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("full_name", STRING),
+            Set.of(ExprValueUtils.stringValue("John")),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void no_runtime_filter_on_search_with_aggregation() {
+    var request = requestOn("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword));
+    request.getExprValueFactory().setParser(mock(OpenSearchAggregationResponseParser.class));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            Set.of(ExprValueUtils.stringValue("John")),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  private static Stream<Arguments> valuesNotOfFieldType() {
+    return Stream.of(
+        Arguments.of(OpenSearchDataType.MappingType.Long, ExprValueUtils.doubleValue(1.5)),
+        Arguments.of(OpenSearchDataType.MappingType.Double, ExprValueUtils.stringValue("1.5")),
+        Arguments.of(OpenSearchDataType.MappingType.Boolean, ExprValueUtils.stringValue("true")),
+        Arguments.of(OpenSearchDataType.MappingType.Keyword, ExprValueUtils.integerValue(1)),
+        Arguments.of(OpenSearchDataType.MappingType.Date, ExprValueUtils.stringValue("2020")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("valuesNotOfFieldType")
+  void no_runtime_filter_on_values_not_of_field_type(
+      OpenSearchDataType.MappingType mappingType, ExprValue value) {
+    var request = requestOn("field", OpenSearchDataType.of(mappingType));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("field", value.type()), Set.of(value), null, null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void no_runtime_filter_as_range_query_on_bounds_not_of_field_type() {
+    var request = requestOn("age", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer));
+    var fractionMin =
+        new RuntimeFilter(
+            new ReferenceExpression("age", DOUBLE),
+            null,
+            ExprValueUtils.doubleValue(10.5),
+            ExprValueUtils.integerValue(30));
+    var fractionMax =
+        new RuntimeFilter(
+            new ReferenceExpression("age", DOUBLE),
+            null,
+            ExprValueUtils.integerValue(10),
+            ExprValueUtils.doubleValue(30.5));
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(fractionMin));
+      assertFalse(indexScan.pushDownRuntimeFilter(fractionMax));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void push_down_runtime_filter_on_values_not_longer_than_ignore_above() {
+    var request =
+        requestOn(
+            "name",
+            OpenSearchTextType.of(
+                Map.of(
+                    "keyword",
+                    OpenSearchDataType.of(
+                        OpenSearchDataType.MappingType.Keyword, Map.of("ignore_above", 4)))));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            Set.of(ExprValueUtils.stringValue("John")),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request).pushDownFilter(QueryBuilders.termsQuery("name.keyword", List.of("John")));
+  }
+
+  @Test
+  void no_runtime_filter_on_values_longer_than_ignore_above() {
+    var request =
+        requestOn(
+            "name",
+            OpenSearchDataType.of(
+                OpenSearchDataType.MappingType.Keyword, Map.of("ignore_above", 4)));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            new LinkedHashSet<>(
+                List.of(ExprValueUtils.stringValue("John"), ExprValueUtils.stringValue("Janet"))),
+            null,
+            null);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void no_runtime_filter_as_range_query_on_keyword_with_ignore_above() {
+    var request =
+        requestOn(
+            "name",
+            OpenSearchDataType.of(
+                OpenSearchDataType.MappingType.Keyword, Map.of("ignore_above", 4)));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            null,
+            ExprValueUtils.stringValue("Jane"),
+            ExprValueUtils.stringValue("John"));
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertFalse(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void push_down_runtime_filter_as_range_query_on_keyword_without_ignore_above() {
+    var request = requestOn("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword));
+    var filter =
+        new RuntimeFilter(
+            new ReferenceExpression("name", STRING),
+            null,
+            ExprValueUtils.stringValue("Jane"),
+            ExprValueUtils.stringValue("John"));
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      assertTrue(indexScan.pushDownRuntimeFilter(filter));
+    }
+    verify(request).pushDownFilter(QueryBuilders.rangeQuery("name").gte("Jane").lte("John"));
+  }
+
+  private OpenSearchRequest requestOn(String field, OpenSearchDataType type) {
+    var request = mock(OpenSearchRequest.class);
+    when(request.getExprValueFactory())
+        .thenReturn(new OpenSearchExprValueFactory(Map.of(field, type), true));
+    return request;
+  }
+
   @Test
   @SneakyThrows
   void throws_no_cursor_exception() {
@@ -283,6 +547,225 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void query_all_results_with_prefetch() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory, settings);
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 10000, CURSOR_KEEP_ALIVE, client), 2)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(3, "Allen", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    verify(client, times(3)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void collect_fetch_stats_of_pages_taken() {
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(page.isEmpty()).thenReturn(false);
+    when(page.iterator()).thenAnswer(invocation -> List.of(employee(1, "John", "IT")).iterator());
+    when(page.sourceBytes()).thenReturn(100L);
+    when(page.getTookMillis()).thenReturn(5L);
+    OpenSearchResponse lastPage = mock(OpenSearchResponse.class);
+    when(lastPage.isEmpty()).thenReturn(true);
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(client.search(request)).thenReturn(page, page, lastPage);
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request)) {
+      indexScan.open();
+      while (indexScan.hasNext()) {
+        indexScan.next();
+      }
+
+      assertEquals(Map.of("pages", 2L, "bytes", 200L, "tookMillis", 10L), indexScan.fetchStats());
+    }
+  }
+
+  @Test
+  void throttle_fetching_pages_under_memory_pressure() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    when(resourceMonitor.isUnderPressure()).thenReturn(true);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 2)) {
+      indexScan.setResourceMonitor(resourceMonitor);
+      indexScan.open();
+
+      assertAll(
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    verify(resourceMonitor, times(2 * OpenSearchIndexScan.MAX_THROTTLE_WAITS)).isHealthy();
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void fail_fetching_page_if_resource_is_unhealthy() {
+    when(resourceMonitor.isUnderPressure()).thenReturn(true);
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request)) {
+      indexScan.setResourceMonitor(resourceMonitor);
+      IllegalStateException exception = assertThrows(IllegalStateException.class, indexScan::open);
+      assertEquals("insufficient resources to run the query, quit.", exception.getMessage());
+    }
+    verify(client, never()).search(request);
+  }
+
+  @Test
+  void stop_throttling_if_interrupted() {
+    when(resourceMonitor.isUnderPressure()).thenReturn(true);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request)) {
+      indexScan.setResourceMonitor(resourceMonitor);
+      Thread.currentThread().interrupt();
+      indexScan.open();
+
+      assertTrue(Thread.interrupted());
+      assertTrue(indexScan.hasNext());
+    }
+    verify(resourceMonitor, times(1)).isHealthy();
+  }
+
+  @Test
+  void query_all_results_with_first_page_fetched_asynchronously() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse firstPage = mock(OpenSearchResponse.class);
+    when(firstPage.isEmpty()).thenReturn(false);
+    when(firstPage.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    respondAsync(firstPage);
+    mockResponse(client, new ExprValue[] {employee(2, "Smith", "HR")});
+
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    AtomicBoolean fetched = new AtomicBoolean(false);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 2)) {
+      indexScan.fetchFirstPage(ActionListener.wrap(response -> fetched.set(true), e -> fail(e)));
+      assertTrue(fetched.get());
+      indexScan.open();
+
+      assertAll(
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    verify(client, times(2)).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void query_empty_result_with_first_page_fetched_asynchronously() {
+    OpenSearchResponse firstPage = mock(OpenSearchResponse.class);
+    when(firstPage.isEmpty()).thenReturn(true);
+    respondAsync(firstPage);
+    mockResponse(client);
+
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, 10, mock(OpenSearchRequest.class), 2)) {
+      indexScan.fetchFirstPage(ActionListener.wrap(response -> {}, e -> fail(e)));
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).scanExecutor();
+  }
+
+  @Test
+  void fetch_first_page_asynchronously_with_failure() {
+    IllegalStateException error = new IllegalStateException("search failed");
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onFailure(error);
+              return null;
+            })
+        .when(client)
+        .searchAsync(any(), any());
+    AtomicReference<Exception> failure = new AtomicReference<>();
+
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, 10, mock(OpenSearchRequest.class));
+    indexScan.fetchFirstPage(ActionListener.wrap(response -> fail("Expect failure"), failure::set));
+    assertEquals(error, failure.get());
+  }
+
+  @Test
+  void skip_fetching_first_page_of_sliced_scan_asynchronously() {
+    AtomicBoolean fetched = new AtomicBoolean(false);
+
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, 10, mock(OpenSearchSlicedQueryRequest.class));
+    indexScan.fetchFirstPage(ActionListener.wrap(response -> fetched.set(true), e -> fail(e)));
+    assertTrue(fetched.get());
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  @Test
+  void clean_up_sliced_scan_after_slices_being_fetched_arrive() {
+    when(client.scanExecutor())
+        .thenReturn(
+            task -> CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(task));
+    OpenSearchSlicedQueryRequest slicedRequest = mock(OpenSearchSlicedQueryRequest.class);
+    OpenSearchQueryRequest slice = mock(OpenSearchQueryRequest.class);
+    when(slicedRequest.getSlices()).thenReturn(List.of(slice));
+    when(slicedRequest.getSorts()).thenReturn(List.of());
+    when(client.search(slice)).thenReturn(mock(OpenSearchResponse.class));
+
+    OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, slicedRequest);
+    indexScan.open();
+    indexScan.close();
+
+    InOrder inOrder = inOrder(client);
+    inOrder.verify(client).search(slice);
+    inOrder.verify(client).cleanup(slicedRequest);
+  }
+
+  @Test
+  void query_all_results_in_batches() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory, settings);
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 10000, CURSOR_KEEP_ALIVE, client))) {
+      indexScan.open();
+
+      assertAll(
+          () ->
+              assertEquals(
+                  List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR")),
+                  indexScan.nextBatch(5).rows()),
+          () -> assertEquals(List.of(employee(3, "Allen", "IT")), indexScan.nextBatch(5).rows()),
+          () -> assertTrue(indexScan.nextBatch(5).isEmpty()));
+    }
+    verify(client).cleanup(any());
+  }
+
   @Test
   void query_some_results_with_query() {
     mockResponse(
@@ -492,6 +975,17 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  private void respondAsync(OpenSearchResponse response) {
+    doAnswer(
+            invocation -> {
+              ActionListener<OpenSearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(response);
+              return null;
+            })
+        .when(client)
+        .searchAsync(any(), any());
+  }
+
   public static void mockResponse(OpenSearchClient client, ExprValue[]... searchHitBatches) {
     when(client.search(any()))
         .thenAnswer(
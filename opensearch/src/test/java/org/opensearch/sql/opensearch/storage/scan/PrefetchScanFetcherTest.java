@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PrefetchScanFetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  @Test
+  void fetch_next_page_once_a_page_is_taken() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse[] pages = {response(1, 2), response(3), response()};
+    when(client.search(request)).thenReturn(pages[0], pages[1], pages[2]);
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 2);
+    verify(client, times(2)).search(request);
+
+    assertEquals(values(1, 2), drain(fetcher.nextPage()));
+    verify(client, times(3)).search(request);
+    assertEquals(values(3), drain(fetcher.nextPage()));
+    assertNull(fetcher.nextPage());
+    assertNull(fetcher.nextPage());
+    verify(client, times(3)).search(request);
+  }
+
+  @Test
+  void fetch_only_one_page_ahead_while_throttled() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse[] pages = {response(1), response(2), response(3), response()};
+    when(client.search(request)).thenReturn(pages[0], pages[1], pages[2], pages[3]);
+    boolean[] throttled = {true};
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 3, () -> throttled[0]);
+    verify(client, times(1)).search(request);
+
+    assertEquals(values(1), drain(fetcher.nextPage()));
+    verify(client, times(2)).search(request);
+
+    throttled[0] = false;
+    assertEquals(values(2), drain(fetcher.nextPage()));
+    verify(client, times(4)).search(request);
+  }
+
+  @Test
+  void count_prefetch_hits_and_stalls() {
+    long hitCount = PrefetchScanFetcher.hitCount();
+    long stallCount = PrefetchScanFetcher.stallCount();
+    when(client.scanExecutor())
+        .thenReturn(
+            task -> CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(task));
+    OpenSearchResponse page = response(1);
+    when(client.search(request)).thenReturn(page);
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 1);
+    assertEquals(values(1), drain(fetcher.nextPage()));
+    assertEquals(stallCount + 1, PrefetchScanFetcher.stallCount());
+
+    fetcher.close();
+    assertNull(fetcher.nextPage());
+    assertEquals(hitCount, PrefetchScanFetcher.hitCount());
+  }
+
+  @Test
+  void count_prefetch_hit_if_page_fetched_already() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse page = response(1);
+    when(client.search(request)).thenReturn(page);
+    long hitCount = PrefetchScanFetcher.hitCount();
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 1);
+    assertEquals(values(1), drain(fetcher.nextPage()));
+    assertEquals(hitCount + 1, PrefetchScanFetcher.hitCount());
+  }
+
+  @Test
+  void stop_fetching_after_close() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(client.search(request)).thenReturn(page);
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 1);
+    fetcher.close();
+    assertNull(fetcher.nextPage());
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void skip_pages_not_fetched_yet_after_close() {
+    when(client.scanExecutor())
+        .thenReturn(
+            task -> CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(task));
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 2);
+    fetcher.close();
+    assertNull(fetcher.nextPage());
+    verify(client, never()).search(request);
+  }
+
+  @Test
+  void propagate_search_error() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    when(client.search(request)).thenThrow(new IllegalStateException("search failed"));
+
+    PrefetchScanFetcher fetcher = new PrefetchScanFetcher(client, request, 2);
+    assertThrows(IllegalStateException.class, fetcher::nextPage);
+    verify(client, times(1)).search(request);
+  }
+
+  private static List<ExprValue> drain(OpenSearchResponse page) {
+    List<ExprValue> rows = new ArrayList<>();
+    page.iterator().forEachRemaining(rows::add);
+    return rows;
+  }
+
+  private static List<ExprValue> values(Integer... values) {
+    return Arrays.stream(values).map(ExprValueUtils::integerValue).toList();
+  }
+
+  private static OpenSearchResponse response(Integer... values) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(values.length == 0);
+    if (values.length > 0) {
+      when(response.iterator()).thenReturn(values(values).iterator());
+    }
+    return response;
+  }
+}
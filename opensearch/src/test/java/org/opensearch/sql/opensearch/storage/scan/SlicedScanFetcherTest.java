@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedQueryRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlicedScanFetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchSlicedQueryRequest request;
+
+  @Mock private OpenSearchQueryRequest slice0;
+
+  @Mock private OpenSearchQueryRequest slice1;
+
+  @BeforeEach
+  void setUp() {
+    when(client.scanExecutor()).thenReturn(Runnable::run);
+    when(request.getSlices()).thenReturn(List.of(slice0, slice1));
+  }
+
+  @Test
+  void return_rows_of_all_slices_without_sort() {
+    when(request.getSorts()).thenReturn(List.of());
+    OpenSearchResponse[] pages0 = {response(1, 2), response()};
+    OpenSearchResponse[] pages1 = {response(3), response(4), response()};
+    when(client.search(slice0)).thenReturn(pages0[0], pages0[1]);
+    when(client.search(slice1)).thenReturn(pages1[0], pages1[1], pages1[2]);
+
+    List<ExprValue> rows = drain(new SlicedScanFetcher(client, request));
+    rows.sort((v1, v2) -> Integer.compare(v1.integerValue(), v2.integerValue()));
+    assertEquals(values(1, 2, 3, 4), rows);
+  }
+
+  @Test
+  void merge_rows_of_slices_by_sort_values() {
+    FieldSortBuilder sort = SortBuilders.fieldSort("id").order(SortOrder.ASC);
+    when(request.getSorts()).thenReturn(List.of(sort));
+    OpenSearchResponse[] pages0 = {sortedResponse(1, 4), sortedResponse(5), response()};
+    OpenSearchResponse[] pages1 = {sortedResponse(2, 3), sortedResponse(6), response()};
+    when(client.search(slice0)).thenReturn(pages0[0], pages0[1], pages0[2]);
+    when(client.search(slice1)).thenReturn(pages1[0], pages1[1], pages1[2]);
+
+    assertEquals(values(1, 2, 3, 4, 5, 6), drain(new SlicedScanFetcher(client, request)));
+  }
+
+  @Test
+  void stop_fetching_next_pages_after_close() {
+    when(request.getSorts()).thenReturn(List.of());
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(client.search(slice0)).thenReturn(page);
+    when(client.search(slice1)).thenReturn(page);
+
+    SlicedScanFetcher fetcher = new SlicedScanFetcher(client, request);
+    fetcher.close();
+    assertFalse(fetcher.hasNext());
+    verify(client, times(1)).search(slice0);
+    verify(client, times(1)).search(slice1);
+  }
+
+  @Test
+  void wait_for_slices_being_fetched_on_close() {
+    when(client.scanExecutor())
+        .thenReturn(
+            task -> CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(task));
+    when(request.getSorts()).thenReturn(List.of());
+    AtomicInteger fetched = new AtomicInteger();
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(client.search(slice0)).thenAnswer(invocation -> fetch(fetched, page));
+    when(client.search(slice1)).thenAnswer(invocation -> fetch(fetched, page));
+
+    SlicedScanFetcher fetcher = new SlicedScanFetcher(client, request);
+    fetcher.close();
+    assertEquals(2, fetched.get());
+    assertFalse(fetcher.hasNext());
+  }
+
+  @Test
+  void propagate_search_error_of_slice() {
+    when(request.getSorts()).thenReturn(List.of());
+    OpenSearchResponse page = mock(OpenSearchResponse.class);
+    when(client.search(slice0)).thenThrow(new IllegalStateException("search failed"));
+    when(client.search(slice1)).thenReturn(page);
+
+    SlicedScanFetcher fetcher = new SlicedScanFetcher(client, request);
+    assertThrows(IllegalStateException.class, fetcher::hasNext);
+  }
+
+  @Test
+  void throw_if_no_more_rows() {
+    when(request.getSorts()).thenReturn(List.of());
+    OpenSearchResponse page = response();
+    when(client.search(slice0)).thenReturn(page);
+    when(client.search(slice1)).thenReturn(page);
+
+    SlicedScanFetcher fetcher = new SlicedScanFetcher(client, request);
+    assertFalse(fetcher.hasNext());
+    assertThrows(NoSuchElementException.class, fetcher::next);
+  }
+
+  @Test
+  void compare_sort_values_by_order_and_missing() {
+    List<SortBuilder<?>> sorts =
+        List.of(
+            SortBuilders.fieldSort("a").order(SortOrder.DESC),
+            SortBuilders.fieldSort("b").missing("_first"));
+    var comparator = SlicedScanFetcher.sortValueComparator(sorts);
+
+    assertTrue(comparator.compare(new Object[] {2, 1}, new Object[] {1, 1}) < 0);
+    assertTrue(comparator.compare(new Object[] {null, 1}, new Object[] {1, 1}) > 0);
+    assertTrue(comparator.compare(new Object[] {1, null}, new Object[] {1, 1}) < 0);
+    assertEquals(0, comparator.compare(new Object[] {1, null}, new Object[] {1, null}));
+  }
+
+  private static OpenSearchResponse fetch(AtomicInteger fetched, OpenSearchResponse page) {
+    fetched.incrementAndGet();
+    return page;
+  }
+
+  private static List<ExprValue> drain(SlicedScanFetcher fetcher) {
+    List<ExprValue> rows = new ArrayList<>();
+    fetcher.forEachRemaining(rows::add);
+    return rows;
+  }
+
+  private static List<ExprValue> values(Integer... values) {
+    return Arrays.stream(values).map(ExprValueUtils::integerValue).toList();
+  }
+
+  private static OpenSearchResponse response(Integer... values) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(values.length == 0);
+    if (values.length > 0) {
+      when(response.iterator()).thenReturn(values(values).iterator());
+    }
+    return response;
+  }
+
+  private static OpenSearchResponse sortedResponse(Integer... values) {
+    OpenSearchResponse response = response(values);
+    when(response.sortValues())
+        .thenReturn(Arrays.stream(values).map(value -> new Object[] {value}).toList());
+    return response;
+  }
+}
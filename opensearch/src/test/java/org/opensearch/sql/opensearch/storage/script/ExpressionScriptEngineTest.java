@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -62,6 +65,20 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void deserialize_script_code_once() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+    ExpressionScriptEngine engine = new ExpressionScriptEngine(serializer);
+
+    engine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    Object actualFactory =
+        engine.compile("test", "test code", AggregationScript.CONTEXT, emptyMap());
+    assertEquals(new ExpressionAggregationScriptFactory(expression), actualFactory);
+    verify(serializer, times(1)).deserialize("test code");
+    assertEquals(1, engine.cacheHitCount());
+    assertEquals(1, engine.cacheMissCount());
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
@@ -102,6 +102,41 @@ class AggregationQueryBuilderTest {
             Arrays.asList(named("name", ref("name", STRING)))));
   }
 
+  @Test
+  void should_build_composite_aggregation_with_bucket_size() {
+    queryBuilder = new AggregationQueryBuilder(serializer, 10);
+    assertEquals(
+        format(
+            "{%n"
+                + "  \"composite_buckets\" : {%n"
+                + "    \"composite\" : {%n"
+                + "      \"size\" : 10,%n"
+                + "      \"sources\" : [ {%n"
+                + "        \"name\" : {%n"
+                + "          \"terms\" : {%n"
+                + "            \"field\" : \"name\",%n"
+                + "            \"missing_bucket\" : true,%n"
+                + "            \"missing_order\" : \"first\",%n"
+                + "            \"order\" : \"asc\"%n"
+                + "          }%n"
+                + "        }%n"
+                + "      } ]%n"
+                + "    },%n"
+                + "    \"aggregations\" : {%n"
+                + "      \"avg(age)\" : {%n"
+                + "        \"avg\" : {%n"
+                + "          \"field\" : \"age\"%n"
+                + "        }%n"
+                + "      }%n"
+                + "    }%n"
+                + "  }%n"
+                + "}"),
+        buildQuery(
+            Arrays.asList(
+                named("avg(age)", new AvgAggregator(Arrays.asList(ref("age", INTEGER)), INTEGER))),
+            Arrays.asList(named("name", ref("name", STRING)))));
+  }
+
   @Test
   void should_build_composite_aggregation_for_field_reference_with_order() {
     assertEquals(
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.UNDEFINED;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionScriptTest {
+
+  private final List<Environment<Expression, ExprValue>> environments = new ArrayList<>();
+
+  @Test
+  void read_doc_values_of_primitive_types() {
+    ReferenceExpression byteField = ref("byte", BYTE);
+    ReferenceExpression shortField = ref("short", SHORT);
+    ReferenceExpression intField = ref("int", INTEGER);
+    ReferenceExpression longField = ref("long", LONG);
+    ReferenceExpression floatField = ref("float", FLOAT);
+    ReferenceExpression doubleField = ref("double", DOUBLE);
+    ReferenceExpression stringField = ref("string", STRING);
+    ReferenceExpression booleanField = ref("boolean", BOOLEAN);
+    ExpressionScript script =
+        new ExpressionScript(
+            references(
+                byteField,
+                shortField,
+                intField,
+                longField,
+                floatField,
+                doubleField,
+                stringField,
+                booleanField));
+
+    execute(
+        script,
+        Map.of(
+            "byte", docValue(1L),
+            "short", docValue(2L),
+            "int", docValue(3L),
+            "long", docValue(4L),
+            "float", docValue(5.5),
+            "double", docValue(6.5),
+            "string", docValue("hello"),
+            "boolean", docValue(true)));
+    Environment<Expression, ExprValue> env = environments.get(0);
+    assertEquals(new ExprByteValue(1), env.resolve(byteField));
+    assertEquals(new ExprShortValue(2), env.resolve(shortField));
+    assertEquals(new ExprIntegerValue(3), env.resolve(intField));
+    assertEquals(new ExprLongValue(4), env.resolve(longField));
+    assertEquals(new ExprFloatValue(5.5), env.resolve(floatField));
+    assertEquals(new ExprDoubleValue(6.5), env.resolve(doubleField));
+    assertEquals(new ExprStringValue("hello"), env.resolve(stringField));
+    assertEquals(ExprBooleanValue.of(true), env.resolve(booleanField));
+  }
+
+  @Test
+  void reuse_environment_on_each_document() {
+    ReferenceExpression field = ref("age", INTEGER);
+    ExpressionScript script = new ExpressionScript(references(field));
+
+    execute(script, Map.of("age", docValue(30L)));
+    execute(script, Map.of("age", docValue(40L)));
+    assertSame(environments.get(0), environments.get(1));
+    assertEquals(new ExprIntegerValue(40), environments.get(1).resolve(field));
+  }
+
+  @Test
+  void resolve_unknown_reference_to_null() {
+    ExpressionScript script = new ExpressionScript(references(ref("age", INTEGER)));
+
+    execute(script, Map.of("age", docValue(30L)));
+    assertNull(environments.get(0).resolve(ref("name", STRING)));
+  }
+
+  private void execute(ExpressionScript script, Map<String, ScriptDocValues<?>> doc) {
+    script.execute(
+        () -> doc,
+        (expr, env) -> {
+          environments.add(env);
+          return ExprBooleanValue.of(true);
+        });
+  }
+
+  private static ScriptDocValues<?> docValue(Object value) {
+    return new ScriptDocValues<>() {
+      @Override
+      public void setNextDocId(int docId) {}
+
+      @Override
+      public Object get(int index) {
+        return value;
+      }
+
+      @Override
+      public int size() {
+        return 1;
+      }
+    };
+  }
+
+  /** Function of which arguments are the given references only. */
+  private static Expression references(ReferenceExpression... fields) {
+    return new FunctionExpression(FunctionName.of("references"), List.<Expression>of(fields)) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return null;
+      }
+
+      @Override
+      public ExprType type() {
+        return UNDEFINED;
+      }
+    };
+  }
+}
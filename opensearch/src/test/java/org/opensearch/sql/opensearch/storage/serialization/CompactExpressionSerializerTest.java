@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionDSL;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.function.FunctionSignature;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompactExpressionSerializerTest {
+
+  private final ExpressionSerializer serializer = new CompactExpressionSerializer();
+
+  @Test
+  public void can_serialize_and_deserialize_literals() {
+    assertRoundTrip(literal(10));
+    assertRoundTrip(literal("hello"));
+    assertRoundTrip(DSL.literal(new ExprTimestampValue("2020-01-01 00:00:00")));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_references() {
+    assertRoundTrip(ref("name", STRING));
+    assertRoundTrip(ref("message", OpenSearchTextType.of()));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_predicates() {
+    assertRoundTrip(DSL.or(literal(true), DSL.less(ref("age", INTEGER), literal(2))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions() {
+    assertRoundTrip(DSL.abs(literal(30.0)));
+    assertRoundTrip(DSL.equal(DSL.year(ref("birthday", TIMESTAMP)), literal(2020)));
+    assertRoundTrip(DSL.now(new FunctionProperties()));
+    assertRoundTrip(new UnknownFunction("unknown", List.of(literal(1))));
+    assertRoundTrip(new UnknownFunction("abs", List.of(literal(1.0))));
+    assertRoundTrip(new UnknownFunction("lower", List.of(ref("message", OpenSearchTextType.of()))));
+    assertRoundTrip(new UnknownFunction("unknown", List.of(ref("birthday", TIMESTAMP))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions_with_query_start_time() {
+    FunctionProperties properties =
+        new FunctionProperties(Instant.parse("2020-01-01T10:00:00Z"), ZoneOffset.UTC);
+    Expression hourOfNow = compile(properties, "hour", compile(properties, "now"));
+    String code = serializer.serialize(hourOfNow);
+    String jdkCode = new DefaultExpressionSerializer().serialize(hourOfNow);
+
+    assertTrue(code.length() * 5 < jdkCode.length());
+    assertEquals(hourOfNow.valueOf(), serializer.deserialize(code).valueOf());
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions_with_different_query_start_time() {
+    FunctionProperties properties =
+        new FunctionProperties(Instant.parse("2020-01-01T10:00:00Z"), ZoneOffset.UTC);
+    FunctionProperties later =
+        new FunctionProperties(Instant.parse("2020-01-01T11:00:00Z"), ZoneOffset.UTC);
+
+    assertSameValue(DSL.less(properties, DSL.now(properties), DSL.now(later)));
+    assertSameValue(DSL.now(new ShiftedFunctionProperties(properties)));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_other_implementation_of_builtin_function() {
+    FunctionName abs = FunctionName.of("abs");
+    Expression identity =
+        (Expression)
+            FunctionDSL.define(abs, FunctionDSL.impl(v -> v, DOUBLE, DOUBLE))
+                .resolve(new FunctionSignature(abs, List.of(DOUBLE)))
+                .getValue()
+                .apply(FunctionProperties.None, List.of(literal(-30.0)));
+
+    assertSameValue(identity);
+  }
+
+  @Test
+  public void serialize_smaller_code_than_jdk_serialization() {
+    Expression expr =
+        DSL.and(
+            DSL.less(ref("age", INTEGER), literal(30)),
+            DSL.like(ref("name", STRING), literal("%a%")));
+    String code = serializer.serialize(expr);
+    String jdkCode = new DefaultExpressionSerializer().serialize(expr);
+
+    assertTrue(code.length() * 5 < jdkCode.length());
+  }
+
+  @Test
+  public void can_deserialize_code_of_jdk_serialization() {
+    Expression original = DSL.abs(literal(30.0));
+    String jdkCode = new DefaultExpressionSerializer().serialize(original);
+
+    assertEquals(original, serializer.deserialize(jdkCode));
+  }
+
+  @Test
+  public void cannot_serialize_illegal_expression() {
+    Expression illegalExpr =
+        new Expression() {
+          private final Object object = new Object(); // non-serializable
+
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            return null;
+          }
+
+          @Override
+          public ExprType type() {
+            return null;
+          }
+
+          @Override
+          public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+            return null;
+          }
+        };
+    assertThrows(IllegalStateException.class, () -> serializer.serialize(illegalExpr));
+  }
+
+  @Test
+  public void cannot_deserialize_illegal_expression_code() {
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(""));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(encode(2)));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(encode(0xAC, 0)));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(encode(1, 9)));
+  }
+
+  private void assertRoundTrip(Expression original) {
+    assertEquals(original, serializer.deserialize(serializer.serialize(original)));
+  }
+
+  private void assertSameValue(Expression original) {
+    Expression deserialized = serializer.deserialize(serializer.serialize(original));
+    assertEquals(original.valueOf(), deserialized.valueOf());
+  }
+
+  private static Expression compile(
+      FunctionProperties properties, String functionName, Expression... arguments) {
+    return (Expression)
+        BuiltinFunctionRepository.getInstance()
+            .compile(properties, FunctionName.of(functionName), List.of(arguments));
+  }
+
+  private static String encode(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  /** Function which is not resolved to itself from function repository. */
+  private static class UnknownFunction extends FunctionExpression {
+
+    UnknownFunction(String name, List<Expression> arguments) {
+      super(FunctionName.of(name), arguments);
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return getArguments().get(0).valueOf(valueEnv);
+    }
+
+    @Override
+    public ExprType type() {
+      return getArguments().get(0).type();
+    }
+  }
+
+  /** Function properties of which the query start clock is an hour later. */
+  private static class ShiftedFunctionProperties extends FunctionProperties {
+
+    ShiftedFunctionProperties(FunctionProperties properties) {
+      super(properties.getQueryStartClock().instant(), properties.getQueryStartClock().getZone());
+    }
+
+    @Override
+    public Clock getQueryStartClock() {
+      return Clock.offset(super.getQueryStartClock(), Duration.ofHours(1));
+    }
+  }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.plugin;
 
-import static java.util.Collections.singletonList;
 import static org.opensearch.sql.datasource.model.DataSourceMetadata.defaultOpenSearchDataSourceMetadata;
 import static org.opensearch.sql.spark.data.constants.SparkConstants.SPARK_REQUEST_BUFFER_INDEX_NAME;
 
@@ -37,15 +36,19 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.jobscheduler.spi.JobSchedulerExtension;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
@@ -71,17 +74,30 @@ import org.opensearch.sql.datasources.transport.TransportDeleteDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportGetDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportPatchDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
+import org.opensearch.sql.executor.execution.StatementCache;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
+import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.monitor.QueryPhase;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.OpenSearchCursorStore;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController.Lane;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
+import org.opensearch.sql.opensearch.monitor.MemoryPressureMonitor;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndexMetadataCache;
+import org.opensearch.sql.opensearch.storage.scan.PrefetchScanFetcher;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.planner.physical.SpillFile;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
@@ -106,16 +122,24 @@ import org.opensearch.sql.spark.transport.model.CancelAsyncQueryActionResponse;
 import org.opensearch.sql.spark.transport.model.CreateAsyncQueryActionResponse;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionResponse;
 import org.opensearch.sql.storage.DataSourceFactory;
+import org.opensearch.sql.utils.PatternCache;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
 public class SQLPlugin extends Plugin
-    implements ActionPlugin, ScriptPlugin, SystemIndexPlugin, JobSchedulerExtension {
+    implements ActionPlugin,
+        ScriptPlugin,
+        SystemIndexPlugin,
+        JobSchedulerExtension,
+        CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
+  /** Name of the circuit breaker of memory reserved by queries. */
+  private static final String CIRCUIT_BREAKER_NAME = "sql";
+
   private ClusterService clusterService;
 
   /** Settings should be inited when bootstrap the plugin. */
@@ -124,6 +148,18 @@ public class SQLPlugin extends Plugin
   private NodeClient client;
   private DataSourceServiceImpl dataSourceService;
   private OpenSearchAsyncQueryScheduler asyncQueryScheduler;
+  private OpenSearchIndexMetadataCache indexMetadataCache;
+
+  private QueryResultCache queryResultCache;
+  private OpenSearchCursorStore cursorStore;
+  private QueryAdmissionController admissionController;
+  private MemoryPressureMonitor memoryPressureMonitor;
+
+  /** Circuit breaker set by node on start, which is a child of the parent breaker. */
+  private CircuitBreaker circuitBreaker = new NoopCircuitBreaker(CIRCUIT_BREAKER_NAME);
+
+  private final ExpressionScriptEngine scriptEngine =
+      new ExpressionScriptEngine(new CompactExpressionSerializer());
   private Injector injector;
 
   public String name() {
@@ -147,6 +183,15 @@ public class SQLPlugin extends Plugin
     Objects.requireNonNull(pluginSettings, "Cluster settings is required");
 
     Metrics.getInstance().registerDefaultMetrics();
+    registerIndexMetadataCacheMetrics();
+    registerSpillMetrics();
+    registerPatternCacheMetrics();
+    registerScanPrefetchMetrics();
+    registerStatementCacheMetrics();
+    registerQueryResultCacheMetrics();
+    registerExpressionCacheMetrics();
+    registerAdmissionMetrics();
+    registerQueryPhaseMetrics();
 
     return Arrays.asList(
         new RestPPLQueryAction(),
@@ -214,6 +259,16 @@ public class SQLPlugin extends Plugin
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
     this.client = (NodeClient) client;
+    this.indexMetadataCache = new OpenSearchIndexMetadataCache(threadPool.getThreadContext());
+    clusterService.addListener(indexMetadataCache);
+    this.queryResultCache =
+        new QueryResultCache(
+            new OpenSearchNodeClient(this.client), pluginSettings, threadPool.getThreadContext());
+    this.cursorStore = new OpenSearchCursorStore(pluginSettings);
+    this.admissionController =
+        new QueryAdmissionController(pluginSettings, threadPool.getThreadContext());
+    this.memoryPressureMonitor = new MemoryPressureMonitor(pluginSettings);
+    memoryPressureMonitor.start();
     this.dataSourceService = createDataSourceService();
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
@@ -227,6 +282,12 @@ public class SQLPlugin extends Plugin
           b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
           b.bind(DataSourceService.class).toInstance(dataSourceService);
           b.bind(ClusterService.class).toInstance(clusterService);
+          b.bind(OpenSearchIndexMetadataCache.class).toInstance(indexMetadataCache);
+          b.bind(QueryResultCache.class).toInstance(queryResultCache);
+          b.bind(CursorStore.class).toInstance(cursorStore);
+          b.bind(QueryAdmissionController.class).toInstance(admissionController);
+          b.bind(CircuitBreaker.class).toInstance(circuitBreaker);
+          b.bind(MemoryPressureMonitor.class).toInstance(memoryPressureMonitor);
         });
     modules.add(new AsyncExecutorServiceModule());
     injector = modules.createInjector();
@@ -253,6 +314,13 @@ public class SQLPlugin extends Plugin
         dataSourceService, asyncQueryExecutorService, clusterManagerEventListener, pluginSettings);
   }
 
+  @Override
+  public void close() {
+    if (memoryPressureMonitor != null) {
+      memoryPressureMonitor.stop();
+    }
+  }
+
   @Override
   public String getJobType() {
     return OpenSearchAsyncQueryScheduler.SCHEDULER_PLUGIN_JOB_TYPE;
@@ -275,15 +343,40 @@ public class SQLPlugin extends Plugin
 
   @Override
   public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-    return singletonList(
+    return List.of(
         new FixedExecutorBuilder(
             settings,
             AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME,
             OpenSearchExecutors.allocatedProcessors(settings),
             1000,
+            null),
+        new FixedExecutorBuilder(
+            settings,
+            OpenSearchNodeClient.SQL_SCAN_WORKER_THREAD_POOL_NAME,
+            OpenSearchExecutors.allocatedProcessors(settings),
+            1000,
+            null),
+        new FixedExecutorBuilder(
+            settings,
+            OpenSearchNodeClient.SQL_BATCH_WORKER_THREAD_POOL_NAME,
+            Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2),
+            1000,
             null));
   }
 
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    return new BreakerSettings(
+        CIRCUIT_BREAKER_NAME,
+        OpenSearchSettings.QUERY_MEMORY_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+        1.0);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
   @Override
   public List<Setting<?>> getSettings() {
     return new ImmutableList.Builder<Setting<?>>()
@@ -295,7 +388,7 @@ public class SQLPlugin extends Plugin
 
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    return scriptEngine;
   }
 
   private DataSourceServiceImpl createDataSourceService() {
@@ -322,7 +415,7 @@ public class SQLPlugin extends Plugin
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(
                 new OpenSearchDataSourceFactory(
-                    new OpenSearchNodeClient(this.client), pluginSettings))
+                    new OpenSearchNodeClient(this.client), pluginSettings, indexMetadataCache))
             .add(new PrometheusStorageFactory(pluginSettings))
             .add(new GlueDataSourceFactory(pluginSettings))
             .add(new SecurityLakeDataSourceFactory(pluginSettings))
@@ -331,6 +424,126 @@ public class SQLPlugin extends Plugin
         dataSourceUserAuthorizationHelper);
   }
 
+  /** Expose index metadata cache statistics through the stats endpoint. */
+  private void registerIndexMetadataCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.INDEX_METADATA_CACHE_HIT_COUNT.getName(), indexMetadataCache::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.INDEX_METADATA_CACHE_MISS_COUNT.getName(), indexMetadataCache::missCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.INDEX_METADATA_CACHE_EVICTION_COUNT.getName(),
+            indexMetadataCache::evictionCount));
+  }
+
+  /** Expose statistics of rows spilled to disk by sort and join through the stats endpoint. */
+  private void registerSpillMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.SPILL_FILE_COUNT.getName(), SpillFile::fileCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.SPILL_BYTES_WRITTEN.getName(), SpillFile::bytesWritten));
+  }
+
+  private void registerPatternCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.PATTERN_CACHE_HIT_COUNT.getName(), PatternCache::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.PATTERN_CACHE_MISS_COUNT.getName(), PatternCache::missCount));
+  }
+
+  private void registerScanPrefetchMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.SCAN_PREFETCH_HIT_COUNT.getName(), PrefetchScanFetcher::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.SCAN_PREFETCH_STALL_COUNT.getName(), PrefetchScanFetcher::stallCount));
+  }
+
+  private void registerStatementCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.STATEMENT_CACHE_HIT_COUNT.getName(), StatementCache::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.STATEMENT_CACHE_MISS_COUNT.getName(), StatementCache::missCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.STATEMENT_CACHE_EVICTION_COUNT.getName(), StatementCache::evictionCount));
+  }
+
+  private void registerQueryResultCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.RESULT_CACHE_HIT_COUNT.getName(), queryResultCache::hitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.RESULT_CACHE_MISS_COUNT.getName(), queryResultCache::missCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.RESULT_CACHE_EVICTION_COUNT.getName(), queryResultCache::evictionCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.RESULT_CACHE_SIZE_IN_BYTES.getName(), queryResultCache::sizeInBytes));
+  }
+
+  private void registerExpressionCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.EXPRESSION_CACHE_HIT_COUNT.getName(), scriptEngine::cacheHitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.EXPRESSION_CACHE_MISS_COUNT.getName(), scriptEngine::cacheMissCount));
+  }
+
+  /** Expose queries rejected and time waited in the queue of each lane by admission control. */
+  private void registerAdmissionMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.ADMISSION_REJECTED_COUNT.getName(), admissionController::rejectedCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.INTERACTIVE_QUEUE_WAIT_COUNT.getName(),
+            () -> admissionController.queueWaitCount(Lane.INTERACTIVE)));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.INTERACTIVE_QUEUE_WAIT_MILLIS.getName(),
+            () -> admissionController.queueWaitMillis(Lane.INTERACTIVE)));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.BATCH_QUEUE_WAIT_COUNT.getName(),
+            () -> admissionController.queueWaitCount(Lane.BATCH)));
+    metrics.registerMetric(
+        new GaugeMetric<>(
+            MetricName.BATCH_QUEUE_WAIT_MILLIS.getName(),
+            () -> admissionController.queueWaitMillis(Lane.BATCH)));
+  }
+
+  /** Expose count and percentiles of time spent in each phase by queries of the new engine. */
+  private void registerQueryPhaseMetrics() {
+    registerLatencyMetric(MetricName.QUERY_PARSE_LATENCY, QueryPhase.PARSE);
+    registerLatencyMetric(MetricName.QUERY_ANALYZE_LATENCY, QueryPhase.ANALYZE);
+    registerLatencyMetric(MetricName.QUERY_OPTIMIZE_LATENCY, QueryPhase.OPTIMIZE);
+    registerLatencyMetric(MetricName.QUERY_OPEN_LATENCY, QueryPhase.OPEN);
+    registerLatencyMetric(MetricName.QUERY_FETCH_LATENCY, QueryPhase.FETCH);
+    registerLatencyMetric(MetricName.QUERY_FORMAT_LATENCY, QueryPhase.FORMAT);
+  }
+
+  private void registerLatencyMetric(MetricName name, QueryPhase phase) {
+    Metrics.getInstance()
+        .registerMetric(new GaugeMetric<>(name.getName(), phase.getHistogram()::stats));
+  }
+
   @Override
   public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(Settings settings) {
     List<SystemIndexDescriptor> systemIndexDescriptors = new ArrayList<>();
@@ -10,6 +10,8 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.inject.AbstractModule;
 import org.opensearch.common.inject.Provides;
 import org.opensearch.common.inject.Singleton;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.common.setting.Settings;
@@ -18,17 +20,24 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.execution.StatementCache;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.CachingExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
-import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
+import org.opensearch.sql.opensearch.monitor.CircuitBreakerMemoryBudget;
+import org.opensearch.sql.opensearch.monitor.MemoryPressureMonitor;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndexMetadataCache;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -44,6 +53,10 @@ public class OpenSearchPluginModule extends AbstractModule {
   private final BuiltinFunctionRepository functionRepository =
       BuiltinFunctionRepository.getInstance();
 
+  private final StatementCache pplStatementCache = new StatementCache();
+
+  private final StatementCache sqlStatementCache = new StatementCache();
+
   @Override
   protected void configure() {}
 
@@ -53,56 +66,77 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public StorageEngine storageEngine(OpenSearchClient client, Settings settings) {
-    return new OpenSearchStorageEngine(client, settings);
+  public StorageEngine storageEngine(
+      OpenSearchClient client, Settings settings, OpenSearchIndexMetadataCache metadataCache) {
+    return new OpenSearchStorageEngine(client, settings, metadataCache);
   }
 
   @Provides
   public ExecutionEngine executionEngine(
-      OpenSearchClient client, ExecutionProtector protector, PlanSerializer planSerializer) {
-    return new OpenSearchExecutionEngine(client, protector, planSerializer);
+      OpenSearchClient client,
+      ExecutionProtector protector,
+      PlanSerializer planSerializer,
+      QueryResultCache resultCache,
+      Settings settings,
+      QueryAdmissionController admissionController) {
+    return new CachingExecutionEngine(
+        new OpenSearchExecutionEngine(
+            client, protector, planSerializer, settings, admissionController),
+        resultCache);
   }
 
   @Provides
-  public ResourceMonitor resourceMonitor(Settings settings) {
-    return new OpenSearchResourceMonitor(settings, new OpenSearchMemoryHealthy());
+  public ResourceMonitor resourceMonitor(
+      Settings settings, MemoryPressureMonitor memoryPressureMonitor) {
+    return new OpenSearchResourceMonitor(settings, memoryPressureMonitor);
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(
+      ResourceMonitor resourceMonitor, CircuitBreaker circuitBreaker, Settings settings) {
+    return new OpenSearchExecutionProtector(
+        resourceMonitor,
+        () -> new CircuitBreakerMemoryBudget(circuitBreaker),
+        () ->
+            ((ByteSizeValue) settings.getSettingValue(Settings.Key.QUERY_SORT_MEMORY_LIMIT))
+                .getBytes());
   }
 
   @Provides
-  public PlanSerializer planSerializer(StorageEngine storageEngine) {
-    return new PlanSerializer(storageEngine);
+  public PlanSerializer planSerializer(StorageEngine storageEngine, CursorStore cursorStore) {
+    return new PlanSerializer(storageEngine, cursorStore);
   }
 
   @Provides
   @Singleton
-  public QueryManager queryManager(NodeClient nodeClient) {
-    return new OpenSearchQueryManager(nodeClient);
+  public QueryManager queryManager(
+      NodeClient nodeClient, QueryAdmissionController admissionController) {
+    return new OpenSearchQueryManager(nodeClient, admissionController);
   }
 
   @Provides
   public PPLService pplService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory);
+    return new PPLService(
+        new PPLSyntaxParser(), queryManager, queryPlanFactory, pplStatementCache);
   }
 
   @Provides
   public SQLService sqlService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory);
+    return new SQLService(
+        new SQLSyntaxParser(), queryManager, queryPlanFactory, sqlStatementCache);
   }
 
   /** {@link QueryPlanFactory}. */
   @Provides
   public QueryPlanFactory queryPlanFactory(
-      DataSourceService dataSourceService, ExecutionEngine executionEngine) {
+      DataSourceService dataSourceService,
+      ExecutionEngine executionEngine,
+      CursorStore cursorStore) {
     Analyzer analyzer =
         new Analyzer(
             new ExpressionAnalyzer(functionRepository), dataSourceService, functionRepository);
     Planner planner = new Planner(LogicalPlanOptimizer.create());
     QueryService queryService = new QueryService(analyzer, executionEngine, planner);
-    return new QueryPlanFactory(queryService);
+    return new QueryPlanFactory(queryService, cursorStore);
   }
 }
@@ -22,6 +22,7 @@ public class PPLQueryRequestFactory {
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
   private static final String DEFAULT_RESPONSE_FORMAT = "jdbc";
   private static final String QUERY_PARAMS_PRETTY = "pretty";
+  private static final String QUERY_PARAMS_ANALYZE = "analyze";
 
   /**
    * Build {@link PPLQueryRequest} from {@link RestRequest}.
@@ -48,7 +49,8 @@ public class PPLQueryRequestFactory {
     if (ppl == null) {
       throw new IllegalArgumentException("Cannot find ppl parameter from the URL");
     }
-    return new PPLQueryRequest(ppl, null, restRequest.path());
+    return new PPLQueryRequest(ppl, null, restRequest.path())
+        .analyze(getAnalyzeOption(restRequest.params()));
   }
 
   private static PPLQueryRequest parsePPLRequestFromPayload(RestRequest restRequest) {
@@ -75,6 +77,8 @@ public class PPLQueryRequestFactory {
     if (pretty) {
       pplRequest.style(JsonResponseFormatter.Style.PRETTY);
     }
+    // set analyze option of explain
+    pplRequest.analyze(getAnalyzeOption(restRequest.params()));
     return pplRequest;
   }
 
@@ -99,6 +103,10 @@ public class PPLQueryRequestFactory {
     return true;
   }
 
+  private static boolean getAnalyzeOption(Map<String, String> requestParams) {
+    return Boolean.parseBoolean(requestParams.get(QUERY_PARAMS_ANALYZE));
+  }
+
   private static boolean getPrettyOption(Map<String, String> requestParams) {
     if (requestParams.containsKey(QUERY_PARAMS_PRETTY)) {
       String prettyValue = requestParams.get(QUERY_PARAMS_PRETTY);
@@ -28,6 +28,8 @@ import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.monitor.QueryPhase;
+import org.opensearch.sql.monitor.SlowQueryLog;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
@@ -100,6 +102,7 @@ public class TransportPPLQueryAction
     Metrics.getInstance().getNumericalMetric(MetricName.PPL_REQ_COUNT_TOTAL).increment();
 
     QueryContext.addRequestId();
+    QueryPhase.start();
 
     PPLService pplService =
         SecurityAccess.doPrivileged(() -> injector.getInstance(PPLService.class));
@@ -159,8 +162,12 @@ public class TransportPPLQueryAction
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
         String responseContent =
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor()));
+            QueryPhase.FORMAT.time(
+                () ->
+                    formatter.format(
+                        new QueryResult(
+                            response.getSchema(), response.getResults(), response.getCursor())));
+        SlowQueryLog.logIfSlow(injector.getInstance(Settings.class));
         listener.onResponse(new TransportPPLQueryResponse(responseContent));
       }
 
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.json.JSONObject;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
@@ -28,6 +29,10 @@ import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 @RequiredArgsConstructor
 public class TransportPPLQueryRequest extends ActionRequest {
   public static final TransportPPLQueryRequest NULL = new TransportPPLQueryRequest("", null, "");
+
+  /** First version of nodes which send and receive the analyze option. */
+  static final Version ANALYZE_VERSION = Version.V_3_0_0;
+
   private final String pplQuery;
   @Getter private final JSONObject jsonContent;
 
@@ -45,6 +50,11 @@ public class TransportPPLQueryRequest extends ActionRequest {
   @Accessors(fluent = true)
   private JsonResponseFormatter.Style style = JsonResponseFormatter.Style.COMPACT;
 
+  @Setter
+  @Getter
+  @Accessors(fluent = true)
+  private boolean analyze = false;
+
   /** Constructor of TransportPPLQueryRequest from PPLQueryRequest. */
   public TransportPPLQueryRequest(PPLQueryRequest pplQueryRequest) {
     pplQuery = pplQueryRequest.getRequest();
@@ -53,6 +63,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     format = pplQueryRequest.getFormat();
     sanitize = pplQueryRequest.sanitize();
     style = pplQueryRequest.style();
+    analyze = pplQueryRequest.analyze();
   }
 
   /** Constructor of TransportPPLQueryRequest from StreamInput. */
@@ -65,6 +76,9 @@ public class TransportPPLQueryRequest extends ActionRequest {
     path = in.readOptionalString();
     sanitize = in.readBoolean();
     style = in.readEnum(JsonResponseFormatter.Style.class);
+    if (in.getVersion().onOrAfter(ANALYZE_VERSION)) {
+      analyze = in.readBoolean();
+    }
   }
 
   /** Re-create the object from the actionRequest. */
@@ -95,6 +109,9 @@ public class TransportPPLQueryRequest extends ActionRequest {
     out.writeOptionalString(path);
     out.writeBoolean(sanitize);
     out.writeEnum(style);
+    if (out.getVersion().onOrAfter(ANALYZE_VERSION)) {
+      out.writeBoolean(analyze);
+    }
   }
 
   public String getRequest() {
@@ -131,6 +148,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     PPLQueryRequest pplQueryRequest = new PPLQueryRequest(pplQuery, jsonContent, path, format);
     pplQueryRequest.sanitize(sanitize);
     pplQueryRequest.style(style);
+    pplQueryRequest.analyze(analyze);
     return pplQueryRequest;
   }
 }
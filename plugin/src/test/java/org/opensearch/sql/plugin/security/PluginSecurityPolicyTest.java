@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.security;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementPermission;
+import java.lang.management.MemoryNotificationInfo;
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.Permission;
+import java.security.Permissions;
+import java.security.Policy;
+import java.security.PrivilegedAction;
+import java.security.ProtectionDomain;
+import java.security.URIParameter;
+import javax.management.Notification;
+import org.junit.Test;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.monitor.MemoryPressureMonitor;
+
+/**
+ * Run privileged code of the plugin under a security manager with only the permissions of plugin
+ * security policy, called from a context without any permission as a thread of OpenSearch or JVM
+ * is.
+ */
+public class PluginSecurityPolicyTest {
+
+  @Test
+  public void startMemoryPressureMonitorUnderPluginPolicy() throws Exception {
+    Settings settings = mock(Settings.class);
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(Runtime.getRuntime().maxMemory()));
+    MemoryPressureMonitor monitor = new MemoryPressureMonitor(settings);
+
+    runUnderPluginPolicy(
+        () -> {
+          monitor.start();
+          monitor.handleNotification(
+              new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, "Memory", 1L),
+              null);
+          monitor.stop();
+        });
+
+    assertTrue(monitor.usedBytes() > 0);
+  }
+
+  private void runUnderPluginPolicy(Runnable action) throws Exception {
+    Policy pluginPolicy =
+        Policy.getInstance(
+            "JavaPolicy",
+            new URIParameter(getClass().getResource("/plugin-security.policy").toURI()));
+    AccessControlContext unprivileged =
+        new AccessControlContext(
+            new ProtectionDomain[] {new ProtectionDomain(null, new Permissions())});
+    Policy defaultPolicy = Policy.getPolicy();
+    Policy.setPolicy(pluginPolicy);
+    System.setSecurityManager(new ManagementSecurityManager());
+    try {
+      AccessController.doPrivileged(
+          (PrivilegedAction<Void>)
+              () -> {
+                action.run();
+                return null;
+              },
+          unprivileged);
+    } finally {
+      System.setSecurityManager(null);
+      Policy.setPolicy(defaultPolicy);
+    }
+  }
+
+  /**
+   * Security manager which only checks management permissions, so that test framework and mocks
+   * keep working without being granted anything.
+   */
+  private static class ManagementSecurityManager extends SecurityManager {
+    @Override
+    public void checkPermission(Permission perm) {
+      if (perm instanceof ManagementPermission) {
+        super.checkPermission(perm);
+      }
+    }
+
+    @Override
+    public void checkPermission(Permission perm, Object context) {
+      if (perm instanceof ManagementPermission) {
+        super.checkPermission(perm, context);
+      }
+    }
+  }
+}
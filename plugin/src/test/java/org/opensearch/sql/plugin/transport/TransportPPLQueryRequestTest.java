@@ -6,16 +6,21 @@
 package org.opensearch.sql.plugin.transport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import org.json.JSONObject;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 
 public class TransportPPLQueryRequestTest {
@@ -78,6 +83,46 @@ public class TransportPPLQueryRequestTest {
     assertEquals(request.getRequest(), recreatedObject.getRequest());
   }
 
+  @Test
+  public void testAnalyzeOptionActionRequestFromActionRequest() {
+    TransportPPLQueryRequest request =
+        new TransportPPLQueryRequest("source=t a=1", null, "/_plugins/_ppl/_explain").analyze(true);
+    ActionRequest actionRequest =
+        new ActionRequest() {
+          @Override
+          public ActionRequestValidationException validate() {
+            return null;
+          }
+
+          @Override
+          public void writeTo(StreamOutput out) throws IOException {
+            request.writeTo(out);
+          }
+        };
+    TransportPPLQueryRequest recreatedObject =
+        TransportPPLQueryRequest.fromActionRequest(actionRequest);
+    assertTrue(recreatedObject.analyze());
+    assertTrue(recreatedObject.toPPLQueryRequest().analyze());
+  }
+
+  @Test
+  public void testAnalyzeOptionNotSentToNodeOfPreviousVersion() throws IOException {
+    TransportPPLQueryRequest request =
+        new TransportPPLQueryRequest("source=t a=1", null, "/_plugins/_ppl/_explain").analyze(true);
+    Version previousVersion = Version.fromString("2.17.0");
+    try (BytesStreamOutput out = new BytesStreamOutput()) {
+      out.setVersion(previousVersion);
+      request.writeTo(out);
+      StreamInput in = out.bytes().streamInput();
+      in.setVersion(previousVersion);
+      TransportPPLQueryRequest recreatedObject = new TransportPPLQueryRequest(in);
+
+      assertEquals(request.getRequest(), recreatedObject.getRequest());
+      assertFalse(recreatedObject.analyze());
+      assertEquals(0, in.available());
+    }
+  }
+
   @Test
   public void testFailedParsingActionRequestFromActionRequest() {
     ActionRequest actionRequest =
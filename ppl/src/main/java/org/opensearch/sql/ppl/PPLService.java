@@ -8,7 +8,7 @@ package org.opensearch.sql.ppl;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -19,6 +19,9 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.execution.StatementCache;
+import org.opensearch.sql.monitor.QueryPhase;
+import org.opensearch.sql.monitor.SlowQueryLog;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.ppl.parser.AstBuilder;
@@ -27,7 +30,6 @@ import org.opensearch.sql.ppl.parser.AstStatementBuilder;
 import org.opensearch.sql.ppl.utils.PPLQueryDataAnonymizer;
 
 /** PPLService. */
-@RequiredArgsConstructor
 public class PPLService {
   private final PPLSyntaxParser parser;
 
@@ -35,10 +37,31 @@ public class PPLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  /** Cache of statements parsed, or null if each query is parsed. */
+  private final StatementCache statementCache;
+
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /** Constructor of PPL service which parses each query. */
+  public PPLService(
+      PPLSyntaxParser parser, QueryManager queryManager, QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, null);
+  }
+
+  /** Constructor of PPL service which looks up statement of query in the given cache first. */
+  public PPLService(
+      PPLSyntaxParser parser,
+      QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory,
+      StatementCache statementCache) {
+    this.parser = parser;
+    this.queryManager = queryManager;
+    this.queryExecutionFactory = queryExecutionFactory;
+    this.statementCache = statementCache;
+  }
+
   /**
    * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to get response.
    *
@@ -73,20 +96,34 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getRequest());
+    AstStatementBuilder.StatementBuilderContext context =
+        AstStatementBuilder.StatementBuilderContext.builder()
+            .isExplain(request.isExplainRequest())
+            .isAnalyze(request.isExplainRequest() && request.analyze())
+            .build();
     Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+        QueryPhase.PARSE.time(
+            () ->
+                (statementCache == null)
+                    ? parse(request.getRequest(), context).get()
+                    : statementCache.get(
+                        parser.parameterize(request.getRequest()),
+                        context,
+                        query -> parse(query, context)));
 
-    LOG.info(
-        "[{}] Incoming request {}",
-        QueryContext.getRequestId(),
-        anonymizer.anonymizeStatement(statement));
+    String anonymizedStatement = anonymizer.anonymizeStatement(statement);
+    SlowQueryLog.setQuery(anonymizedStatement);
+    LOG.info("[{}] Incoming request {}", QueryContext.getRequestId(), anonymizedStatement);
 
     return queryExecutionFactory.create(statement, queryListener, explainListener);
   }
+
+  /** Parse query into builder of statement from the parse tree, which can be called repeatedly. */
+  private Supplier<Statement> parse(
+      String query, AstStatementBuilder.StatementBuilderContext context) {
+    ParseTree cst = parser.parse(query);
+    return () ->
+        cst.accept(
+            new AstStatementBuilder(new AstBuilder(new AstExpressionBuilder(), query), context));
+  }
 }
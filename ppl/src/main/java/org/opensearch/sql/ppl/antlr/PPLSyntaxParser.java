@@ -5,10 +5,12 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import java.util.Set;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
@@ -16,6 +18,15 @@ import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
 /** PPL Syntax Parser. */
 public class PPLSyntaxParser implements Parser {
+
+  /** Token types of literals parameterized. */
+  private static final Set<Integer> LITERAL_TYPES =
+      Set.of(
+          OpenSearchPPLLexer.SQUOTA_STRING,
+          OpenSearchPPLLexer.DQUOTA_STRING,
+          OpenSearchPPLLexer.INTEGER_LITERAL,
+          OpenSearchPPLLexer.DECIMAL_LITERAL);
+
   /** Analyze the query syntax. */
   @Override
   public ParseTree parse(String query) {
@@ -24,6 +35,17 @@ public class PPLSyntaxParser implements Parser {
     return parser.root();
   }
 
+  /**
+   * Split a PPL query into literals and template by lexer, which is cheap enough to be done for
+   * each query.
+   *
+   * @param query a PPL query
+   * @return query split
+   */
+  public ParameterizedQuery parameterize(String query) {
+    return ParameterizedQuery.of(query, createLexer(query), LITERAL_TYPES);
+  }
+
   private OpenSearchPPLParser createParser(Lexer lexer) {
     return new OpenSearchPPLParser(new CommonTokenStream(lexer));
   }
@@ -35,6 +35,12 @@ public class PPLQueryRequest {
   @Accessors(fluent = true)
   private JsonResponseFormatter.Style style = JsonResponseFormatter.Style.COMPACT;
 
+  /** Whether to explain the query with runtime statistics collected by running it. */
+  @Setter
+  @Getter
+  @Accessors(fluent = true)
+  private boolean analyze = false;
+
   public PPLQueryRequest(String pplQuery, JSONObject jsonContent, String path) {
     this(pplQuery, jsonContent, path, "");
   }
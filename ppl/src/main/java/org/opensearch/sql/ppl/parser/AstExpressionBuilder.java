@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.ppl.parser;
 
+import static org.opensearch.sql.common.antlr.ParameterizedQuery.literalText;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NOT_NULL;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NULL;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.POSITION;
@@ -353,12 +354,12 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitStringLiteral(StringLiteralContext ctx) {
-    return new Literal(StringUtils.unquoteText(ctx.getText()), DataType.STRING);
+    return new Literal(StringUtils.unquoteText(literalText(ctx.getText())), DataType.STRING);
   }
 
   @Override
   public UnresolvedExpression visitIntegerLiteral(IntegerLiteralContext ctx) {
-    long number = Long.parseLong(ctx.getText());
+    long number = Long.parseLong(literalText(ctx.getText()));
     if (Integer.MIN_VALUE <= number && number <= Integer.MAX_VALUE) {
       return new Literal((int) number, DataType.INTEGER);
     }
@@ -367,7 +368,7 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitDecimalLiteral(DecimalLiteralContext ctx) {
-    return new Literal(Double.valueOf(ctx.getText()), DataType.DOUBLE);
+    return new Literal(Double.valueOf(literalText(ctx.getText())), DataType.DOUBLE);
   }
 
   @Override
@@ -25,6 +25,7 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.execution.StatementCache;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
@@ -58,6 +59,35 @@ public class PPLServiceTest {
     queryManager.awaitTermination(1, TimeUnit.SECONDS);
   }
 
+  @Test
+  public void testExecuteWithStatementCachedShouldParseOnce() {
+    pplService =
+        new PPLService(
+            new PPLSyntaxParser(),
+            queryManager,
+            new QueryPlanFactory(queryService),
+            new StatementCache());
+    long hitCount = StatementCache.hitCount();
+    long missCount = StatementCache.missCount();
+
+    PPLQueryRequest request = new PPLQueryRequest("search source=t a=1", null, QUERY);
+    ResponseListener<QueryResponse> listener =
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse pplQueryResponse) {}
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        };
+    pplService.execute(request, listener);
+    pplService.execute(request, listener);
+
+    Assert.assertEquals(hitCount + 1, StatementCache.hitCount());
+    Assert.assertEquals(missCount + 1, StatementCache.missCount());
+  }
+
   @Test
   public void testExecuteShouldPass() {
     doAnswer(
@@ -130,6 +160,30 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testExplainAnalyzeShouldPass() {
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExplainResponse> listener = invocation.getArgument(1);
+              listener.onResponse(new ExplainResponse(new ExplainResponseNode("test")));
+              return null;
+            })
+        .when(queryService)
+        .explainAnalyze(any(), any());
+
+    pplService.explain(
+        new PPLQueryRequest("search source=t a=1", null, EXPLAIN).analyze(true),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse pplQueryResponse) {}
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        });
+  }
+
   @Test
   public void testExecuteWithIllegalQueryShouldBeCaughtByHandler() {
     pplService.execute(
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
@@ -14,7 +15,10 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.ppl.parser.AstBuilder;
+import org.opensearch.sql.ppl.parser.AstExpressionBuilder;
 
 public class PPLSyntaxParserTest {
 
@@ -429,4 +433,38 @@ public class PPLSyntaxParserTest {
     assertNotNull(new PPLSyntaxParser().parse("SOURCE=test | fillnull using a = 0"));
     assertNotNull(new PPLSyntaxParser().parse("SOURCE=test | fillnull using a = 0, b = 1"));
   }
+
+  @Test
+  public void testParameterizeQueryShouldPass() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    ParameterizedQuery query =
+        parser.parameterize("source=t | where a = 'x' and b > 10.5 and c < -3");
+
+    assertEquals(
+        parser.parameterize("source=t  | where a = 'y' and b > 3.0 and c < -20").getTemplate(),
+        query.getTemplate());
+    assertEquals(List.of("'x'", "10.5", "3"), query.getLiterals());
+    assertEquals(
+        "source=t | where a = 'y' and b > 3.0 and c < -20",
+        query.withLiterals(List.of("'y'", "3.0", "20")));
+  }
+
+  @Test
+  public void testBuildStatementFromParseTreeWithPlaceholdersShouldPass() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    ParameterizedQuery query =
+        parser.parameterize("source=t | where a = 'x' and b > 10.5 and c < -3");
+    List<String> placeholders = query.placeholders(List.of());
+    String template = query.withLiterals(placeholders);
+    ParseTree tree = parser.parse(template);
+
+    assertEquals(
+        parser
+            .parse(query.getQuery())
+            .accept(new AstBuilder(new AstExpressionBuilder(), query.getQuery())),
+        ParameterizedQuery.bind(
+            placeholders,
+            query.getLiterals(),
+            () -> tree.accept(new AstBuilder(new AstExpressionBuilder(), template))));
+  }
 }
@@ -29,6 +29,14 @@ public class PPLQueryRequestTest {
     assertTrue(request.isExplainRequest());
   }
 
+  @Test
+  public void testExplainAnalyzeRequest() {
+    PPLQueryRequest request =
+        new PPLQueryRequest("source=t a=1", null, "/_plugins/_ppl/_explain").analyze(true);
+    assertTrue(request.isExplainRequest());
+    assertTrue(request.analyze());
+  }
+
   @Test
   public void testDefaultFormat() {
     PPLQueryRequest request = new PPLQueryRequest("source=test", null, "/_plugins/_ppl");
@@ -65,19 +65,22 @@ public class QueryResult implements Iterable<Object[]> {
 
   @Override
   public Iterator<Object[]> iterator() {
-    // Any chance to avoid copy for json response generation?
-    return exprValues.stream()
-        .map(ExprValueUtils::getTupleValue)
-        .map(Map::values)
-        .map(this::convertExprValuesToValues)
-        .iterator();
+    return exprValues.stream().map(QueryResult::rowValues).iterator();
   }
 
-  private String getColumnName(Column column) {
-    return (column.getAlias() != null) ? column.getAlias() : column.getName();
+  /**
+   * Convert tuple row to values of columns.
+   *
+   * @param row tuple row
+   * @return values of columns in order
+   */
+  public static Object[] rowValues(ExprValue row) {
+    return ExprValueUtils.getTupleValue(row).values().stream()
+        .map(ExprValue::value)
+        .toArray(Object[]::new);
   }
 
-  private Object[] convertExprValuesToValues(Collection<ExprValue> exprValues) {
-    return exprValues.stream().map(ExprValue::value).toArray(Object[]::new);
+  private String getColumnName(Column column) {
+    return (column.getAlias() != null) ? column.getAlias() : column.getName();
   }
 }
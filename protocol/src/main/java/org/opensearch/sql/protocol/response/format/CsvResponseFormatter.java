@@ -5,10 +5,11 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.Writer;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to csv format. */
-public class CsvResponseFormatter implements ResponseFormatter<QueryResult> {
+public class CsvResponseFormatter implements StreamingResponseFormatter {
   public static final String CONTENT_TYPE = "plain/text; charset=UTF-8";
   private final String separator;
   private final boolean sanitize;
@@ -28,13 +29,20 @@ public class CsvResponseFormatter implements ResponseFormatter<QueryResult> {
 
   @Override
   public String format(QueryResult response) {
-    FlatResponseBase flatResponse;
+    return flatResponse(response).format();
+  }
+
+  @Override
+  public RowStreamWriter streamWriter(Writer out) {
+    return new FlatRowStreamWriter(out, this::flatResponse);
+  }
+
+  private FlatResponseBase flatResponse(QueryResult response) {
     if (sanitize) {
-      flatResponse = new FlatResponseWithSanitizer(response, separator);
+      return new FlatResponseWithSanitizer(response, separator);
     } else {
-      flatResponse = new FlatResponseBase(response, separator);
+      return new FlatResponseBase(response, separator);
     }
-    return flatResponse.format();
   }
 
   @Override
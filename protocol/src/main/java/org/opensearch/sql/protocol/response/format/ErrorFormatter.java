@@ -41,6 +41,11 @@ public class ErrorFormatter {
     return prettyJsonify(error);
   }
 
+  /** Util method to get Gson which formats JSON in pretty or compact printing. */
+  static Gson gson(boolean pretty) {
+    return pretty ? PRETTY_PRINT_GSON : GSON;
+  }
+
   public static String compactJsonify(Object jsonObject) {
     return AccessController.doPrivileged((PrivilegedAction<String>) () -> GSON.toJson(jsonObject));
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import static org.opensearch.sql.protocol.response.format.FlatResponseBase.INTERLINE_SEPARATOR;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Write flat response line by line. Each page of rows is formatted by {@link FlatResponseBase} of
+ * the formatter, which formats each line independently of others.
+ */
+@RequiredArgsConstructor
+class FlatRowStreamWriter implements RowStreamWriter {
+
+  private final Writer out;
+
+  /** Create flat response of given rows. */
+  private final Function<QueryResult, FlatResponseBase> flatResponse;
+
+  private Schema schema;
+
+  @Override
+  public void writeHeader(Schema schema) throws IOException {
+    this.schema = schema;
+    out.write(flatResponse.apply(new QueryResult(schema, List.of())).getHeaderLine());
+  }
+
+  @Override
+  public void writeRows(List<ExprValue> rows) throws IOException {
+    for (String line : flatResponse.apply(new QueryResult(schema, rows)).getDataLines()) {
+      out.write(INTERLINE_SEPARATOR);
+      out.write(line);
+    }
+  }
+
+  @Override
+  public void writeFooter(Cursor cursor) throws IOException {
+    out.flush();
+  }
+}
@@ -5,12 +5,19 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.QueryEngineException;
 import org.opensearch.sql.executor.ExecutionEngine.Schema;
@@ -24,7 +31,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  * avoid impact on client side. The only difference is a new "version" that indicates the response
  * was produced by new query engine.
  */
-public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements StreamingResponseFormatter {
 
   public JdbcResponseFormatter(Style style) {
     super(style);
@@ -55,6 +63,11 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return jsonify(new JdbcErrorResponse(error, status));
   }
 
+  @Override
+  public RowStreamWriter streamWriter(Writer out) {
+    return new JdbcRowStreamWriter(out);
+  }
+
   private Column fetchColumn(Schema.Column col) {
     return new Column(col.getName(), col.getAlias(), convertToLegacyType(col.getExprType()));
   }
@@ -80,6 +93,62 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return (t instanceof SyntaxCheckException || t instanceof QueryEngineException) ? 400 : 503;
   }
 
+  /**
+   * Write JSON response field by field in the same order and style as {@link JdbcResponse}, with
+   * total and size written after all data rows are counted.
+   */
+  private class JdbcRowStreamWriter implements RowStreamWriter {
+    private final Gson gson;
+    private final JsonWriter json;
+    private long total = 0;
+
+    private JdbcRowStreamWriter(Writer out) {
+      this.gson = ErrorFormatter.gson(getStyle() == Style.PRETTY);
+      this.json = gson.newJsonWriter(out);
+    }
+
+    @Override
+    public void writeHeader(Schema schema) throws IOException {
+      json.beginObject();
+      json.name("schema").beginArray();
+      for (Schema.Column col : schema.getColumns()) {
+        toJson(fetchColumn(col), Column.class);
+      }
+      json.endArray();
+      json.name("datarows").beginArray();
+    }
+
+    @Override
+    public void writeRows(List<ExprValue> rows) throws IOException {
+      for (ExprValue row : rows) {
+        toJson(QueryResult.rowValues(row), Object[].class);
+      }
+      total += rows.size();
+    }
+
+    @Override
+    public void writeFooter(Cursor cursor) throws IOException {
+      json.endArray();
+      json.name("total").value(total);
+      json.name("size").value(total);
+      json.name("status").value(200);
+      if (!cursor.equals(Cursor.None)) {
+        json.name("cursor").value(cursor.toString());
+      }
+      json.endObject();
+      json.flush();
+    }
+
+    private void toJson(Object value, Class<?> type) {
+      AccessController.doPrivileged(
+          (PrivilegedAction<Void>)
+              () -> {
+                gson.toJson(value, type, json);
+                return null;
+              });
+    }
+  }
+
   /** org.json requires these inner data classes be public (and static) */
   @Builder
   @Getter
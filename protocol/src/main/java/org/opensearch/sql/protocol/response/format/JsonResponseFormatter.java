@@ -13,6 +13,8 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -30,6 +32,7 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
   }
 
   /** JSON format style. */
+  @Getter(AccessLevel.PROTECTED)
   private final Style style;
 
   public static final String CONTENT_TYPE = "application/json; charset=UTF-8";
@@ -5,10 +5,11 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.Writer;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to raw format. */
-public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
+public class RawResponseFormatter implements StreamingResponseFormatter {
   public static final String CONTENT_TYPE = "plain/text; charset=UTF-8";
   private final String separator;
   private final boolean pretty;
@@ -43,6 +44,17 @@ public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
     return flatResponse.format();
   }
 
+  /** Pretty response is not streamable because column width depends on all rows. */
+  @Override
+  public boolean isStreamable() {
+    return !pretty;
+  }
+
+  @Override
+  public RowStreamWriter streamWriter(Writer out) {
+    return new FlatRowStreamWriter(out, response -> new FlatResponseBase(response, separator));
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Writer of a query response which writes rows page by page as they arrive, so that only a page of
+ * rows is held in memory. Content written is the same as formatting all rows at once.
+ */
+public interface RowStreamWriter {
+
+  /**
+   * Write the beginning of response before any rows.
+   *
+   * @param schema schema of response
+   */
+  void writeHeader(Schema schema) throws IOException;
+
+  /**
+   * Write next page of rows.
+   *
+   * @param rows tuple rows
+   */
+  void writeRows(List<ExprValue> rows) throws IOException;
+
+  /**
+   * Write the end of response after all rows and flush.
+   *
+   * @param cursor cursor to next page, or {@link Cursor#None}
+   */
+  void writeFooter(Cursor cursor) throws IOException;
+}
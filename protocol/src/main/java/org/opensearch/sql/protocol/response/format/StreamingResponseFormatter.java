@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.Writer;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/** Response formatter which can also write query response to output page by page. */
+public interface StreamingResponseFormatter extends ResponseFormatter<QueryResult> {
+
+  /**
+   * Whether response can be written page by page, which is not possible if formatting a row
+   * depends on rows after it.
+   *
+   * @return true if {@link #streamWriter} is supported
+   */
+  default boolean isStreamable() {
+    return true;
+  }
+
+  /**
+   * Create writer of a single query response.
+   *
+   * @param out output of response content
+   * @return row stream writer
+   */
+  RowStreamWriter streamWriter(Writer out);
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.protocol.response.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.common.utils.StringUtils.format;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
@@ -17,10 +18,15 @@ import static org.opensearch.sql.protocol.response.format.CsvResponseFormatter.C
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Unit test for {@link CsvResponseFormatter}. */
@@ -164,4 +170,29 @@ public class CsvResponseFormatterTest {
   void testContentType() {
     assertEquals(formatter.contentType(), CONTENT_TYPE);
   }
+
+  @Test
+  void streamResponseSameAsFormat() throws IOException {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("=name", "=name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("=name", "John", "age", 20)),
+            tupleValue(ImmutableMap.of("=name", "-Smith, Jr.", "age", 30)));
+
+    for (CsvResponseFormatter csvFormatter :
+        List.of(new CsvResponseFormatter(true), new CsvResponseFormatter(false))) {
+      StringWriter out = new StringWriter();
+      RowStreamWriter writer = csvFormatter.streamWriter(out);
+      writer.writeHeader(schema);
+      writer.writeRows(rows.subList(0, 1));
+      writer.writeRows(rows.subList(1, 2));
+      writer.writeFooter(Cursor.None);
+      assertTrue(csvFormatter.isStreamable());
+      assertEquals(csvFormatter.format(new QueryResult(schema, rows)), out.toString());
+    }
+  }
 }
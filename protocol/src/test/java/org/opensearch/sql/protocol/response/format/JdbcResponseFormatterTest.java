@@ -21,14 +21,20 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -207,6 +213,44 @@ class JdbcResponseFormatterTest {
                 "all shards failed", new IllegalStateException("Execution error"))));
   }
 
+  @ParameterizedTest
+  @EnumSource(JsonResponseFormatter.Style.class)
+  void stream_response_same_as_format(JsonResponseFormatter.Style style) throws IOException {
+    Schema schema =
+        new Schema(
+            ImmutableList.of(
+                new Column("name", null, STRING),
+                new Column("location", "location", STRUCT),
+                new Column("age", "age", INTEGER)));
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(
+                ImmutableMap.of("name", "John", "location", ImmutableMap.of("x", "1"), "age", 20)),
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of("name", stringValue("<Smith>"), "location", LITERAL_NULL)));
+    JdbcResponseFormatter jdbcFormatter = new JdbcResponseFormatter(style);
+
+    for (Cursor cursor : List.of(Cursor.None, new Cursor("test_cursor"))) {
+      StringWriter out = new StringWriter();
+      RowStreamWriter writer = jdbcFormatter.streamWriter(out);
+      writer.writeHeader(schema);
+      writer.writeRows(rows.subList(0, 1));
+      writer.writeRows(rows.subList(1, 2));
+      writer.writeFooter(cursor);
+      assertEquals(jdbcFormatter.format(new QueryResult(schema, rows, cursor)), out.toString());
+    }
+  }
+
+  @Test
+  void stream_empty_response() throws IOException {
+    Schema schema = new Schema(ImmutableList.of(new Column("name", "name", STRING)));
+    StringWriter out = new StringWriter();
+    RowStreamWriter writer = formatter.streamWriter(out);
+    writer.writeHeader(schema);
+    writer.writeFooter(Cursor.None);
+    assertEquals(formatter.format(new QueryResult(schema, List.of())), out.toString());
+  }
+
   private static void assertJsonEquals(String expected, String actual) {
     assertEquals(JsonParser.parseString(expected), JsonParser.parseString(actual));
   }
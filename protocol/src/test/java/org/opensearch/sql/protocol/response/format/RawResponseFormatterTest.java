@@ -6,6 +6,8 @@
 package org.opensearch.sql.protocol.response.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.common.utils.StringUtils.format;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
@@ -17,10 +19,15 @@ import static org.opensearch.sql.protocol.response.format.RawResponseFormatter.C
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Unit test for {@link RawResponseFormatter}. */
@@ -227,6 +234,32 @@ public class RawResponseFormatterTest {
     return new RawResponseFormatter();
   }
 
+  @Test
+  void streamResponseSameAsFormat() throws IOException {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("name", "name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("name", "John|Doe", "age", 20)),
+            tupleValue(ImmutableMap.of("name", "Smith", "age", 30)));
+
+    StringWriter out = new StringWriter();
+    RowStreamWriter writer = getRawFormatter().streamWriter(out);
+    writer.writeHeader(schema);
+    writer.writeRows(rows);
+    writer.writeFooter(Cursor.None);
+    assertTrue(getRawFormatter().isStreamable());
+    assertEquals(getRawFormatter().format(new QueryResult(schema, rows)), out.toString());
+  }
+
+  @Test
+  void prettyResponseNotStreamable() {
+    assertFalse(getRawFormatterPretty().isStreamable());
+  }
+
   private RawResponseFormatter getRawFormatterPretty() {
     return new RawResponseFormatter(true);
   }
@@ -6,7 +6,7 @@
 package org.opensearch.sql.sql;
 
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
@@ -15,13 +15,15 @@ import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.execution.StatementCache;
+import org.opensearch.sql.monitor.QueryPhase;
+import org.opensearch.sql.monitor.SlowQueryLog;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 import org.opensearch.sql.sql.parser.AstBuilder;
 import org.opensearch.sql.sql.parser.AstStatementBuilder;
 
 /** SQL service. */
-@RequiredArgsConstructor
 public class SQLService {
 
   private final SQLSyntaxParser parser;
@@ -30,6 +32,27 @@ public class SQLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  /** Cache of statements parsed, or null if each query is parsed. */
+  private final StatementCache statementCache;
+
+  /** Constructor of SQL service which parses each query. */
+  public SQLService(
+      SQLSyntaxParser parser, QueryManager queryManager, QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, null);
+  }
+
+  /** Constructor of SQL service which looks up statement of query in the given cache first. */
+  public SQLService(
+      SQLSyntaxParser parser,
+      QueryManager queryManager,
+      QueryPlanFactory queryExecutionFactory,
+      StatementCache statementCache) {
+    this.parser = parser;
+    this.queryManager = queryManager;
+    this.queryExecutionFactory = queryExecutionFactory;
+    this.statementCache = statementCache;
+  }
+
   /**
    * Given {@link SQLQueryRequest}, execute it. Using listener to listen result.
    *
@@ -81,17 +104,32 @@ public class SQLService {
           explainListener.orElse(null));
     } else {
       // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-      ParseTree cst = parser.parse(request.getQuery());
+      AstStatementBuilder.StatementBuilderContext context =
+          AstStatementBuilder.StatementBuilderContext.builder()
+              .isExplain(isExplainRequest)
+              .isAnalyze(request.isExplainAnalyzeRequest())
+              .fetchSize(request.getFetchSize())
+              .build();
       Statement statement =
-          cst.accept(
-              new AstStatementBuilder(
-                  new AstBuilder(request.getQuery()),
-                  AstStatementBuilder.StatementBuilderContext.builder()
-                      .isExplain(isExplainRequest)
-                      .fetchSize(request.getFetchSize())
-                      .build()));
+          QueryPhase.PARSE.time(
+              () -> {
+                SlowQueryLog.setQuery(parser.normalize(request.getQuery()));
+                return (statementCache == null)
+                    ? parse(request.getQuery(), context).get()
+                    : statementCache.get(
+                        parser.parameterize(request.getQuery()),
+                        context,
+                        query -> parse(query, context));
+              });
 
       return queryExecutionFactory.create(statement, queryListener, explainListener);
     }
   }
+
+  /** Parse query into builder of statement from the parse tree, which can be called repeatedly. */
+  private Supplier<Statement> parse(
+      String query, AstStatementBuilder.StatementBuilderContext context) {
+    ParseTree cst = parser.parse(query);
+    return () -> cst.accept(new AstStatementBuilder(new AstBuilder(query), context));
+  }
 }
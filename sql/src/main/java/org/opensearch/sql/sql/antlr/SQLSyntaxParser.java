@@ -5,11 +5,15 @@
 
 package org.opensearch.sql.sql.antlr;
 
+import java.util.Set;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
@@ -19,6 +23,16 @@ import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 public class SQLSyntaxParser implements Parser {
   private static final Logger LOG = LogManager.getLogger(SQLSyntaxParser.class);
 
+  /**
+   * Token types of literals parameterized. Double quoted text is not, because it may be either
+   * string or identifier.
+   */
+  private static final Set<Integer> LITERAL_TYPES =
+      Set.of(
+          OpenSearchSQLLexer.STRING_LITERAL,
+          OpenSearchSQLLexer.DECIMAL_LITERAL,
+          OpenSearchSQLLexer.REAL_LITERAL);
+
   /**
    * Parse a SQL query by ANTLR parser.
    *
@@ -39,4 +53,37 @@ public class SQLSyntaxParser implements Parser {
 
     return parseTree;
   }
+
+  /**
+   * Normalize a SQL query by anonymizing its tokens as the query logged by {@link #parse(String)},
+   * which only runs the lexer so that it is cheap enough to be done for each query.
+   *
+   * @param query a SQL query
+   * @return normalized query
+   */
+  public String normalize(String query) {
+    AnonymizerListener anonymizer = new AnonymizerListener();
+    OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
+    lexer.removeErrorListeners();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+        anonymizer.visitTerminal(new TerminalNodeImpl(token));
+      }
+    } while (token.getType() != Token.EOF);
+    return anonymizer.getAnonymizedQueryString();
+  }
+
+  /**
+   * Split a SQL query into literals and template by lexer, which is cheap enough to be done for
+   * each query.
+   *
+   * @param query a SQL query
+   * @return query split
+   */
+  public ParameterizedQuery parameterize(String query) {
+    return ParameterizedQuery.of(
+        query, new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query)), LITERAL_TYPES);
+  }
 }
@@ -31,6 +31,7 @@ public class SQLQueryRequest {
   private static final String QUERY_PARAMS_FORMAT = "format";
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
   private static final String QUERY_PARAMS_PRETTY = "pretty";
+  private static final String QUERY_PARAMS_ANALYZE = "analyze";
 
   /** JSON payload in REST request. */
   private final JSONObject jsonContent;
@@ -116,6 +117,15 @@ public class SQLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if request is to explain the query with runtime statistics collected by running it.
+   *
+   * @return true if it is an explain analyze request
+   */
+  public boolean isExplainAnalyzeRequest() {
+    return isExplainRequest() && Boolean.parseBoolean(params.get(QUERY_PARAMS_ANALYZE));
+  }
+
   public boolean isCursorCloseRequest() {
     return path.endsWith("/close");
   }
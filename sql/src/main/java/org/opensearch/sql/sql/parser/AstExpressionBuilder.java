@@ -8,6 +8,7 @@ package org.opensearch.sql.sql.parser;
 import static org.opensearch.sql.ast.dsl.AstDSL.between;
 import static org.opensearch.sql.ast.dsl.AstDSL.not;
 import static org.opensearch.sql.ast.dsl.AstDSL.qualifiedName;
+import static org.opensearch.sql.common.antlr.ParameterizedQuery.literalText;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NOT_NULL;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NULL;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.LIKE;
@@ -305,12 +306,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitString(StringContext ctx) {
-    return AstDSL.stringLiteral(StringUtils.unquoteText(ctx.getText()));
+    return AstDSL.stringLiteral(StringUtils.unquoteText(literalText(ctx.getText())));
   }
 
   @Override
   public UnresolvedExpression visitSignedDecimal(SignedDecimalContext ctx) {
-    long number = Long.parseLong(ctx.getText());
+    long number = Long.parseLong(literalText(ctx.getText()));
     if (Integer.MIN_VALUE <= number && number <= Integer.MAX_VALUE) {
       return AstDSL.intLiteral((int) number);
     }
@@ -319,7 +320,7 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitSignedReal(SignedRealContext ctx) {
-    return AstDSL.doubleLiteral(Double.valueOf(ctx.getText()));
+    return AstDSL.doubleLiteral(Double.valueOf(literalText(ctx.getText())));
   }
 
   @Override
@@ -329,7 +330,7 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitStringLiteral(StringLiteralContext ctx) {
-    return AstDSL.stringLiteral(StringUtils.unquoteText(ctx.getText()));
+    return AstDSL.stringLiteral(StringUtils.unquoteText(literalText(ctx.getText())));
   }
 
   @Override
@@ -339,17 +340,18 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitDateLiteral(DateLiteralContext ctx) {
-    return AstDSL.dateLiteral(StringUtils.unquoteText(ctx.date.getText()));
+    return AstDSL.dateLiteral(StringUtils.unquoteText(literalText(ctx.date.getText())));
   }
 
   @Override
   public UnresolvedExpression visitTimeLiteral(TimeLiteralContext ctx) {
-    return AstDSL.timeLiteral(StringUtils.unquoteText(ctx.time.getText()));
+    return AstDSL.timeLiteral(StringUtils.unquoteText(literalText(ctx.time.getText())));
   }
 
   @Override
   public UnresolvedExpression visitTimestampLiteral(TimestampLiteralContext ctx) {
-    return AstDSL.timestampLiteral(StringUtils.unquoteText(ctx.timestamp.getText()));
+    return AstDSL.timestampLiteral(
+        StringUtils.unquoteText(literalText(ctx.timestamp.getText())));
   }
 
   @Override
@@ -27,7 +27,7 @@ public class AstStatementBuilder extends OpenSearchSQLParserBaseVisitor<Statemen
   @Override
   public Statement visitSqlStatement(OpenSearchSQLParser.SqlStatementContext ctx) {
     Query query = new Query(astBuilder.visit(ctx), context.fetchSize);
-    return context.isExplain ? new Explain(query) : query;
+    return context.isExplain ? new Explain(query, context.isAnalyze) : query;
   }
 
   @Override
@@ -39,6 +39,7 @@ public class AstStatementBuilder extends OpenSearchSQLParserBaseVisitor<Statemen
   @Builder
   public static class StatementBuilderContext {
     private final boolean isExplain;
+    private final boolean isAnalyze;
     private final int fetchSize;
   }
 }
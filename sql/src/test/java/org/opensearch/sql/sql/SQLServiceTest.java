@@ -29,6 +29,7 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.execution.StatementCache;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
@@ -75,6 +76,37 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void can_execute_sql_query_with_statement_cached() {
+    sqlService =
+        new SQLService(
+            new SQLSyntaxParser(),
+            queryManager,
+            new QueryPlanFactory(queryService),
+            new StatementCache());
+    long hitCount = StatementCache.hitCount();
+    long missCount = StatementCache.missCount();
+
+    SQLQueryRequest request = new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc");
+    ResponseListener<QueryResponse> listener =
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        };
+    sqlService.execute(request, listener);
+    sqlService.execute(request, listener);
+
+    assertEquals(hitCount + 1, StatementCache.hitCount());
+    assertEquals(missCount + 1, StatementCache.missCount());
+  }
+
   @Test
   public void can_execute_cursor_query() {
     sqlService.execute(
@@ -166,6 +198,33 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void can_explain_analyze_sql_query() {
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExplainResponse> listener = invocation.getArgument(1);
+              listener.onResponse(new ExplainResponse(new ExplainResponseNode("Test")));
+              return null;
+            })
+        .when(queryService)
+        .explainAnalyze(any(), any());
+
+    sqlService.explain(
+        new SQLQueryRequest(
+            new JSONObject(), "SELECT 123", EXPLAIN, Map.of("analyze", "true"), null),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+  }
+
   @Test
   public void can_explain_sql_query() {
     doAnswer(
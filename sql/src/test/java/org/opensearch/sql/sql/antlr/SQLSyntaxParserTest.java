@@ -6,6 +6,7 @@
 package org.opensearch.sql.sql.antlr;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -15,20 +16,57 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.Stream;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.common.antlr.ParameterizedQuery;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.sql.parser.AstBuilder;
 
 class SQLSyntaxParserTest {
 
   private final SQLSyntaxParser parser = new SQLSyntaxParser();
 
+  @Test
+  public void canNormalizeQueryWithoutParsing() {
+    assertEquals(
+        "( SELECT * FROM table WHERE identifier = 'string_literal' )",
+        parser.normalize("SELECT * /* comment */ FROM accounts\n WHERE name = 'Oliver'"));
+  }
+
+  @Test
+  public void canParameterizeQuery() {
+    ParameterizedQuery query =
+        parser.parameterize("SELECT * /* comment */ FROM t\n WHERE a = 'x' AND b > 10.5 LIMIT 100");
+    assertEquals(
+        parser.parameterize("SELECT * FROM t WHERE a = 'y' AND b > 3.0 LIMIT 20").getTemplate(),
+        query.getTemplate());
+    assertEquals(List.of("'x'", "10.5", "100"), query.getLiterals());
+    assertEquals(
+        "SELECT * /* comment */ FROM t\n WHERE a = 'y' AND b > 3.0 LIMIT 20",
+        query.withLiterals(List.of("'y'", "3.0", "20")));
+  }
+
+  @Test
+  public void canBuildStatementFromParseTreeWithPlaceholders() {
+    ParameterizedQuery query = parser.parameterize("SELECT a FROM t WHERE b = 'x' AND c > -10.5");
+    List<String> placeholders = query.placeholders(List.of());
+    String template = query.withLiterals(placeholders);
+    ParseTree tree = parser.parse(template);
+
+    assertEquals(
+        parser.parse(query.getQuery()).accept(new AstBuilder(query.getQuery())),
+        ParameterizedQuery.bind(
+            placeholders, query.getLiterals(), () -> tree.accept(new AstBuilder(template))));
+  }
+
   @Test
   public void canParseQueryEndWithSemiColon() {
     assertNotNull(parser.parse("SELECT 123;"));
@@ -91,6 +91,22 @@ public class SQLQueryRequestTest {
         () -> assertTrue(explainRequest.isSupported()));
   }
 
+  @Test
+  public void should_support_explain_analyze() {
+    SQLQueryRequest explainRequest =
+        SQLQueryRequestBuilder.request("SELECT 1")
+            .path("_plugins/_sql/_explain")
+            .params(Map.of("analyze", "true"))
+            .build();
+    SQLQueryRequest queryRequest =
+        SQLQueryRequestBuilder.request("SELECT 1").params(Map.of("analyze", "true")).build();
+
+    assertAll(
+        () -> assertTrue(explainRequest.isExplainAnalyzeRequest()),
+        () -> assertTrue(explainRequest.isSupported()),
+        () -> assertFalse(queryRequest.isExplainAnalyzeRequest()));
+  }
+
   @Test
   public void should_support_cursor_request() {
     SQLQueryRequest fetchSizeRequest =